@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.benchmarks;
+
+import com.give_it_a_bash.application_programming_interface.entities.SchoolData;
+import com.give_it_a_bash.application_programming_interface.repositories.SchoolDataRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Base class for the service layer benchmarks.
+ * <p>
+ * Each trial boots the JPA and service layers against its own in-memory H2 database and seeds
+ * {@link #datasetSize} rows before measuring. Throughput is reported per second; run with
+ * {@code -prof gc} (the default {@code jmh.args}) to also report the allocation rate per operation.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public abstract class AbstractServiceBenchmark {
+
+    /**
+     * The number of rows seeded into the table under test before measuring.
+     */
+    @Param({"100", "1000", "10000"})
+    public int datasetSize;
+
+    /**
+     * The school that seeded rows belong to.
+     */
+    protected SchoolData schoolData;
+
+    private ConfigurableApplicationContext context;
+
+    private final List<Long> seededIds = new ArrayList<>();
+
+    private int nextIdIndex;
+
+    private int sequence;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        context = BenchmarkContexts.start(getClass().getSimpleName(), contextProperties());
+        schoolData = bean(SchoolDataRepository.class).save(BenchmarkData.schoolData(0));
+        sequence = datasetSize;
+        seed();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        context.close();
+    }
+
+    /**
+     * Seeds {@link #datasetSize} rows of the entity under test, registering each ID with {@link #seeded(Long)}.
+     */
+    protected abstract void seed();
+
+    /**
+     * Returns the properties the application context is started with, as {@code key=value} pairs.
+     * Benchmarks comparing configurations override this to apply their parameters.
+     *
+     * @return the properties of the application context
+     */
+    protected String[] contextProperties() {
+        return new String[0];
+    }
+
+    /**
+     * Looks up a bean from the running application context.
+     *
+     * @param type the type of the bean
+     * @param <T>  the type of the bean
+     * @return the bean
+     */
+    protected <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    /**
+     * Registers the ID of a seeded row so that read, update and delete benchmarks can target it.
+     *
+     * @param id the ID of the seeded row
+     */
+    protected void seeded(Long id) {
+        seededIds.add(id);
+    }
+
+    /**
+     * Returns the ID of a seeded row, cycling through all seeded rows in turn.
+     *
+     * @return the ID of a seeded row
+     */
+    protected Long nextSeededId() {
+        Long id = seededIds.get(nextIdIndex);
+        nextIdIndex = (nextIdIndex + 1) % seededIds.size();
+        return id;
+    }
+
+    /**
+     * Returns a number not yet used by any seeded or created row.
+     *
+     * @return a fresh sequence number
+     */
+    protected int nextSequence() {
+        return sequence++;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.benchmarks;
+
+import com.give_it_a_bash.application_programming_interface.entities.Achievement;
+import com.give_it_a_bash.application_programming_interface.entities.Student;
+import com.give_it_a_bash.application_programming_interface.pagination.CursorPage;
+import com.give_it_a_bash.application_programming_interface.repositories.AchievementRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.StudentRepository;
+import com.give_it_a_bash.application_programming_interface.services.AchievementService;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Benchmarks the CRUD operations of {@link AchievementService} against one student's achievements.
+ */
+public class AchievementServiceBenchmark extends AbstractServiceBenchmark {
+
+    /**
+     * The student who receives every seeded and created achievement.
+     */
+    private Student student;
+
+    private AchievementService achievementService;
+
+    private Achievement achievementDetails;
+
+    @Override
+    protected void seed() {
+        achievementService = bean(AchievementService.class);
+        student = bean(StudentRepository.class).save(BenchmarkData.student(schoolData, 0));
+        AchievementRepository achievementRepository = bean(AchievementRepository.class);
+        List<Achievement> achievements = new ArrayList<>();
+        for (int i = 0; i < datasetSize; i++) {
+            achievements.add(BenchmarkData.achievement(student, i));
+        }
+        achievementRepository.saveAll(achievements).forEach(achievement -> seeded(achievement.getId()));
+        achievementDetails = BenchmarkData.achievement(student, 0);
+    }
+
+    @Benchmark
+    public Achievement createAchievement() {
+        return achievementService.createAchievement(BenchmarkData.achievement(student, nextSequence()));
+    }
+
+    @Benchmark
+    public Optional<Achievement> getAchievementById() {
+        return achievementService.getAchievementById(nextSeededId());
+    }
+
+    @Benchmark
+    public List<Achievement> getAllAchievements() {
+        return achievementService.getAllAchievements();
+    }
+
+    @Benchmark
+    public CursorPage<Achievement> getAchievementPage() {
+        return achievementService.getAchievementPage(nextSeededId(), CursorPage.DEFAULT_LIMIT);
+    }
+
+    @Benchmark
+    public Achievement updateAchievement() {
+        Long id = nextSeededId();
+        achievementDetails.setId(id);
+        return achievementService.updateAchievement(id, achievementDetails);
+    }
+
+    /**
+     * Creates and then deletes a Achievement, so that the dataset size stays constant while measuring deletes.
+     */
+    @Benchmark
+    public void createThenDeleteAchievement() {
+        Achievement achievement = achievementService.createAchievement(BenchmarkData.achievement(student, nextSequence()));
+        achievementService.deleteAchievement(achievement.getId());
+    }
+}
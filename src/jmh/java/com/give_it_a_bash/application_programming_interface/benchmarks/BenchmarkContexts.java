@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.benchmarks;
+
+import com.give_it_a_bash.application_programming_interface.ApplicationProgrammingInterfaceApplication;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Boots the application for benchmarking, each context with its own in-memory H2 database.
+ * Service benchmarks start the JPA and service layers only, while request benchmarks also start the web server.
+ */
+final class BenchmarkContexts {
+
+    private BenchmarkContexts() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Starts an application context backed by a fresh in-memory H2 database.
+     *
+     * @param databaseName the name of the in-memory database
+     * @param properties   additional properties in {@code key=value} form
+     * @return the running application context
+     */
+    static ConfigurableApplicationContext start(String databaseName, String... properties) {
+        return start(WebApplicationType.NONE, databaseName, properties);
+    }
+
+    /**
+     * Starts an application context serving HTTP on a random free port, read from {@code local.server.port},
+     * backed by a fresh in-memory H2 database.
+     *
+     * @param databaseName the name of the in-memory database
+     * @param properties   additional properties in {@code key=value} form
+     * @return the running application context
+     */
+    static ConfigurableApplicationContext startServer(String databaseName, String... properties) {
+        return start(WebApplicationType.SERVLET, databaseName, properties);
+    }
+
+    private static ConfigurableApplicationContext start(WebApplicationType webApplicationType,
+                                                        String databaseName,
+                                                        String... properties) {
+        return new SpringApplicationBuilder(ApplicationProgrammingInterfaceApplication.class)
+                .web(webApplicationType)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                .run(arguments(databaseName, properties));
+    }
+
+    /**
+     * Turns the properties into command line arguments, which take precedence over application.properties.
+     */
+    private static String[] arguments(String databaseName, String... properties) {
+        List<String> arguments = new ArrayList<>();
+        arguments.add("--spring.datasource.url=jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1");
+        arguments.add("--spring.h2.console.enabled=false");
+        arguments.add("--server.port=0");
+        arguments.add("--logging.level.root=WARN");
+        for (String property : properties) {
+            arguments.add("--" + property);
+        }
+        return arguments.toArray(new String[0]);
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.benchmarks;
+
+import com.give_it_a_bash.application_programming_interface.entities.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Builds realistic, self-contained entities for the benchmarks.
+ * Every method takes a sequence number so that generated rows are distinguishable.
+ */
+final class BenchmarkData {
+
+    private static final LocalDateTime TERM_START = LocalDateTime.of(2030, 9, 2, 9, 0);
+
+    private BenchmarkData() {
+        // Private constructor to prevent instantiation
+    }
+
+    static SchoolData schoolData(int n) {
+        return SchoolData.builder()
+                .schoolName("Xavier Institute " + n)
+                .location("1407 Graymalkin Lane, Salem Center, NY")
+                .motto("Mutatis Mutandis")
+                .yearEstablished(1963)
+                .affiliation("Mutant Education and Research")
+                .contactInfo("+1-555-XAVIER")
+                .isActive(true)
+                .build();
+    }
+
+    static Power power(int n) {
+        return Power.builder()
+                .name("Telekinesis")
+                .powerLevel(n % 10 + 1)
+                .description("Enables the user to mentally manipulate and move objects without physical contact.")
+                .category("Psychic")
+                .isActive(true)
+                .controlLevel(n % 7 + 1)
+                .originSource(n % 2 == 0 ? PowerSource.GENETIC_MUTATION : PowerSource.TECHNOLOGY)
+                .build();
+    }
+
+    static Student student(SchoolData schoolData, int n) {
+        return Student.builder()
+                .schoolData(schoolData)
+                .firstName("Jean" + n)
+                .lastName("Grey")
+                .alias("Phoenix" + n)
+                .power(power(n))
+                .missionHistory(new ArrayList<>(Collections.singletonList("Mission " + n)))
+                .isActive(true)
+                .guardianFirstName("John")
+                .guardianLastName("Grey")
+                .guardianContactNumber("+1-555-0101")
+                .guardianEmail("john.grey" + n + "@example.com")
+                .contactNumber("+1-555-0202")
+                .email("jean.grey" + n + "@example.com")
+                .status(Status.values()[n % Status.values().length])
+                .build();
+    }
+
+    static Teacher teacher(SchoolData schoolData, int n) {
+        return teacher(schoolData, n, new ArrayList<>());
+    }
+
+    static Teacher teacher(SchoolData schoolData, int n, List<Subject> subjects) {
+        return Teacher.builder()
+                .schoolData(schoolData)
+                .firstName("Charles" + n)
+                .lastName("Xavier")
+                .alias("Professor X" + n)
+                .power(power(n))
+                .missionHistory(new ArrayList<>(Collections.singletonList("Mission " + n)))
+                .isActive(true)
+                .email("charles.xavier" + n + "@example.com")
+                .phoneNumber("+1-555-0303")
+                .address("1407 Graymalkin Lane, Salem Center, NY")
+                .qualifications("PhD in Genetics, Mutant Studies")
+                .yearsOfExperience(n % 40)
+                .department("Psychic Studies")
+                .subjects(subjects)
+                .build();
+    }
+
+    static Subject subject(SchoolData schoolData, int n) {
+        return Subject.builder()
+                .schoolData(schoolData)
+                .name("Psychic Studies " + n)
+                .build();
+    }
+
+    static Facility facility(SchoolData schoolData, int n) {
+        return Facility.builder()
+                .schoolData(schoolData)
+                .name("Training Room " + n)
+                .type(FacilityType.values()[n % FacilityType.values().length])
+                .description("A room equipped for training and practice.")
+                .isAccessible(true)
+                .locationWithinCampus("Main Building, Floor " + n % 5)
+                .capacity(10 + n % 40)
+                .isOperational(true)
+                .build();
+    }
+
+    static Lesson lesson(Subject subject, Teacher teacher, List<Student> students, int n) {
+        LocalDateTime start = TERM_START.plusHours(n);
+        return Lesson.builder()
+                .subject(subject)
+                .teacher(teacher)
+                .startTime(start)
+                .endTime(start.plusMinutes(45))
+                .students(students)
+                .build();
+    }
+
+    static Achievement achievement(Student student, int n) {
+        return Achievement.builder()
+                .student(student)
+                .title("Outstanding Contribution " + n)
+                .description("Awarded for innovative contributions to the annual school science fair.")
+                .dateAwarded(LocalDate.of(2024, 1, 1).plusDays(n % 365))
+                .awardedBy("Professor Hank McCoy")
+                .category(SubjectCategory.values()[n % SubjectCategory.values().length])
+                .build();
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.benchmarks;
+
+import com.give_it_a_bash.application_programming_interface.bulk.BulkItemResult;
+import com.give_it_a_bash.application_programming_interface.entities.Achievement;
+import com.give_it_a_bash.application_programming_interface.entities.SchoolData;
+import com.give_it_a_bash.application_programming_interface.entities.Student;
+import com.give_it_a_bash.application_programming_interface.repositories.AchievementRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.SchoolDataRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.StudentRepository;
+import com.give_it_a_bash.application_programming_interface.services.StudentService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks bulk inserts of students and achievements, reported in rows per second.
+ * <p>
+ * {@link #batchSize} is passed to {@code hibernate.jdbc.batch_size}; a size of 1 disables JDBC batching. The
+ * trial fails if Hibernate does not end up using that size, so that both sizes never silently measure the same.
+ * To compare against identity-generated IDs, run this benchmark on a revision that still uses
+ * {@code GenerationType.IDENTITY}: it only depends on the repositories.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(BulkInsertBenchmark.ROWS_PER_INSERT)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BulkInsertBenchmark {
+
+    /**
+     * Number of rows inserted by each benchmark invocation.
+     */
+    static final int ROWS_PER_INSERT = 1000;
+
+    /**
+     * The JDBC batch size used by Hibernate.
+     */
+    @Param({"1", "50"})
+    public int batchSize;
+
+    private ConfigurableApplicationContext context;
+
+    private StudentRepository studentRepository;
+
+    private StudentService studentService;
+
+    private AchievementRepository achievementRepository;
+
+    private SchoolData schoolData;
+
+    private Student student;
+
+    private int sequence;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        context = BenchmarkContexts.start(getClass().getSimpleName(),
+                "spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize);
+        int configuredBatchSize = context.getBean(EntityManagerFactory.class)
+                .unwrap(SessionFactoryImplementor.class).getSessionFactoryOptions().getJdbcBatchSize();
+        if (configuredBatchSize != batchSize) {
+            throw new IllegalStateException("Hibernate uses a JDBC batch size of " + configuredBatchSize
+                    + " instead of " + batchSize);
+        }
+        studentRepository = context.getBean(StudentRepository.class);
+        studentService = context.getBean(StudentService.class);
+        achievementRepository = context.getBean(AchievementRepository.class);
+    }
+
+    /**
+     * Empties every table between iterations so that each iteration inserts into a table of the same size.
+     */
+    @Setup(Level.Iteration)
+    public void resetTables() {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        List<String> tables = jdbcTemplate.queryForList(
+                "SELECT table_name FROM information_schema.tables WHERE table_schema = 'PUBLIC'", String.class);
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+        for (String table : tables) {
+            jdbcTemplate.execute("TRUNCATE TABLE " + table);
+        }
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE");
+
+        schoolData = context.getBean(SchoolDataRepository.class).save(BenchmarkData.schoolData(0));
+        student = studentRepository.save(BenchmarkData.student(schoolData, 0));
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Student> insertStudents() {
+        List<Student> students = new ArrayList<>(ROWS_PER_INSERT);
+        for (int i = 0; i < ROWS_PER_INSERT; i++) {
+            students.add(BenchmarkData.student(schoolData, ++sequence));
+        }
+        return studentRepository.saveAll(students);
+    }
+
+    @Benchmark
+    public List<Achievement> insertAchievements() {
+        List<Achievement> achievements = new ArrayList<>(ROWS_PER_INSERT);
+        for (int i = 0; i < ROWS_PER_INSERT; i++) {
+            achievements.add(BenchmarkData.achievement(student, ++sequence));
+        }
+        return achievementRepository.saveAll(achievements);
+    }
+
+    /**
+     * Creates students one transaction at a time, as repeated calls to {@code POST /api/students} do.
+     */
+    @Benchmark
+    public void createStudentsOneByOne() {
+        for (int i = 0; i < ROWS_PER_INSERT; i++) {
+            studentService.createStudent(BenchmarkData.student(schoolData, ++sequence));
+        }
+    }
+
+    /**
+     * Creates students through the bulk path behind {@code POST /api/students/batch}.
+     */
+    @Benchmark
+    public List<BulkItemResult> createStudentsInBulk() {
+        List<Student> students = new ArrayList<>(ROWS_PER_INSERT);
+        for (int i = 0; i < ROWS_PER_INSERT; i++) {
+            students.add(BenchmarkData.student(schoolData, ++sequence));
+        }
+        return studentService.createStudents(students);
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.benchmarks;
+
+import com.give_it_a_bash.application_programming_interface.entities.Facility;
+import com.give_it_a_bash.application_programming_interface.pagination.CursorPage;
+import com.give_it_a_bash.application_programming_interface.repositories.FacilityRepository;
+import com.give_it_a_bash.application_programming_interface.services.FacilityService;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Benchmarks the CRUD operations of {@link FacilityService} against a school's facilities.
+ */
+public class FacilityServiceBenchmark extends AbstractServiceBenchmark {
+
+    private FacilityService facilityService;
+
+    private Facility facilityDetails;
+
+    @Override
+    protected void seed() {
+        facilityService = bean(FacilityService.class);
+        FacilityRepository facilityRepository = bean(FacilityRepository.class);
+        List<Facility> facilities = new ArrayList<>();
+        for (int i = 0; i < datasetSize; i++) {
+            facilities.add(BenchmarkData.facility(schoolData, i));
+        }
+        facilityRepository.saveAll(facilities).forEach(facility -> seeded(facility.getId()));
+        facilityDetails = BenchmarkData.facility(schoolData, 0);
+    }
+
+    @Benchmark
+    public Facility createFacility() {
+        return facilityService.createFacility(BenchmarkData.facility(schoolData, nextSequence()));
+    }
+
+    @Benchmark
+    public Optional<Facility> getFacilityById() {
+        return facilityService.getFacilityById(nextSeededId());
+    }
+
+    @Benchmark
+    public List<Facility> getAllFacilities() {
+        return facilityService.getAllFacilities();
+    }
+
+    @Benchmark
+    public CursorPage<Facility> getFacilityPage() {
+        return facilityService.getFacilityPage(nextSeededId(), CursorPage.DEFAULT_LIMIT);
+    }
+
+    @Benchmark
+    public Facility updateFacility() {
+        Long id = nextSeededId();
+        facilityDetails.setId(id);
+        return facilityService.updateFacility(id, facilityDetails);
+    }
+
+    /**
+     * Creates and then deletes a Facility, so that the dataset size stays constant while measuring deletes.
+     */
+    @Benchmark
+    public void createThenDeleteFacility() {
+        Facility facility = facilityService.createFacility(BenchmarkData.facility(schoolData, nextSequence()));
+        facilityService.deleteFacility(facility.getId());
+    }
+}
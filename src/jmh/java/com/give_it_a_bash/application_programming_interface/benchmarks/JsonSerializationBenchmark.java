@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.give_it_a_bash.application_programming_interface.config.JacksonConfiguration;
+import com.give_it_a_bash.application_programming_interface.entities.*;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks Jackson serialization and deserialization of the entity graph as the controllers return it.
+ * <p>
+ * The {@link ObjectMapper} is configured as Spring Boot configures it for the web layer, so changes to
+ * the entity annotations or the {@code spring.jackson.*} properties show up here. A lesson embeds its
+ * subject, its teacher (with the teacher's subjects) and every enrolled student, so its cost grows with
+ * {@link #classSize}. Run with {@code -prof gc} (the default {@code jmh.args}) to also report the bytes
+ * allocated per operation.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    /**
+     * Number of subjects taught by the lesson's teacher.
+     */
+    private static final int SUBJECTS_PER_TEACHER = 5;
+
+    /**
+     * The number of students enrolled in the serialized lesson.
+     */
+    @Param({"1", "30", "100"})
+    public int classSize;
+
+    private ConfigurableApplicationContext context;
+
+    private ObjectMapper objectMapper;
+
+    private SchoolData schoolData;
+
+    private Student student;
+
+    private Teacher teacher;
+
+    private Lesson lesson;
+
+    private byte[] schoolDataJson;
+
+    private byte[] studentJson;
+
+    private byte[] teacherJson;
+
+    private byte[] lessonJson;
+
+    @Setup(Level.Trial)
+    public void buildGraph() throws IOException {
+        context = new SpringApplicationBuilder(JacksonAutoConfiguration.class, JacksonConfiguration.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                .properties("logging.level.root=WARN")
+                .run();
+        objectMapper = context.getBean(ObjectMapper.class);
+
+        long id = 1;
+        schoolData = BenchmarkData.schoolData(0);
+        schoolData.setId(id++);
+
+        List<Subject> subjects = new ArrayList<>();
+        for (int i = 0; i < SUBJECTS_PER_TEACHER; i++) {
+            Subject subject = BenchmarkData.subject(schoolData, i);
+            subject.setId(id++);
+            subjects.add(subject);
+        }
+        teacher = BenchmarkData.teacher(schoolData, 0, subjects);
+        teacher.setId(id++);
+
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < classSize; i++) {
+            Student enrolled = BenchmarkData.student(schoolData, i);
+            enrolled.setId(id++);
+            students.add(enrolled);
+        }
+        student = students.get(0);
+
+        lesson = BenchmarkData.lesson(subjects.get(0), teacher, students, 0);
+        lesson.setId(id);
+
+        schoolDataJson = objectMapper.writeValueAsBytes(schoolData);
+        studentJson = objectMapper.writeValueAsBytes(student);
+        teacherJson = objectMapper.writeValueAsBytes(teacher);
+        lessonJson = objectMapper.writeValueAsBytes(lesson);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] serializeSchoolData() throws IOException {
+        return objectMapper.writeValueAsBytes(schoolData);
+    }
+
+    @Benchmark
+    public SchoolData deserializeSchoolData() throws IOException {
+        return objectMapper.readValue(schoolDataJson, SchoolData.class);
+    }
+
+    @Benchmark
+    public byte[] serializeStudent() throws IOException {
+        return objectMapper.writeValueAsBytes(student);
+    }
+
+    @Benchmark
+    public Student deserializeStudent() throws IOException {
+        return objectMapper.readValue(studentJson, Student.class);
+    }
+
+    @Benchmark
+    public byte[] serializeTeacher() throws IOException {
+        return objectMapper.writeValueAsBytes(teacher);
+    }
+
+    @Benchmark
+    public Teacher deserializeTeacher() throws IOException {
+        return objectMapper.readValue(teacherJson, Teacher.class);
+    }
+
+    @Benchmark
+    public byte[] serializeLesson() throws IOException {
+        return objectMapper.writeValueAsBytes(lesson);
+    }
+
+    @Benchmark
+    public Lesson deserializeLesson() throws IOException {
+        return objectMapper.readValue(lessonJson, Lesson.class);
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.benchmarks;
+
+import com.give_it_a_bash.application_programming_interface.instrumentation.LatencyHistogram;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the cost of recording a latency into a {@link LatencyHistogram}, which every request and service
+ * method call pays while the latency metrics are enabled.
+ * <p>
+ * Run with {@code -t} to measure recording from several threads into the same histogram.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LatencyHistogramBenchmark {
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    @Benchmark
+    public void record() {
+        histogram.record(ThreadLocalRandom.current().nextLong(1_000, 100_000_000), false);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void recordContended() {
+        histogram.record(ThreadLocalRandom.current().nextLong(1_000, 100_000_000), false);
+    }
+
+    @Benchmark
+    public long measureAndRecord() {
+        long start = System.nanoTime();
+        histogram.record(System.nanoTime() - start, false);
+        return start;
+    }
+
+    @Benchmark
+    public LatencyHistogram.Snapshot snapshot() {
+        return histogram.snapshot();
+    }
+}
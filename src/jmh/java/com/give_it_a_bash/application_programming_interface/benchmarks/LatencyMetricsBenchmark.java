@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.benchmarks;
+
+import com.give_it_a_bash.application_programming_interface.entities.Student;
+import com.give_it_a_bash.application_programming_interface.instrumentation.LatencyRegistry;
+import com.give_it_a_bash.application_programming_interface.pagination.CursorPage;
+import com.give_it_a_bash.application_programming_interface.repositories.StudentRepository;
+import com.give_it_a_bash.application_programming_interface.services.StudentService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Benchmarks {@link StudentService} reads with the latency metrics enabled and disabled, to show the overhead of
+ * recording every service method call.
+ */
+public class LatencyMetricsBenchmark extends AbstractServiceBenchmark {
+
+    /**
+     * Whether service method latencies are recorded.
+     */
+    @Param({"true", "false"})
+    public boolean metricsEnabled;
+
+    private StudentService studentService;
+
+    @Override
+    protected String[] contextProperties() {
+        return new String[] {LatencyRegistry.ENABLED_PROPERTY + "=" + metricsEnabled};
+    }
+
+    @Override
+    protected void seed() {
+        studentService = bean(StudentService.class);
+        StudentRepository studentRepository = bean(StudentRepository.class);
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < datasetSize; i++) {
+            students.add(BenchmarkData.student(schoolData, i));
+        }
+        studentRepository.saveAll(students).forEach(student -> seeded(student.getId()));
+    }
+
+    @Benchmark
+    public Optional<Student> getStudentById() {
+        return studentService.getStudentById(nextSeededId());
+    }
+
+    @Benchmark
+    public CursorPage<Student> getStudentPage() {
+        return studentService.getStudentPage(nextSeededId(), CursorPage.DEFAULT_LIMIT);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.benchmarks;
+
+import com.give_it_a_bash.application_programming_interface.entities.Lesson;
+import com.give_it_a_bash.application_programming_interface.entities.Student;
+import com.give_it_a_bash.application_programming_interface.entities.Subject;
+import com.give_it_a_bash.application_programming_interface.entities.Teacher;
+import com.give_it_a_bash.application_programming_interface.pagination.CursorPage;
+import com.give_it_a_bash.application_programming_interface.repositories.LessonRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.StudentRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.SubjectRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.TeacherRepository;
+import com.give_it_a_bash.application_programming_interface.services.LessonService;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Benchmarks the CRUD operations of {@link LessonService} against lessons of 25 enrolled students each.
+ */
+public class LessonServiceBenchmark extends AbstractServiceBenchmark {
+
+    /**
+     * Number of students enrolled in every seeded and created lesson.
+     */
+    private static final int CLASS_SIZE = 25;
+
+    private Subject subject;
+
+    private Teacher teacher;
+
+    private List<Student> students;
+
+    private LessonService lessonService;
+
+    private Lesson lessonDetails;
+
+    @Override
+    protected void seed() {
+        lessonService = bean(LessonService.class);
+        subject = bean(SubjectRepository.class).save(BenchmarkData.subject(schoolData, 0));
+        teacher = bean(TeacherRepository.class).save(BenchmarkData.teacher(schoolData, 0));
+        students = new ArrayList<>();
+        for (int i = 0; i < CLASS_SIZE; i++) {
+            students.add(BenchmarkData.student(schoolData, i));
+        }
+        students = bean(StudentRepository.class).saveAll(students);
+        LessonRepository lessonRepository = bean(LessonRepository.class);
+        List<Lesson> lessons = new ArrayList<>();
+        for (int i = 0; i < datasetSize; i++) {
+            lessons.add(BenchmarkData.lesson(subject, teacher, new ArrayList<>(students), i));
+        }
+        lessonRepository.saveAll(lessons).forEach(lesson -> seeded(lesson.getId()));
+        lessonDetails = BenchmarkData.lesson(subject, teacher, new ArrayList<>(students), 0);
+    }
+
+    @Benchmark
+    public Lesson createLesson() {
+        return lessonService.createLesson(BenchmarkData.lesson(subject, teacher, new ArrayList<>(students), nextSequence()));
+    }
+
+    @Benchmark
+    public Optional<Lesson> getLessonById() {
+        return lessonService.getLessonById(nextSeededId());
+    }
+
+    @Benchmark
+    public List<Lesson> getAllLessons() {
+        return lessonService.getAllLessons();
+    }
+
+    @Benchmark
+    public CursorPage<Lesson> getLessonPage() {
+        return lessonService.getLessonPage(nextSeededId(), CursorPage.DEFAULT_LIMIT);
+    }
+
+    @Benchmark
+    public Lesson updateLesson() {
+        Long id = nextSeededId();
+        lessonDetails.setId(id);
+        return lessonService.updateLesson(id, lessonDetails);
+    }
+
+    /**
+     * Creates and then deletes a Lesson, so that the dataset size stays constant while measuring deletes.
+     */
+    @Benchmark
+    public void createThenDeleteLesson() {
+        Lesson lesson = lessonService.createLesson(BenchmarkData.lesson(subject, teacher, new ArrayList<>(students), nextSequence()));
+        lessonService.deleteLesson(lesson.getId());
+    }
+}
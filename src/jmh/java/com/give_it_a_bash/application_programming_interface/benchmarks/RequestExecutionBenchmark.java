@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.give_it_a_bash.application_programming_interface.config.ExecutionModeConfiguration;
+import com.give_it_a_bash.application_programming_interface.entities.Lesson;
+import com.give_it_a_bash.application_programming_interface.entities.SchoolData;
+import com.give_it_a_bash.application_programming_interface.entities.Student;
+import com.give_it_a_bash.application_programming_interface.entities.Subject;
+import com.give_it_a_bash.application_programming_interface.entities.Teacher;
+import com.give_it_a_bash.application_programming_interface.pagination.CursorPage;
+import com.give_it_a_bash.application_programming_interface.repositories.LessonRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.SchoolDataRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.StudentRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.SubjectRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.TeacherRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Load benchmark comparing request handling on platform threads with request handling on virtual threads.
+ * <p>
+ * Each trial starts the full application, web server included, in the given {@link #executionMode} and sends
+ * HTTP requests to the Student and Lesson endpoints from many client threads at once, as in the burst of traffic
+ * at the beginning of the day. Both throughput and the distribution of latencies are reported; the {@code p0.99}
+ * line of the sample time results is the 99th percentile. The {@code virtual} mode requires Java 21 or later.
+ * </p>
+ * <p>
+ * Run with {@code -Djmh.args="RequestExecutionBenchmark -p platformThreads=16"} to see the platform thread pool
+ * saturate under the same load.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(64)
+@Fork(value = 1, jvmArgsAppend = "-Dhttp.maxConnections=64")
+public class RequestExecutionBenchmark {
+
+    /**
+     * Number of students enrolled in every seeded lesson.
+     */
+    private static final int CLASS_SIZE = 25;
+
+    /**
+     * The threads requests are handled on, {@code platform} or {@code virtual}.
+     */
+    @Param({"platform", "virtual"})
+    public String executionMode;
+
+    /**
+     * The size of Tomcat's platform thread pool, which bounds concurrent requests in the {@code platform} mode.
+     */
+    @Param({"200"})
+    public int platformThreads;
+
+    /**
+     * The number of Students and of Lessons seeded before measuring.
+     */
+    @Param({"1000"})
+    public int datasetSize;
+
+    private ConfigurableApplicationContext context;
+
+    private ObjectMapper objectMapper;
+
+    private String baseUrl;
+
+    private SchoolData schoolData;
+
+    private final List<Long> studentIds = new ArrayList<>();
+
+    private final List<Long> lessonIds = new ArrayList<>();
+
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void startServer() {
+        if (!"platform".equals(executionMode) && !"virtual".equals(executionMode)) {
+            throw new IllegalArgumentException("Unknown execution mode " + executionMode);
+        }
+        // The prod profile leaves out the filter buffering every response to count its SQL statements
+        context = BenchmarkContexts.startServer(getClass().getSimpleName(),
+                "spring.profiles.active=prod",
+                ExecutionModeConfiguration.VIRTUAL_THREADS_PROPERTY + "=" + "virtual".equals(executionMode),
+                "server.tomcat.threads.max=" + platformThreads);
+        objectMapper = context.getBean(ObjectMapper.class);
+        baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        seed();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopServer() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] getStudentById() throws IOException {
+        return exchange("GET", "/api/students/" + randomId(studentIds), null);
+    }
+
+    @Benchmark
+    public byte[] getStudentPage() throws IOException {
+        return exchange("GET", "/api/students?after=" + CursorPage.encodeCursor(randomId(studentIds)), null);
+    }
+
+    @Benchmark
+    public byte[] createStudent() throws IOException {
+        ObjectNode student = objectMapper.valueToTree(
+                BenchmarkData.student(schoolData, datasetSize + sequence.getAndIncrement()));
+        student.putObject("schoolData").put("id", schoolData.getId());
+        return exchange("POST", "/api/students", objectMapper.writeValueAsBytes(student));
+    }
+
+    @Benchmark
+    public byte[] getLessonById() throws IOException {
+        return exchange("GET", "/api/lessons/" + randomId(lessonIds), null);
+    }
+
+    @Benchmark
+    public byte[] getLessonPage() throws IOException {
+        return exchange("GET", "/api/lessons?after=" + CursorPage.encodeCursor(randomId(lessonIds)), null);
+    }
+
+    private void seed() {
+        schoolData = context.getBean(SchoolDataRepository.class).save(BenchmarkData.schoolData(0));
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < datasetSize; i++) {
+            students.add(BenchmarkData.student(schoolData, i));
+        }
+        students = context.getBean(StudentRepository.class).saveAll(students);
+        students.forEach(student -> studentIds.add(student.getId()));
+
+        Subject subject = context.getBean(SubjectRepository.class).save(BenchmarkData.subject(schoolData, 0));
+        Teacher teacher = context.getBean(TeacherRepository.class).save(BenchmarkData.teacher(schoolData, 0));
+        List<Lesson> lessons = new ArrayList<>();
+        for (int i = 0; i < datasetSize; i++) {
+            lessons.add(BenchmarkData.lesson(subject, teacher, new ArrayList<>(students.subList(0, CLASS_SIZE)), i));
+        }
+        context.getBean(LessonRepository.class).saveAll(lessons).forEach(lesson -> lessonIds.add(lesson.getId()));
+    }
+
+    private static Long randomId(List<Long> ids) {
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+
+    /**
+     * Sends a request and reads the whole response, so that the connection is kept alive for the next request.
+     *
+     * @param method the HTTP method
+     * @param path   the path of the request
+     * @param body   the JSON body of the request, or {@code null} for none
+     * @return the body of the response
+     * @throws IOException if the request could not be sent
+     * @throws IllegalStateException if the response is not successful
+     */
+    private byte[] exchange(String method, String path, byte[] body) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(baseUrl + path).openConnection();
+        connection.setRequestMethod(method);
+        connection.setRequestProperty("Accept", "application/json");
+        if (body != null) {
+            connection.setDoOutput(true);
+            connection.setRequestProperty("Content-Type", "application/json");
+            try (OutputStream out = connection.getOutputStream()) {
+                out.write(body);
+            }
+        }
+        int status = connection.getResponseCode();
+        try (InputStream in = status < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+            byte[] response = in != null ? StreamUtils.copyToByteArray(in) : new byte[0];
+            if (status >= 400) {
+                throw new IllegalStateException(method + " " + path + " returned " + status + ": "
+                        + new String(response, StandardCharsets.UTF_8));
+            }
+            return response;
+        }
+    }
+}
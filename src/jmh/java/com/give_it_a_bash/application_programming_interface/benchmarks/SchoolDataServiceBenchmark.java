@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.benchmarks;
+
+import com.give_it_a_bash.application_programming_interface.entities.SchoolData;
+import com.give_it_a_bash.application_programming_interface.pagination.CursorPage;
+import com.give_it_a_bash.application_programming_interface.repositories.SchoolDataRepository;
+import com.give_it_a_bash.application_programming_interface.services.SchoolDataService;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Benchmarks the CRUD operations of {@link SchoolDataService} against a table of schools.
+ */
+public class SchoolDataServiceBenchmark extends AbstractServiceBenchmark {
+
+    private SchoolDataService schoolDataService;
+
+    private SchoolData schoolDataDetails;
+
+    @Override
+    protected void seed() {
+        schoolDataService = bean(SchoolDataService.class);
+        SchoolDataRepository schoolDataRepository = bean(SchoolDataRepository.class);
+        List<SchoolData> schools = new ArrayList<>();
+        for (int i = 1; i < datasetSize; i++) {
+            schools.add(BenchmarkData.schoolData(i));
+        }
+        seeded(schoolData.getId());
+        schoolDataRepository.saveAll(schools).forEach(school -> seeded(school.getId()));
+        schoolDataDetails = BenchmarkData.schoolData(0);
+    }
+
+    @Benchmark
+    public SchoolData createSchoolData() {
+        return schoolDataService.createSchoolData(BenchmarkData.schoolData(nextSequence()));
+    }
+
+    @Benchmark
+    public Optional<SchoolData> getSchoolDataById() {
+        return schoolDataService.getSchoolDataById(nextSeededId());
+    }
+
+    @Benchmark
+    public List<SchoolData> getAllSchoolData() {
+        return schoolDataService.getAllSchoolData();
+    }
+
+    @Benchmark
+    public CursorPage<SchoolData> getSchoolDataPage() {
+        return schoolDataService.getSchoolDataPage(nextSeededId(), CursorPage.DEFAULT_LIMIT);
+    }
+
+    @Benchmark
+    public SchoolData updateSchoolData() {
+        Long id = nextSeededId();
+        schoolDataDetails.setId(id);
+        return schoolDataService.updateSchoolData(id, schoolDataDetails);
+    }
+
+    /**
+     * Creates and then deletes a SchoolData, so that the dataset size stays constant while measuring deletes.
+     */
+    @Benchmark
+    public void createThenDeleteSchoolData() {
+        SchoolData schoolData = schoolDataService.createSchoolData(BenchmarkData.schoolData(nextSequence()));
+        schoolDataService.deleteSchoolData(schoolData.getId());
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.benchmarks;
+
+import com.give_it_a_bash.application_programming_interface.entities.Student;
+import com.give_it_a_bash.application_programming_interface.pagination.CursorPage;
+import com.give_it_a_bash.application_programming_interface.repositories.StudentRepository;
+import com.give_it_a_bash.application_programming_interface.services.StudentService;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Benchmarks the CRUD operations of {@link StudentService} against a school's students.
+ */
+public class StudentServiceBenchmark extends AbstractServiceBenchmark {
+
+    private StudentService studentService;
+
+    private Student studentDetails;
+
+    @Override
+    protected void seed() {
+        studentService = bean(StudentService.class);
+        StudentRepository studentRepository = bean(StudentRepository.class);
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < datasetSize; i++) {
+            students.add(BenchmarkData.student(schoolData, i));
+        }
+        studentRepository.saveAll(students).forEach(student -> seeded(student.getId()));
+        studentDetails = BenchmarkData.student(schoolData, 0);
+    }
+
+    @Benchmark
+    public Student createStudent() {
+        return studentService.createStudent(BenchmarkData.student(schoolData, nextSequence()));
+    }
+
+    @Benchmark
+    public Optional<Student> getStudentById() {
+        return studentService.getStudentById(nextSeededId());
+    }
+
+    @Benchmark
+    public List<Student> getAllStudents() {
+        return studentService.getAllStudents();
+    }
+
+    @Benchmark
+    public CursorPage<Student> getStudentPage() {
+        return studentService.getStudentPage(nextSeededId(), CursorPage.DEFAULT_LIMIT);
+    }
+
+    @Benchmark
+    public Student updateStudent() {
+        Long id = nextSeededId();
+        studentDetails.setId(id);
+        return studentService.updateStudent(id, studentDetails);
+    }
+
+    /**
+     * Creates and then deletes a Student, so that the dataset size stays constant while measuring deletes.
+     */
+    @Benchmark
+    public void createThenDeleteStudent() {
+        Student student = studentService.createStudent(BenchmarkData.student(schoolData, nextSequence()));
+        studentService.deleteStudent(student.getId());
+    }
+}
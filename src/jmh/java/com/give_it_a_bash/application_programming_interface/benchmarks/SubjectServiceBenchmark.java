@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.benchmarks;
+
+import com.give_it_a_bash.application_programming_interface.entities.Subject;
+import com.give_it_a_bash.application_programming_interface.pagination.CursorPage;
+import com.give_it_a_bash.application_programming_interface.repositories.SubjectRepository;
+import com.give_it_a_bash.application_programming_interface.services.SubjectService;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Benchmarks the CRUD operations of {@link SubjectService} against a school's subjects.
+ */
+public class SubjectServiceBenchmark extends AbstractServiceBenchmark {
+
+    private SubjectService subjectService;
+
+    private Subject subjectDetails;
+
+    @Override
+    protected void seed() {
+        subjectService = bean(SubjectService.class);
+        SubjectRepository subjectRepository = bean(SubjectRepository.class);
+        List<Subject> subjects = new ArrayList<>();
+        for (int i = 0; i < datasetSize; i++) {
+            subjects.add(BenchmarkData.subject(schoolData, i));
+        }
+        subjectRepository.saveAll(subjects).forEach(subject -> seeded(subject.getId()));
+        subjectDetails = BenchmarkData.subject(schoolData, 0);
+    }
+
+    @Benchmark
+    public Subject createSubject() {
+        return subjectService.createSubject(BenchmarkData.subject(schoolData, nextSequence()));
+    }
+
+    @Benchmark
+    public Optional<Subject> getSubjectById() {
+        return subjectService.getSubjectById(nextSeededId());
+    }
+
+    @Benchmark
+    public List<Subject> getAllSubjects() {
+        return subjectService.getAllSubjects();
+    }
+
+    @Benchmark
+    public CursorPage<Subject> getSubjectPage() {
+        return subjectService.getSubjectPage(nextSeededId(), CursorPage.DEFAULT_LIMIT);
+    }
+
+    @Benchmark
+    public Subject updateSubject() {
+        Long id = nextSeededId();
+        subjectDetails.setId(id);
+        return subjectService.updateSubject(id, subjectDetails);
+    }
+
+    /**
+     * Creates and then deletes a Subject, so that the dataset size stays constant while measuring deletes.
+     */
+    @Benchmark
+    public void createThenDeleteSubject() {
+        Subject subject = subjectService.createSubject(BenchmarkData.subject(schoolData, nextSequence()));
+        subjectService.deleteSubject(subject.getId());
+    }
+}
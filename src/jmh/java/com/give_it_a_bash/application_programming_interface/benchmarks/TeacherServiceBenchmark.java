@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.benchmarks;
+
+import com.give_it_a_bash.application_programming_interface.entities.Teacher;
+import com.give_it_a_bash.application_programming_interface.pagination.CursorPage;
+import com.give_it_a_bash.application_programming_interface.repositories.TeacherRepository;
+import com.give_it_a_bash.application_programming_interface.services.TeacherService;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Benchmarks the CRUD operations of {@link TeacherService} against a school's teachers.
+ */
+public class TeacherServiceBenchmark extends AbstractServiceBenchmark {
+
+    private TeacherService teacherService;
+
+    private Teacher teacherDetails;
+
+    @Override
+    protected void seed() {
+        teacherService = bean(TeacherService.class);
+        TeacherRepository teacherRepository = bean(TeacherRepository.class);
+        List<Teacher> teachers = new ArrayList<>();
+        for (int i = 0; i < datasetSize; i++) {
+            teachers.add(BenchmarkData.teacher(schoolData, i));
+        }
+        teacherRepository.saveAll(teachers).forEach(teacher -> seeded(teacher.getId()));
+        teacherDetails = BenchmarkData.teacher(schoolData, 0);
+    }
+
+    @Benchmark
+    public Teacher createTeacher() {
+        return teacherService.createTeacher(BenchmarkData.teacher(schoolData, nextSequence()));
+    }
+
+    @Benchmark
+    public Optional<Teacher> getTeacherById() {
+        return teacherService.getTeacherById(nextSeededId());
+    }
+
+    @Benchmark
+    public List<Teacher> getAllTeachers() {
+        return teacherService.getAllTeachers();
+    }
+
+    @Benchmark
+    public CursorPage<Teacher> getTeacherPage() {
+        return teacherService.getTeacherPage(nextSeededId(), CursorPage.DEFAULT_LIMIT);
+    }
+
+    @Benchmark
+    public Teacher updateTeacher() {
+        Long id = nextSeededId();
+        teacherDetails.setId(id);
+        return teacherService.updateTeacher(id, teacherDetails);
+    }
+
+    /**
+     * Creates and then deletes a Teacher, so that the dataset size stays constant while measuring deletes.
+     */
+    @Benchmark
+    public void createThenDeleteTeacher() {
+        Teacher teacher = teacherService.createTeacher(BenchmarkData.teacher(schoolData, nextSequence()));
+        teacherService.deleteTeacher(teacher.getId());
+    }
+}
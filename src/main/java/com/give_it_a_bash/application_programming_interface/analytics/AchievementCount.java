@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.analytics;
+
+import com.give_it_a_bash.application_programming_interface.entities.SubjectCategory;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.YearMonth;
+
+/**
+ * The number of achievements of one category awarded in one month to the students of one school.
+ */
+@Getter
+@AllArgsConstructor
+public class AchievementCount {
+
+    private final YearMonth month;
+
+    /**
+     * The ID of the school, or {@code null} for achievements of students without a school.
+     */
+    private final Long schoolId;
+
+    private final SubjectCategory category;
+
+    private final long count;
+}
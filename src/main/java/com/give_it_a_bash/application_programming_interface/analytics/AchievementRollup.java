@@ -0,0 +1,303 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.analytics;
+
+import com.give_it_a_bash.application_programming_interface.entities.SubjectCategory;
+import com.give_it_a_bash.application_programming_interface.projections.AchievementAward;
+import com.give_it_a_bash.application_programming_interface.projections.StudentFacets;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+/**
+ * In-memory rollups of achievement counts by category, school and date awarded.
+ * <p>
+ * Counts are kept per day and per month. A date range is answered from the monthly counts for every month it
+ * covers entirely and from the daily counts of the months it covers in part, so a query reads at most two
+ * months' worth of days, however long the range.
+ * </p>
+ * <p>
+ * An achievement is counted under the current school of its student. The rollups remember the school of every
+ * student, so an achievement written with a reference to its student is counted correctly, and moving a student
+ * to another school moves their achievements with them.
+ * </p>
+ * <p>
+ * All methods are synchronized, except that {@link #rebuild(Supplier, Supplier)} reads the students and
+ * achievements without holding the lock, noting those written meanwhile so that their latest values survive the
+ * rebuild.
+ * </p>
+ */
+@Component
+public class AchievementRollup {
+
+    /**
+     * The maximum number of months a counted date range may overlap, which bounds the time the rollups are locked.
+     */
+    public static final int MAX_MONTHS = 120;
+
+    private final Map<Long, Award> awards = new HashMap<>();
+
+    private final Map<Long, Set<Long>> awardsByStudent = new HashMap<>();
+
+    private final Map<Long, Long> studentSchools = new HashMap<>();
+
+    private final NavigableMap<LocalDate, Map<RollupCell, Long>> daily = new TreeMap<>();
+
+    private final NavigableMap<YearMonth, Map<RollupCell, Long>> monthly = new TreeMap<>();
+
+    private final Object rebuildLock = new Object();
+
+    private Set<Long> studentsWrittenDuringRebuild;
+
+    private Set<Long> achievementsWrittenDuringRebuild;
+
+    /**
+     * Counts an achievement, replacing the previous values it was counted under.
+     *
+     * @param achievementId the ID of the achievement
+     * @param studentId     the ID of the student the achievement was awarded to
+     * @param category      the category of the achievement
+     * @param dateAwarded   the date the achievement was awarded
+     */
+    public synchronized void putAchievement(Long achievementId, Long studentId, SubjectCategory category,
+                                            LocalDate dateAwarded) {
+        removeAchievement(achievementId);
+        if (studentId == null || category == null || dateAwarded == null) {
+            return;
+        }
+        Award award = new Award(studentId, category, dateAwarded);
+        awards.put(achievementId, award);
+        awardsByStudent.computeIfAbsent(studentId, id -> new HashSet<>()).add(achievementId);
+        add(award, studentSchools.get(studentId), 1);
+    }
+
+    /**
+     * Stops counting an achievement.
+     *
+     * @param achievementId the ID of the achievement
+     * @return {@code true} if the achievement was counted
+     */
+    public synchronized boolean removeAchievement(Long achievementId) {
+        if (achievementsWrittenDuringRebuild != null) {
+            achievementsWrittenDuringRebuild.add(achievementId);
+        }
+        Award previous = awards.remove(achievementId);
+        if (previous == null) {
+            return false;
+        }
+        Set<Long> studentAwards = awardsByStudent.get(previous.getStudentId());
+        studentAwards.remove(achievementId);
+        if (studentAwards.isEmpty()) {
+            awardsByStudent.remove(previous.getStudentId());
+        }
+        add(previous, studentSchools.get(previous.getStudentId()), -1);
+        return true;
+    }
+
+    /**
+     * Records the school of a student, moving the student's achievements to it.
+     *
+     * @param studentId the ID of the student
+     * @param schoolId  the ID of the student's school, or {@code null} if the student has no school
+     */
+    public synchronized void putStudent(Long studentId, Long schoolId) {
+        if (studentsWrittenDuringRebuild != null) {
+            studentsWrittenDuringRebuild.add(studentId);
+        }
+        Long previous = schoolId != null ? studentSchools.put(studentId, schoolId) : studentSchools.remove(studentId);
+        if (previous == null ? schoolId == null : previous.equals(schoolId)) {
+            return;
+        }
+        for (Long achievementId : awardsByStudent.getOrDefault(studentId, new HashSet<>())) {
+            Award award = awards.get(achievementId);
+            add(award, previous, -1);
+            add(award, schoolId, 1);
+        }
+    }
+
+    /**
+     * Forgets the school of a student.
+     *
+     * @param studentId the ID of the student
+     */
+    public synchronized void removeStudent(Long studentId) {
+        putStudent(studentId, null);
+    }
+
+    /**
+     * Replaces every student and achievement with those read by the given suppliers.
+     * They are read without holding the lock; the students and achievements written meanwhile keep the values of
+     * their latest write, as the suppliers may have read them before that write committed.
+     *
+     * @param students supplies the school of every student
+     * @param awards   supplies the counted values of every achievement
+     */
+    public void rebuild(Supplier<? extends Collection<StudentFacets>> students,
+                        Supplier<? extends Collection<AchievementAward>> awards) {
+        synchronized (rebuildLock) {
+            synchronized (this) {
+                studentsWrittenDuringRebuild = new HashSet<>();
+                achievementsWrittenDuringRebuild = new HashSet<>();
+            }
+            try {
+                Collection<StudentFacets> readStudents = students.get();
+                Collection<AchievementAward> readAwards = awards.get();
+                synchronized (this) {
+                    Map<Long, Long> writtenStudents = new HashMap<>();
+                    for (Long studentId : studentsWrittenDuringRebuild) {
+                        writtenStudents.put(studentId, studentSchools.get(studentId));
+                    }
+                    Map<Long, Award> writtenAwards = new HashMap<>();
+                    for (Long achievementId : achievementsWrittenDuringRebuild) {
+                        writtenAwards.put(achievementId, this.awards.get(achievementId));
+                    }
+                    studentsWrittenDuringRebuild = null;
+                    achievementsWrittenDuringRebuild = null;
+                    clear();
+                    for (StudentFacets student : readStudents) {
+                        if (!writtenStudents.containsKey(student.getId())) {
+                            putStudent(student.getId(), student.getSchoolId());
+                        }
+                    }
+                    writtenStudents.forEach(this::putStudent);
+                    for (AchievementAward award : readAwards) {
+                        if (!writtenAwards.containsKey(award.getId())) {
+                            putAchievement(award.getId(), award.getStudentId(), award.getCategory(),
+                                    award.getDateAwarded());
+                        }
+                    }
+                    writtenAwards.forEach((achievementId, award) -> {
+                        if (award != null) {
+                            putAchievement(achievementId, award.getStudentId(), award.getCategory(),
+                                    award.getDateAwarded());
+                        }
+                    });
+                }
+            } finally {
+                synchronized (this) {
+                    studentsWrittenDuringRebuild = null;
+                    achievementsWrittenDuringRebuild = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes every achievement and student from the rollups.
+     */
+    public synchronized void clear() {
+        awards.clear();
+        awardsByStudent.clear();
+        studentSchools.clear();
+        daily.clear();
+        monthly.clear();
+    }
+
+    /**
+     * Returns the achievement counts of every month overlapping a date range, by school and category.
+     * Months the range covers in part only count the achievements awarded within the range. The range should
+     * overlap at most {@link #MAX_MONTHS} months, as the rollups are locked while every month is read.
+     *
+     * @param from     the first day of the range
+     * @param to       the last day of the range
+     * @param schoolId the ID of the school to count, or {@code null} to count every school
+     * @param category the category to count, or {@code null} to count every category
+     * @return the non-zero counts, ordered by month, school and category
+     */
+    public synchronized List<AchievementCount> count(LocalDate from, LocalDate to, Long schoolId,
+                                                     SubjectCategory category) {
+        List<AchievementCount> counts = new ArrayList<>();
+        YearMonth last = YearMonth.from(to);
+        for (YearMonth month = YearMonth.from(from); !month.isAfter(last); month = month.plusMonths(1)) {
+            Map<RollupCell, Long> cells = new TreeMap<>();
+            LocalDate start = month.atDay(1).isBefore(from) ? from : month.atDay(1);
+            LocalDate end = month.atEndOfMonth().isAfter(to) ? to : month.atEndOfMonth();
+            if (start.equals(month.atDay(1)) && end.equals(month.atEndOfMonth())) {
+                merge(cells, monthly.get(month), schoolId, category);
+            } else {
+                for (Map<RollupCell, Long> day : daily.subMap(start, true, end, true).values()) {
+                    merge(cells, day, schoolId, category);
+                }
+            }
+            for (Map.Entry<RollupCell, Long> cell : cells.entrySet()) {
+                counts.add(new AchievementCount(month, cell.getKey().getSchoolId(), cell.getKey().getCategory(),
+                        cell.getValue()));
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Returns the number of counted achievements.
+     *
+     * @return the number of achievements
+     */
+    public synchronized int size() {
+        return awards.size();
+    }
+
+    private static void merge(Map<RollupCell, Long> into, Map<RollupCell, Long> cells, Long schoolId,
+                              SubjectCategory category) {
+        if (cells == null) {
+            return;
+        }
+        for (Map.Entry<RollupCell, Long> cell : cells.entrySet()) {
+            if ((schoolId == null || schoolId.equals(cell.getKey().getSchoolId()))
+                    && (category == null || category == cell.getKey().getCategory())) {
+                into.merge(cell.getKey(), cell.getValue(), Long::sum);
+            }
+        }
+    }
+
+    private void add(Award award, Long schoolId, long delta) {
+        RollupCell cell = new RollupCell(schoolId, award.getCategory());
+        add(daily, award.getDateAwarded(), cell, delta);
+        add(monthly, YearMonth.from(award.getDateAwarded()), cell, delta);
+    }
+
+    private static <K> void add(NavigableMap<K, Map<RollupCell, Long>> buckets, K bucket, RollupCell cell,
+                                long delta) {
+        Map<RollupCell, Long> cells = buckets.computeIfAbsent(bucket, key -> new HashMap<>());
+        if (cells.merge(cell, delta, Long::sum) == 0) {
+            cells.remove(cell);
+            if (cells.isEmpty()) {
+                buckets.remove(bucket);
+            }
+        }
+    }
+
+    /**
+     * The values an achievement is counted under, apart from the school, which is looked up from its student.
+     */
+    @Getter
+    @AllArgsConstructor
+    private static class Award {
+
+        private final Long studentId;
+
+        private final SubjectCategory category;
+
+        private final LocalDate dateAwarded;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.analytics;
+
+import com.give_it_a_bash.application_programming_interface.entities.Achievement;
+import com.give_it_a_bash.application_programming_interface.entities.OutboxEvent;
+import com.give_it_a_bash.application_programming_interface.entities.Student;
+import com.give_it_a_bash.application_programming_interface.events.DomainEventListener;
+import com.give_it_a_bash.application_programming_interface.projections.AchievementAward;
+import com.give_it_a_bash.application_programming_interface.projections.StudentFacets;
+import com.give_it_a_bash.application_programming_interface.repositories.AchievementRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.StudentRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Keeps the {@link AchievementRollup} in step with every write to an Achievement or Student, including merge
+ * patches and writes made by the bulk endpoints.
+ * <p>
+ * The listener is fed from the domain event outbox, off the request thread, and reads the current school of
+ * each Student and the current award of each Achievement a batch is about. Students are applied first, so an
+ * Achievement created together with its Student is counted under the Student's school.
+ * </p>
+ */
+@Component
+public class AchievementRollupListener implements DomainEventListener {
+
+    @Autowired
+    private AchievementRollup achievementRollup;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private AchievementRepository achievementRepository;
+
+    /**
+     * Reads the current state of the Students and Achievements the events are about and applies it to the rollups.
+     *
+     * @param events the events, oldest first
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void onEvents(List<OutboxEvent> events) {
+        Set<Long> studentIds = DomainEventListener.aggregateIds(events, Student.class);
+        if (!studentIds.isEmpty()) {
+            for (StudentFacets student : studentRepository.findFacetsByIdIn(studentIds)) {
+                studentIds.remove(student.getId());
+                achievementRollup.putStudent(student.getId(), student.getSchoolId());
+            }
+            for (Long studentId : studentIds) {
+                achievementRollup.removeStudent(studentId);
+            }
+        }
+        Set<Long> achievementIds = DomainEventListener.aggregateIds(events, Achievement.class);
+        if (!achievementIds.isEmpty()) {
+            for (AchievementAward award : achievementRepository.findAwardsByIdIn(achievementIds)) {
+                achievementIds.remove(award.getId());
+                achievementRollup.putAchievement(award.getId(), award.getStudentId(), award.getCategory(),
+                        award.getDateAwarded());
+            }
+            for (Long achievementId : achievementIds) {
+                achievementRollup.removeAchievement(achievementId);
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.analytics;
+
+import com.give_it_a_bash.application_programming_interface.entities.SubjectCategory;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.util.Comparator;
+
+/**
+ * A cell of the achievement rollups: the achievements of one category awarded to the students of one school.
+ * Cells are ordered by school, with achievements of students without a school first, and then by category.
+ */
+@Getter
+@EqualsAndHashCode
+class RollupCell implements Comparable<RollupCell> {
+
+    private static final Comparator<RollupCell> ORDER = Comparator
+            .comparing(RollupCell::getSchoolId, Comparator.nullsFirst(Comparator.<Long>naturalOrder()))
+            .thenComparing(RollupCell::getCategory);
+
+    private final Long schoolId;
+
+    private final SubjectCategory category;
+
+    RollupCell(Long schoolId, SubjectCategory category) {
+        this.schoolId = schoolId;
+        this.category = category;
+    }
+
+    @Override
+    public int compareTo(RollupCell other) {
+        return ORDER.compare(this, other);
+    }
+}
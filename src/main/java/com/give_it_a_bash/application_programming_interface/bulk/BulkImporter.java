@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.bulk;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Imports entities from an uploaded NDJSON or CSV body of any size.
+ * <p>
+ * The body is parsed as it arrives, {@link BulkPersistence#CHUNK_SIZE} rows at a time. Each chunk is handed to
+ * the bulk create method of the entity's service, which validates its rows and saves them in a
+ * batched transaction, before the next chunk is read. Reading therefore never gets ahead of writing: no more
+ * than one chunk is held in memory, and a client uploading faster than the rows can be written is slowed
+ * down by the connection rather than buffered. Rows that cannot be parsed are reported alongside the rows
+ * that fail validation or are rejected by the database.
+ * </p>
+ */
+@Component
+public class BulkImporter {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Imports the rows of an upload.
+     *
+     * @param body   the uploaded body, read as UTF-8
+     * @param format the format of the body
+     * @param type   the type of entity each row describes
+     * @param create creates a chunk of entities, returning one result per entity in the order given
+     * @param <T>    the type of entity imported
+     * @return the report of the import
+     * @throws IOException              if the body could not be read
+     * @throws IllegalArgumentException if the header of a CSV body does not name every column, or names both
+     *                                  a property and one of its nested properties
+     */
+    public <T> ImportReport importAll(InputStream body,
+                                      ImportFormat format,
+                                      Class<T> type,
+                                      Function<List<T>, List<BulkItemResult>> create) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        RowSource<T> rows = format == ImportFormat.CSV ? new CsvRows<>(reader, type) : new NdjsonRows<>(reader, type);
+        ImportReport report = new ImportReport();
+        List<Row<T>> chunk = new ArrayList<>(BulkPersistence.CHUNK_SIZE);
+        for (Row<T> row = rows.next(); row != null; row = rows.next()) {
+            chunk.add(row);
+            if (chunk.size() == BulkPersistence.CHUNK_SIZE) {
+                write(chunk, create, report);
+                chunk.clear();
+            }
+        }
+        write(chunk, create, report);
+        return report;
+    }
+
+    private static <T> void write(List<Row<T>> chunk, Function<List<T>, List<BulkItemResult>> create,
+                                  ImportReport report) {
+        List<T> items = new ArrayList<>(chunk.size());
+        for (Row<T> row : chunk) {
+            if (row.item != null) {
+                items.add(row.item);
+            }
+        }
+        List<BulkItemResult> results = items.isEmpty() ? Collections.emptyList() : create.apply(items);
+        int next = 0;
+        for (Row<T> row : chunk) {
+            if (row.item == null) {
+                report.failed(new ImportError(row.line, BulkItemStatus.INVALID, Collections.singletonList(row.error)));
+                continue;
+            }
+            BulkItemResult result = results.get(next++);
+            if (result.getStatus() == BulkItemStatus.CREATED) {
+                report.created();
+            } else {
+                report.failed(new ImportError(row.line, result.getStatus(), result.getErrors()));
+            }
+        }
+    }
+
+    /**
+     * A parsed row: either the entity it describes or the reason it could not be parsed.
+     */
+    private static class Row<T> {
+
+        private final long line;
+
+        private final T item;
+
+        private final String error;
+
+        private Row(long line, T item, String error) {
+            this.line = line;
+            this.item = item;
+            this.error = error;
+        }
+    }
+
+    private interface RowSource<T> {
+
+        /**
+         * Parses the next row.
+         *
+         * @return the row, or {@code null} at the end of the body
+         * @throws IOException if the body could not be read
+         */
+        Row<T> next() throws IOException;
+    }
+
+    private class NdjsonRows<T> implements RowSource<T> {
+
+        private final BufferedReader reader;
+
+        private final Class<T> type;
+
+        private long line;
+
+        private NdjsonRows(BufferedReader reader, Class<T> type) {
+            this.reader = reader;
+            this.type = type;
+        }
+
+        @Override
+        public Row<T> next() throws IOException {
+            for (String text = reader.readLine(); text != null; text = reader.readLine()) {
+                line++;
+                if (text.trim().isEmpty()) {
+                    continue;
+                }
+                try {
+                    return new Row<>(line, objectMapper.readValue(text, type), null);
+                } catch (JsonProcessingException e) {
+                    return new Row<>(line, null, e.getOriginalMessage());
+                }
+            }
+            return null;
+        }
+    }
+
+    private class CsvRows<T> implements RowSource<T> {
+
+        private final CsvReader reader;
+
+        private final Class<T> type;
+
+        private String[][] columns;
+
+        private CsvRows(BufferedReader reader, Class<T> type) {
+            this.reader = new CsvReader(reader);
+            this.type = type;
+        }
+
+        @Override
+        public Row<T> next() throws IOException {
+            if (columns == null && !readHeader()) {
+                return null;
+            }
+            List<String> record;
+            try {
+                record = reader.readRecord();
+            } catch (IllegalArgumentException e) {
+                return new Row<>(reader.getRecordLine(), null, e.getMessage());
+            }
+            while (record != null && record.size() == 1 && record.get(0).isEmpty()) {
+                record = reader.readRecord();
+            }
+            if (record == null) {
+                return null;
+            }
+            if (record.size() != columns.length) {
+                return new Row<>(reader.getRecordLine(), null,
+                        "Row has " + record.size() + " fields but the header has " + columns.length);
+            }
+            ObjectNode node = objectMapper.createObjectNode();
+            for (int i = 0; i < columns.length; i++) {
+                if (!record.get(i).isEmpty()) {
+                    put(node, columns[i], 0, record.get(i));
+                }
+            }
+            try {
+                return new Row<>(reader.getRecordLine(), objectMapper.treeToValue(node, type), null);
+            } catch (JsonProcessingException e) {
+                return new Row<>(reader.getRecordLine(), null, e.getOriginalMessage());
+            } catch (IllegalArgumentException e) {
+                return new Row<>(reader.getRecordLine(), null, e.getMessage());
+            }
+        }
+
+        private boolean readHeader() throws IOException {
+            List<String> header = reader.readRecord();
+            if (header == null) {
+                return false;
+            }
+            columns = new String[header.size()][];
+            for (int i = 0; i < header.size(); i++) {
+                String column = header.get(i).trim();
+                if (column.isEmpty()) {
+                    throw new IllegalArgumentException("The CSV header must name every column");
+                }
+                columns[i] = column.split("\\.");
+            }
+            for (String first : header) {
+                for (String second : header) {
+                    if (second.trim().startsWith(first.trim() + ".")) {
+                        throw new IllegalArgumentException("The CSV columns " + first + " and " + second + " conflict");
+                    }
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Sets the property at the given path of a row's JSON tree, creating the objects and lists along it.
+         */
+        private void put(ObjectNode node, String[] path, int index, String value) {
+            String segment = path[index];
+            boolean last = index == path.length - 1;
+            if (segment.endsWith("[]")) {
+                String name = segment.substring(0, segment.length() - 2);
+                ArrayNode array = node.has(name) ? (ArrayNode) node.get(name) : node.putArray(name);
+                String[] elements = value.split("\\|", -1);
+                for (int i = 0; i < elements.length; i++) {
+                    if (last) {
+                        array.add(elements[i]);
+                    } else {
+                        ObjectNode element = i < array.size() ? (ObjectNode) array.get(i) : array.addObject();
+                        put(element, path, index + 1, elements[i]);
+                    }
+                }
+            } else if (last) {
+                node.put(segment, value);
+            } else {
+                ObjectNode child = node.has(segment) ? (ObjectNode) node.get(segment) : node.putObject(segment);
+                put(child, path, index + 1, value);
+            }
+        }
+    }
+}
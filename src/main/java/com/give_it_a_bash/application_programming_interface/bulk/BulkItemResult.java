@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.bulk;
+
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Represents the outcome of creating a single item of a bulk request.
+ * Results are returned in the same order as the items of the request.
+ */
+@Getter
+public class BulkItemResult {
+
+    /**
+     * The position of the item in the request, starting at zero.
+     */
+    private final int index;
+
+    /**
+     * Whether the item was created, and if not, why.
+     */
+    private final BulkItemStatus status;
+
+    /**
+     * The ID of the created entity, or {@code null} if the item was not created.
+     */
+    private final Long id;
+
+    /**
+     * The reasons the item was not created, empty if it was.
+     */
+    private final List<String> errors;
+
+    public BulkItemResult(int index, BulkItemStatus status, Long id, List<String> errors) {
+        this.index = index;
+        this.status = status;
+        this.id = id;
+        this.errors = errors;
+    }
+
+    /**
+     * Creates the result of an item which was persisted.
+     *
+     * @param index the position of the item in the request
+     * @param id    the ID of the created entity
+     * @return the result
+     */
+    public static BulkItemResult created(int index, Long id) {
+        return new BulkItemResult(index, BulkItemStatus.CREATED, id, Collections.emptyList());
+    }
+
+    /**
+     * Creates the result of an item which violated one or more constraints and was not persisted.
+     *
+     * @param index  the position of the item in the request
+     * @param errors the constraint violations, one per entry
+     * @return the result
+     */
+    public static BulkItemResult invalid(int index, List<String> errors) {
+        return new BulkItemResult(index, BulkItemStatus.INVALID, null, errors);
+    }
+
+    /**
+     * Creates the result of an item which was rejected by the database.
+     *
+     * @param index the position of the item in the request
+     * @param error the reason given by the database
+     * @return the result
+     */
+    public static BulkItemResult failed(int index, String error) {
+        return new BulkItemResult(index, BulkItemStatus.FAILED, null, Collections.singletonList(error));
+    }
+
+    /**
+     * Checks whether every item of a bulk request was created.
+     *
+     * @param results the results of the bulk request
+     * @return {@code true} if every result is {@link BulkItemStatus#CREATED}
+     */
+    public static boolean allCreated(List<BulkItemResult> results) {
+        return results.stream().allMatch(result -> result.getStatus() == BulkItemStatus.CREATED);
+    }
+}
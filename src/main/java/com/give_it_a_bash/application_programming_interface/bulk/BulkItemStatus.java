@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.bulk;
+
+/**
+ * Enum representing the outcome of a single item of a bulk request.
+ */
+public enum BulkItemStatus {
+
+    /**
+     * The item was persisted.
+     */
+    CREATED,
+
+    /**
+     * The item violated one or more constraints and was not persisted.
+     */
+    INVALID,
+
+    /**
+     * The item was rejected by the database.
+     */
+    FAILED
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.bulk;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Creates many entities at once for the bulk endpoints.
+ * <p>
+ * The items are persisted with {@code saveAll} in chunks of {@link #CHUNK_SIZE}, each in its own transaction,
+ * so that Hibernate can send them as JDBC batches and the persistence context never holds more than one chunk.
+ * Bean validation is left to Hibernate, which checks every item as it is flushed, so each item is validated
+ * only once. If a chunk fails validation or is rejected by the database, its items are retried one at a time
+ * so that only the offending items fail, and those failing bean validation are reported as invalid.
+ * </p>
+ * <p>
+ * The caller must not hold a transaction. Chunks would otherwise either join it, so that one rejected chunk
+ * rolls back all of them, or suspend it, so that every chunk holds a second connection while the caller's
+ * transaction holds the first, which exhausts the pool under concurrent bulk requests.
+ * </p>
+ */
+@Component
+public class BulkPersistence {
+
+    /**
+     * The number of items persisted per transaction, a multiple of the JDBC batch size.
+     */
+    public static final int CHUNK_SIZE = 500;
+
+    /**
+     * The maximum number of items accepted in a single bulk request.
+     */
+    public static final int MAX_ITEMS = 10_000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public BulkPersistence(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Persists the given items.
+     *
+     * @param items       the items to be created
+     * @param repository  the repository the items are saved with
+     * @param idExtractor returns the ID of an item
+     * @param idResetter  sets the ID of an item, used to clear IDs assigned by a rolled back chunk
+     * @param <T>         the type of the items
+     * @return one result per item, in the order of the items
+     * @throws IllegalArgumentException if there are more than {@link #MAX_ITEMS} items
+     * @throws IllegalStateException    if called within a transaction
+     */
+    public <T> List<BulkItemResult> createAll(List<T> items,
+                                              JpaRepository<T, Long> repository,
+                                              Function<T, Long> idExtractor,
+                                              BiConsumer<T, Long> idResetter) {
+        return createAll(items, repository, idExtractor, idResetter, item -> Collections.emptyList());
+    }
+
+    /**
+     * Persists the given items, applying an additional check to every item before any is written.
+     * The check is called in the order of the items, on the calling thread, so it may take earlier accepted
+     * items into account. It runs before bean validation, so it must tolerate items that are not yet valid.
+     *
+     * @param items       the items to be created
+     * @param repository  the repository the items are saved with
+     * @param idExtractor returns the ID of an item
+     * @param idResetter  sets the ID of an item, used to clear IDs assigned by a rolled back chunk
+     * @param check       returns the errors of an item, empty if it may be created
+     * @param <T>         the type of the items
+     * @return one result per item, in the order of the items
+     * @throws IllegalArgumentException if there are more than {@link #MAX_ITEMS} items
+     * @throws IllegalStateException    if called within a transaction
+     */
+    public <T> List<BulkItemResult> createAll(List<T> items,
+                                              JpaRepository<T, Long> repository,
+                                              Function<T, Long> idExtractor,
+                                              BiConsumer<T, Long> idResetter,
+                                              Function<T, List<String>> check) {
+        return createAll(items, repository, idExtractor, idResetter, check, item -> {
+        });
+    }
+
+    /**
+     * Persists the given items like {@link #createAll(List, JpaRepository, Function, BiConsumer,
+     * Function)}, calling a callback for every item within the transaction that saves it, once the item has its
+     * ID. An exception thrown by the callback rolls the chunk back, so that its items are retried one at a time
+     * and the item the callback rejects is reported as failed.
+     *
+     * @param items       the items to be created
+     * @param repository  the repository the items are saved with
+     * @param idExtractor returns the ID of an item
+     * @param idResetter  sets the ID of an item, used to clear IDs assigned by a rolled back chunk
+     * @param check       returns the errors of an item, empty if it may be created
+     * @param onSaved     called with every saved item before its transaction commits
+     * @param <T>         the type of the items
+     * @return one result per item, in the order of the items
+     * @throws IllegalArgumentException if there are more than {@link #MAX_ITEMS} items
+     * @throws IllegalStateException    if called within a transaction
+     */
+    public <T> List<BulkItemResult> createAll(List<T> items,
+                                              JpaRepository<T, Long> repository,
+                                              Function<T, Long> idExtractor,
+                                              BiConsumer<T, Long> idResetter,
+                                              Function<T, List<String>> check,
+                                              Consumer<T> onSaved) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Bulk writes must not be called within a transaction");
+        }
+        if (items.size() > MAX_ITEMS) {
+            throw new IllegalArgumentException("A bulk request may contain at most " + MAX_ITEMS + " items");
+        }
+
+        BulkItemResult[] results = new BulkItemResult[items.size()];
+        List<Integer> validIndexes = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            T item = items.get(i);
+            List<String> errors = item != null ? check.apply(item)
+                    : Collections.singletonList("Item must not be null");
+            if (errors.isEmpty()) {
+                validIndexes.add(i);
+            } else {
+                results[i] = BulkItemResult.invalid(i, errors);
+            }
+        }
+
+        for (int from = 0; from < validIndexes.size(); from += CHUNK_SIZE) {
+            List<Integer> chunk = validIndexes.subList(from, Math.min(from + CHUNK_SIZE, validIndexes.size()));
+            List<T> entities = new ArrayList<>(chunk.size());
+            for (Integer index : chunk) {
+                entities.add(items.get(index));
+            }
+            try {
+                persist(entities, repository, onSaved);
+                for (Integer index : chunk) {
+                    results[index] = BulkItemResult.created(index, idExtractor.apply(items.get(index)));
+                }
+            } catch (RuntimeException chunkFailure) {
+                for (Integer index : chunk) {
+                    T item = items.get(index);
+                    idResetter.accept(item, null);
+                    try {
+                        persist(Collections.singletonList(item), repository, onSaved);
+                        results[index] = BulkItemResult.created(index, idExtractor.apply(item));
+                    } catch (RuntimeException e) {
+                        idResetter.accept(item, null);
+                        results[index] = failure(index, e);
+                    }
+                }
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    private static BulkItemResult failure(int index, RuntimeException exception) {
+        Throwable cause = exception;
+        while (cause != null && !(cause instanceof ConstraintViolationException)) {
+            cause = cause.getCause();
+        }
+        if (cause == null) {
+            return BulkItemResult.failed(index, NestedExceptionUtils.getMostSpecificCause(exception).getMessage());
+        }
+        List<String> errors = new ArrayList<>();
+        for (ConstraintViolation<?> violation : ((ConstraintViolationException) cause).getConstraintViolations()) {
+            errors.add(violation.getPropertyPath() + ": " + violation.getMessage());
+        }
+        errors.sort(null);
+        return BulkItemResult.invalid(index, errors);
+    }
+
+    private <T> void persist(List<T> entities, JpaRepository<T, Long> repository, Consumer<T> onSaved) {
+        transactionTemplate.executeWithoutResult(status -> {
+            repository.saveAll(entities).forEach(onSaved);
+            entityManager.flush();
+            entityManager.clear();
+        });
+    }
+}
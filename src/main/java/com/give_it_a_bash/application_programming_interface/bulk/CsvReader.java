@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.bulk;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads comma-separated values one record at a time.
+ * <p>
+ * Fields may be enclosed in double quotes, in which case they may contain commas, line breaks and doubled
+ * double quotes. Records end with a line feed or a carriage return and line feed.
+ * </p>
+ */
+class CsvReader {
+
+    private static final int NONE = -2;
+
+    private final Reader reader;
+
+    private int pushedBack = NONE;
+
+    private long line = 1;
+
+    private long recordLine;
+
+    CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Reads the next record.
+     *
+     * @return the fields of the record, or {@code null} at the end of the input
+     * @throws IOException              if the input could not be read
+     * @throws IllegalArgumentException if the input ends inside a quoted field
+     */
+    List<String> readRecord() throws IOException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+        recordLine = line;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IllegalArgumentException("Unterminated quoted field");
+                }
+                if (c == '"') {
+                    c = read();
+                    if (c != '"') {
+                        quoted = false;
+                        continue;
+                    }
+                }
+                field.append((char) c);
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == -1) {
+                break;
+            } else if (c == '\r') {
+                c = read();
+                if (c != '\n') {
+                    pushedBack = c;
+                }
+                break;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Returns the line the last record read started on.
+     *
+     * @return the line number, counting from 1
+     */
+    long getRecordLine() {
+        return recordLine;
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != NONE) {
+            int c = pushedBack;
+            pushedBack = NONE;
+            return c;
+        }
+        int c = reader.read();
+        if (c == '\n') {
+            line++;
+        }
+        return c;
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.bulk;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * A row of an import that was not created.
+ */
+@Getter
+@AllArgsConstructor
+public class ImportError {
+
+    /**
+     * The line of the upload the row starts on, counting from 1.
+     */
+    private final long line;
+
+    private final BulkItemStatus status;
+
+    private final List<String> errors;
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.bulk;
+
+import org.springframework.http.MediaType;
+
+/**
+ * The formats an import body may be uploaded in.
+ */
+public enum ImportFormat {
+
+    /**
+     * One JSON document per line.
+     */
+    NDJSON(MediaType.APPLICATION_NDJSON),
+
+    /**
+     * Comma-separated values with a header row naming the property of each column. Nested properties are named
+     * with dots, such as {@code power.name}, and a column whose property ends in {@code []} holds a list of
+     * values separated by {@code |}, such as {@code students[].id}.
+     */
+    CSV(new MediaType("text", "csv"));
+
+    private final MediaType mediaType;
+
+    ImportFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    /**
+     * Returns the format of an upload.
+     *
+     * @param contentType the content type of the upload, or {@code null}
+     * @return the format, or {@code null} if the content type is missing or not supported
+     */
+    public static ImportFormat of(String contentType) {
+        if (contentType == null) {
+            return null;
+        }
+        MediaType mediaType;
+        try {
+            mediaType = MediaType.parseMediaType(contentType);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        for (ImportFormat format : values()) {
+            if (format.mediaType.equalsTypeAndSubtype(mediaType)) {
+                return format;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.bulk;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The outcome of an import: how many rows were read and created, and why the others were not.
+ * Only the first {@link #MAX_REPORTED_ERRORS} errors are listed, so the report stays small however
+ * large the upload.
+ */
+@Getter
+public class ImportReport {
+
+    /**
+     * The maximum number of errors listed in a report.
+     */
+    public static final int MAX_REPORTED_ERRORS = 1000;
+
+    private long rows;
+
+    private long created;
+
+    private long failed;
+
+    private final List<ImportError> errors = new ArrayList<>();
+
+    private boolean errorsTruncated;
+
+    /**
+     * Returns whether every row was created.
+     *
+     * @return {@code true} if no row failed
+     */
+    public boolean allCreated() {
+        return failed == 0;
+    }
+
+    void created() {
+        rows++;
+        created++;
+    }
+
+    void failed(ImportError error) {
+        rows++;
+        failed++;
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(error);
+        } else {
+            errorsTruncated = true;
+        }
+    }
+}
@@ -0,0 +1,281 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.collections;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A set of half-open intervals {@code [start, end)}, each carrying a value, that answers overlap queries
+ * in {@code O(log n + k)} time for {@code k} matches.
+ * <p>
+ * The intervals are kept in an AVL tree ordered by start and then by value, where every node also
+ * records the greatest end in its subtree so that whole subtrees ending before a query can be skipped.
+ * A value may be stored at most once per start. This class is not thread-safe.
+ * </p>
+ *
+ * @param <K> the type of the interval bounds
+ * @param <V> the type of the values, used to order intervals with the same start
+ */
+public class IntervalTree<K extends Comparable<? super K>, V extends Comparable<? super V>> {
+
+    private Node<K, V> root;
+
+    private int size;
+
+    /**
+     * Adds an interval, replacing the end of an interval with the same start and value.
+     *
+     * @param start the inclusive start of the interval
+     * @param end   the exclusive end of the interval
+     * @param value the value carried by the interval
+     */
+    public void insert(K start, K end, V value) {
+        root = insert(root, start, end, value);
+    }
+
+    /**
+     * Removes the interval with the given start and value.
+     *
+     * @param start the start of the interval
+     * @param value the value carried by the interval
+     * @return {@code true} if an interval was removed
+     */
+    public boolean remove(K start, V value) {
+        int before = size;
+        root = remove(root, start, value);
+        return size < before;
+    }
+
+    /**
+     * Returns the values of all intervals overlapping {@code [start, end)}, in order of their start.
+     * Intervals that merely touch the query, such as one ending where the query starts, do not overlap it.
+     *
+     * @param start the inclusive start of the query
+     * @param end   the exclusive end of the query
+     * @return the values of the overlapping intervals
+     */
+    public List<V> findOverlapping(K start, K end) {
+        List<V> values = new ArrayList<>();
+        for (Interval<K, V> interval : findOverlappingIntervals(start, end)) {
+            values.add(interval.getValue());
+        }
+        return values;
+    }
+
+    /**
+     * Returns all intervals overlapping {@code [start, end)}, in order of their start.
+     *
+     * @param start the inclusive start of the query
+     * @param end   the exclusive end of the query
+     * @return the overlapping intervals
+     */
+    public List<Interval<K, V>> findOverlappingIntervals(K start, K end) {
+        List<Interval<K, V>> intervals = new ArrayList<>();
+        findOverlapping(root, start, end, intervals);
+        return intervals;
+    }
+
+    /**
+     * Returns every interval, in order of their start.
+     *
+     * @return the intervals in the tree
+     */
+    public List<Interval<K, V>> intervals() {
+        List<Interval<K, V>> intervals = new ArrayList<>(size);
+        collect(root, intervals);
+        return intervals;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private Node<K, V> insert(Node<K, V> node, K start, K end, V value) {
+        if (node == null) {
+            size++;
+            return new Node<>(start, end, value);
+        }
+        int comparison = compare(start, value, node);
+        if (comparison < 0) {
+            node.left = insert(node.left, start, end, value);
+        } else if (comparison > 0) {
+            node.right = insert(node.right, start, end, value);
+        } else {
+            node.end = end;
+        }
+        return rebalance(node);
+    }
+
+    private Node<K, V> remove(Node<K, V> node, K start, V value) {
+        if (node == null) {
+            return null;
+        }
+        int comparison = compare(start, value, node);
+        if (comparison < 0) {
+            node.left = remove(node.left, start, value);
+        } else if (comparison > 0) {
+            node.right = remove(node.right, start, value);
+        } else {
+            if (node.left == null || node.right == null) {
+                size--;
+                return node.left != null ? node.left : node.right;
+            }
+            Node<K, V> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            node.start = successor.start;
+            node.end = successor.end;
+            node.value = successor.value;
+            node.right = remove(node.right, successor.start, successor.value);
+        }
+        return rebalance(node);
+    }
+
+    private void findOverlapping(Node<K, V> node, K start, K end, List<Interval<K, V>> intervals) {
+        if (node == null || node.maxEnd.compareTo(start) <= 0) {
+            return;
+        }
+        findOverlapping(node.left, start, end, intervals);
+        if (node.start.compareTo(end) < 0) {
+            if (start.compareTo(node.end) < 0) {
+                intervals.add(new Interval<>(node.start, node.end, node.value));
+            }
+            findOverlapping(node.right, start, end, intervals);
+        }
+    }
+
+    private void collect(Node<K, V> node, List<Interval<K, V>> intervals) {
+        if (node == null) {
+            return;
+        }
+        collect(node.left, intervals);
+        intervals.add(new Interval<>(node.start, node.end, node.value));
+        collect(node.right, intervals);
+    }
+
+    private int compare(K start, V value, Node<K, V> node) {
+        int comparison = start.compareTo(node.start);
+        return comparison != 0 ? comparison : value.compareTo(node.value);
+    }
+
+    private Node<K, V> rebalance(Node<K, V> node) {
+        update(node);
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private Node<K, V> rotateLeft(Node<K, V> node) {
+        Node<K, V> pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private Node<K, V> rotateRight(Node<K, V> node) {
+        Node<K, V> pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private void update(Node<K, V> node) {
+        node.height = Math.max(height(node.left), height(node.right)) + 1;
+        node.maxEnd = max(node.end, max(maxEnd(node.left), maxEnd(node.right)));
+    }
+
+    private int height(Node<K, V> node) {
+        return node != null ? node.height : 0;
+    }
+
+    private K maxEnd(Node<K, V> node) {
+        return node != null ? node.maxEnd : null;
+    }
+
+    private K max(K a, K b) {
+        if (a == null) {
+            return b;
+        }
+        if (b == null) {
+            return a;
+        }
+        return a.compareTo(b) >= 0 ? a : b;
+    }
+
+    /**
+     * An interval stored in the tree.
+     *
+     * @param <K> the type of the interval bounds
+     * @param <V> the type of the value
+     */
+    @Getter
+    public static class Interval<K, V> {
+
+        private final K start;
+
+        private final K end;
+
+        private final V value;
+
+        public Interval(K start, K end, V value) {
+            this.start = start;
+            this.end = end;
+            this.value = value;
+        }
+    }
+
+    private static class Node<K, V> {
+
+        private K start;
+
+        private K end;
+
+        private V value;
+
+        private K maxEnd;
+
+        private int height = 1;
+
+        private Node<K, V> left;
+
+        private Node<K, V> right;
+
+        private Node(K start, K end, V value) {
+            this.start = start;
+            this.end = end;
+            this.value = value;
+            this.maxEnd = end;
+        }
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.collections;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A sorted set that also answers positional queries: the rank of an element and the element at a rank
+ * both take {@code O(log n)} time, and the first {@code k} elements take {@code O(log n + k)}.
+ * <p>
+ * The elements are kept in an AVL tree in their natural order, where every node also records the size of
+ * its subtree so that ranks can be counted without visiting the elements before them. Elements that compare
+ * as equal are stored once. This class is not thread-safe.
+ * </p>
+ *
+ * @param <E> the type of the elements
+ */
+public class OrderStatisticTree<E extends Comparable<? super E>> {
+
+    private Node<E> root;
+
+    /**
+     * Adds an element.
+     *
+     * @param element the element to add
+     * @return {@code true} if the element was not already in the tree
+     */
+    public boolean add(E element) {
+        int before = size();
+        root = insert(root, element);
+        return size() > before;
+    }
+
+    /**
+     * Removes an element.
+     *
+     * @param element the element to remove
+     * @return {@code true} if the element was removed
+     */
+    public boolean remove(E element) {
+        int before = size();
+        root = remove(root, element);
+        return size() < before;
+    }
+
+    /**
+     * Removes every element.
+     */
+    public void clear() {
+        root = null;
+    }
+
+    /**
+     * Returns the number of elements that come before the given element.
+     *
+     * @param element the element
+     * @return the zero-based rank of the element, or {@code -1} if it is not in the tree
+     */
+    public int rank(E element) {
+        int rank = 0;
+        Node<E> node = root;
+        while (node != null) {
+            int comparison = element.compareTo(node.element);
+            if (comparison < 0) {
+                node = node.left;
+            } else if (comparison > 0) {
+                rank += size(node.left) + 1;
+                node = node.right;
+            } else {
+                return rank + size(node.left);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the element at the given rank.
+     *
+     * @param rank the zero-based rank
+     * @return the element that has {@code rank} elements before it
+     * @throws IndexOutOfBoundsException if the rank is negative or not less than the size of the tree
+     */
+    public E get(int rank) {
+        if (rank < 0 || rank >= size()) {
+            throw new IndexOutOfBoundsException("Rank " + rank + " is out of bounds for size " + size());
+        }
+        Node<E> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (rank < leftSize) {
+                node = node.left;
+            } else if (rank > leftSize) {
+                rank -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.element;
+            }
+        }
+    }
+
+    /**
+     * Returns the first elements in order.
+     *
+     * @param limit the maximum number of elements to return
+     * @return at most {@code limit} elements, in order
+     */
+    public List<E> first(int limit) {
+        List<E> elements = new ArrayList<>(Math.max(0, Math.min(limit, size())));
+        collect(root, limit, elements);
+        return elements;
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    private Node<E> insert(Node<E> node, E element) {
+        if (node == null) {
+            return new Node<>(element);
+        }
+        int comparison = element.compareTo(node.element);
+        if (comparison < 0) {
+            node.left = insert(node.left, element);
+        } else if (comparison > 0) {
+            node.right = insert(node.right, element);
+        } else {
+            return node;
+        }
+        return rebalance(node);
+    }
+
+    private Node<E> remove(Node<E> node, E element) {
+        if (node == null) {
+            return null;
+        }
+        int comparison = element.compareTo(node.element);
+        if (comparison < 0) {
+            node.left = remove(node.left, element);
+        } else if (comparison > 0) {
+            node.right = remove(node.right, element);
+        } else {
+            if (node.left == null || node.right == null) {
+                return node.left != null ? node.left : node.right;
+            }
+            Node<E> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            node.element = successor.element;
+            node.right = remove(node.right, successor.element);
+        }
+        return rebalance(node);
+    }
+
+    private void collect(Node<E> node, int limit, List<E> elements) {
+        if (node == null || elements.size() >= limit) {
+            return;
+        }
+        collect(node.left, limit, elements);
+        if (elements.size() < limit) {
+            elements.add(node.element);
+            collect(node.right, limit, elements);
+        }
+    }
+
+    private Node<E> rebalance(Node<E> node) {
+        update(node);
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private Node<E> rotateLeft(Node<E> node) {
+        Node<E> pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private Node<E> rotateRight(Node<E> node) {
+        Node<E> pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private void update(Node<E> node) {
+        node.height = Math.max(height(node.left), height(node.right)) + 1;
+        node.size = size(node.left) + size(node.right) + 1;
+    }
+
+    private int height(Node<E> node) {
+        return node != null ? node.height : 0;
+    }
+
+    private int size(Node<E> node) {
+        return node != null ? node.size : 0;
+    }
+
+    private static class Node<E> {
+
+        private E element;
+
+        private int height = 1;
+
+        private int size = 1;
+
+        private Node<E> left;
+
+        private Node<E> right;
+
+        private Node(E element) {
+            this.element = element;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.collections;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * A map from string keys to sets of values that finds the values of every key starting with a prefix.
+ * <p>
+ * Keys are stored one character per node, so finding a prefix costs {@code O(m)} in its length and
+ * collecting the first {@code k} values below it stops as soon as {@code k} distinct values are found.
+ * Children and values are kept sorted, so values are returned in the order of their keys and then in
+ * their natural order. Nodes only allocate children and values once they have any. This class is not thread-safe.
+ * </p>
+ *
+ * @param <V> the type of the values
+ */
+public class PrefixTrie<V extends Comparable<? super V>> {
+
+    private final Node<V> root = new Node<>();
+
+    private int size;
+
+    /**
+     * Adds a value under a key.
+     *
+     * @param key   the key
+     * @param value the value
+     * @return {@code true} if the value was not already stored under the key
+     */
+    public boolean add(String key, V value) {
+        Node<V> node = root;
+        for (int i = 0; i < key.length(); i++) {
+            if (node.children == null) {
+                node.children = new TreeMap<>();
+            }
+            node = node.children.computeIfAbsent(key.charAt(i), character -> new Node<>());
+        }
+        if (node.values == null) {
+            node.values = new TreeSet<>();
+        }
+        boolean added = node.values.add(value);
+        if (added) {
+            size++;
+        }
+        return added;
+    }
+
+    /**
+     * Removes a value from under a key, along with any nodes left without keys.
+     *
+     * @param key   the key
+     * @param value the value
+     * @return {@code true} if the value was removed
+     */
+    public boolean remove(String key, V value) {
+        int before = size;
+        remove(root, key, 0, value);
+        return size < before;
+    }
+
+    /**
+     * Returns the values of the keys starting with a prefix.
+     *
+     * @param prefix the prefix, where the empty prefix matches every key
+     * @param limit  the maximum number of values to return
+     * @return at most {@code limit} distinct values, in the order of their keys
+     */
+    public List<V> find(String prefix, int limit) {
+        Node<V> node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.children != null ? node.children.get(prefix.charAt(i)) : null;
+        }
+        Set<V> values = new LinkedHashSet<>();
+        collect(node, limit, values);
+        return new ArrayList<>(values);
+    }
+
+    /**
+     * Removes every key.
+     */
+    public void clear() {
+        root.children = null;
+        root.values = null;
+        size = 0;
+    }
+
+    /**
+     * Returns the number of values stored, counting a value once for every key it is stored under.
+     *
+     * @return the number of key and value pairs
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private boolean remove(Node<V> node, String key, int depth, V value) {
+        if (depth == key.length()) {
+            if (node.values != null && node.values.remove(value)) {
+                size--;
+                if (node.values.isEmpty()) {
+                    node.values = null;
+                }
+            }
+        } else if (node.children != null) {
+            Node<V> child = node.children.get(key.charAt(depth));
+            if (child != null && remove(child, key, depth + 1, value)) {
+                node.children.remove(key.charAt(depth));
+                if (node.children.isEmpty()) {
+                    node.children = null;
+                }
+            }
+        }
+        return node.values == null && node.children == null;
+    }
+
+    private void collect(Node<V> node, int limit, Set<V> values) {
+        if (node == null) {
+            return;
+        }
+        if (node.values != null) {
+            for (V value : node.values) {
+                if (values.size() >= limit) {
+                    return;
+                }
+                values.add(value);
+            }
+        }
+        if (node.children != null) {
+            for (Map.Entry<Character, Node<V>> child : node.children.entrySet()) {
+                if (values.size() >= limit) {
+                    return;
+                }
+                collect(child.getValue(), limit, values);
+            }
+        }
+    }
+
+    private static class Node<V> {
+
+        private TreeMap<Character, Node<V>> children;
+
+        private TreeSet<V> values;
+    }
+}
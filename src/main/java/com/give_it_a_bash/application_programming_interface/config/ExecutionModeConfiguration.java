@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.config;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Configuration class checking the thread requests are handled on.
+ * <p>
+ * Requests run on Tomcat's pool of platform threads unless {@value #VIRTUAL_THREADS_PROPERTY} is set, in which
+ * case Spring Boot runs each request, and the service calls it makes, on its own virtual thread. Spring Boot
+ * silently ignores the property before Java 21, so startup fails instead of quietly falling back to platform
+ * threads.
+ * </p>
+ */
+@Configuration
+public class ExecutionModeConfiguration {
+
+    /**
+     * The property switching request handling to virtual threads.
+     */
+    public static final String VIRTUAL_THREADS_PROPERTY = "spring.threads.virtual.enabled";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExecutionModeConfiguration.class);
+
+    @Autowired
+    private Environment environment;
+
+    /**
+     * Checks that the requested threads are available and reports which ones requests run on.
+     *
+     * @throws IllegalStateException if virtual threads are requested on a Java version without them
+     */
+    @PostConstruct
+    public void checkExecutionMode() {
+        boolean virtualThreads = environment.getProperty(VIRTUAL_THREADS_PROPERTY, Boolean.class, false);
+        if (virtualThreads && !Threading.VIRTUAL.isActive(environment)) {
+            throw new IllegalStateException(VIRTUAL_THREADS_PROPERTY + " requires Java 21 or later, but Java "
+                    + System.getProperty("java.specification.version") + " is running");
+        }
+        LOGGER.info("Handling requests on {} threads", virtualThreads ? "virtual" : "platform");
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.config;
+
+import com.fasterxml.jackson.datatype.hibernate6.Hibernate6Module;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for the JSON serialization of entities.
+ */
+@Configuration
+public class JacksonConfiguration {
+
+    /**
+     * Registers the Hibernate module with the application's ObjectMapper, so that lazy association
+     * proxies are serialized as the entities they stand for.
+     * <p>
+     * Anything not covered by a repository's fetch plan is still loaded rather than written as
+     * {@code null}, in batches of {@code hibernate.default_batch_fetch_size}.
+     * </p>
+     *
+     * @return the Hibernate module
+     */
+    @Bean
+    public Hibernate6Module hibernate6Module() {
+        Hibernate6Module module = new Hibernate6Module();
+        module.enable(Hibernate6Module.Feature.FORCE_LAZY_LOADING);
+        return module;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.config;
+
+import com.give_it_a_bash.application_programming_interface.instrumentation.LatencyRegistry;
+import com.give_it_a_bash.application_programming_interface.instrumentation.ServiceLatencyInterceptor;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.Pointcut;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcher;
+import org.springframework.aop.support.annotation.AnnotationClassFilter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Service;
+import org.springframework.util.function.SingletonSupplier;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Configuration class timing every public method of the {@link Service} classes.
+ * The timing advice wraps the transaction advice, so the latency recorded includes the commit.
+ * The advisor is created with the bean post-processors, so it resolves the {@link LatencyRegistry} on first use
+ * instead of creating it early and leaving it unprocessed.
+ */
+@Configuration
+@ConditionalOnProperty(name = LatencyRegistry.ENABLED_PROPERTY, havingValue = "true", matchIfMissing = true)
+public class MetricsConfiguration {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor serviceLatencyAdvisor(ObjectProvider<LatencyRegistry> latencyRegistry) {
+        Pointcut publicServiceMethods = new ComposablePointcut(new AnnotationClassFilter(Service.class, true),
+                new StaticMethodMatcher() {
+                    @Override
+                    public boolean matches(Method method, Class<?> targetClass) {
+                        return Modifier.isPublic(method.getModifiers()) && method.getDeclaringClass() != Object.class;
+                    }
+                });
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(publicServiceMethods,
+                new ServiceLatencyInterceptor(SingletonSupplier.of(latencyRegistry::getObject)));
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Configuration class for keeping an EntityManager open while a response is written.
+ * <p>
+ * Lazy associations are loaded while entities are serialized, after the controller's transaction has ended, so
+ * every request keeps its EntityManager open until the response is complete. Declaring the interceptor here
+ * replaces Spring Boot's, which applies to every path, so that the Lesson stream can be left out: an
+ * asynchronous request keeps its EntityManager, and any connection it holds, until the request completes.
+ * </p>
+ */
+@Configuration
+public class OpenEntityManagerInViewConfiguration implements WebMvcConfigurer {
+
+    /**
+     * The paths of the long-lived streams, which must not hold an EntityManager.
+     */
+    static final String[] STREAM_PATHS = {"/api/lessons/stream"};
+
+    /**
+     * Creates the interceptor opening an EntityManager for each request.
+     *
+     * @return the interceptor
+     */
+    @Bean
+    public OpenEntityManagerInViewInterceptor openEntityManagerInViewInterceptor() {
+        return new OpenEntityManagerInViewInterceptor();
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addWebRequestInterceptor(openEntityManagerInViewInterceptor()).excludePathPatterns(STREAM_PATHS);
+    }
+}
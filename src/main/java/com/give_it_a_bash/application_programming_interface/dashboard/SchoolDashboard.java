@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.dashboard;
+
+import com.give_it_a_bash.application_programming_interface.projections.DashboardAchievement;
+import com.give_it_a_bash.application_programming_interface.projections.DashboardLesson;
+import com.give_it_a_bash.application_programming_interface.projections.FacilityStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * The overview of one school shown on its dashboard.
+ * Each part is read by its own query, so the parts may reflect writes made while the dashboard was being read.
+ */
+@Getter
+@AllArgsConstructor
+public class SchoolDashboard {
+
+    private final Long schoolId;
+
+    private final String schoolName;
+
+    /**
+     * The day {@link #todaysLessons} are taking place on.
+     */
+    private final LocalDate date;
+
+    private final long studentCount;
+
+    private final long teacherCount;
+
+    private final long subjectCount;
+
+    private final long facilityCount;
+
+    /**
+     * The Lessons of the school's Subjects starting on {@link #date}, earliest first.
+     */
+    private final List<DashboardLesson> todaysLessons;
+
+    /**
+     * The Achievements most recently awarded to the school's Students, most recent first.
+     */
+    private final List<DashboardAchievement> recentAchievements;
+
+    /**
+     * The status of every Facility of the school.
+     */
+    private final List<FacilityStatus> facilities;
+}
@@ -10,6 +10,7 @@
 
 package com.give_it_a_bash.application_programming_interface.entities;
 
+import com.give_it_a_bash.application_programming_interface.events.OutboxListener;
 import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Getter;
@@ -21,6 +22,7 @@ import java.time.LocalDate;
  * Represents an achievement earned by a student.
  */
 @Entity
+@EntityListeners(OutboxListener.class)
 @Getter
 @Setter
 public class Achievement {
@@ -29,7 +31,8 @@ public class Achievement {
      * Unique identifier for the achievement.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "achievement_seq")
+    @SequenceGenerator(name = "achievement_seq", sequenceName = "achievement_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -53,7 +56,7 @@ public class Achievement {
     /**
      * The student who earned the achievement.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "student_id", nullable = false)
     private Student student;
 
@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.entities;
+
+/**
+ * Enum representing the kinds of change recorded in the outbox for an entity.
+ */
+public enum DomainEventType {
+    /**
+     * The entity was persisted for the first time.
+     */
+    CREATED,
+
+    /**
+     * One or more columns of the entity were changed.
+     */
+    UPDATED,
+
+    /**
+     * The entity was removed.
+     */
+    DELETED
+}
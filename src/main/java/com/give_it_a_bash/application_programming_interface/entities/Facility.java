@@ -1,5 +1,6 @@
 package com.give_it_a_bash.application_programming_interface.entities;
 
+import com.give_it_a_bash.application_programming_interface.events.OutboxListener;
 import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Getter;
@@ -9,6 +10,7 @@ import lombok.Setter;
  * Represents a facility within a school campus.
  */
 @Entity
+@EntityListeners(OutboxListener.class)
 @Getter
 @Setter
 public class Facility {
@@ -17,7 +19,8 @@ public class Facility {
      * Unique identifier for the facility.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "facility_seq")
+    @SequenceGenerator(name = "facility_seq", sequenceName = "facility_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -57,7 +60,7 @@ public class Facility {
     /**
      * The school data associated with the facility.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "school_data_id", nullable = false)
     private SchoolData schoolData;
 
@@ -11,6 +11,7 @@
 package com.give_it_a_bash.application_programming_interface.entities;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.give_it_a_bash.application_programming_interface.events.OutboxListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.NotNull;
@@ -26,6 +27,7 @@ import java.util.List;
  * Represents a lesson that is taught by a teacher on a specific subject.
  */
 @Entity
+@EntityListeners(OutboxListener.class)
 @Getter
 @Setter
 public class Lesson {
@@ -34,13 +36,14 @@ public class Lesson {
      * Unique identifier for the lesson.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "lesson_seq")
+    @SequenceGenerator(name = "lesson_seq", sequenceName = "lesson_seq", allocationSize = 50)
     private Long id;
 
     /**
      * The subject associated with the lesson.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "subject_id", nullable = false)
     @NotNull(message = "Subject must not be null")
     private Subject subject;
@@ -48,11 +51,18 @@ public class Lesson {
     /**
      * The teacher who conducts the lesson.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "teacher_id", nullable = false)
     @NotNull(message = "Teacher must not be null")
     private Teacher teacher;
 
+    /**
+     * The facility reserved for the lesson, or {@code null} if it does not need one.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "facility_id")
+    private Facility facility;
+
     /**
      * The start time of the lesson.
      */
@@ -82,11 +92,13 @@ public class Lesson {
     }
 
     @Builder
-    public Lesson(LocalDateTime startTime, LocalDateTime endTime, Subject subject, Teacher teacher, List<Student> students) {
+    public Lesson(LocalDateTime startTime, LocalDateTime endTime, Subject subject, Teacher teacher, List<Student> students,
+                  Facility facility) {
         this.startTime = startTime;
         this.endTime = endTime;
         this.subject = subject != null ? subject : new Subject();
         this.teacher = teacher != null ? teacher : new Teacher();
         this.students = students != null ? students : new ArrayList<>();
+        this.facility = facility;
     }
 }
@@ -10,10 +10,12 @@
 
 package com.give_it_a_bash.application_programming_interface.entities;
 
+import com.give_it_a_bash.application_programming_interface.events.OutboxListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -29,8 +31,10 @@ import java.util.List;
  * @see Teacher
  */
 @Entity
+@DynamicUpdate
 @Inheritance(strategy = InheritanceType.JOINED)
 @DiscriminatorColumn(name = "mutant_type")
+@EntityListeners(OutboxListener.class)
 @Data
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @Getter
@@ -41,14 +45,15 @@ public abstract class Mutant {
      * Unique identifier for the mutant.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "mutant_seq")
+    @SequenceGenerator(name = "mutant_seq", sequenceName = "mutant_seq", allocationSize = 50)
     @EqualsAndHashCode.Include
     private Long id;
 
     /**
      * Reference to the associated SchoolData entity.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "school_data_id")
     private SchoolData schoolData;
 
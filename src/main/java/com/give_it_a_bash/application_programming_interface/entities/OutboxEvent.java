@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.entities;
+
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Represents a change to an entity, recorded in the outbox in the same transaction as the change itself
+ * and removed once it has been delivered to every listener. An event a listener failed on stays in the outbox
+ * and is retried after a backoff, until it has failed too many times and is parked.
+ */
+@Entity
+@Table(name = "outbox_event")
+@Getter
+@Setter
+public class OutboxEvent {
+
+    /**
+     * Unique identifier for the event, increasing in the order the events were recorded.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_event_seq")
+    @SequenceGenerator(name = "outbox_event_seq", sequenceName = "outbox_event_seq", allocationSize = 50)
+    private Long id;
+
+    /**
+     * The simple class name of the changed entity, such as {@code Student}.
+     */
+    @Column(name = "aggregate_type", nullable = false)
+    private String aggregateType;
+
+    /**
+     * The ID of the changed entity.
+     */
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    /**
+     * The kind of change.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false)
+    private DomainEventType eventType;
+
+    /**
+     * The time at which the change was flushed to the database.
+     */
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    /**
+     * The number of deliveries of the event that failed for at least one listener.
+     */
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    /**
+     * The earliest time the event may be delivered again after a failed delivery, or null if none failed.
+     */
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    /**
+     * The time at which the event was given up on after its last allowed attempt failed, or null if it is still
+     * being delivered. Parked events stay in the outbox for inspection but are no longer delivered.
+     */
+    @Column(name = "parked_at")
+    private LocalDateTime parkedAt;
+
+    // No-argument constructor
+    public OutboxEvent() {
+    }
+
+    @Builder
+    public OutboxEvent(Long id, String aggregateType, Long aggregateId, DomainEventType eventType,
+                       LocalDateTime occurredAt, int attempts, LocalDateTime nextAttemptAt, LocalDateTime parkedAt) {
+        this.id = id;
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.occurredAt = occurredAt;
+        this.attempts = attempts;
+        this.nextAttemptAt = nextAttemptAt;
+        this.parkedAt = parkedAt;
+    }
+}
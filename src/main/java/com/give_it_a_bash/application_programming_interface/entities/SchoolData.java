@@ -1,6 +1,7 @@
 package com.give_it_a_bash.application_programming_interface.entities;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.give_it_a_bash.application_programming_interface.events.OutboxListener;
 import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Getter;
@@ -18,6 +19,7 @@ import java.util.List;
 @Getter
 @Setter
 @Entity
+@EntityListeners(OutboxListener.class)
 @ToString
 public class SchoolData {
 
@@ -25,7 +27,8 @@ public class SchoolData {
      * Unique identifier for the school data.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "school_data_seq")
+    @SequenceGenerator(name = "school_data_seq", sequenceName = "school_data_seq", allocationSize = 50)
     private Long id;
 
     /**
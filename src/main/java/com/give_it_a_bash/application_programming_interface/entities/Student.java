@@ -18,6 +18,7 @@ import jakarta.validation.constraints.NotNull;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -28,6 +29,7 @@ import java.util.List;
  * academic achievements.
  */
 @Entity
+@DynamicUpdate
 @Getter
 @Setter
 public class Student extends Mutant {
@@ -11,6 +11,7 @@
 package com.give_it_a_bash.application_programming_interface.entities;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.give_it_a_bash.application_programming_interface.events.OutboxListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Builder;
@@ -26,6 +27,7 @@ import java.util.List;
  * can have multiple students enrolled, and is taught by a teacher.
  */
 @Entity
+@EntityListeners(OutboxListener.class)
 @Getter
 @Setter
 public class Subject {
@@ -34,13 +36,14 @@ public class Subject {
      * The unique identifier for the subject.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "subject_seq")
+    @SequenceGenerator(name = "subject_seq", sequenceName = "subject_seq", allocationSize = 50)
     private Long id;
 
     /**
      * The school that offers this subject.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "school_data_id", nullable = false)
     private SchoolData schoolData;
 
@@ -16,6 +16,7 @@ import jakarta.validation.constraints.NotBlank;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -26,6 +27,7 @@ import java.util.List;
  * experience, and the subjects they teach.
  */
 @Entity
+@DynamicUpdate
 @Getter
 @Setter
 public class Teacher extends Mutant {
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.events;
+
+import com.give_it_a_bash.application_programming_interface.entities.OutboxEvent;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Receives the domain events recorded in the outbox, after the transactions that recorded them have committed.
+ * <p>
+ * Every bean implementing this interface is called by the {@link OutboxDispatcher} with each batch of events,
+ * in the order they were recorded, on a thread of the dispatcher's bounded pool rather than on a request
+ * thread. Delivery is at least once: an event may be delivered again if the application stops before the
+ * batch has been removed from the outbox, so implementations should be idempotent.
+ * </p>
+ */
+public interface DomainEventListener {
+
+    /**
+     * Handles a batch of events. An exception is logged and does not prevent delivery to other listeners; the
+     * batch is kept in the outbox and delivered to this listener again after a backoff, until its events have
+     * failed the maximum number of times and are parked.
+     *
+     * @param events the events, oldest first; the list must not be modified
+     */
+    void onEvents(List<OutboxEvent> events);
+
+    /**
+     * Returns the IDs of the entities of the given type that a batch of events is about, each once.
+     *
+     * @param events        the events
+     * @param aggregateType the class of the entities
+     * @return the IDs, in the order of their first event
+     */
+    static Set<Long> aggregateIds(List<OutboxEvent> events, Class<?> aggregateType) {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (OutboxEvent event : events) {
+            if (aggregateType.getSimpleName().equals(event.getAggregateType())) {
+                ids.add(event.getAggregateId());
+            }
+        }
+        return ids;
+    }
+}
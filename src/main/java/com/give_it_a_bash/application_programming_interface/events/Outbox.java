@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.events;
+
+import com.give_it_a_bash.application_programming_interface.entities.DomainEventType;
+import com.give_it_a_bash.application_programming_interface.entities.OutboxEvent;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Writes domain events to the outbox.
+ * <p>
+ * Events are recorded while Hibernate writes the change they describe, when the persistence context must not be
+ * modified. They are therefore collected per transaction and persisted together once Hibernate has flushed the
+ * transaction for the last time, just before it commits, on a session sharing its connection. The events are
+ * inserted in JDBC batches with IDs from a pooled sequence, like any other entity, and are committed or rolled
+ * back together with the change. The entity manager and its factory are resolved lazily, as the outbox is needed
+ * while they are being built.
+ * </p>
+ */
+@Component
+public class Outbox {
+
+    @Autowired
+    @Lazy
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    @Lazy
+    private EntityManager entityManager;
+
+    /**
+     * Records a change to an entity.
+     *
+     * @param entity the changed entity
+     * @param type   the kind of change
+     */
+    public void record(Object entity, DomainEventType type) {
+        String aggregateType = Hibernate.getClass(entity).getSimpleName();
+        Long id = (Long) entityManagerFactory.getPersistenceUnitUtil().getIdentifier(entity);
+        pendingEvents().add(aggregateType, id, type);
+    }
+
+    /**
+     * Records a change to a collection owned by an entity as an update of the entity, unless the transaction has
+     * already recorded an event for it. Changing only a collection does not make Hibernate update an unversioned
+     * entity, so its update callbacks never fire; when other columns changed too, or the entity was just created,
+     * the event recorded by the callback already covers the collection.
+     *
+     * @param owner the entity owning the collection
+     */
+    public void recordCollectionChange(Object owner) {
+        String aggregateType = Hibernate.getClass(owner).getSimpleName();
+        Long id = (Long) entityManagerFactory.getPersistenceUnitUtil().getIdentifier(owner);
+        PendingEvents pendingEvents = pendingEvents();
+        if (!pendingEvents.contains(aggregateType, id)) {
+            pendingEvents.add(aggregateType, id, DomainEventType.UPDATED);
+        }
+    }
+
+    /**
+     * Returns the events recorded by the current transaction, registering them to be written before it commits.
+     *
+     * @throws IllegalStateException if no transaction is active
+     */
+    private PendingEvents pendingEvents() {
+        PendingEvents pendingEvents = (PendingEvents) TransactionSynchronizationManager.getResource(this);
+        if (pendingEvents != null) {
+            return pendingEvents;
+        }
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Domain events can only be recorded within a transaction");
+        }
+        PendingEvents created = new PendingEvents();
+        entityManager.unwrap(SessionImplementor.class).getActionQueue().registerProcess(created);
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void suspend() {
+                TransactionSynchronizationManager.unbindResource(Outbox.this);
+            }
+
+            @Override
+            public void resume() {
+                TransactionSynchronizationManager.bindResource(Outbox.this, created);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(Outbox.this);
+            }
+        });
+        return created;
+    }
+
+    /**
+     * The events recorded by one transaction, written when Hibernate is about to complete it.
+     */
+    private static final class PendingEvents implements BeforeTransactionCompletionProcess {
+
+        private final List<OutboxEvent> events = new ArrayList<>();
+
+        private final Set<String> aggregates = new HashSet<>();
+
+        void add(String aggregateType, Long aggregateId, DomainEventType type) {
+            aggregates.add(aggregateType + "#" + aggregateId);
+            events.add(OutboxEvent.builder()
+                    .aggregateType(aggregateType)
+                    .aggregateId(aggregateId)
+                    .eventType(type)
+                    .occurredAt(LocalDateTime.now())
+                    .build());
+        }
+
+        boolean contains(String aggregateType, Long aggregateId) {
+            return aggregates.contains(aggregateType + "#" + aggregateId);
+        }
+
+        @Override
+        public void doBeforeTransactionCompletion(SessionImplementor session) {
+            if (events.isEmpty()) {
+                return;
+            }
+            // The session has been flushed already and must not be changed again, so the events are written by
+            // a session sharing its connection and therefore its transaction
+            Session eventSession = session.sessionWithOptions()
+                    .connection()
+                    .autoClose(false)
+                    .connectionHandlingMode(
+                            PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION)
+                    .openSession();
+            try {
+                for (OutboxEvent event : events) {
+                    eventSession.persist(event);
+                }
+                eventSession.flush();
+            } finally {
+                eventSession.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.events;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.CollectionEntry;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.AbstractCollectionEvent;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCollectionRecreateEvent;
+import org.hibernate.event.spi.PostCollectionRecreateEventListener;
+import org.hibernate.event.spi.PostCollectionRemoveEvent;
+import org.hibernate.event.spi.PostCollectionRemoveEventListener;
+import org.hibernate.event.spi.PostCollectionUpdateEvent;
+import org.hibernate.event.spi.PostCollectionUpdateEventListener;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hibernate event listener recording changes to the collections an entity owns, such as the Students enrolled in
+ * a Lesson or the mission history of a Mutant, as updates of the entity in the {@link Outbox}.
+ * <p>
+ * Collections mapped by the other side of an association are skipped, since the change is recorded for the
+ * owning entity, and so are collections of entities being deleted, which are recorded as deletions.
+ * </p>
+ */
+@Component
+public class OutboxCollectionListener implements PostCollectionRecreateEventListener,
+        PostCollectionUpdateEventListener, PostCollectionRemoveEventListener {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private Outbox outbox;
+
+    /**
+     * Registers the listener with Hibernate.
+     */
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COLLECTION_RECREATE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_UPDATE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_REMOVE, this);
+    }
+
+    @Override
+    public void onPostRecreateCollection(PostCollectionRecreateEvent event) {
+        collectionChanged(event);
+    }
+
+    @Override
+    public void onPostUpdateCollection(PostCollectionUpdateEvent event) {
+        collectionChanged(event);
+    }
+
+    @Override
+    public void onPostRemoveCollection(PostCollectionRemoveEvent event) {
+        collectionChanged(event);
+    }
+
+    private void collectionChanged(AbstractCollectionEvent event) {
+        Object owner = event.getAffectedOwnerOrNull();
+        if (owner == null) {
+            return;
+        }
+        // A collection replaced by another one no longer knows its role, only its entry does
+        CollectionEntry collectionEntry = event.getSession().getPersistenceContextInternal()
+                .getCollectionEntry(event.getCollection());
+        CollectionPersister persister = null;
+        if (collectionEntry != null) {
+            persister = collectionEntry.getCurrentPersister() != null
+                    ? collectionEntry.getCurrentPersister() : collectionEntry.getLoadedPersister();
+        }
+        if (persister == null || persister.isInverse()) {
+            return;
+        }
+        EntityEntry entry = event.getSession().getPersistenceContextInternal().getEntry(owner);
+        if (entry == null || entry.getStatus() == Status.DELETED || entry.getStatus() == Status.GONE) {
+            return;
+        }
+        outbox.recordCollectionChange(owner);
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.events;
+
+import com.give_it_a_bash.application_programming_interface.entities.OutboxEvent;
+import com.give_it_a_bash.application_programming_interface.repositories.OutboxEventRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delivers the events recorded in the outbox to every {@link DomainEventListener}.
+ * <p>
+ * The outbox is polled in the background, oldest events first, in batches of at most the configured size.
+ * Each batch is handed to all listeners at once on a bounded pool of threads, so a listener always sees events
+ * in the order they were recorded and the next batch is not read before the previous one has been handled. When
+ * more listeners are due than the pool and its queue can hold, the dispatching thread delivers the batch itself,
+ * which slows polling down instead of queueing without bound. Requests only pay for inserting the event rows,
+ * however many listeners there are.
+ * </p>
+ * <p>
+ * Events are removed from the outbox once every listener has handled them. When a listener fails, the events it
+ * was given stay in the outbox, their attempt is counted and delivery is deferred by a backoff that doubles with
+ * every attempt up to a maximum. Later events wait behind them, so the order is kept. On the next attempt each
+ * listener is only given the events it has not handled yet, so listeners that succeeded do not see them twice
+ * unless the application restarts in between.
+ * </p>
+ * <p>
+ * An event whose delivery has failed the maximum number of times is parked: it stays in the outbox with the time
+ * it was given up on, is logged as an error and is no longer delivered, so that an event no listener can handle
+ * does not hold back every event recorded after it.
+ * </p>
+ */
+@Component
+public class OutboxDispatcher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OutboxDispatcher.class);
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired(required = false)
+    private List<DomainEventListener> listeners = Collections.emptyList();
+
+    private final int batchSize;
+
+    private final long initialBackoffMs;
+
+    private final long maxBackoffMs;
+
+    private final int maxAttempts;
+
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * The IDs of the events still in the outbox that each listener has handled.
+     */
+    private final Map<DomainEventListener, Set<Long>> handled = new IdentityHashMap<>();
+
+    /**
+     * Creates a dispatcher.
+     *
+     * @param batchSize        the maximum number of events read and delivered at once
+     * @param threads          the number of threads listeners are called on
+     * @param queueCapacity    the number of deliveries that may wait for a free thread
+     * @param initialBackoffMs the delay before events are delivered again after their first failed delivery
+     * @param maxBackoffMs     the longest delay between two deliveries of the same events
+     * @param maxAttempts      the number of failed deliveries after which an event is parked
+     */
+    @Autowired
+    public OutboxDispatcher(@Value("${outbox.dispatch.batch-size:100}") int batchSize,
+                            @Value("${outbox.listeners.threads:4}") int threads,
+                            @Value("${outbox.listeners.queue-capacity:64}") int queueCapacity,
+                            @Value("${outbox.retry.initial-backoff-ms:1000}") long initialBackoffMs,
+                            @Value("${outbox.retry.max-backoff-ms:300000}") long maxBackoffMs,
+                            @Value("${outbox.retry.max-attempts:10}") int maxAttempts) {
+        this.batchSize = batchSize;
+        this.initialBackoffMs = initialBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.maxAttempts = maxAttempts;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("outbox-listener-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * Delivers the oldest batch of events to every listener that has not handled them yet, and removes the events
+     * every listener has handled from the outbox. Nothing is delivered while the oldest event is backing off.
+     * Events that have failed for the last allowed time are parked rather than retried.
+     *
+     * @return the number of events removed from the outbox
+     */
+    public synchronized int dispatch() {
+        List<OutboxEvent> events = outboxEventRepository.findByParkedAtIsNullOrderByIdAsc(Limit.of(batchSize));
+        if (events.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime nextAttemptAt = events.get(0).getNextAttemptAt();
+        if (nextAttemptAt != null && nextAttemptAt.isAfter(LocalDateTime.now())) {
+            return 0;
+        }
+        List<List<OutboxEvent>> batches = new ArrayList<>(listeners.size());
+        List<Future<?>> deliveries = new ArrayList<>(listeners.size());
+        for (DomainEventListener listener : listeners) {
+            Set<Long> handledIds = handledBy(listener);
+            List<OutboxEvent> batch = new ArrayList<>(events.size());
+            for (OutboxEvent event : events) {
+                if (!handledIds.contains(event.getId())) {
+                    batch.add(event);
+                }
+            }
+            List<OutboxEvent> unmodifiableBatch = Collections.unmodifiableList(batch);
+            batches.add(unmodifiableBatch);
+            deliveries.add(batch.isEmpty() ? null : executor.submit(() -> listener.onEvents(unmodifiableBatch)));
+        }
+        Set<Long> failedIds = new HashSet<>();
+        for (int i = 0; i < deliveries.size(); i++) {
+            if (deliveries.get(i) == null) {
+                continue;
+            }
+            List<OutboxEvent> batch = batches.get(i);
+            try {
+                deliveries.get(i).get();
+                for (OutboxEvent event : batch) {
+                    handledBy(listeners.get(i)).add(event.getId());
+                }
+            } catch (ExecutionException e) {
+                LOGGER.warn("Domain event listener {} failed on events {} to {}", listeners.get(i).getClass().getName(),
+                        batch.get(0).getId(), batch.get(batch.size() - 1).getId(), e.getCause());
+                for (OutboxEvent event : batch) {
+                    failedIds.add(event.getId());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return 0;
+            }
+        }
+        List<OutboxEvent> delivered = new ArrayList<>(events.size());
+        Set<Long> retriedIds = new HashSet<>();
+        Set<Long> parkedIds = new HashSet<>();
+        int attempt = 0;
+        for (OutboxEvent event : events) {
+            if (!failedIds.contains(event.getId())) {
+                delivered.add(event);
+            } else if (event.getAttempts() + 1 >= maxAttempts) {
+                parkedIds.add(event.getId());
+            } else {
+                retriedIds.add(event.getId());
+                attempt = Math.max(attempt, event.getAttempts() + 1);
+            }
+        }
+        if (!delivered.isEmpty()) {
+            outboxEventRepository.deleteAllInBatch(delivered);
+        }
+        if (!parkedIds.isEmpty()) {
+            outboxEventRepository.park(parkedIds, LocalDateTime.now());
+            LOGGER.error("Parked outbox events {} after {} failed delivery attempts", parkedIds, maxAttempts);
+        }
+        if (!retriedIds.isEmpty()) {
+            LocalDateTime retryAt = LocalDateTime.now().plus(backoff(attempt), ChronoUnit.MILLIS);
+            outboxEventRepository.recordFailedAttempt(retriedIds, retryAt);
+            LOGGER.warn("Delivery attempt {} of {} outbox events failed, retrying at {}", attempt, retriedIds.size(),
+                    retryAt);
+        }
+        for (Set<Long> handledIds : handled.values()) {
+            handledIds.retainAll(retriedIds);
+        }
+        return delivered.size();
+    }
+
+    /**
+     * Periodically drains the outbox, batch after batch, until it is empty.
+     */
+    @Scheduled(initialDelayString = "${outbox.dispatch.interval-ms:200}",
+            fixedDelayString = "${outbox.dispatch.interval-ms:200}")
+    public void scheduledDispatch() {
+        while (dispatch() == batchSize) {
+            // A full batch suggests more events are waiting
+        }
+    }
+
+    /**
+     * Stops the listener threads when the application shuts down. Undelivered events stay in the outbox and
+     * are delivered after the next start.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private Set<Long> handledBy(DomainEventListener listener) {
+        return handled.computeIfAbsent(listener, l -> new HashSet<>());
+    }
+
+    /**
+     * Returns the delay before the given attempt, doubling from the initial backoff up to the maximum.
+     */
+    private long backoff(int attempt) {
+        long backoff = initialBackoffMs << Math.min(attempt - 1, 30);
+        return backoff < 0 || backoff > maxBackoffMs ? maxBackoffMs : backoff;
+    }
+}
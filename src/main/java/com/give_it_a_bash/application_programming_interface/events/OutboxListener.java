@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.events;
+
+import com.give_it_a_bash.application_programming_interface.entities.DomainEventType;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * JPA entity listener that records every create, update and delete of an entity in the {@link Outbox}, in the
+ * transaction making the change. Changes to collections alone are recorded by the {@link OutboxCollectionListener}.
+ */
+public class OutboxListener {
+
+    @Autowired
+    private Outbox outbox;
+
+    @PostPersist
+    public void entityCreated(Object entity) {
+        outbox.record(entity, DomainEventType.CREATED);
+    }
+
+    @PostUpdate
+    public void entityUpdated(Object entity) {
+        outbox.record(entity, DomainEventType.UPDATED);
+    }
+
+    @PostRemove
+    public void entityRemoved(Object entity) {
+        outbox.record(entity, DomainEventType.DELETED);
+    }
+}
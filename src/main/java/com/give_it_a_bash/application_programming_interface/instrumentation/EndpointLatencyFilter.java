@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.instrumentation;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Records the latency of every request in the {@link LatencyRegistry}, under the path pattern of the endpoint
+ * that handled it. A request fails if it throws or its response has a 5xx status.
+ * <p>
+ * Requests that go on asynchronously after the endpoint returns, such as event streams, are not recorded, as
+ * their duration is that of the subscription. Requests no endpoint matches are recorded under {@value #UNMAPPED}.
+ * </p>
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = LatencyRegistry.ENABLED_PROPERTY, havingValue = "true", matchIfMissing = true)
+public class EndpointLatencyFilter extends OncePerRequestFilter {
+
+    /**
+     * The path pattern recorded for requests no endpoint matches.
+     */
+    public static final String UNMAPPED = "UNMAPPED";
+
+    @Autowired
+    private LatencyRegistry latencyRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = false;
+        } finally {
+            if (!request.isAsyncStarted()) {
+                Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                latencyRegistry.endpoint(request.getMethod(), pattern != null ? pattern.toString() : UNMAPPED)
+                        .record(System.nanoTime() - start, failed || response.getStatus() >= 500);
+            }
+        }
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.instrumentation;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of latencies that uses a fixed amount of memory and never blocks the threads recording into it.
+ * <p>
+ * Latencies are counted in log-linear buckets: every power of two nanoseconds is split into
+ * {@value #SUB_BUCKETS} equal buckets, so a percentile is reported to within about 3% of the latency actually
+ * recorded, whatever its magnitude. Latencies of {@link #MAX_NANOS} or more, about four and a half minutes, are
+ * counted in the last bucket. Recording increments one bucket and a few counters with atomic instructions only,
+ * and reading a {@link Snapshot} never stops the recording threads, at the cost of the snapshot possibly missing
+ * the latencies being recorded while it is taken.
+ * </p>
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+
+    /**
+     * The number of buckets every power of two nanoseconds is split into.
+     */
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * The largest latency told apart from longer ones, in nanoseconds.
+     */
+    public static final long MAX_NANOS = (1L << 38) - 1;
+
+    private static final int BUCKETS = bucketIndex(MAX_NANOS) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    private final LongAdder totalNanos = new LongAdder();
+
+    private final LongAdder errors = new LongAdder();
+
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /**
+     * Records one latency.
+     *
+     * @param nanos the latency in nanoseconds; negative latencies are recorded as zero
+     * @param error whether the call the latency was measured for failed
+     */
+    public void record(long nanos, boolean error) {
+        long value = Math.max(0, Math.min(nanos, MAX_NANOS));
+        counts.incrementAndGet(bucketIndex(value));
+        totalNanos.add(value);
+        if (error) {
+            errors.increment();
+        }
+        long max = maxNanos.get();
+        while (value > max && !maxNanos.compareAndSet(max, value)) {
+            max = maxNanos.get();
+        }
+    }
+
+    /**
+     * Reads the latencies recorded so far.
+     *
+     * @return the snapshot of the latencies
+     */
+    public Snapshot snapshot() {
+        long[] bucketCounts = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            bucketCounts[i] = counts.get(i);
+            count += bucketCounts[i];
+        }
+        return new Snapshot(bucketCounts, count, totalNanos.sum(), errors.sum(), maxNanos.get());
+    }
+
+    static int bucketIndex(long nanos) {
+        if (nanos < SUB_BUCKETS) {
+            return (int) nanos;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(nanos) - SUB_BUCKET_BITS;
+        return (shift << SUB_BUCKET_BITS) + (int) (nanos >>> shift);
+    }
+
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index >>> SUB_BUCKET_BITS) - 1;
+        long mantissa = (index & (SUB_BUCKETS - 1)) + SUB_BUCKETS;
+        return ((mantissa + 1) << shift) - 1;
+    }
+
+    /**
+     * The latencies recorded in a {@link LatencyHistogram} up to some point.
+     */
+    public static final class Snapshot {
+
+        private final long[] bucketCounts;
+
+        private final long count;
+
+        private final long totalNanos;
+
+        private final long errors;
+
+        private final long maxNanos;
+
+        private Snapshot(long[] bucketCounts, long count, long totalNanos, long errors, long maxNanos) {
+            this.bucketCounts = bucketCounts;
+            this.count = count;
+            this.totalNanos = totalNanos;
+            this.errors = errors;
+            this.maxNanos = maxNanos;
+        }
+
+        /**
+         * Returns the number of latencies recorded.
+         *
+         * @return the number of latencies
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * Returns the sum of the latencies recorded.
+         *
+         * @return the sum of the latencies in nanoseconds
+         */
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        /**
+         * Returns the number of latencies recorded for calls that failed.
+         *
+         * @return the number of failed calls
+         */
+        public long getErrors() {
+            return errors;
+        }
+
+        /**
+         * Returns the longest latency recorded.
+         *
+         * @return the longest latency in nanoseconds, or 0 if none was recorded
+         */
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+
+        /**
+         * Returns the latency that the given fraction of the recorded latencies do not exceed.
+         *
+         * @param quantile the fraction, between 0 and 1, such as 0.99 for the 99th percentile
+         * @return the latency in nanoseconds, or 0 if none was recorded
+         * @throws IllegalArgumentException if the quantile is not between 0 and 1
+         */
+        public long valueAtQuantile(double quantile) {
+            if (quantile < 0 || quantile > 1) {
+                throw new IllegalArgumentException("A quantile must be between 0 and 1");
+            }
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(quantile * count));
+            long seen = 0;
+            for (int i = 0; i < bucketCounts.length; i++) {
+                seen += bucketCounts[i];
+                if (seen >= rank) {
+                    return Math.min(bucketUpperBound(i), maxNanos);
+                }
+            }
+            return maxNanos;
+        }
+    }
+}
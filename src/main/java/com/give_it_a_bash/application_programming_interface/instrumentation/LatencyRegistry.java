@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.instrumentation;
+
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Holds the latency histograms of every endpoint and service method, and writes them in the Prometheus text
+ * exposition format.
+ * <p>
+ * Endpoints are told apart by HTTP method and path pattern, such as {@code GET /api/students/{id}}, and service
+ * methods by class and method name, so the number of histograms is bounded by the code rather than by the
+ * requests. Each latency series is written as a summary with the {@link #QUANTILES}, its sum and count, next to
+ * the longest latency and the number of failed calls. The quantiles cover every call since the application started.
+ * </p>
+ */
+@Component
+public class LatencyRegistry {
+
+    /**
+     * The property switching the recording of latencies on or off. It is on unless set to {@code false}.
+     */
+    public static final String ENABLED_PROPERTY = "metrics.latency.enabled";
+
+    /**
+     * The quantiles written for every latency series.
+     */
+    public static final double[] QUANTILES = {0.5, 0.99, 0.999};
+
+    static final String HTTP_METRIC = "http_server_request";
+
+    static final String SERVICE_METRIC = "service_method";
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final ConcurrentMap<String, LatencyHistogram> endpoints = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, LatencyHistogram> serviceMethodsByName = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<Method, LatencyHistogram> serviceMethods = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the histogram of an endpoint, creating it on first use.
+     *
+     * @param httpMethod the HTTP method of the endpoint
+     * @param uri        the path pattern of the endpoint
+     * @return the histogram of the endpoint
+     */
+    public LatencyHistogram endpoint(String httpMethod, String uri) {
+        return endpoints.computeIfAbsent(
+                "method=\"" + escape(httpMethod) + "\",uri=\"" + escape(uri) + "\"", labels -> new LatencyHistogram());
+    }
+
+    /**
+     * Returns the histogram of a service method, creating it on first use.
+     * Overloads of a method share one histogram.
+     *
+     * @param method the service method
+     * @return the histogram of the method
+     */
+    public LatencyHistogram serviceMethod(Method method) {
+        LatencyHistogram histogram = serviceMethods.get(method);
+        if (histogram == null) {
+            histogram = serviceMethods.computeIfAbsent(method, m -> serviceMethodsByName.computeIfAbsent(
+                    "class=\"" + escape(m.getDeclaringClass().getSimpleName()) + "\",method=\"" + escape(m.getName())
+                            + "\"", labels -> new LatencyHistogram()));
+        }
+        return histogram;
+    }
+
+    /**
+     * Writes every latency series in the Prometheus text exposition format, version 0.0.4.
+     *
+     * @return the metrics text
+     */
+    public String scrape() {
+        StringBuilder text = new StringBuilder();
+        write(text, HTTP_METRIC, "HTTP requests by method and path pattern", endpoints);
+        write(text, SERVICE_METRIC, "service method calls by class and method", serviceMethodsByName);
+        return text.toString();
+    }
+
+    private static void write(StringBuilder text, String metric, String description,
+                              Map<String, LatencyHistogram> histograms) {
+        Map<String, LatencyHistogram.Snapshot> snapshots = new TreeMap<>();
+        histograms.forEach((labels, histogram) -> snapshots.put(labels, histogram.snapshot()));
+
+        String duration = metric + "_duration_seconds";
+        text.append("# HELP ").append(duration).append(" Latency of ").append(description).append(".\n");
+        text.append("# TYPE ").append(duration).append(" summary\n");
+        snapshots.forEach((labels, snapshot) -> {
+            for (double quantile : QUANTILES) {
+                text.append(duration).append('{').append(labels).append(",quantile=\"").append(quantile).append("\"} ")
+                        .append(seconds(snapshot.valueAtQuantile(quantile))).append('\n');
+            }
+            text.append(duration).append("_sum{").append(labels).append("} ")
+                    .append(seconds(snapshot.getTotalNanos())).append('\n');
+            text.append(duration).append("_count{").append(labels).append("} ")
+                    .append(snapshot.getCount()).append('\n');
+        });
+
+        String max = duration + "_max";
+        text.append("# HELP ").append(max).append(" Longest latency of ").append(description).append(".\n");
+        text.append("# TYPE ").append(max).append(" gauge\n");
+        snapshots.forEach((labels, snapshot) -> text.append(max).append('{').append(labels).append("} ")
+                .append(seconds(snapshot.getMaxNanos())).append('\n'));
+
+        String errors = metric + "_errors_total";
+        text.append("# HELP ").append(errors).append(" Failed ").append(description).append(".\n");
+        text.append("# TYPE ").append(errors).append(" counter\n");
+        snapshots.forEach((labels, snapshot) -> text.append(errors).append('{').append(labels).append("} ")
+                .append(snapshot.getErrors()).append('\n'));
+    }
+
+    private static String seconds(long nanos) {
+        return Double.toString(nanos / NANOS_PER_SECOND);
+    }
+
+    private static String escape(String labelValue) {
+        return labelValue.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.instrumentation;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import java.util.function.Supplier;
+
+/**
+ * Records the latency of every call to a service method in the {@link LatencyRegistry}.
+ * A call fails if it throws. The registry is supplied rather than injected, so the advisor holding this
+ * interceptor can be created before the registry bean.
+ */
+public class ServiceLatencyInterceptor implements MethodInterceptor {
+
+    private final Supplier<LatencyRegistry> latencyRegistry;
+
+    public ServiceLatencyInterceptor(Supplier<LatencyRegistry> latencyRegistry) {
+        this.latencyRegistry = latencyRegistry;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        LatencyHistogram histogram = latencyRegistry.get().serviceMethod(invocation.getMethod());
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            Object result = invocation.proceed();
+            failed = false;
+            return result;
+        } finally {
+            histogram.record(System.nanoTime() - start, failed);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.instrumentation;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * Reports how many SQL statements each request issued, in the {@value #HEADER} response header and in a
+ * debug log line.
+ * <p>
+ * The response is never buffered, so streamed responses such as the NDJSON export reach the client as they are
+ * written whatever the request accepts. The header therefore carries the statements issued before the response
+ * body was first written, or all of them if the request wrote no body; the log line, written once the request
+ * has completed, also counts the statements issued while the body was written. Not registered in the
+ * {@code prod} profile.
+ * </p>
+ */
+@Component
+@Profile("!prod")
+public class SqlStatementCountFilter extends OncePerRequestFilter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SqlStatementCountFilter.class);
+
+    /**
+     * The response header carrying the number of SQL statements issued by the request.
+     */
+    public static final String HEADER = "X-SQL-Statement-Count";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+            CountReportingResponse countReportingResponse = new CountReportingResponse(response, scope);
+            filterChain.doFilter(request, countReportingResponse);
+            countReportingResponse.reportCount();
+            LOGGER.debug("{} {} issued {} SQL statements", request.getMethod(), request.getRequestURI(),
+                    scope.getCount());
+        }
+    }
+
+    /**
+     * Sets the header with the statements counted so far just before the response body is first written to,
+     * while the headers can still be changed.
+     */
+    private static class CountReportingResponse extends HttpServletResponseWrapper {
+
+        private final SqlStatementCounter.Scope scope;
+
+        CountReportingResponse(HttpServletResponse response, SqlStatementCounter.Scope scope) {
+            super(response);
+            this.scope = scope;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            reportCount();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            reportCount();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            reportCount();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            reportCount();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            reportCount();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            reportCount();
+            super.sendRedirect(location);
+        }
+
+        void reportCount() {
+            if (!isCommitted()) {
+                setHeader(HEADER, String.valueOf(scope.getCount()));
+            }
+        }
+    }
+}
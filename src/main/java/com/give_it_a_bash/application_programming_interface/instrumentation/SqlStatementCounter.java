@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.instrumentation;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread.
+ * <p>
+ * Hibernate hands every statement to this inspector before preparing it; the statement itself is
+ * passed through unchanged. Statements are only counted while a {@link Scope} is open on the preparing
+ * thread, so work done on other threads is not attributed to the scope. Scopes may be nested, in
+ * which case a statement counts towards every open scope.
+ * </p>
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<List<Scope>> OPEN_SCOPES = ThreadLocal.withInitial(ArrayList::new);
+
+    /**
+     * Starts counting the statements prepared on the current thread.
+     *
+     * @return the scope, which must be closed on the same thread
+     */
+    public static Scope open() {
+        Scope scope = new Scope();
+        OPEN_SCOPES.get().add(scope);
+        return scope;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        List<Scope> scopes = OPEN_SCOPES.get();
+        for (int i = 0; i < scopes.size(); i++) {
+            scopes.get(i).count++;
+        }
+        return sql;
+    }
+
+    /**
+     * A period during which statements prepared on one thread are counted.
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private long count;
+
+        private Scope() {
+        }
+
+        /**
+         * Returns the number of statements prepared since the scope was opened.
+         *
+         * @return the number of statements
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * Stops counting. The count remains readable afterwards.
+         */
+        @Override
+        public void close() {
+            List<Scope> scopes = OPEN_SCOPES.get();
+            scopes.remove(this);
+            if (scopes.isEmpty()) {
+                OPEN_SCOPES.remove();
+            }
+        }
+    }
+}
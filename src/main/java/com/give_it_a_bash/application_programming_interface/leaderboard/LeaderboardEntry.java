@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.leaderboard;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import lombok.Getter;
+
+/**
+ * A mutant's place on the {@link PowerLeaderboard}, as returned by the leaderboard endpoints.
+ */
+@Getter
+public class LeaderboardEntry {
+
+    /**
+     * The one-based position of the mutant on the leaderboard it was read from.
+     */
+    private final int rank;
+
+    /**
+     * The standing the mutant is ranked by.
+     */
+    @JsonUnwrapped
+    private final Standing standing;
+
+    public LeaderboardEntry(int rank, Standing standing) {
+        this.rank = rank;
+        this.standing = standing;
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.leaderboard;
+
+import com.give_it_a_bash.application_programming_interface.collections.OrderStatisticTree;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * An in-memory ranking of every mutant by power, across all schools and within each school.
+ * <p>
+ * The global ranking and the ranking of every school are each an {@link OrderStatisticTree} of
+ * {@link Standing standings}, so the top {@code k} mutants take {@code O(log n + k)} time and the rank of a
+ * mutant {@code O(log n)}, without loading or sorting any mutant. Every write to a mutant replaces its standing
+ * through {@link PowerLeaderboardListener}. All methods are synchronized, except that
+ * {@link #rebuild(Supplier)} reads the new standings without holding the lock, noting the mutants written
+ * meanwhile so that their latest standing survives the rebuild.
+ * </p>
+ */
+@Component
+public class PowerLeaderboard {
+
+    private final Map<Long, Standing> standings = new HashMap<>();
+
+    private final OrderStatisticTree<Standing> globalRanking = new OrderStatisticTree<>();
+
+    private final Map<Long, OrderStatisticTree<Standing>> schoolRankings = new HashMap<>();
+
+    private final Object rebuildLock = new Object();
+
+    private Set<Long> writtenDuringRebuild;
+
+    /**
+     * Records the standing of a mutant, replacing its previous standing.
+     *
+     * @param mutantId the ID of the mutant
+     * @param standing the standing of the mutant, or {@code null} to remove it from the leaderboard
+     */
+    public synchronized void put(Long mutantId, Standing standing) {
+        remove(mutantId);
+        if (standing == null) {
+            return;
+        }
+        standings.put(mutantId, standing);
+        globalRanking.add(standing);
+        if (standing.getSchoolId() != null) {
+            schoolRankings.computeIfAbsent(standing.getSchoolId(), id -> new OrderStatisticTree<>()).add(standing);
+        }
+    }
+
+    /**
+     * Removes a mutant from the leaderboard.
+     *
+     * @param mutantId the ID of the mutant
+     * @return the previous standing of the mutant, or {@code null} if it was not ranked
+     */
+    public synchronized Standing remove(Long mutantId) {
+        if (writtenDuringRebuild != null) {
+            writtenDuringRebuild.add(mutantId);
+        }
+        Standing previous = standings.remove(mutantId);
+        if (previous == null) {
+            return null;
+        }
+        globalRanking.remove(previous);
+        if (previous.getSchoolId() != null) {
+            OrderStatisticTree<Standing> schoolRanking = schoolRankings.get(previous.getSchoolId());
+            schoolRanking.remove(previous);
+            if (schoolRanking.isEmpty()) {
+                schoolRankings.remove(previous.getSchoolId());
+            }
+        }
+        return previous;
+    }
+
+    /**
+     * Replaces every standing with the standings read by the given supplier.
+     * The standings are read without holding the lock; the mutants written meanwhile keep the standing of their
+     * latest write, as the supplier may have read them before that write committed.
+     *
+     * @param all supplies the standing of every mutant to be ranked
+     */
+    public void rebuild(Supplier<? extends Collection<Standing>> all) {
+        synchronized (rebuildLock) {
+            synchronized (this) {
+                writtenDuringRebuild = new HashSet<>();
+            }
+            try {
+                Collection<Standing> read = all.get();
+                synchronized (this) {
+                    Map<Long, Standing> written = new HashMap<>();
+                    for (Long mutantId : writtenDuringRebuild) {
+                        written.put(mutantId, standings.get(mutantId));
+                    }
+                    writtenDuringRebuild = null;
+                    clear();
+                    for (Standing standing : read) {
+                        if (!written.containsKey(standing.getMutantId())) {
+                            put(standing.getMutantId(), standing);
+                        }
+                    }
+                    written.forEach(this::put);
+                }
+            } finally {
+                synchronized (this) {
+                    writtenDuringRebuild = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes every mutant from the leaderboard.
+     */
+    public synchronized void clear() {
+        standings.clear();
+        globalRanking.clear();
+        schoolRankings.clear();
+    }
+
+    /**
+     * Returns the most powerful mutants.
+     *
+     * @param schoolId the ID of the school to rank within, or {@code null} to rank across all schools
+     * @param limit    the maximum number of mutants to return
+     * @return at most {@code limit} entries, starting with rank 1
+     */
+    public synchronized List<LeaderboardEntry> top(Long schoolId, int limit) {
+        OrderStatisticTree<Standing> ranking = ranking(schoolId);
+        if (ranking == null) {
+            return Collections.emptyList();
+        }
+        List<Standing> top = ranking.first(limit);
+        List<LeaderboardEntry> entries = new ArrayList<>(top.size());
+        for (int i = 0; i < top.size(); i++) {
+            entries.add(new LeaderboardEntry(i + 1, top.get(i)));
+        }
+        return entries;
+    }
+
+    /**
+     * Returns the rank of a mutant.
+     *
+     * @param mutantId the ID of the mutant
+     * @param schoolId the ID of the school to rank within, or {@code null} to rank across all schools
+     * @return the entry of the mutant, or {@code null} if it is not ranked or does not belong to the school
+     */
+    public synchronized LeaderboardEntry rankOf(Long mutantId, Long schoolId) {
+        Standing standing = standings.get(mutantId);
+        OrderStatisticTree<Standing> ranking = ranking(schoolId);
+        if (standing == null || ranking == null) {
+            return null;
+        }
+        int rank = ranking.rank(standing);
+        return rank >= 0 ? new LeaderboardEntry(rank + 1, standing) : null;
+    }
+
+    /**
+     * Returns the number of ranked mutants.
+     *
+     * @return the number of mutants on the global leaderboard
+     */
+    public synchronized int size() {
+        return standings.size();
+    }
+
+    private OrderStatisticTree<Standing> ranking(Long schoolId) {
+        return schoolId != null ? schoolRankings.get(schoolId) : globalRanking;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.leaderboard;
+
+import com.give_it_a_bash.application_programming_interface.entities.Mutant;
+import com.give_it_a_bash.application_programming_interface.entities.OutboxEvent;
+import com.give_it_a_bash.application_programming_interface.entities.Student;
+import com.give_it_a_bash.application_programming_interface.entities.Teacher;
+import com.give_it_a_bash.application_programming_interface.events.DomainEventListener;
+import com.give_it_a_bash.application_programming_interface.repositories.StudentRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.TeacherRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Keeps the {@link PowerLeaderboard} in step with every write to a Student or Teacher, including merge patches
+ * and writes made by the bulk endpoints.
+ * <p>
+ * The listener is fed from the domain event outbox, off the request thread, and ranks the current power of the
+ * mutants a batch is about. Mutants that no longer exist are removed from the leaderboard.
+ * </p>
+ */
+@Component
+public class PowerLeaderboardListener implements DomainEventListener {
+
+    @Autowired
+    private PowerLeaderboard powerLeaderboard;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private TeacherRepository teacherRepository;
+
+    /**
+     * Reads the current standings of the mutants the events are about and applies them to the leaderboard.
+     *
+     * @param events the events, oldest first
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void onEvents(List<OutboxEvent> events) {
+        Set<Long> studentIds = DomainEventListener.aggregateIds(events, Student.class);
+        if (!studentIds.isEmpty()) {
+            refresh(studentIds, studentRepository.findAllById(studentIds));
+        }
+        Set<Long> teacherIds = DomainEventListener.aggregateIds(events, Teacher.class);
+        if (!teacherIds.isEmpty()) {
+            refresh(teacherIds, teacherRepository.findAllById(teacherIds));
+        }
+    }
+
+    private void refresh(Set<Long> ids, List<? extends Mutant> mutants) {
+        for (Mutant mutant : mutants) {
+            ids.remove(mutant.getId());
+            powerLeaderboard.put(mutant.getId(), Standing.of(mutant));
+        }
+        for (Long id : ids) {
+            powerLeaderboard.remove(id);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.leaderboard;
+
+import com.give_it_a_bash.application_programming_interface.entities.Mutant;
+import com.give_it_a_bash.application_programming_interface.entities.Power;
+import com.give_it_a_bash.application_programming_interface.entities.Student;
+import lombok.Getter;
+
+/**
+ * The position-relevant details of a mutant on the {@link PowerLeaderboard}, captured when the mutant is written.
+ * <p>
+ * Standings are ordered by descending power level, then by descending control level, and finally by ascending
+ * mutant ID so that mutants with the same power are ranked consistently. The names are kept alongside so that
+ * the leaderboard can be served without reading any mutant from the database.
+ * </p>
+ */
+@Getter
+public class Standing implements Comparable<Standing> {
+
+    /**
+     * The kinds of mutant that are ranked.
+     */
+    public enum MutantType {
+        STUDENT,
+        TEACHER
+    }
+
+    private final Long mutantId;
+
+    private final MutantType mutantType;
+
+    private final Long schoolId;
+
+    private final String firstName;
+
+    private final String lastName;
+
+    private final String alias;
+
+    private final int powerLevel;
+
+    private final int controlLevel;
+
+    public Standing(Long mutantId, MutantType mutantType, Long schoolId, String firstName, String lastName,
+                    String alias, int powerLevel, int controlLevel) {
+        this.mutantId = mutantId;
+        this.mutantType = mutantType;
+        this.schoolId = schoolId;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.alias = alias;
+        this.powerLevel = powerLevel;
+        this.controlLevel = controlLevel;
+    }
+
+    /**
+     * Captures the standing of a mutant.
+     *
+     * @param mutant the mutant
+     * @return the standing of the mutant, or {@code null} if it has no power and is therefore not ranked
+     */
+    public static Standing of(Mutant mutant) {
+        Power power = mutant.getPower();
+        if (power == null) {
+            return null;
+        }
+        return new Standing(mutant.getId(),
+                mutant instanceof Student ? MutantType.STUDENT : MutantType.TEACHER,
+                mutant.getSchoolData() != null ? mutant.getSchoolData().getId() : null,
+                mutant.getFirstName(),
+                mutant.getLastName(),
+                mutant.getAlias(),
+                power.getPowerLevel(),
+                power.getControlLevel());
+    }
+
+    @Override
+    public int compareTo(Standing other) {
+        int comparison = Integer.compare(other.powerLevel, powerLevel);
+        if (comparison == 0) {
+            comparison = Integer.compare(other.controlLevel, controlLevel);
+        }
+        return comparison != 0 ? comparison : mutantId.compareTo(other.mutantId);
+    }
+}
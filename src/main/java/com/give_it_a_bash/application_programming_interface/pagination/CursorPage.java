@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.pagination;
+
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Represents a single page of a keyset (cursor) paginated listing.
+ * <p>
+ * Pages are ordered by ascending ID. The {@code nextCursor} is an opaque token which clients
+ * pass back as the {@code after} request parameter to fetch the following page, and is
+ * {@code null} once the last page has been reached.
+ * </p>
+ *
+ * @param <T> the type of the items on the page
+ */
+@Getter
+public class CursorPage<T> {
+
+    /**
+     * The page size used when the client does not request one.
+     */
+    public static final int DEFAULT_LIMIT = 50;
+
+    /**
+     * The hard upper bound on the page size, regardless of what the client requests.
+     */
+    public static final int MAX_LIMIT = 200;
+
+    private static final String CURSOR_PREFIX = "id:";
+
+    /**
+     * The items on this page, in ascending ID order.
+     */
+    private final List<T> items;
+
+    /**
+     * The opaque cursor for the next page, or {@code null} if there are no more items.
+     */
+    private final String nextCursor;
+
+    public CursorPage(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Builds a page from rows fetched with a limit of {@code limit + 1}.
+     * The extra row, if present, only signals that another page exists and is not returned.
+     *
+     * @param rows        the rows fetched from the repository, at most {@code limit + 1}
+     * @param limit       the page size requested by the client
+     * @param idExtractor function returning the ID of a row
+     * @param <T>         the type of the rows
+     * @return the page of results
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int limit, Function<T, Long> idExtractor) {
+        if (rows.size() <= limit) {
+            return new CursorPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, limit);
+        return new CursorPage<>(items, encodeCursor(idExtractor.apply(items.get(limit - 1))));
+    }
+
+    /**
+     * Resolves the page size requested by the client, applying the default and the hard maximum.
+     *
+     * @param limit the requested page size, may be {@code null}
+     * @return a page size between 1 and {@link #MAX_LIMIT}
+     */
+    public static int resolveLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+
+    /**
+     * Encodes the ID of the last item on a page as an opaque cursor.
+     *
+     * @param id the ID of the last item on the page
+     * @return the opaque cursor
+     */
+    public static String encodeCursor(Long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((CURSOR_PREFIX + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes an opaque cursor back into the ID after which the next page starts.
+     *
+     * @param cursor the cursor supplied by the client, may be {@code null}
+     * @return the ID to page after, or {@code null} to start from the beginning
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static Long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        if (!decoded.startsWith(CURSOR_PREFIX)) {
+            throw new IllegalArgumentException("Malformed cursor " + cursor);
+        }
+        try {
+            return Long.valueOf(decoded.substring(CURSOR_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed cursor " + cursor, e);
+        }
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.patch;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.AnnotatedField;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.ManyToMany;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Applies JSON Merge Patch documents (RFC 7396) to entities for the PATCH endpoints.
+ * <p>
+ * Only the members present in the patch are written to the entity: a member with a value replaces
+ * the property, a {@code null} member clears it, and a nested object is merged into the property's
+ * current value. Properties the patch does not mention, including collections, are left untouched,
+ * so Hibernate's dirty checking only sees the fields the client actually changed.
+ * </p>
+ * <p>
+ * Associations to other entities are the exception to merging: they are replaced by reference. A patch names
+ * the associated entity, or each entity of an associated collection, by its {@code id}, and that entity is
+ * loaded and assigned; any other members given for it are ignored, so a patch can never write one entity's
+ * fields onto another.
+ * </p>
+ */
+@Component
+public class JsonMergePatcher {
+
+    /**
+     * The media type of a JSON Merge Patch document.
+     */
+    public static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
+    private static final String ID = "id";
+
+    private final Map<Class<?>, Map<String, BeanPropertyDefinition>> associations = new ConcurrentHashMap<>();
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Applies the given merge patch to the target, in place.
+     *
+     * @param target the entity to be patched
+     * @param patch  the merge patch document
+     * @param <T>    the type of the entity
+     * @return the patched target
+     * @throws IllegalArgumentException if the patch is not a JSON object, changes the target's ID,
+     *                                  holds a value that cannot be bound to the target, or references
+     *                                  an associated entity that does not exist
+     */
+    public <T> T apply(T target, JsonNode patch) {
+        if (patch == null || !patch.isObject()) {
+            throw new IllegalArgumentException("A merge patch must be a JSON object");
+        }
+
+        ObjectNode changes = (ObjectNode) patch.deepCopy();
+        Map<String, BeanPropertyDefinition> targetAssociations = associations(target);
+        Map<AnnotatedMember, Object> references = new LinkedHashMap<>();
+        JsonNode current = null;
+        Iterator<Map.Entry<String, JsonNode>> fields = patch.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            BeanPropertyDefinition association = targetAssociations.get(field.getKey());
+            if (association != null) {
+                references.put(association.getNonConstructorMutator(), resolve(association, field.getValue()));
+                changes.remove(field.getKey());
+                continue;
+            }
+            if (!field.getValue().isObject() && !ID.equals(field.getKey())) {
+                continue;
+            }
+            if (current == null) {
+                current = objectMapper.valueToTree(target);
+            }
+            JsonNode currentValue = current.get(field.getKey());
+            if (ID.equals(field.getKey())) {
+                if (currentValue == null || !field.getValue().asText().equals(currentValue.asText())) {
+                    throw new IllegalArgumentException("A merge patch must not change the ID");
+                }
+                changes.remove(ID);
+            } else if (currentValue != null && currentValue.isObject()) {
+                changes.set(field.getKey(), merge((ObjectNode) currentValue.deepCopy(), field.getValue()));
+            }
+        }
+
+        T patched;
+        try {
+            patched = objectMapper.readerForUpdating(target).readValue(changes);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid merge patch: " + e.getMessage(), e);
+        }
+        references.forEach((mutator, value) -> mutator.setValue(patched, value));
+        return patched;
+    }
+
+    /**
+     * Finds the writable properties of the target's class that map an association to other entities,
+     * by their JSON names.
+     *
+     * @param target the entity to be patched
+     * @return the association properties, by name
+     */
+    private Map<String, BeanPropertyDefinition> associations(Object target) {
+        return associations.computeIfAbsent(Hibernate.getClass(target), type -> {
+            BeanDescription description = objectMapper.getDeserializationConfig()
+                    .introspect(objectMapper.constructType(type));
+            Map<String, BeanPropertyDefinition> properties = new HashMap<>();
+            for (BeanPropertyDefinition property : description.findProperties()) {
+                AnnotatedField field = property.getField();
+                AnnotatedMember mutator = property.getNonConstructorMutator();
+                if (field != null && mutator != null && (field.hasAnnotation(ManyToOne.class)
+                        || field.hasAnnotation(OneToOne.class) || field.hasAnnotation(OneToMany.class)
+                        || field.hasAnnotation(ManyToMany.class))) {
+                    mutator.fixAccess(true);
+                    properties.put(property.getName(), property);
+                }
+            }
+            return Collections.unmodifiableMap(properties);
+        });
+    }
+
+    /**
+     * Loads the entities an association member of a patch refers to.
+     *
+     * @param association the association property
+     * @param value       the member of the patch, {@code null}, an object with an ID, or an array of them
+     * @return the referenced entity, a collection of them, or {@code null}
+     */
+    private Object resolve(BeanPropertyDefinition association, JsonNode value) {
+        if (value.isNull()) {
+            return null;
+        }
+        JavaType type = association.getPrimaryType();
+        if (!type.isCollectionLikeType()) {
+            return find(type.getRawClass(), association.getName(), value);
+        }
+        if (!value.isArray()) {
+            throw new IllegalArgumentException("A merge patch must give " + association.getName() + " as an array");
+        }
+        Collection<Object> entities = type.isTypeOrSubTypeOf(Set.class) ? new LinkedHashSet<>() : new ArrayList<>();
+        for (JsonNode element : value) {
+            entities.add(find(type.getContentType().getRawClass(), association.getName(), element));
+        }
+        return entities;
+    }
+
+    private Object find(Class<?> entityClass, String name, JsonNode reference) {
+        JsonNode id = reference.get(ID);
+        if (id == null || !id.isIntegralNumber() || !id.canConvertToLong()) {
+            throw new IllegalArgumentException("A merge patch must reference " + name + " by its ID");
+        }
+        Object entity = entityManager.find(entityClass, id.asLong());
+        if (entity == null) {
+            throw new IllegalArgumentException(entityClass.getSimpleName() + " not found with id " + id.asLong());
+        }
+        return entity;
+    }
+
+    /**
+     * Merges a patch into a JSON object as RFC 7396 describes.
+     *
+     * @param target the object to be patched, modified in place
+     * @param patch  the patch to apply
+     * @return the patched object
+     */
+    private static JsonNode merge(ObjectNode target, JsonNode patch) {
+        Iterator<Map.Entry<String, JsonNode>> fields = patch.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            JsonNode value = field.getValue();
+            if (value.isNull()) {
+                target.remove(field.getKey());
+            } else if (value.isObject()) {
+                JsonNode existing = target.get(field.getKey());
+                ObjectNode nested = existing != null && existing.isObject()
+                        ? (ObjectNode) existing
+                        : target.objectNode();
+                target.set(field.getKey(), merge(nested, value));
+            } else {
+                target.set(field.getKey(), value);
+            }
+        }
+        return target;
+    }
+}
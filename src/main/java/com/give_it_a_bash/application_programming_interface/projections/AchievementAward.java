@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.projections;
+
+import com.give_it_a_bash.application_programming_interface.entities.SubjectCategory;
+
+import java.time.LocalDate;
+
+/**
+ * The columns of an Achievement that the achievement rollups are built from.
+ * Only the listed columns are selected, and no Achievement entity is loaded.
+ */
+public interface AchievementAward {
+
+    Long getId();
+
+    Long getStudentId();
+
+    SubjectCategory getCategory();
+
+    LocalDate getDateAwarded();
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.projections;
+
+import java.time.LocalDateTime;
+
+/**
+ * The columns of a Lesson shown on the school dashboard.
+ * Only the listed columns are selected, and no Lesson entity is loaded.
+ */
+public interface DashboardLesson {
+
+    Long getId();
+
+    String getSubjectName();
+
+    Long getTeacherId();
+
+    String getTeacherFirstName();
+
+    String getTeacherLastName();
+
+    Long getFacilityId();
+
+    String getFacilityName();
+
+    LocalDateTime getStartTime();
+
+    LocalDateTime getEndTime();
+
+    Integer getStudentCount();
+}
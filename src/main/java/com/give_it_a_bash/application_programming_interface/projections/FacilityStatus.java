@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.projections;
+
+import com.give_it_a_bash.application_programming_interface.entities.FacilityType;
+
+/**
+ * The status of a Facility shown on the school dashboard: whether it is operational and whether a Lesson is
+ * taking place in it. Only the listed columns are selected, and no Facility entity is loaded.
+ */
+public interface FacilityStatus {
+
+    Long getId();
+
+    String getName();
+
+    FacilityType getType();
+
+    Integer getCapacity();
+
+    Boolean getOperational();
+
+    Boolean getInUse();
+}
@@ -0,0 +1,21 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.projections;
+
+/**
+ * The enrolment of one Student in one Lesson, read from the join table without loading either entity.
+ */
+public interface LessonEnrolment {
+
+    Long getLessonId();
+
+    Long getStudentId();
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.projections;
+
+import java.time.LocalDateTime;
+
+/**
+ * The columns of a Lesson that the lesson stream describes it by, with the IDs of its associations.
+ * Only the listed columns are selected, and no Lesson entity is loaded.
+ */
+public interface LessonStreamRow {
+
+    Long getId();
+
+    Long getSubjectId();
+
+    Long getTeacherId();
+
+    Long getFacilityId();
+
+    Long getSchoolId();
+
+    LocalDateTime getStartTime();
+
+    LocalDateTime getEndTime();
+}
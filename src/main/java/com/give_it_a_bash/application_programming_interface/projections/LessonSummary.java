@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.projections;
+
+import java.time.LocalDateTime;
+
+/**
+ * A read-only summary of a Lesson for list views.
+ * Only the listed columns are selected, and no Lesson, Subject, Teacher or Student entity is loaded.
+ */
+public interface LessonSummary {
+
+    Long getId();
+
+    String getSubjectName();
+
+    String getTeacherFirstName();
+
+    String getTeacherLastName();
+
+    LocalDateTime getStartTime();
+
+    LocalDateTime getEndTime();
+
+    /**
+     * Returns the number of students enrolled in the lesson.
+     *
+     * @return the number of enrolled students
+     */
+    Integer getStudentCount();
+}
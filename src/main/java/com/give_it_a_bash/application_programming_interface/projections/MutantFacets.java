@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.projections;
+
+import com.give_it_a_bash.application_programming_interface.entities.PowerSource;
+
+/**
+ * The columns of a Student or Teacher that the facet counters are reconciled against.
+ * Only the listed columns are selected, and no entity is loaded.
+ */
+public interface MutantFacets {
+
+    Long getId();
+
+    /**
+     * Returns the ID of the mutant's school.
+     *
+     * @return the school ID, or {@code null} if the mutant does not belong to a school
+     */
+    Long getSchoolId();
+
+    PowerSource getPowerSource();
+}
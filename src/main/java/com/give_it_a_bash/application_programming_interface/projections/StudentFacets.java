@@ -0,0 +1,22 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.projections;
+
+import com.give_it_a_bash.application_programming_interface.entities.Status;
+
+/**
+ * The columns of a Student that the facet counters are reconciled against.
+ * Only the listed columns are selected, and no Student entity is loaded.
+ */
+public interface StudentFacets extends MutantFacets {
+
+    Status getStatus();
+}
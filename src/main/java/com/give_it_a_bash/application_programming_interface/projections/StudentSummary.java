@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.projections;
+
+import com.give_it_a_bash.application_programming_interface.entities.Status;
+
+/**
+ * A read-only summary of a Student for list views.
+ * Only the listed columns are selected, and no Student entity is loaded.
+ */
+public interface StudentSummary {
+
+    Long getId();
+
+    String getFirstName();
+
+    String getLastName();
+
+    String getAlias();
+
+    Status getStatus();
+
+    /**
+     * Returns the name of the student's school.
+     *
+     * @return the school name, or {@code null} if the student is not enrolled at a school
+     */
+    String getSchoolName();
+}
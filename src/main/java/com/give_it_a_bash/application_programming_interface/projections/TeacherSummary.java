@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.projections;
+
+/**
+ * A read-only summary of a Teacher for list views.
+ * Only the listed columns are selected, and no Teacher entity is loaded.
+ */
+public interface TeacherSummary {
+
+    Long getId();
+
+    String getFirstName();
+
+    String getLastName();
+
+    String getAlias();
+
+    String getDepartment();
+
+    /**
+     * Returns the name of the teacher's school.
+     *
+     * @return the school name, or {@code null} if the teacher is not assigned to a school
+     */
+    String getSchoolName();
+}
@@ -11,13 +11,103 @@
 package com.give_it_a_bash.application_programming_interface.repositories;
 
 import com.give_it_a_bash.application_programming_interface.entities.Achievement;
+import com.give_it_a_bash.application_programming_interface.projections.AchievementAward;
+import com.give_it_a_bash.application_programming_interface.projections.DashboardAchievement;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 /**
  * Repository interface for accessing Achievement entities in the database.
  * This interface provides methods for CRUD operations.
  */
 @Repository
 public interface AchievementRepository extends JpaRepository<Achievement, Long> {
+
+    /**
+     * Retrieves all Achievement entries, fetching the associations they are serialized with.
+     *
+     * @return all Achievement entries
+     */
+    @Override
+    @EntityGraph(attributePaths = "student.schoolData")
+    List<Achievement> findAll();
+
+    /**
+     * Retrieves a Achievement by its ID, fetching the associations it is serialized with.
+     *
+     * @param id the ID of the Achievement
+     * @return an Optional containing the Achievement if found
+     */
+    @Override
+    @EntityGraph(attributePaths = "student.schoolData")
+    Optional<Achievement> findById(Long id);
+
+    /**
+     * Retrieves Achievement entries with an ID greater than the given one, in ascending ID order.
+     * Backs keyset pagination, so the cost of a page does not depend on how deep it is.
+     *
+     * @param id the ID to page after
+     * @param limit the maximum number of entries to return
+     * @return the Achievement entries following the given ID
+     */
+    @EntityGraph(attributePaths = "student.schoolData")
+    List<Achievement> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * Streams every Achievement entry in ascending ID order.
+     * Rows are fetched from the database in batches and loaded read-only, so the stream must be
+     * consumed inside a transaction and closed once finished.
+     *
+     * @return a stream over all Achievement entries
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Achievement> streamAllByOrderByIdAsc();
+
+    /**
+     * Retrieves the columns of every Achievement that the achievement rollups are built from.
+     *
+     * @return the awards of all Achievement entries
+     */
+    @Query("select a.id as id, a.student.id as studentId, a.category as category, a.dateAwarded as dateAwarded "
+            + "from Achievement a")
+    List<AchievementAward> findAllAwards();
+
+    /**
+     * Retrieves the columns of the given Achievements that the achievement rollups are built from.
+     *
+     * @param ids the IDs of the Achievements
+     * @return the awards of the Achievements that exist
+     */
+    @Query("select a.id as id, a.student.id as studentId, a.category as category, a.dateAwarded as dateAwarded "
+            + "from Achievement a where a.id in :ids")
+    List<AchievementAward> findAwardsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Retrieves the most recently awarded Achievements of a school's Students, for the school dashboard.
+     *
+     * @param schoolDataId the ID of the school
+     * @param limit the maximum number of Achievements to return
+     * @return the Achievements, most recently awarded first
+     */
+    @Query("select a.id as id, a.title as title, a.category as category, a.dateAwarded as dateAwarded, "
+            + "a.awardedBy as awardedBy, st.id as studentId, st.firstName as studentFirstName, "
+            + "st.lastName as studentLastName "
+            + "from Achievement a join a.student st where st.schoolData.id = :schoolDataId "
+            + "order by a.dateAwarded desc, a.id desc")
+    List<DashboardAchievement> findRecentDashboardAchievements(@Param("schoolDataId") Long schoolDataId, Limit limit);
 }
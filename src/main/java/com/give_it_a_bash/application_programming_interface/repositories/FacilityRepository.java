@@ -11,13 +11,99 @@
 package com.give_it_a_bash.application_programming_interface.repositories;
 
 import com.give_it_a_bash.application_programming_interface.entities.Facility;
+import com.give_it_a_bash.application_programming_interface.entities.FacilityType;
+import com.give_it_a_bash.application_programming_interface.projections.FacilityFacets;
+import com.give_it_a_bash.application_programming_interface.projections.FacilityStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 /**
  * Repository interface for accessing Facility entities in the database.
  * This interface provides methods for CRUD operations.
  */
 @Repository
 public interface FacilityRepository extends JpaRepository<Facility, Long> {
+
+    /**
+     * Retrieves all Facility entries, fetching the associations they are serialized with.
+     *
+     * @return all Facility entries
+     */
+    @Override
+    @EntityGraph(attributePaths = "schoolData")
+    List<Facility> findAll();
+
+    /**
+     * Retrieves a Facility by its ID, fetching the associations it is serialized with.
+     *
+     * @param id the ID of the Facility
+     * @return an Optional containing the Facility if found
+     */
+    @Override
+    @EntityGraph(attributePaths = "schoolData")
+    Optional<Facility> findById(Long id);
+
+    /**
+     * Retrieves Facility entries with an ID greater than the given one, in ascending ID order.
+     * Backs keyset pagination, so the cost of a page does not depend on how deep it is.
+     *
+     * @param id the ID to page after
+     * @param limit the maximum number of entries to return
+     * @return the Facility entries following the given ID
+     */
+    @EntityGraph(attributePaths = "schoolData")
+    List<Facility> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * Retrieves the IDs of the operational Facilities of a type that hold at least the given number of people,
+     * smallest first, so that the first free one is the best fit.
+     *
+     * @param type the type of Facility
+     * @param capacity the minimum capacity
+     * @return the IDs of the matching Facilities, in ascending order of capacity and then ID
+     */
+    @Query("select f.id from Facility f where f.type = :type and f.isOperational = true and f.capacity >= :capacity "
+            + "order by f.capacity, f.id")
+    List<Long> findBestFitIds(@Param("type") FacilityType type, @Param("capacity") int capacity);
+
+    /**
+     * Retrieves the facet columns of every Facility, for reconciling the facet counters.
+     *
+     * @return the facets of all Facility entries
+     */
+    @Query("select f.id as id, f.schoolData.id as schoolId, f.type as type from Facility f")
+    List<FacilityFacets> findAllFacets();
+
+    /**
+     * Retrieves the facet columns of the given Facilities, for keeping the facet counters up to date.
+     *
+     * @param ids the IDs of the Facilities
+     * @return the facets of the Facilities that exist
+     */
+    @Query("select f.id as id, f.schoolData.id as schoolId, f.type as type from Facility f where f.id in :ids")
+    List<FacilityFacets> findFacetsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Retrieves the status of every Facility of a school, including whether a Lesson is taking place in it.
+     *
+     * @param schoolDataId the ID of the school
+     * @param now the time the Facilities are in use at
+     * @return the status of the Facilities of the school, in ascending order of ID
+     */
+    @Query("select f.id as id, f.name as name, f.type as type, f.capacity as capacity, "
+            + "f.isOperational as operational, "
+            + "case when exists (select l.id from Lesson l where l.facility = f "
+            + "and l.startTime <= :now and l.endTime > :now) then true else false end as inUse "
+            + "from Facility f where f.schoolData.id = :schoolDataId order by f.id")
+    List<FacilityStatus> findStatusesBySchoolDataId(@Param("schoolDataId") Long schoolDataId,
+                                                    @Param("now") LocalDateTime now);
 }
@@ -11,13 +11,126 @@
 package com.give_it_a_bash.application_programming_interface.repositories;
 
 import com.give_it_a_bash.application_programming_interface.entities.Lesson;
+import com.give_it_a_bash.application_programming_interface.projections.DashboardLesson;
+import com.give_it_a_bash.application_programming_interface.projections.LessonEnrolment;
+import com.give_it_a_bash.application_programming_interface.projections.LessonStreamRow;
+import com.give_it_a_bash.application_programming_interface.projections.LessonSummary;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 /**
  * Repository interface for accessing Lesson entities in the database.
  * This interface provides methods for CRUD operations.
  */
 @Repository
 public interface LessonRepository extends JpaRepository<Lesson, Long> {
+
+    /**
+     * Retrieves all Lesson entries, fetching the associations they are serialized with.
+     *
+     * @return all Lesson entries
+     */
+    @Override
+    @EntityGraph(attributePaths = {"subject.schoolData", "teacher.schoolData", "facility.schoolData"})
+    List<Lesson> findAll();
+
+    /**
+     * Retrieves a Lesson by its ID, fetching the associations it is serialized with.
+     *
+     * @param id the ID of the Lesson
+     * @return an Optional containing the Lesson if found
+     */
+    @Override
+    @EntityGraph(attributePaths = {"subject.schoolData", "teacher.schoolData", "facility.schoolData"})
+    Optional<Lesson> findById(Long id);
+
+    /**
+     * Retrieves Lesson entries with an ID greater than the given one, in ascending ID order.
+     * Backs keyset pagination, so the cost of a page does not depend on how deep it is.
+     *
+     * @param id the ID to page after
+     * @param limit the maximum number of entries to return
+     * @return the Lesson entries following the given ID
+     */
+    @EntityGraph(attributePaths = {"subject.schoolData", "teacher.schoolData", "facility.schoolData"})
+    List<Lesson> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * Retrieves summaries of the Lesson entries with an ID greater than the given one, in ascending ID order.
+     * Selects only the summarized columns and returns them as tuples, so no Lesson entity is loaded.
+     *
+     * @param id the ID to page after
+     * @param limit the maximum number of entries to return
+     * @return the Lesson summaries following the given ID
+     */
+    @Query("select l.id as id, s.name as subjectName, t.firstName as teacherFirstName, "
+            + "t.lastName as teacherLastName, l.startTime as startTime, l.endTime as endTime, "
+            + "size(l.students) as studentCount "
+            + "from Lesson l join l.subject s join l.teacher t where l.id > :id order by l.id")
+    List<LessonSummary> findSummariesByIdGreaterThan(@Param("id") Long id, Limit limit);
+
+    /**
+     * Retrieves the columns the lesson stream describes every Lesson by.
+     *
+     * @return the columns of every Lesson
+     */
+    @Query("select l.id as id, s.id as subjectId, t.id as teacherId, f.id as facilityId, "
+            + "s.schoolData.id as schoolId, l.startTime as startTime, l.endTime as endTime "
+            + "from Lesson l join l.subject s join l.teacher t left join l.facility f")
+    List<LessonStreamRow> findAllStreamRows();
+
+    /**
+     * Retrieves the columns the lesson stream describes the given Lessons by.
+     *
+     * @param ids the IDs of the Lessons
+     * @return the columns of the Lessons that exist
+     */
+    @Query("select l.id as id, s.id as subjectId, t.id as teacherId, f.id as facilityId, "
+            + "s.schoolData.id as schoolId, l.startTime as startTime, l.endTime as endTime "
+            + "from Lesson l join l.subject s join l.teacher t left join l.facility f where l.id in :ids")
+    List<LessonStreamRow> findStreamRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Retrieves every enrolment of a Student in a Lesson.
+     *
+     * @return every enrolment
+     */
+    @Query("select l.id as lessonId, st.id as studentId from Lesson l join l.students st")
+    List<LessonEnrolment> findAllEnrolments();
+
+    /**
+     * Retrieves the enrolments of Students in the given Lessons.
+     *
+     * @param ids the IDs of the Lessons
+     * @return the enrolments in the Lessons
+     */
+    @Query("select l.id as lessonId, st.id as studentId from Lesson l join l.students st where l.id in :ids")
+    List<LessonEnrolment> findEnrolmentsByLessonIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Retrieves the Lessons of a school's Subjects that start within the given period, for the school dashboard.
+     *
+     * @param schoolDataId the ID of the school
+     * @param from the start of the period, inclusive
+     * @param to the end of the period, exclusive
+     * @return the Lessons starting within the period, in ascending order of start time and then ID
+     */
+    @Query("select l.id as id, s.name as subjectName, t.id as teacherId, t.firstName as teacherFirstName, "
+            + "t.lastName as teacherLastName, f.id as facilityId, f.name as facilityName, "
+            + "l.startTime as startTime, l.endTime as endTime, size(l.students) as studentCount "
+            + "from Lesson l join l.subject s join l.teacher t left join l.facility f "
+            + "where s.schoolData.id = :schoolDataId and l.startTime >= :from and l.startTime < :to "
+            + "order by l.startTime, l.id")
+    List<DashboardLesson> findDashboardLessons(@Param("schoolDataId") Long schoolDataId,
+                                               @Param("from") LocalDateTime from,
+                                               @Param("to") LocalDateTime to);
 }
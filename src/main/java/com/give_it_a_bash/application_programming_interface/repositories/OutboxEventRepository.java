@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.repositories;
+
+import com.give_it_a_bash.application_programming_interface.entities.OutboxEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for accessing OutboxEvent entities in the database.
+ * Events are inserted by the outbox entity listener and read, retried, parked and removed by the dispatcher.
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Retrieves the oldest undelivered events that have not been parked, in the order they were recorded.
+     *
+     * @param limit the maximum number of events to return
+     * @return the oldest events
+     */
+    List<OutboxEvent> findByParkedAtIsNullOrderByIdAsc(Limit limit);
+
+    /**
+     * Retrieves the events that were parked after their last allowed delivery attempt, in the order they were
+     * recorded.
+     *
+     * @return the parked events
+     */
+    List<OutboxEvent> findByParkedAtIsNotNullOrderByIdAsc();
+
+    /**
+     * Records a failed delivery of the given events, counting the attempt and deferring the next one.
+     *
+     * @param ids           the IDs of the events
+     * @param nextAttemptAt the earliest time the events may be delivered again
+     * @return the number of events updated
+     */
+    @Modifying
+    @Transactional
+    @Query("update OutboxEvent e set e.attempts = e.attempts + 1, e.nextAttemptAt = :nextAttemptAt "
+            + "where e.id in :ids")
+    int recordFailedAttempt(@Param("ids") Collection<Long> ids, @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+    /**
+     * Records the last allowed failed delivery of the given events and parks them, so that they are no longer
+     * delivered and stop holding back the events recorded after them.
+     *
+     * @param ids      the IDs of the events
+     * @param parkedAt the time the events are parked
+     * @return the number of events updated
+     */
+    @Modifying
+    @Transactional
+    @Query("update OutboxEvent e set e.attempts = e.attempts + 1, e.parkedAt = :parkedAt where e.id in :ids")
+    int park(@Param("ids") Collection<Long> ids, @Param("parkedAt") LocalDateTime parkedAt);
+}
@@ -11,13 +11,26 @@
 package com.give_it_a_bash.application_programming_interface.repositories;
 
 import com.give_it_a_bash.application_programming_interface.entities.SchoolData;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 /**
  * Repository interface for accessing SchoolData entities in the database.
  * This interface extends JpaRepository to provide standard CRUD operations.
  */
 @Repository
 public interface SchoolDataRepository extends JpaRepository<SchoolData, Long> {
+
+    /**
+     * Retrieves SchoolData entries with an ID greater than the given one, in ascending ID order.
+     * Backs keyset pagination, so the cost of a page does not depend on how deep it is.
+     *
+     * @param id the ID to page after
+     * @param limit the maximum number of entries to return
+     * @return the SchoolData entries following the given ID
+     */
+    List<SchoolData> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
 }
@@ -11,13 +11,126 @@
 package com.give_it_a_bash.application_programming_interface.repositories;
 
 import com.give_it_a_bash.application_programming_interface.entities.Student;
+import com.give_it_a_bash.application_programming_interface.projections.StudentFacets;
+import com.give_it_a_bash.application_programming_interface.projections.StudentSummary;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 /**
  * Repository interface for accessing Student entities in the database.
  * This interface extends JpaRepository to provide standard CRUD operations.
  */
 @Repository
 public interface StudentRepository extends JpaRepository<Student, Long> {
+
+    /**
+     * Retrieves all Student entries, fetching the associations they are serialized with.
+     *
+     * @return all Student entries
+     */
+    @Override
+    @EntityGraph(attributePaths = "schoolData")
+    List<Student> findAll();
+
+    /**
+     * Retrieves a Student by its ID, fetching the associations it is serialized with.
+     *
+     * @param id the ID of the Student
+     * @return an Optional containing the Student if found
+     */
+    @Override
+    @EntityGraph(attributePaths = "schoolData")
+    Optional<Student> findById(Long id);
+
+    /**
+     * Retrieves Student entries with an ID greater than the given one, in ascending ID order.
+     * Backs keyset pagination, so the cost of a page does not depend on how deep it is.
+     *
+     * @param id the ID to page after
+     * @param limit the maximum number of entries to return
+     * @return the Student entries following the given ID
+     */
+    @EntityGraph(attributePaths = "schoolData")
+    List<Student> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * Retrieves summaries of the Student entries with an ID greater than the given one, in ascending ID order.
+     * Selects only the summarized columns and returns them as tuples, so no Student entity is loaded.
+     *
+     * @param id the ID to page after
+     * @param limit the maximum number of entries to return
+     * @return the Student summaries following the given ID
+     */
+    @Query("select s.id as id, s.firstName as firstName, s.lastName as lastName, s.alias as alias, "
+            + "s.status as status, sd.schoolName as schoolName "
+            + "from Student s left join s.schoolData sd where s.id > :id order by s.id")
+    List<StudentSummary> findSummariesByIdGreaterThan(@Param("id") Long id, Limit limit);
+
+    /**
+     * Streams every Student entry in ascending ID order.
+     * Rows are fetched from the database in batches and loaded read-only, so the stream must be
+     * consumed inside a transaction and closed once finished.
+     *
+     * @return a stream over all Student entries
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @EntityGraph(attributePaths = "schoolData")
+    Stream<Student> streamAllByOrderByIdAsc();
+
+    /**
+     * Streams every Student entry in ascending ID order together with its mission history, for exports
+     * that serialize the whole entry. The mission history is fetched in the same query, so no
+     * statement is issued per Student; like {@link #streamAllByOrderByIdAsc()} the stream must be
+     * consumed inside a transaction and closed once finished.
+     *
+     * @return a stream over all Student entries with their mission histories loaded
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @EntityGraph(attributePaths = {"schoolData", "missionHistory"})
+    Stream<Student> streamAllWithMissionHistoryByOrderByIdAsc();
+
+    /**
+     * Retrieves the facet columns of every Student, for reconciling the facet counters.
+     *
+     * @return the facets of all Student entries
+     */
+    @Query("select s.id as id, sd.id as schoolId, s.status as status, s.power.originSource as powerSource "
+            + "from Student s left join s.schoolData sd")
+    List<StudentFacets> findAllFacets();
+
+    /**
+     * Retrieves the facet columns of the given Students, for keeping the derived views up to date.
+     *
+     * @param ids the IDs of the Students
+     * @return the facets of the Students that exist
+     */
+    @Query("select s.id as id, sd.id as schoolId, s.status as status, s.power.originSource as powerSource "
+            + "from Student s left join s.schoolData sd where s.id in :ids")
+    List<StudentFacets> findFacetsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Counts the Students of a school.
+     *
+     * @param schoolDataId the ID of the school
+     * @return the number of Students of the school
+     */
+    long countBySchoolDataId(Long schoolDataId);
 }
@@ -11,13 +11,73 @@
 package com.give_it_a_bash.application_programming_interface.repositories;
 
 import com.give_it_a_bash.application_programming_interface.entities.Subject;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 /**
  * Repository interface for accessing Subject entities in the database.
  * This interface extends JpaRepository to provide standard CRUD operations.
  */
 @Repository
 public interface SubjectRepository extends JpaRepository<Subject, Long> {
+
+    /**
+     * Retrieves all Subject entries, fetching the associations they are serialized with.
+     *
+     * @return all Subject entries
+     */
+    @Override
+    @EntityGraph(attributePaths = "schoolData")
+    List<Subject> findAll();
+
+    /**
+     * Retrieves a Subject by its ID, fetching the associations it is serialized with.
+     *
+     * @param id the ID of the Subject
+     * @return an Optional containing the Subject if found
+     */
+    @Override
+    @EntityGraph(attributePaths = "schoolData")
+    Optional<Subject> findById(Long id);
+
+    /**
+     * Retrieves Subject entries with an ID greater than the given one, in ascending ID order.
+     * Backs keyset pagination, so the cost of a page does not depend on how deep it is.
+     *
+     * @param id the ID to page after
+     * @param limit the maximum number of entries to return
+     * @return the Subject entries following the given ID
+     */
+    @EntityGraph(attributePaths = "schoolData")
+    List<Subject> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * Streams every Subject entry in ascending ID order.
+     * Rows are fetched from the database in batches and loaded read-only, so the stream must be
+     * consumed inside a transaction and closed once finished.
+     *
+     * @return a stream over all Subject entries
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Subject> streamAllByOrderByIdAsc();
+
+    /**
+     * Counts the Subjects of a school.
+     *
+     * @param schoolDataId the ID of the school
+     * @return the number of Subjects of the school
+     */
+    long countBySchoolDataId(Long schoolDataId);
 }
@@ -11,13 +11,144 @@
 package com.give_it_a_bash.application_programming_interface.repositories;
 
 import com.give_it_a_bash.application_programming_interface.entities.Teacher;
+import com.give_it_a_bash.application_programming_interface.projections.MutantFacets;
+import com.give_it_a_bash.application_programming_interface.projections.TeacherSummary;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 /**
  * Repository interface for accessing Teacher entities in the database.
  * This interface extends JpaRepository to provide standard CRUD operations.
  */
 @Repository
 public interface TeacherRepository extends JpaRepository<Teacher, Long> {
+
+    /**
+     * Retrieves all Teacher entries, fetching the associations they are serialized with.
+     *
+     * @return all Teacher entries
+     */
+    @Override
+    @EntityGraph(attributePaths = "schoolData")
+    List<Teacher> findAll();
+
+    /**
+     * Retrieves a Teacher by its ID, fetching the associations it is serialized with.
+     *
+     * @param id the ID of the Teacher
+     * @return an Optional containing the Teacher if found
+     */
+    @Override
+    @EntityGraph(attributePaths = "schoolData")
+    Optional<Teacher> findById(Long id);
+
+    /**
+     * Retrieves Teacher entries with an ID greater than the given one, in ascending ID order.
+     * Backs keyset pagination, so the cost of a page does not depend on how deep it is.
+     *
+     * @param id the ID to page after
+     * @param limit the maximum number of entries to return
+     * @return the Teacher entries following the given ID
+     */
+    @EntityGraph(attributePaths = "schoolData")
+    List<Teacher> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * Retrieves summaries of the Teacher entries with an ID greater than the given one, in ascending ID order.
+     * Selects only the summarized columns and returns them as tuples, so no Teacher entity is loaded.
+     *
+     * @param id the ID to page after
+     * @param limit the maximum number of entries to return
+     * @return the Teacher summaries following the given ID
+     */
+    @Query("select t.id as id, t.firstName as firstName, t.lastName as lastName, t.alias as alias, "
+            + "t.department as department, sd.schoolName as schoolName "
+            + "from Teacher t left join t.schoolData sd where t.id > :id order by t.id")
+    List<TeacherSummary> findSummariesByIdGreaterThan(@Param("id") Long id, Limit limit);
+
+    /**
+     * Streams every Teacher entry in ascending ID order.
+     * Rows are fetched from the database in batches and loaded read-only, so the stream must be
+     * consumed inside a transaction and closed once finished.
+     *
+     * @return a stream over all Teacher entries
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @EntityGraph(attributePaths = "schoolData")
+    Stream<Teacher> streamAllByOrderByIdAsc();
+
+    /**
+     * Retrieves the IDs of the Teacher entries with an ID greater than the given one, in ascending ID order.
+     *
+     * @param id the ID to page after
+     * @param limit the maximum number of IDs to return
+     * @return the Teacher IDs following the given ID
+     */
+    @Query("select t.id from Teacher t where t.id > :id order by t.id")
+    List<Long> findIdsByIdGreaterThan(@Param("id") Long id, Limit limit);
+
+    /**
+     * Retrieves the Teacher entries with the given IDs in ascending ID order, together with their
+     * school data and mission histories, loaded read-only.
+     *
+     * @param ids the IDs of the Teachers to retrieve
+     * @return the matching Teacher entries
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @EntityGraph(attributePaths = {"schoolData", "missionHistory"})
+    List<Teacher> findWithMissionHistoryByIdInOrderByIdAsc(Collection<Long> ids);
+
+    /**
+     * Retrieves the Teacher entries with the given IDs together with their subjects.
+     * Fetched separately from the mission histories, as both are bags that cannot be joined in one query;
+     * Teachers already loaded in the persistence context get their subjects initialized.
+     *
+     * @param ids the IDs of the Teachers to retrieve
+     * @return the matching Teacher entries
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @EntityGraph(attributePaths = "subjects")
+    List<Teacher> findWithSubjectsByIdIn(Collection<Long> ids);
+
+    /**
+     * Retrieves the facet columns of every Teacher, for reconciling the facet counters.
+     *
+     * @return the facets of all Teacher entries
+     */
+    @Query("select t.id as id, sd.id as schoolId, t.power.originSource as powerSource "
+            + "from Teacher t left join t.schoolData sd")
+    List<MutantFacets> findAllFacets();
+
+    /**
+     * Retrieves the facet columns of the given Teachers, for keeping the facet counters up to date.
+     *
+     * @param ids the IDs of the Teachers
+     * @return the facets of the Teachers that exist
+     */
+    @Query("select t.id as id, sd.id as schoolId, t.power.originSource as powerSource "
+            + "from Teacher t left join t.schoolData sd where t.id in :ids")
+    List<MutantFacets> findFacetsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Counts the Teachers of a school.
+     *
+     * @param schoolDataId the ID of the school
+     * @return the number of Teachers of the school
+     */
+    long countBySchoolDataId(Long schoolDataId);
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.scheduling;
+
+import com.give_it_a_bash.application_programming_interface.collections.IntervalTree;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Finds the free windows left between busy intervals.
+ */
+public final class FreeSlots {
+
+    private FreeSlots() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Sweeps over busy intervals sorted by start, merging those that overlap or touch, and returns the gaps
+     * within {@code [from, to)} that are at least {@code minimumDuration} long.
+     *
+     * @param busy            the busy intervals, sorted by start
+     * @param from            the inclusive start of the window
+     * @param to              the exclusive end of the window
+     * @param minimumDuration the minimum length of a free slot
+     * @return the free slots, in chronological order
+     */
+    public static List<TimeSlot> find(List<? extends IntervalTree.Interval<LocalDateTime, ?>> busy,
+                                      LocalDateTime from,
+                                      LocalDateTime to,
+                                      Duration minimumDuration) {
+        List<TimeSlot> slots = new ArrayList<>();
+        LocalDateTime freeFrom = from;
+        for (IntervalTree.Interval<LocalDateTime, ?> interval : busy) {
+            if (!interval.getEnd().isAfter(freeFrom)) {
+                continue;
+            }
+            if (!interval.getStart().isAfter(freeFrom)) {
+                freeFrom = interval.getEnd();
+                continue;
+            }
+            LocalDateTime freeTo = interval.getStart().isBefore(to) ? interval.getStart() : to;
+            addSlot(slots, freeFrom, freeTo, minimumDuration);
+            freeFrom = interval.getEnd();
+            if (!freeFrom.isBefore(to)) {
+                return slots;
+            }
+        }
+        addSlot(slots, freeFrom, to, minimumDuration);
+        return slots;
+    }
+
+    private static void addSlot(List<TimeSlot> slots, LocalDateTime start, LocalDateTime end, Duration minimumDuration) {
+        if (start.isBefore(end) && Duration.between(start, end).compareTo(minimumDuration) >= 0) {
+            slots.add(new TimeSlot(start, end));
+        }
+    }
+}
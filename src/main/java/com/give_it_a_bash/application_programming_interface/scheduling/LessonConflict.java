@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.scheduling;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * Two lessons that overlap in time and share a teacher, a student or a facility.
+ */
+@Getter
+@EqualsAndHashCode
+public class LessonConflict {
+
+    /**
+     * Whether the lessons share a teacher, a student or a facility.
+     */
+    public enum Type {
+        TEACHER,
+        STUDENT,
+        FACILITY
+    }
+
+    /**
+     * Whether the lessons share a teacher, a student or a facility.
+     */
+    private final Type type;
+
+    /**
+     * The ID of the teacher, student or facility booked into both lessons.
+     */
+    private final Long resourceId;
+
+    /**
+     * The ID of the lesson being checked, or {@code null} if it has not been saved yet.
+     */
+    private final Long lessonId;
+
+    /**
+     * The ID of the lesson it overlaps.
+     */
+    private final Long conflictingLessonId;
+
+    public LessonConflict(Type type, Long resourceId, Long lessonId, Long conflictingLessonId) {
+        this.type = type;
+        this.resourceId = resourceId;
+        this.lessonId = lessonId;
+        this.conflictingLessonId = conflictingLessonId;
+    }
+
+    @Override
+    public String toString() {
+        return "Lesson overlaps lesson " + conflictingLessonId + " for " + type.name().toLowerCase() + " " + resourceId;
+    }
+}
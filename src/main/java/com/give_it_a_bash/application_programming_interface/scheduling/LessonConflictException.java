@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.scheduling;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Thrown when a lesson would double-book a teacher, a student or a facility.
+ */
+@Getter
+public class LessonConflictException extends RuntimeException {
+
+    /**
+     * The lessons the rejected lesson overlaps.
+     */
+    private final List<LessonConflict> conflicts;
+
+    public LessonConflictException(List<LessonConflict> conflicts) {
+        super(conflicts.get(0) + (conflicts.size() > 1 ? " and " + (conflicts.size() - 1) + " more" : ""));
+        this.conflicts = conflicts;
+    }
+}
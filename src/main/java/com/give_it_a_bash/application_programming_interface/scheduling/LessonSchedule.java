@@ -0,0 +1,416 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.scheduling;
+
+import com.give_it_a_bash.application_programming_interface.collections.IntervalTree;
+import com.give_it_a_bash.application_programming_interface.entities.Lesson;
+import com.give_it_a_bash.application_programming_interface.entities.Student;
+import lombok.Getter;
+import org.hibernate.Hibernate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * An in-memory index of the timetable of every teacher, student and facility, used to detect double-bookings.
+ * <p>
+ * Each teacher, student and facility has an {@link IntervalTree} of the lessons booked into it, sorted by
+ * start time, so checking a lesson or finding a free room costs {@code O(log n)} in the length of the
+ * timetables involved rather than a scan of every lesson. Lessons are treated as the half-open interval {@code [startTime, endTime)}, so back-to-back
+ * lessons do not conflict. All methods are synchronized, which makes {@link #book(Long, Lesson)} an
+ * atomic check-and-reserve.
+ * </p>
+ * <p>
+ * A lesson booked by a transaction that has not completed yet is held by {@link #reserve(Long, Lesson)} until
+ * {@link #release(Long, Booking, boolean)}. {@link #refresh(Map)}, which applies the committed state read from
+ * the database, leaves held lessons alone, so it cannot undo a reservation with state read before it committed.
+ * </p>
+ */
+@Component
+public class LessonSchedule {
+
+    private final Map<Long, Booking> bookings = new HashMap<>();
+
+    private final Map<Long, IntervalTree<LocalDateTime, Long>> teacherTimetables = new HashMap<>();
+
+    private final Map<Long, IntervalTree<LocalDateTime, Long>> studentTimetables = new HashMap<>();
+
+    private final Map<Long, IntervalTree<LocalDateTime, Long>> facilityTimetables = new HashMap<>();
+
+    /**
+     * The number of uncompleted transactions holding each reserved lesson.
+     */
+    private final Map<Long, Integer> reservations = new HashMap<>();
+
+    /**
+     * Returns the booked lessons that the given lesson would overlap, ignoring its own booking.
+     *
+     * @param lessonId the ID of the lesson, or {@code null} if it has not been saved yet
+     * @param lesson   the lesson to check
+     * @return the conflicts, empty if the lesson can be booked
+     */
+    public synchronized List<LessonConflict> findConflicts(Long lessonId, Lesson lesson) {
+        return findConflicts(lessonId, Booking.of(lesson));
+    }
+
+    /**
+     * Books a lesson into the timetables of its teacher, students and facility, replacing its previous booking.
+     *
+     * @param lessonId the ID of the lesson
+     * @param lesson   the lesson to book
+     * @return the previous booking of the lesson, or {@code null} if it was not booked
+     * @throws LessonConflictException if the lesson overlaps another lesson of its teacher, students or facility,
+     *                                  in which case the schedule is left unchanged
+     */
+    public synchronized Booking book(Long lessonId, Lesson lesson) {
+        Booking booking = Booking.of(lesson);
+        List<LessonConflict> conflicts = findConflicts(lessonId, booking);
+        if (!conflicts.isEmpty()) {
+            throw new LessonConflictException(conflicts);
+        }
+        return put(lessonId, booking);
+    }
+
+    /**
+     * Books a lesson like {@link #book(Long, Lesson)} on behalf of a transaction and holds it until the
+     * transaction {@link #release(Long, Booking, boolean) releases} it.
+     *
+     * @param lessonId the ID of the lesson
+     * @param lesson   the lesson to book
+     * @return the previous booking of the lesson, or {@code null} if it was not booked
+     * @throws LessonConflictException if the lesson overlaps another lesson of its teacher, students or facility,
+     *                                  in which case the schedule is left unchanged
+     */
+    public synchronized Booking reserve(Long lessonId, Lesson lesson) {
+        Booking previous = book(lessonId, lesson);
+        reservations.merge(lessonId, 1, Integer::sum);
+        return previous;
+    }
+
+    /**
+     * Releases a lesson reserved by a transaction once it has completed, restoring the previous booking
+     * if the transaction did not commit.
+     *
+     * @param lessonId  the ID of the lesson
+     * @param previous  the booking {@link #reserve(Long, Lesson)} returned
+     * @param committed whether the transaction committed
+     */
+    public synchronized void release(Long lessonId, Booking previous, boolean committed) {
+        reservations.computeIfPresent(lessonId, (id, count) -> count > 1 ? count - 1 : null);
+        if (!committed) {
+            put(lessonId, previous);
+        }
+    }
+
+    /**
+     * Applies the committed state of lessons, skipping those held by a transaction that has not completed.
+     *
+     * @param bookings the booking of each lesson, {@code null} for lessons that no longer exist
+     */
+    public synchronized void refresh(Map<Long, Booking> bookings) {
+        for (Map.Entry<Long, Booking> entry : bookings.entrySet()) {
+            if (!reservations.containsKey(entry.getKey())) {
+                put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Records a lesson in the timetables of its teacher, students and facility without checking for conflicts,
+     * replacing its previous booking.
+     *
+     * @param lessonId the ID of the lesson
+     * @param booking  the booking of the lesson, or {@code null} to remove it
+     * @return the previous booking of the lesson, or {@code null} if it was not booked
+     */
+    public synchronized Booking put(Long lessonId, Booking booking) {
+        Booking previous = remove(lessonId);
+        if (booking != null && booking.isSchedulable()) {
+            bookings.put(lessonId, booking);
+            if (booking.getTeacherId() != null) {
+                timetable(teacherTimetables, booking.getTeacherId()).insert(booking.getStartTime(), booking.getEndTime(), lessonId);
+            }
+            for (Long studentId : booking.getStudentIds()) {
+                timetable(studentTimetables, studentId).insert(booking.getStartTime(), booking.getEndTime(), lessonId);
+            }
+            if (booking.getFacilityId() != null) {
+                timetable(facilityTimetables, booking.getFacilityId()).insert(booking.getStartTime(), booking.getEndTime(), lessonId);
+            }
+        }
+        return previous;
+    }
+
+    /**
+     * Removes a lesson from the timetables of its teacher, students and facility.
+     *
+     * @param lessonId the ID of the lesson
+     * @return the removed booking, or {@code null} if the lesson was not booked
+     */
+    public synchronized Booking remove(Long lessonId) {
+        Booking booking = bookings.remove(lessonId);
+        if (booking != null) {
+            if (booking.getTeacherId() != null) {
+                untimetable(teacherTimetables, booking.getTeacherId(), booking.getStartTime(), lessonId);
+            }
+            for (Long studentId : booking.getStudentIds()) {
+                untimetable(studentTimetables, studentId, booking.getStartTime(), lessonId);
+            }
+            if (booking.getFacilityId() != null) {
+                untimetable(facilityTimetables, booking.getFacilityId(), booking.getStartTime(), lessonId);
+            }
+        }
+        return booking;
+    }
+
+    /**
+     * Returns the current booking of a lesson.
+     *
+     * @param lessonId the ID of the lesson
+     * @return the booking, or {@code null} if the lesson is not booked
+     */
+    public synchronized Booking getBooking(Long lessonId) {
+        return bookings.get(lessonId);
+    }
+
+    /**
+     * Removes every booking.
+     */
+    public synchronized void clear() {
+        bookings.clear();
+        teacherTimetables.clear();
+        studentTimetables.clear();
+        facilityTimetables.clear();
+    }
+
+    /**
+     * Returns the number of booked lessons.
+     *
+     * @return the number of booked lessons
+     */
+    public synchronized int size() {
+        return bookings.size();
+    }
+
+    /**
+     * Lists every pair of booked lessons that overlap for the same teacher, student or facility.
+     * Each pair is reported once per shared teacher, student or facility, with the lower lesson ID first.
+     *
+     * @return the conflicts, ordered by type, then teacher, student or facility, then lesson
+     */
+    public synchronized List<LessonConflict> findAllConflicts() {
+        List<LessonConflict> conflicts = new ArrayList<>();
+        collectConflicts(LessonConflict.Type.TEACHER, teacherTimetables, conflicts);
+        collectConflicts(LessonConflict.Type.STUDENT, studentTimetables, conflicts);
+        collectConflicts(LessonConflict.Type.FACILITY, facilityTimetables, conflicts);
+        return conflicts;
+    }
+
+    /**
+     * Returns the lessons of the given teachers, students and facilities that overlap {@code [from, to)},
+     * each lesson once, in order of their start.
+     *
+     * @param teacherIds  the IDs of the teachers
+     * @param studentIds  the IDs of the students
+     * @param facilityIds the IDs of the facilities
+     * @param from        the inclusive start of the window
+     * @param to          the exclusive end of the window
+     * @return the busy intervals, each carrying the ID of its lesson
+     */
+    public synchronized List<IntervalTree.Interval<LocalDateTime, Long>> findBusy(Collection<Long> teacherIds,
+                                                                               Collection<Long> studentIds,
+                                                                               Collection<Long> facilityIds,
+                                                                               LocalDateTime from,
+                                                                               LocalDateTime to) {
+        Map<Long, IntervalTree.Interval<LocalDateTime, Long>> busy = new HashMap<>();
+        addBusy(teacherTimetables, teacherIds, from, to, busy);
+        addBusy(studentTimetables, studentIds, from, to, busy);
+        addBusy(facilityTimetables, facilityIds, from, to, busy);
+        List<IntervalTree.Interval<LocalDateTime, Long>> intervals = new ArrayList<>(busy.values());
+        intervals.sort(Comparator.comparing(IntervalTree.Interval::getStart));
+        return intervals;
+    }
+
+    /**
+     * Returns the first of the given facilities with no lesson other than the given one overlapping
+     * {@code [from, to)}.
+     *
+     * @param facilityIds the IDs of the candidate facilities, in order of preference
+     * @param lessonId    the ID of the lesson the facility is wanted for, or {@code null} if it has not been saved yet
+     * @param from        the inclusive start of the window
+     * @param to          the exclusive end of the window
+     * @return the ID of the first free facility, or {@code null} if every one is booked
+     */
+    public synchronized Long findFreeFacility(List<Long> facilityIds, Long lessonId, LocalDateTime from, LocalDateTime to) {
+        for (Long facilityId : facilityIds) {
+            IntervalTree<LocalDateTime, Long> timetable = facilityTimetables.get(facilityId);
+            if (timetable == null) {
+                return facilityId;
+            }
+            List<Long> overlapping = timetable.findOverlapping(from, to);
+            if (overlapping.isEmpty() || overlapping.size() == 1 && overlapping.get(0).equals(lessonId)) {
+                return facilityId;
+            }
+        }
+        return null;
+    }
+
+    private static void addBusy(Map<Long, IntervalTree<LocalDateTime, Long>> timetables, Collection<Long> resourceIds,
+                                LocalDateTime from, LocalDateTime to,
+                                Map<Long, IntervalTree.Interval<LocalDateTime, Long>> busy) {
+        for (Long resourceId : resourceIds) {
+            IntervalTree<LocalDateTime, Long> timetable = timetables.get(resourceId);
+            if (timetable != null) {
+                for (IntervalTree.Interval<LocalDateTime, Long> interval : timetable.findOverlappingIntervals(from, to)) {
+                    busy.put(interval.getValue(), interval);
+                }
+            }
+        }
+    }
+
+    private List<LessonConflict> findConflicts(Long lessonId, Booking booking) {
+        List<LessonConflict> conflicts = new ArrayList<>();
+        if (!booking.isSchedulable()) {
+            return conflicts;
+        }
+        if (booking.getTeacherId() != null) {
+            addConflicts(LessonConflict.Type.TEACHER, booking.getTeacherId(),
+                    teacherTimetables.get(booking.getTeacherId()), lessonId, booking, conflicts);
+        }
+        for (Long studentId : booking.getStudentIds()) {
+            addConflicts(LessonConflict.Type.STUDENT, studentId,
+                    studentTimetables.get(studentId), lessonId, booking, conflicts);
+        }
+        if (booking.getFacilityId() != null) {
+            addConflicts(LessonConflict.Type.FACILITY, booking.getFacilityId(),
+                    facilityTimetables.get(booking.getFacilityId()), lessonId, booking, conflicts);
+        }
+        return conflicts;
+    }
+
+    private static void addConflicts(LessonConflict.Type type, Long resourceId, IntervalTree<LocalDateTime, Long> timetable,
+                                     Long lessonId, Booking booking, List<LessonConflict> conflicts) {
+        if (timetable == null) {
+            return;
+        }
+        for (Long other : timetable.findOverlapping(booking.getStartTime(), booking.getEndTime())) {
+            if (!other.equals(lessonId)) {
+                conflicts.add(new LessonConflict(type, resourceId, lessonId, other));
+            }
+        }
+    }
+
+    private static void collectConflicts(LessonConflict.Type type, Map<Long, IntervalTree<LocalDateTime, Long>> timetables,
+                                         List<LessonConflict> conflicts) {
+        for (Long resourceId : new TreeSet<>(timetables.keySet())) {
+            IntervalTree<LocalDateTime, Long> timetable = timetables.get(resourceId);
+            for (IntervalTree.Interval<LocalDateTime, Long> interval : timetable.intervals()) {
+                for (Long other : timetable.findOverlapping(interval.getStart(), interval.getEnd())) {
+                    if (interval.getValue() < other) {
+                        conflicts.add(new LessonConflict(type, resourceId, interval.getValue(), other));
+                    }
+                }
+            }
+        }
+    }
+
+    private static IntervalTree<LocalDateTime, Long> timetable(Map<Long, IntervalTree<LocalDateTime, Long>> timetables,
+                                                               Long resourceId) {
+        return timetables.computeIfAbsent(resourceId, id -> new IntervalTree<>());
+    }
+
+    private static void untimetable(Map<Long, IntervalTree<LocalDateTime, Long>> timetables, Long resourceId,
+                                    LocalDateTime startTime, Long lessonId) {
+        IntervalTree<LocalDateTime, Long> timetable = timetables.get(resourceId);
+        if (timetable != null) {
+            timetable.remove(startTime, lessonId);
+            if (timetable.isEmpty()) {
+                timetables.remove(resourceId);
+            }
+        }
+    }
+
+    /**
+     * An immutable snapshot of when a lesson takes place, who is booked into it and where.
+     */
+    @Getter
+    public static class Booking {
+
+        private final LocalDateTime startTime;
+
+        private final LocalDateTime endTime;
+
+        private final Long teacherId;
+
+        private final Set<Long> studentIds;
+
+        private final Long facilityId;
+
+        public Booking(LocalDateTime startTime, LocalDateTime endTime, Long teacherId, Set<Long> studentIds, Long facilityId) {
+            this.startTime = startTime;
+            this.endTime = endTime;
+            this.teacherId = teacherId;
+            this.studentIds = Collections.unmodifiableSet(studentIds);
+            this.facilityId = facilityId;
+        }
+
+        /**
+         * Takes a snapshot of a lesson. Teachers, students and facilities without an ID are left out.
+         *
+         * @param lesson the lesson
+         * @return the booking of the lesson
+         */
+        public static Booking of(Lesson lesson) {
+            return of(lesson, null);
+        }
+
+        /**
+         * Takes a snapshot of a lesson, keeping the students of a previous booking if the lesson's
+         * students have not been loaded.
+         *
+         * @param lesson   the lesson
+         * @param previous the previous booking of the lesson, or {@code null}
+         * @return the booking of the lesson
+         */
+        public static Booking of(Lesson lesson, Booking previous) {
+            Long teacherId = lesson.getTeacher() != null ? lesson.getTeacher().getId() : null;
+            Set<Long> studentIds = new TreeSet<>();
+            if (lesson.getStudents() != null && Hibernate.isInitialized(lesson.getStudents())) {
+                for (Student student : lesson.getStudents()) {
+                    if (student != null && student.getId() != null) {
+                        studentIds.add(student.getId());
+                    }
+                }
+            } else if (previous != null) {
+                studentIds.addAll(previous.getStudentIds());
+            }
+            Long facilityId = lesson.getFacility() != null ? lesson.getFacility().getId() : null;
+            return new Booking(lesson.getStartTime(), lesson.getEndTime(), teacherId, studentIds, facilityId);
+        }
+
+        /**
+         * Returns whether the booking occupies any time, i.e. has both bounds and ends after it starts.
+         *
+         * @return {@code true} if the booking occupies time
+         */
+        public boolean isSchedulable() {
+            return startTime != null && endTime != null && startTime.isBefore(endTime);
+        }
+    }
+}
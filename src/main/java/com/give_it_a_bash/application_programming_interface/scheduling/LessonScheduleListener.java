@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.scheduling;
+
+import com.give_it_a_bash.application_programming_interface.entities.Lesson;
+import com.give_it_a_bash.application_programming_interface.entities.OutboxEvent;
+import com.give_it_a_bash.application_programming_interface.events.DomainEventListener;
+import com.give_it_a_bash.application_programming_interface.projections.LessonEnrolment;
+import com.give_it_a_bash.application_programming_interface.projections.LessonStreamRow;
+import com.give_it_a_bash.application_programming_interface.repositories.LessonRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Keeps the {@link LessonSchedule} in step with every write to a Lesson, including writes made directly through
+ * the repository or by the bulk endpoints.
+ * <p>
+ * The listener is fed from the domain event outbox, off the request thread, and reads the current state of the
+ * Lessons a batch is about rather than the state each event was recorded with. Lessons booked through the
+ * {@link com.give_it_a_bash.application_programming_interface.services.LessonService} are already in the schedule
+ * by then; the refresh picks up everything else, such as deletions.
+ * </p>
+ */
+@Component
+public class LessonScheduleListener implements DomainEventListener {
+
+    @Autowired
+    private LessonSchedule lessonSchedule;
+
+    @Autowired
+    private LessonRepository lessonRepository;
+
+    /**
+     * Reads the current bookings of the Lessons the events are about and applies them to the schedule.
+     *
+     * @param events the events, oldest first
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void onEvents(List<OutboxEvent> events) {
+        Set<Long> ids = DomainEventListener.aggregateIds(events, Lesson.class);
+        if (ids.isEmpty()) {
+            return;
+        }
+        Map<Long, Set<Long>> studentIds = new HashMap<>();
+        for (LessonEnrolment enrolment : lessonRepository.findEnrolmentsByLessonIdIn(ids)) {
+            studentIds.computeIfAbsent(enrolment.getLessonId(), id -> new TreeSet<>()).add(enrolment.getStudentId());
+        }
+        Map<Long, LessonSchedule.Booking> bookings = new HashMap<>();
+        for (Long id : ids) {
+            bookings.put(id, null);
+        }
+        for (LessonStreamRow row : lessonRepository.findStreamRowsByIdIn(ids)) {
+            bookings.put(row.getId(), new LessonSchedule.Booking(row.getStartTime(), row.getEndTime(),
+                    row.getTeacherId(), studentIds.getOrDefault(row.getId(), new TreeSet<>()), row.getFacilityId()));
+        }
+        lessonSchedule.refresh(bookings);
+    }
+}
@@ -0,0 +1,22 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.scheduling;
+
+/**
+ * Thrown when a lesson asks for a facility of a type, and no operational facility of that type with room
+ * for its students is free for its time window.
+ */
+public class NoFreeFacilityException extends RuntimeException {
+
+    public NoFreeFacilityException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.scheduling;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * A half-open window of time, {@code [start, end)}.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public class TimeSlot {
+
+    /**
+     * The inclusive start of the slot.
+     */
+    private final LocalDateTime start;
+
+    /**
+     * The exclusive end of the slot.
+     */
+    private final LocalDateTime end;
+
+    public TimeSlot(LocalDateTime start, LocalDateTime end) {
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Returns the length of the slot.
+     *
+     * @return the time between start and end
+     */
+    public Duration getDuration() {
+        return Duration.between(start, end);
+    }
+}
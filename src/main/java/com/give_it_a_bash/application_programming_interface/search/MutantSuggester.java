@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.search;
+
+import com.give_it_a_bash.application_programming_interface.collections.PrefixTrie;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * An in-memory autocomplete index over the aliases, first names and last names of every student and teacher.
+ * <p>
+ * Every word of those names is a key of a {@link PrefixTrie} holding the IDs of the mutants it belongs to,
+ * so suggestions for a prefix are found in time proportional to its length plus the number of suggestions,
+ * however many mutants there are. A query of several words suggests the mutants that have a name starting
+ * with each of them. Every write to a mutant replaces its suggestion through {@link MutantSuggesterListener}.
+ * All methods are synchronized, except that {@link #rebuild(Supplier)} reads the new suggestions without holding
+ * the lock, noting the mutants written meanwhile so that their latest suggestion survives the rebuild.
+ * </p>
+ */
+@Component
+public class MutantSuggester {
+
+    /**
+     * The number of suggestions returned when the client does not ask for a specific number.
+     */
+    public static final int DEFAULT_LIMIT = 10;
+
+    /**
+     * The hard upper bound on the number of suggestions, regardless of what the client requests.
+     */
+    public static final int MAX_LIMIT = 50;
+
+    private final Map<Long, MutantSuggestion> suggestions = new HashMap<>();
+
+    private final PrefixTrie<Long> trie = new PrefixTrie<>();
+
+    private final Object rebuildLock = new Object();
+
+    private Set<Long> writtenDuringRebuild;
+
+    /**
+     * Resolves the number of suggestions to return from the value requested by the client.
+     *
+     * @param limit the requested number of suggestions, or {@code null} for the default
+     * @return a number of suggestions between 1 and {@link #MAX_LIMIT}
+     */
+    public static int resolveLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+
+    /**
+     * Records the suggestion of a mutant, replacing its previous suggestion.
+     *
+     * @param suggestion the suggestion
+     */
+    public synchronized void put(MutantSuggestion suggestion) {
+        remove(suggestion.getId());
+        suggestions.put(suggestion.getId(), suggestion);
+        for (String term : suggestion.terms()) {
+            trie.add(term, suggestion.getId());
+        }
+    }
+
+    /**
+     * Removes the suggestion of a mutant.
+     *
+     * @param mutantId the ID of the mutant
+     * @return the removed suggestion, or {@code null} if there was none
+     */
+    public synchronized MutantSuggestion remove(Long mutantId) {
+        if (writtenDuringRebuild != null) {
+            writtenDuringRebuild.add(mutantId);
+        }
+        MutantSuggestion previous = suggestions.remove(mutantId);
+        if (previous != null) {
+            for (String term : previous.terms()) {
+                trie.remove(term, mutantId);
+            }
+        }
+        return previous;
+    }
+
+    /**
+     * Replaces every suggestion with the suggestions read by the given supplier.
+     * The suggestions are read without holding the lock; the mutants written meanwhile keep the suggestion of
+     * their latest write, as the supplier may have read them before that write committed.
+     *
+     * @param all supplies the suggestion of every mutant to be suggested
+     */
+    public void rebuild(Supplier<? extends Collection<MutantSuggestion>> all) {
+        synchronized (rebuildLock) {
+            synchronized (this) {
+                writtenDuringRebuild = new HashSet<>();
+            }
+            try {
+                Collection<MutantSuggestion> read = all.get();
+                synchronized (this) {
+                    Map<Long, MutantSuggestion> written = new HashMap<>();
+                    for (Long mutantId : writtenDuringRebuild) {
+                        written.put(mutantId, suggestions.get(mutantId));
+                    }
+                    writtenDuringRebuild = null;
+                    clear();
+                    for (MutantSuggestion suggestion : read) {
+                        if (!written.containsKey(suggestion.getId())) {
+                            put(suggestion);
+                        }
+                    }
+                    for (MutantSuggestion suggestion : written.values()) {
+                        if (suggestion != null) {
+                            put(suggestion);
+                        }
+                    }
+                }
+            } finally {
+                synchronized (this) {
+                    writtenDuringRebuild = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes every suggestion.
+     */
+    public synchronized void clear() {
+        suggestions.clear();
+        trie.clear();
+    }
+
+    /**
+     * Returns the number of mutants that can be suggested.
+     *
+     * @return the number of suggestions
+     */
+    public synchronized int size() {
+        return suggestions.size();
+    }
+
+    /**
+     * Suggests the mutants with a name starting with every word of a prefix.
+     *
+     * @param prefix the text typed so far
+     * @param limit  the maximum number of suggestions to return
+     * @return at most {@code limit} suggestions, in the order of the name matching the first word, empty if
+     * the prefix has no words
+     */
+    public synchronized List<MutantSuggestion> suggest(String prefix, int limit) {
+        List<String> words = Tokenizer.tokenize(prefix);
+        if (words.isEmpty() || limit < 1) {
+            return Collections.emptyList();
+        }
+        List<String> otherWords = words.subList(1, words.size());
+        List<Long> candidates = trie.find(words.get(0), otherWords.isEmpty() ? limit : Integer.MAX_VALUE);
+        List<MutantSuggestion> matches = new ArrayList<>(Math.min(limit, candidates.size()));
+        for (Long candidate : candidates) {
+            MutantSuggestion suggestion = suggestions.get(candidate);
+            if (startsEveryWord(suggestion.terms(), otherWords)) {
+                matches.add(suggestion);
+                if (matches.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return matches;
+    }
+
+    private static boolean startsEveryWord(Set<String> terms, List<String> words) {
+        for (String word : words) {
+            boolean found = false;
+            for (String term : terms) {
+                if (term.startsWith(word)) {
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.search;
+
+import com.give_it_a_bash.application_programming_interface.entities.Mutant;
+import com.give_it_a_bash.application_programming_interface.entities.OutboxEvent;
+import com.give_it_a_bash.application_programming_interface.entities.Student;
+import com.give_it_a_bash.application_programming_interface.entities.Teacher;
+import com.give_it_a_bash.application_programming_interface.events.DomainEventListener;
+import com.give_it_a_bash.application_programming_interface.repositories.StudentRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.TeacherRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Keeps the {@link MutantSuggester} in step with every write to a Student or Teacher.
+ * <p>
+ * The listener is fed from the domain event outbox, off the request thread, and suggests the current names of
+ * the mutants a batch is about. Mutants that no longer exist are removed from the suggester.
+ * </p>
+ */
+@Component
+public class MutantSuggesterListener implements DomainEventListener {
+
+    @Autowired
+    private MutantSuggester mutantSuggester;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private TeacherRepository teacherRepository;
+
+    /**
+     * Reads the current names of the mutants the events are about and applies them to the suggester.
+     *
+     * @param events the events, oldest first
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void onEvents(List<OutboxEvent> events) {
+        Set<Long> studentIds = DomainEventListener.aggregateIds(events, Student.class);
+        if (!studentIds.isEmpty()) {
+            refresh(studentIds, studentRepository.findAllById(studentIds));
+        }
+        Set<Long> teacherIds = DomainEventListener.aggregateIds(events, Teacher.class);
+        if (!teacherIds.isEmpty()) {
+            refresh(teacherIds, teacherRepository.findAllById(teacherIds));
+        }
+    }
+
+    private void refresh(Set<Long> ids, List<? extends Mutant> mutants) {
+        for (Mutant mutant : mutants) {
+            ids.remove(mutant.getId());
+            mutantSuggester.put(MutantSuggestion.of(mutant));
+        }
+        for (Long id : ids) {
+            mutantSuggester.remove(id);
+        }
+    }
+}
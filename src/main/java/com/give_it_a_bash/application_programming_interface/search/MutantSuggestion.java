@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.search;
+
+import com.give_it_a_bash.application_programming_interface.entities.Mutant;
+import com.give_it_a_bash.application_programming_interface.entities.Student;
+import lombok.Getter;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * The names of a student or teacher offered while a user types, captured when the mutant is written.
+ */
+@Getter
+public class MutantSuggestion {
+
+    /**
+     * The ID of the mutant.
+     */
+    private final Long id;
+
+    /**
+     * Whether the mutant is a student or a teacher.
+     */
+    private final SearchDocument.Type type;
+
+    private final String firstName;
+
+    private final String lastName;
+
+    private final String alias;
+
+    public MutantSuggestion(Long id, SearchDocument.Type type, String firstName, String lastName, String alias) {
+        this.id = id;
+        this.type = type;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.alias = alias;
+    }
+
+    /**
+     * Captures the names of a mutant.
+     *
+     * @param mutant the mutant
+     * @return the suggestion for the mutant
+     */
+    public static MutantSuggestion of(Mutant mutant) {
+        return new MutantSuggestion(mutant.getId(),
+                mutant instanceof Student ? SearchDocument.Type.STUDENT : SearchDocument.Type.TEACHER,
+                mutant.getFirstName(), mutant.getLastName(), mutant.getAlias());
+    }
+
+    /**
+     * Returns the terms the suggestion is found by: every word of the alias, the first name and the last name.
+     *
+     * @return the distinct terms, as produced by the {@link Tokenizer}
+     */
+    public Set<String> terms() {
+        Set<String> terms = new LinkedHashSet<>(Tokenizer.tokenize(alias));
+        terms.addAll(Tokenizer.tokenize(firstName));
+        terms.addAll(Tokenizer.tokenize(lastName));
+        return terms;
+    }
+}
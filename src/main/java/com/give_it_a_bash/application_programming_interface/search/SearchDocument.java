@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.search;
+
+import com.give_it_a_bash.application_programming_interface.entities.Achievement;
+import com.give_it_a_bash.application_programming_interface.entities.Mutant;
+import com.give_it_a_bash.application_programming_interface.entities.Power;
+import com.give_it_a_bash.application_programming_interface.entities.Student;
+import com.give_it_a_bash.application_programming_interface.entities.Subject;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The searchable text of a mutant, subject or achievement, captured when it is written and reduced to weighted terms.
+ * <p>
+ * A term's weight is the number of times it occurs in each field multiplied by the weight of that field, so a
+ * match on a name or title counts for more than a match in a description.
+ * </p>
+ */
+@Getter
+public class SearchDocument {
+
+    /**
+     * The weight of terms in names, aliases and titles.
+     */
+    static final double NAME_WEIGHT = 3.0;
+
+    /**
+     * The weight of terms in the name of a power.
+     */
+    static final double POWER_NAME_WEIGHT = 2.0;
+
+    /**
+     * The weight of terms in descriptions.
+     */
+    static final double DESCRIPTION_WEIGHT = 1.0;
+
+    /**
+     * The kinds of entity that are searched.
+     */
+    public enum Type {
+        STUDENT,
+        TEACHER,
+        SUBJECT,
+        ACHIEVEMENT
+    }
+
+    private final Key key;
+
+    private final String title;
+
+    private final Map<String, Double> termWeights;
+
+    private SearchDocument(Key key, String title, Map<String, Double> termWeights) {
+        this.key = key;
+        this.title = title;
+        this.termWeights = Collections.unmodifiableMap(termWeights);
+    }
+
+    /**
+     * Captures the searchable text of an entity.
+     *
+     * @param entity a Student, Teacher, Subject or Achievement
+     * @return the document of the entity, or {@code null} if the entity is of another type
+     */
+    public static SearchDocument of(Object entity) {
+        Map<String, Double> termWeights = new HashMap<>();
+        if (entity instanceof Mutant) {
+            Mutant mutant = (Mutant) entity;
+            addTerms(termWeights, mutant.getFirstName(), NAME_WEIGHT);
+            addTerms(termWeights, mutant.getLastName(), NAME_WEIGHT);
+            addTerms(termWeights, mutant.getAlias(), NAME_WEIGHT);
+            Power power = mutant.getPower();
+            if (power != null) {
+                addTerms(termWeights, power.getName(), POWER_NAME_WEIGHT);
+                addTerms(termWeights, power.getDescription(), DESCRIPTION_WEIGHT);
+            }
+            String title = mutant.getFirstName() + " " + mutant.getLastName()
+                    + (mutant.getAlias() != null ? " (" + mutant.getAlias() + ")" : "");
+            Type type = mutant instanceof Student ? Type.STUDENT : Type.TEACHER;
+            return new SearchDocument(new Key(type, mutant.getId()), title, termWeights);
+        }
+        if (entity instanceof Subject) {
+            Subject subject = (Subject) entity;
+            addTerms(termWeights, subject.getName(), NAME_WEIGHT);
+            return new SearchDocument(new Key(Type.SUBJECT, subject.getId()), subject.getName(), termWeights);
+        }
+        if (entity instanceof Achievement) {
+            Achievement achievement = (Achievement) entity;
+            addTerms(termWeights, achievement.getTitle(), NAME_WEIGHT);
+            addTerms(termWeights, achievement.getDescription(), DESCRIPTION_WEIGHT);
+            return new SearchDocument(new Key(Type.ACHIEVEMENT, achievement.getId()), achievement.getTitle(), termWeights);
+        }
+        return null;
+    }
+
+    /**
+     * Returns the key of the document an entity would have, without reading its text.
+     *
+     * @param entity a Student, Teacher, Subject or Achievement
+     * @return the key of the entity's document, or {@code null} if the entity is of another type
+     */
+    public static Key keyOf(Object entity) {
+        if (entity instanceof Mutant) {
+            return new Key(entity instanceof Student ? Type.STUDENT : Type.TEACHER, ((Mutant) entity).getId());
+        }
+        if (entity instanceof Subject) {
+            return new Key(Type.SUBJECT, ((Subject) entity).getId());
+        }
+        if (entity instanceof Achievement) {
+            return new Key(Type.ACHIEVEMENT, ((Achievement) entity).getId());
+        }
+        return null;
+    }
+
+    private static void addTerms(Map<String, Double> termWeights, String text, double weight) {
+        for (String term : Tokenizer.tokenize(text)) {
+            termWeights.merge(term, weight, Double::sum);
+        }
+    }
+
+    /**
+     * Identifies a document by the type and ID of its entity.
+     */
+    @Getter
+    @EqualsAndHashCode
+    public static class Key {
+
+        private final Type type;
+
+        private final Long id;
+
+        public Key(Type type, Long id) {
+            this.type = type;
+            this.id = id;
+        }
+    }
+}
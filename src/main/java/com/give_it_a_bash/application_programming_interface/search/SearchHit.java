@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.search;
+
+import lombok.Getter;
+
+/**
+ * A document matching a search, as returned by the search endpoint.
+ */
+@Getter
+public class SearchHit {
+
+    /**
+     * The type of the matching entity.
+     */
+    private final SearchDocument.Type type;
+
+    /**
+     * The ID of the matching entity.
+     */
+    private final Long id;
+
+    /**
+     * A human readable label for the matching entity.
+     */
+    private final String title;
+
+    /**
+     * The relevance of the match; higher scores are better matches.
+     */
+    private final double score;
+
+    public SearchHit(SearchDocument.Type type, Long id, String title, double score) {
+        this.type = type;
+        this.id = id;
+        this.title = title;
+        this.score = score;
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.search;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+/**
+ * An in-memory inverted index over the names and descriptions of mutants, subjects and achievements.
+ * <p>
+ * Every term maps to the documents containing it and the term's weight in each, and the terms are kept sorted
+ * so that a query term also matches every longer term it is a prefix of. A document matches a query if it
+ * matches every query term; its score is the sum, over the query terms, of the weight of the best matching
+ * term times that term's inverse document frequency, halved for prefix matches. Every write to a searched
+ * entity replaces its document through {@link SearchIndexListener}. All methods are synchronized, except that
+ * {@link #rebuild(Supplier)} builds a new index off to the side while searches keep reading the current one, and
+ * only takes the lock to swap it in with a single assignment, so a search never sees a partly built index.
+ * </p>
+ */
+@Component
+public class SearchIndex {
+
+    /**
+     * The factor applied to the score of a term that only starts with a query term.
+     */
+    static final double PREFIX_MATCH_FACTOR = 0.5;
+
+    private static final Comparator<Map.Entry<SearchDocument.Key, Double>> BY_RELEVANCE =
+            Comparator.<Map.Entry<SearchDocument.Key, Double>>comparingDouble(Map.Entry::getValue).reversed()
+                    .thenComparing(entry -> entry.getKey().getType())
+                    .thenComparing(entry -> entry.getKey().getId());
+
+    private final Object rebuildLock = new Object();
+
+    private volatile Contents contents = new Contents();
+
+    private Set<SearchDocument.Key> writtenDuringRebuild;
+
+    /**
+     * Adds a document, replacing the previous document of the same entity.
+     *
+     * @param document the document
+     */
+    public synchronized void put(SearchDocument document) {
+        contents.put(document);
+        noteWrite(document.getKey());
+    }
+
+    /**
+     * Removes the document of an entity.
+     *
+     * @param key the key of the document
+     * @return the removed document, or {@code null} if there was none
+     */
+    public synchronized SearchDocument remove(SearchDocument.Key key) {
+        noteWrite(key);
+        return contents.remove(key);
+    }
+
+    /**
+     * Replaces every document with the documents read by the given supplier.
+     * The new index is built without holding the lock; the entities written meanwhile keep the document of their
+     * latest write, as the supplier may have read them before that write committed.
+     *
+     * @param documents supplies the documents of every entity to be indexed
+     */
+    public void rebuild(Supplier<? extends Collection<SearchDocument>> documents) {
+        synchronized (rebuildLock) {
+            synchronized (this) {
+                writtenDuringRebuild = new HashSet<>();
+            }
+            try {
+                Contents rebuilt = new Contents();
+                for (SearchDocument document : documents.get()) {
+                    rebuilt.put(document);
+                }
+                synchronized (this) {
+                    for (SearchDocument.Key key : writtenDuringRebuild) {
+                        SearchDocument latest = contents.documents.get(key);
+                        if (latest != null) {
+                            rebuilt.put(latest);
+                        } else {
+                            rebuilt.remove(key);
+                        }
+                    }
+                    contents = rebuilt;
+                }
+            } finally {
+                synchronized (this) {
+                    writtenDuringRebuild = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes every document.
+     */
+    public synchronized void clear() {
+        contents = new Contents();
+    }
+
+    /**
+     * Returns the number of indexed documents.
+     *
+     * @return the number of documents
+     */
+    public synchronized int size() {
+        return contents.documents.size();
+    }
+
+    /**
+     * Finds the documents matching every term of a query, best match first.
+     *
+     * @param query the query text
+     * @param limit the maximum number of hits to return
+     * @return at most {@code limit} hits, in descending order of score, empty if the query has no terms
+     */
+    public synchronized List<SearchHit> search(String query, int limit) {
+        Contents contents = this.contents;
+        Map<SearchDocument.Key, Double> scores = null;
+        for (String term : new LinkedHashSet<>(Tokenizer.tokenize(query))) {
+            Map<SearchDocument.Key, Double> termScores = contents.scoreTerm(term);
+            if (scores == null) {
+                scores = termScores;
+            } else {
+                scores.keySet().retainAll(termScores.keySet());
+                scores.replaceAll((key, score) -> score + termScores.get(key));
+            }
+            if (scores.isEmpty()) {
+                break;
+            }
+        }
+        if (scores == null || scores.isEmpty() || limit < 1) {
+            return Collections.emptyList();
+        }
+
+        PriorityQueue<Map.Entry<SearchDocument.Key, Double>> top = new PriorityQueue<>(limit + 1, BY_RELEVANCE.reversed());
+        for (Map.Entry<SearchDocument.Key, Double> entry : scores.entrySet()) {
+            top.add(entry);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+        List<Map.Entry<SearchDocument.Key, Double>> ranked = new ArrayList<>(top);
+        ranked.sort(BY_RELEVANCE);
+        List<SearchHit> hits = new ArrayList<>(ranked.size());
+        for (Map.Entry<SearchDocument.Key, Double> entry : ranked) {
+            SearchDocument.Key key = entry.getKey();
+            hits.add(new SearchHit(key.getType(), key.getId(), contents.documents.get(key).getTitle(), entry.getValue()));
+        }
+        return hits;
+    }
+
+    private void noteWrite(SearchDocument.Key key) {
+        if (writtenDuringRebuild != null) {
+            writtenDuringRebuild.add(key);
+        }
+    }
+
+    /**
+     * The documents and postings of one generation of the index.
+     */
+    private static final class Contents {
+
+        private final Map<SearchDocument.Key, SearchDocument> documents = new HashMap<>();
+
+        private final TreeMap<String, Map<SearchDocument.Key, Double>> postings = new TreeMap<>();
+
+        private void put(SearchDocument document) {
+            remove(document.getKey());
+            documents.put(document.getKey(), document);
+            for (Map.Entry<String, Double> term : document.getTermWeights().entrySet()) {
+                postings.computeIfAbsent(term.getKey(), key -> new HashMap<>()).put(document.getKey(), term.getValue());
+            }
+        }
+
+        private SearchDocument remove(SearchDocument.Key key) {
+            SearchDocument previous = documents.remove(key);
+            if (previous == null) {
+                return null;
+            }
+            for (String term : previous.getTermWeights().keySet()) {
+                Map<SearchDocument.Key, Double> posting = postings.get(term);
+                posting.remove(key);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+            return previous;
+        }
+
+        private Map<SearchDocument.Key, Double> scoreTerm(String term) {
+            Map<SearchDocument.Key, Double> scores = new HashMap<>();
+            for (Map.Entry<String, Map<SearchDocument.Key, Double>> posting
+                    : postings.subMap(term, true, term + Character.MAX_VALUE, true).entrySet()) {
+                double factor = posting.getKey().equals(term) ? 1.0 : PREFIX_MATCH_FACTOR;
+                double idf = Math.log(1.0 + (double) documents.size() / posting.getValue().size());
+                for (Map.Entry<SearchDocument.Key, Double> match : posting.getValue().entrySet()) {
+                    scores.merge(match.getKey(), factor * idf * match.getValue(), Math::max);
+                }
+            }
+            return scores;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.search;
+
+import com.give_it_a_bash.application_programming_interface.entities.Achievement;
+import com.give_it_a_bash.application_programming_interface.entities.OutboxEvent;
+import com.give_it_a_bash.application_programming_interface.entities.Student;
+import com.give_it_a_bash.application_programming_interface.entities.Subject;
+import com.give_it_a_bash.application_programming_interface.entities.Teacher;
+import com.give_it_a_bash.application_programming_interface.events.DomainEventListener;
+import com.give_it_a_bash.application_programming_interface.repositories.AchievementRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.StudentRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.SubjectRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.TeacherRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Keeps the {@link SearchIndex} in step with every write to a Student, Teacher, Subject or Achievement, including
+ * merge patches and writes made by the bulk endpoints.
+ * <p>
+ * The listener is fed from the domain event outbox, off the request thread, and indexes the current text of the
+ * entities a batch is about. Entities that no longer exist are removed from the index.
+ * </p>
+ */
+@Component
+public class SearchIndexListener implements DomainEventListener {
+
+    @Autowired
+    private SearchIndex searchIndex;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private TeacherRepository teacherRepository;
+
+    @Autowired
+    private SubjectRepository subjectRepository;
+
+    @Autowired
+    private AchievementRepository achievementRepository;
+
+    /**
+     * Reads the current state of the entities the events are about and applies it to the index.
+     *
+     * @param events the events, oldest first
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void onEvents(List<OutboxEvent> events) {
+        Set<Long> studentIds = DomainEventListener.aggregateIds(events, Student.class);
+        if (!studentIds.isEmpty()) {
+            refresh(SearchDocument.Type.STUDENT, studentIds, studentRepository.findAllById(studentIds));
+        }
+        Set<Long> teacherIds = DomainEventListener.aggregateIds(events, Teacher.class);
+        if (!teacherIds.isEmpty()) {
+            refresh(SearchDocument.Type.TEACHER, teacherIds, teacherRepository.findAllById(teacherIds));
+        }
+        Set<Long> subjectIds = DomainEventListener.aggregateIds(events, Subject.class);
+        if (!subjectIds.isEmpty()) {
+            refresh(SearchDocument.Type.SUBJECT, subjectIds, subjectRepository.findAllById(subjectIds));
+        }
+        Set<Long> achievementIds = DomainEventListener.aggregateIds(events, Achievement.class);
+        if (!achievementIds.isEmpty()) {
+            refresh(SearchDocument.Type.ACHIEVEMENT, achievementIds, achievementRepository.findAllById(achievementIds));
+        }
+    }
+
+    private void refresh(SearchDocument.Type type, Set<Long> ids, List<?> entities) {
+        for (Object entity : entities) {
+            SearchDocument document = SearchDocument.of(entity);
+            ids.remove(document.getKey().getId());
+            searchIndex.put(document);
+        }
+        for (Long id : ids) {
+            searchIndex.remove(new SearchDocument.Key(type, id));
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Splits text into the terms stored in and looked up from the {@link SearchIndex}.
+ * <p>
+ * Text is split on every character that is not a letter or a digit, accents are removed and the
+ * terms are lower-cased, so {@code "Jean-Paul Beaubier"} and {@code "jean paul beaubier"} yield the same terms.
+ * </p>
+ */
+public final class Tokenizer {
+
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private Tokenizer() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Splits text into terms.
+     *
+     * @param text the text, may be {@code null}
+     * @return the terms in the order they appear, empty if there are none
+     */
+    public static List<String> tokenize(String text) {
+        if (text == null || text.isEmpty()) {
+            return Collections.emptyList();
+        }
+        String normalized = COMBINING_MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        List<String> terms = new ArrayList<>();
+        for (String term : SEPARATORS.split(normalized.toLowerCase(Locale.ROOT))) {
+            if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+}
@@ -10,10 +10,16 @@
 
 package com.give_it_a_bash.application_programming_interface.services;
 
+import com.give_it_a_bash.application_programming_interface.bulk.BulkItemResult;
+import com.give_it_a_bash.application_programming_interface.bulk.BulkPersistence;
 import com.give_it_a_bash.application_programming_interface.entities.Achievement;
+import com.give_it_a_bash.application_programming_interface.pagination.CursorPage;
 import com.give_it_a_bash.application_programming_interface.repositories.AchievementRepository;
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -28,6 +34,9 @@ public class AchievementService {
     @Autowired
     private AchievementRepository achievementRepository;
 
+    @Autowired
+    private BulkPersistence bulkPersistence;
+
     /**
      * Creates a new Achievement entry.
      *
@@ -38,13 +47,43 @@ public class AchievementService {
         return achievementRepository.save(achievement);
     }
 
+    /**
+     * Creates many Achievement entries at once.
+     * Achievements are saved in batched chunks, and those failing validation are reported without blocking the others.
+     *
+     * @param achievements the Achievements to be created
+     * @return the outcome for each Achievement, in the order they were given
+     * @throws IllegalArgumentException if more than {@link BulkPersistence#MAX_ITEMS} Achievements are given
+     */
+    public List<BulkItemResult> createAchievements(List<Achievement> achievements) {
+        return bulkPersistence.createAll(achievements, achievementRepository, Achievement::getId, Achievement::setId);
+    }
+
     /**
      * Retrieves all Achievement entries.
      *
      * @return a list of all Achievements
      */
+    @Transactional(readOnly = true)
     public List<Achievement> getAllAchievements() {
-        return achievementRepository.findAll();
+        List<Achievement> achievements = achievementRepository.findAll();
+        achievements.forEach(AchievementService::fetchSerializedAssociations);
+        return achievements;
+    }
+
+    /**
+     * Retrieves a page of Achievement entries in ascending ID order.
+     *
+     * @param afterId the ID of the last Achievement on the previous page, or {@code null} for the first page
+     * @param limit the maximum number of Achievement entries to return
+     * @return the page of Achievements
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<Achievement> getAchievementPage(Long afterId, int limit) {
+        List<Achievement> achievements = achievementRepository.findByIdGreaterThanOrderByIdAsc(
+                afterId != null ? afterId : 0L, Limit.of(limit + 1));
+        achievements.forEach(AchievementService::fetchSerializedAssociations);
+        return CursorPage.of(achievements, limit, Achievement::getId);
     }
 
     /**
@@ -84,4 +123,16 @@ public class AchievementService {
     public void deleteAchievement(Long id) {
         achievementRepository.deleteById(id);
     }
+
+    /**
+     * Loads the associations an Achievement is serialized with before the transaction ends, so that they are
+     * batch fetched for every Achievement on the page rather than lazily, one Achievement at a time, during serialization.
+     *
+     * @param achievement the Achievement whose associations are loaded
+     */
+    private static void fetchSerializedAssociations(Achievement achievement) {
+        if (achievement.getStudent() != null) {
+            Hibernate.initialize(achievement.getStudent().getMissionHistory());
+        }
+    }
 }
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.services;
+
+import com.give_it_a_bash.application_programming_interface.analytics.AchievementCount;
+import com.give_it_a_bash.application_programming_interface.analytics.AchievementRollup;
+import com.give_it_a_bash.application_programming_interface.entities.SubjectCategory;
+import com.give_it_a_bash.application_programming_interface.repositories.AchievementRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.StudentRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Service class for the achievement analytics.
+ * <p>
+ * Counts are answered by {@link AchievementRollup}, which every Achievement and Student write updates once it
+ * commits, so a query never reads the achievement rows. The rollups are built from the database once the
+ * application has started and rebuilt every {@code analytics.achievements.reconcile-interval-ms}.
+ * </p>
+ */
+@Service
+public class AnalyticsService {
+
+    @Autowired
+    private AchievementRollup achievementRollup;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private AchievementRepository achievementRepository;
+
+    /**
+     * Retrieves the number of achievements awarded per month, school and category within a date range.
+     *
+     * @param from     the first day of the range
+     * @param to       the last day of the range
+     * @param schoolId the ID of the school to count, or {@code null} to count every school
+     * @param category the category to count, or {@code null} to count every category
+     * @return the non-zero counts, ordered by month, school and category
+     * @throws IllegalArgumentException if the range ends before it starts or overlaps more than
+     *                                  {@link AchievementRollup#MAX_MONTHS} months
+     */
+    public List<AchievementCount> getAchievementCounts(LocalDate from, LocalDate to, Long schoolId,
+                                                       SubjectCategory category) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("The range must not end before it starts");
+        }
+        if (ChronoUnit.MONTHS.between(YearMonth.from(from), YearMonth.from(to)) >= AchievementRollup.MAX_MONTHS) {
+            throw new IllegalArgumentException("The range must overlap at most " + AchievementRollup.MAX_MONTHS
+                    + " months");
+        }
+        return achievementRollup.count(from, to, schoolId, category);
+    }
+
+    /**
+     * Rebuilds the achievement rollups from the database.
+     * Only the school of every Student and the counted columns of every Achievement are selected. The Students and
+     * Achievements written while they are read keep the values of their latest write.
+     */
+    @Transactional(readOnly = true)
+    public void rebuildRollups() {
+        achievementRollup.rebuild(studentRepository::findAllFacets, achievementRepository::findAllAwards);
+    }
+
+    /**
+     * Builds the achievement rollups once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadRollups() {
+        rebuildRollups();
+    }
+
+    /**
+     * Periodically rebuilds the achievement rollups, correcting any write missed while they were rebuilt.
+     */
+    @Scheduled(initialDelayString = "${analytics.achievements.reconcile-interval-ms:3600000}",
+            fixedDelayString = "${analytics.achievements.reconcile-interval-ms:3600000}")
+    @Transactional(readOnly = true)
+    public void scheduledRebuildRollups() {
+        rebuildRollups();
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.services;
+
+import com.give_it_a_bash.application_programming_interface.scheduling.FreeSlots;
+import com.give_it_a_bash.application_programming_interface.scheduling.LessonSchedule;
+import com.give_it_a_bash.application_programming_interface.scheduling.TimeSlot;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Service class for finding when teachers, students and facilities are all free.
+ * Busy time is read from the {@link LessonSchedule} rather than from the database.
+ */
+@Service
+public class AvailabilityService {
+
+    /**
+     * The longest window that can be searched in one request.
+     */
+    public static final Duration MAX_WINDOW = Duration.ofDays(366);
+
+    /**
+     * The longest minimum slot length that can be searched for, one day.
+     */
+    public static final Duration MAX_DURATION = Duration.ofDays(1);
+
+    @Autowired
+    private LessonSchedule lessonSchedule;
+
+    /**
+     * Finds the windows within {@code [from, to)} in which none of the given teachers, students and facilities
+     * has a lesson.
+     *
+     * @param teacherIds      the IDs of the Teachers who must be free
+     * @param studentIds      the IDs of the Students who must be free
+     * @param facilityIds     the IDs of the Facilities which must be free
+     * @param from            the inclusive start of the search window
+     * @param to              the exclusive end of the search window
+     * @param minimumDuration the minimum length of a returned slot
+     * @return the free slots, in chronological order
+     * @throws IllegalArgumentException if the window is empty or longer than {@link #MAX_WINDOW},
+     *                                  or the minimum duration is not positive or longer than {@link #MAX_DURATION}
+     */
+    public List<TimeSlot> findFreeSlots(Collection<Long> teacherIds,
+                                        Collection<Long> studentIds,
+                                        Collection<Long> facilityIds,
+                                        LocalDateTime from,
+                                        LocalDateTime to,
+                                        Duration minimumDuration) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("The search window must end after it starts");
+        }
+        if (Duration.between(from, to).compareTo(MAX_WINDOW) > 0) {
+            throw new IllegalArgumentException("The search window must not be longer than " + MAX_WINDOW.toDays() + " days");
+        }
+        if (minimumDuration.isNegative() || minimumDuration.isZero()) {
+            throw new IllegalArgumentException("The duration must be positive");
+        }
+        if (minimumDuration.compareTo(MAX_DURATION) > 0) {
+            throw new IllegalArgumentException("The duration must not be longer than " + MAX_DURATION.toMinutes() + " minutes");
+        }
+        return FreeSlots.find(lessonSchedule.findBusy(teacherIds, studentIds, facilityIds, from, to), from, to, minimumDuration);
+    }
+}
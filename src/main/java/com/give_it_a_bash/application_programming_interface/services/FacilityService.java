@@ -11,8 +11,10 @@
 package com.give_it_a_bash.application_programming_interface.services;
 
 import com.give_it_a_bash.application_programming_interface.entities.Facility;
+import com.give_it_a_bash.application_programming_interface.pagination.CursorPage;
 import com.give_it_a_bash.application_programming_interface.repositories.FacilityRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -47,6 +49,19 @@ public class FacilityService {
         return facilityRepository.findAll();
     }
 
+    /**
+     * Retrieves a page of Facility entries in ascending ID order.
+     *
+     * @param afterId the ID of the last Facility on the previous page, or {@code null} for the first page
+     * @param limit the maximum number of Facility entries to return
+     * @return the page of Facilities
+     */
+    public CursorPage<Facility> getFacilityPage(Long afterId, int limit) {
+        List<Facility> facilities = facilityRepository.findByIdGreaterThanOrderByIdAsc(
+                afterId != null ? afterId : 0L, Limit.of(limit + 1));
+        return CursorPage.of(facilities, limit, Facility::getId);
+    }
+
     /**
      * Retrieves Facility by its ID.
      *
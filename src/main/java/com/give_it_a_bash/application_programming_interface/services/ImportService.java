@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.services;
+
+import com.give_it_a_bash.application_programming_interface.bulk.BulkImporter;
+import com.give_it_a_bash.application_programming_interface.bulk.ImportFormat;
+import com.give_it_a_bash.application_programming_interface.bulk.ImportReport;
+import com.give_it_a_bash.application_programming_interface.entities.Lesson;
+import com.give_it_a_bash.application_programming_interface.entities.Student;
+import com.give_it_a_bash.application_programming_interface.entities.Teacher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Service class for importing Students, Teachers and Lessons from uploaded files.
+ * Rows are created through the same bulk methods as the batch endpoints, so they are validated and checked
+ * exactly as a batch would be.
+ */
+@Service
+public class ImportService {
+
+    @Autowired
+    private BulkImporter bulkImporter;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private TeacherService teacherService;
+
+    @Autowired
+    private LessonService lessonService;
+
+    /**
+     * Imports the rows of an upload.
+     *
+     * @param entity the kind of entity imported: {@code students}, {@code teachers} or {@code lessons}
+     * @param format the format of the upload
+     * @param body   the uploaded body
+     * @return the report of the import
+     * @throws IOException              if the body could not be read
+     * @throws IllegalArgumentException if the header of a CSV upload is invalid
+     * @throws RuntimeException         if the entity cannot be imported
+     */
+    public ImportReport importEntities(String entity, ImportFormat format, InputStream body) throws IOException {
+        switch (entity) {
+            case "students":
+                return bulkImporter.importAll(body, format, Student.class, studentService::createStudents);
+            case "teachers":
+                return bulkImporter.importAll(body, format, Teacher.class, teacherService::createTeachers);
+            case "lessons":
+                return bulkImporter.importAll(body, format, Lesson.class, lessonService::createLessons);
+            default:
+                throw new RuntimeException("Importable entity not found with name " + entity);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.services;
+
+import com.give_it_a_bash.application_programming_interface.entities.Mutant;
+import com.give_it_a_bash.application_programming_interface.leaderboard.LeaderboardEntry;
+import com.give_it_a_bash.application_programming_interface.leaderboard.PowerLeaderboard;
+import com.give_it_a_bash.application_programming_interface.leaderboard.Standing;
+import com.give_it_a_bash.application_programming_interface.repositories.StudentRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.TeacherRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Service class for ranking students and teachers by the level of their power.
+ * Rankings are read from the {@link PowerLeaderboard} rather than from the database.
+ */
+@Service
+public class LeaderboardService {
+
+    @Autowired
+    private PowerLeaderboard powerLeaderboard;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private TeacherRepository teacherRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Retrieves the most powerful mutants, ordered by power level and then by control level.
+     *
+     * @param schoolId the ID of the school to rank within, or {@code null} to rank across all schools
+     * @param limit the maximum number of mutants to return
+     * @return the leaderboard entries, starting with rank 1
+     */
+    public List<LeaderboardEntry> getTopMutants(Long schoolId, int limit) {
+        return powerLeaderboard.top(schoolId, limit);
+    }
+
+    /**
+     * Retrieves the rank of a mutant.
+     *
+     * @param mutantId the ID of the mutant
+     * @param schoolId the ID of the school to rank within, or {@code null} to rank across all schools
+     * @return the leaderboard entry of the mutant
+     * @throws RuntimeException if the mutant is not ranked, or not ranked within the given school
+     */
+    public LeaderboardEntry getRank(Long mutantId, Long schoolId) {
+        LeaderboardEntry entry = powerLeaderboard.rankOf(mutantId, schoolId);
+        if (entry == null) {
+            throw new RuntimeException("Ranked mutant not found with id " + mutantId);
+        }
+        return entry;
+    }
+
+    /**
+     * Rebuilds the leaderboard from the database once the application has started.
+     * From then on every Student and Teacher write keeps it up to date, including those made while it is read.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadLeaderboard() {
+        powerLeaderboard.rebuild(() -> {
+            List<Standing> standings = new ArrayList<>();
+            try (Stream<? extends Mutant> students = studentRepository.streamAllByOrderByIdAsc()) {
+                students.forEach(student -> rank(student, standings));
+            }
+            try (Stream<? extends Mutant> teachers = teacherRepository.streamAllByOrderByIdAsc()) {
+                teachers.forEach(teacher -> rank(teacher, standings));
+            }
+            return standings;
+        });
+    }
+
+    private void rank(Mutant mutant, List<Standing> standings) {
+        Standing standing = Standing.of(mutant);
+        if (standing != null) {
+            standings.add(standing);
+        }
+        entityManager.detach(mutant);
+    }
+}
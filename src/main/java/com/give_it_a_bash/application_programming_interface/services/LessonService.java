@@ -10,13 +10,39 @@
 
 package com.give_it_a_bash.application_programming_interface.services;
 
+import com.give_it_a_bash.application_programming_interface.bulk.BulkItemResult;
+import com.give_it_a_bash.application_programming_interface.bulk.BulkPersistence;
+import com.give_it_a_bash.application_programming_interface.entities.Facility;
+import com.give_it_a_bash.application_programming_interface.entities.FacilityType;
 import com.give_it_a_bash.application_programming_interface.entities.Lesson;
+import com.give_it_a_bash.application_programming_interface.entities.Student;
+import com.give_it_a_bash.application_programming_interface.entities.Teacher;
+import com.give_it_a_bash.application_programming_interface.pagination.CursorPage;
+import com.give_it_a_bash.application_programming_interface.projections.LessonSummary;
+import com.give_it_a_bash.application_programming_interface.repositories.FacilityRepository;
 import com.give_it_a_bash.application_programming_interface.repositories.LessonRepository;
+import com.give_it_a_bash.application_programming_interface.scheduling.LessonConflict;
+import com.give_it_a_bash.application_programming_interface.scheduling.LessonConflictException;
+import com.give_it_a_bash.application_programming_interface.scheduling.LessonSchedule;
+import com.give_it_a_bash.application_programming_interface.scheduling.NoFreeFacilityException;
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Service class for managing lessons taught by teachers on specific subjects.
@@ -28,14 +54,111 @@ public class LessonService {
     @Autowired
     private LessonRepository lessonRepository;
 
+    @Autowired
+    private BulkPersistence bulkPersistence;
+
+    @Autowired
+    private LessonSchedule lessonSchedule;
+
+    @Autowired
+    private FacilityRepository facilityRepository;
+
     /**
      * Creates a new Lesson entry.
      *
      * @param lesson the Lesson to be created
      * @return the created Lesson
+     * @throws LessonConflictException if the Lesson overlaps another Lesson of its Teacher, one of its Students
+     *                                 or its Facility
+     * @throws IllegalArgumentException if its Facility is not operational or too small for its Students
+     * @throws RuntimeException if its Facility does not exist
      */
+    @Transactional
     public Lesson createLesson(Lesson lesson) {
-        return lessonRepository.save(lesson);
+        return createLesson(lesson, null);
+    }
+
+    /**
+     * Creates a new Lesson entry, reserving the best-fit free Facility of the given type if the Lesson does not
+     * name a Facility itself.
+     *
+     * @param lesson the Lesson to be created
+     * @param facilityType the type of Facility to reserve, or {@code null} to keep the Facility the Lesson names
+     * @return the created Lesson
+     * @throws LessonConflictException if the Lesson overlaps another Lesson of its Teacher, one of its Students
+     *                                 or its Facility
+     * @throws NoFreeFacilityException if no Facility of the given type is free for the Lesson
+     * @throws IllegalArgumentException if its Facility is not operational or too small for its Students
+     * @throws RuntimeException if its Facility does not exist
+     */
+    @Transactional
+    public Lesson createLesson(Lesson lesson, FacilityType facilityType) {
+        reserveFacility(null, lesson, facilityType);
+        Lesson createdLesson = lessonRepository.save(lesson);
+        book(createdLesson);
+        return createdLesson;
+    }
+
+    /**
+     * Creates many Lesson entries at once.
+     * Lessons are saved in batched chunks, and those failing validation are reported without blocking the others.
+     * Each saved Lesson is booked into the schedule within its chunk's transaction, as {@link #createLesson}
+     * does, so that a concurrent write cannot claim the same slot between the check and the commit; a Lesson
+     * that can no longer be booked then fails, and the bookings of a chunk that rolls back are released.
+     *
+     * @param lessons the Lessons to be created
+     * @return the outcome for each Lesson, in the order they were given
+     * Lessons that overlap a booked Lesson, or an earlier Lesson of the same request, of their Teacher, one of
+     * their Students or their Facility are reported as invalid, as are Lessons whose Facility does not exist,
+     * is not operational or is too small for their Students.
+     * @throws IllegalArgumentException if more than {@link BulkPersistence#MAX_ITEMS} Lessons are given
+     */
+    public List<BulkItemResult> createLessons(List<Lesson> lessons) {
+        Map<Long, Facility> facilities = loadFacilities(lessons);
+        LessonSchedule requested = new LessonSchedule();
+        return bulkPersistence.createAll(lessons, lessonRepository, Lesson::getId, Lesson::setId, lesson -> {
+            Long facilityId = facilityIdOf(lesson);
+            if (facilityId != null) {
+                Facility facility = facilities.get(facilityId);
+                if (facility == null) {
+                    return Collections.singletonList("Facility not found with id " + facilityId);
+                }
+                List<String> facilityErrors = checkFacility(facility, lesson);
+                if (!facilityErrors.isEmpty()) {
+                    return facilityErrors;
+                }
+                lesson.setFacility(facility);
+            } else {
+                lesson.setFacility(null);
+            }
+            List<String> errors = new ArrayList<>();
+            for (LessonConflict conflict : lessonSchedule.findConflicts(null, lesson)) {
+                errors.add(conflict.toString());
+            }
+            for (LessonConflict conflict : requested.findConflicts(null, lesson)) {
+                errors.add("Lesson overlaps an earlier lesson of this request for "
+                        + conflict.getType().name().toLowerCase() + " " + conflict.getResourceId());
+            }
+            if (errors.isEmpty()) {
+                requested.put((long) requested.size(), LessonSchedule.Booking.of(lesson));
+            }
+            return errors;
+        }, this::book);
+    }
+
+    /**
+     * Creates Lesson entries all or nothing, in a single transaction whose inserts are sent in JDBC batches.
+     *
+     * @param lessons the Lessons to be created
+     * @return the created Lessons
+     * @throws LessonConflictException if a Lesson overlaps a booked Lesson, or another of the given Lessons,
+     *                                 of its Teacher or one of its Students; no Lesson is created
+     */
+    @Transactional
+    public List<Lesson> createLessonsAtomically(List<Lesson> lessons) {
+        List<Lesson> createdLessons = lessonRepository.saveAll(lessons);
+        createdLessons.forEach(this::book);
+        return createdLessons;
     }
 
     /**
@@ -43,8 +166,41 @@ public class LessonService {
      *
      * @return a list of all Lessons
      */
+    @Transactional(readOnly = true)
     public List<Lesson> getAllLessons() {
-        return lessonRepository.findAll();
+        List<Lesson> lessons = lessonRepository.findAll();
+        lessons.forEach(LessonService::fetchSerializedAssociations);
+        return lessons;
+    }
+
+    /**
+     * Retrieves a page of Lesson entries in ascending ID order.
+     *
+     * @param afterId the ID of the last Lesson on the previous page, or {@code null} for the first page
+     * @param limit the maximum number of Lesson entries to return
+     * @return the page of Lessons
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<Lesson> getLessonPage(Long afterId, int limit) {
+        List<Lesson> lessons = lessonRepository.findByIdGreaterThanOrderByIdAsc(
+                afterId != null ? afterId : 0L, Limit.of(limit + 1));
+        lessons.forEach(LessonService::fetchSerializedAssociations);
+        return CursorPage.of(lessons, limit, Lesson::getId);
+    }
+
+    /**
+     * Retrieves a page of Lesson summaries in ascending ID order.
+     * The summaries are read as projections in a single query, without loading any Lesson entity.
+     *
+     * @param afterId the ID of the last Lesson on the previous page, or {@code null} for the first page
+     * @param limit the maximum number of Lesson summaries to return
+     * @return the page of Lesson summaries
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<LessonSummary> getLessonSummaryPage(Long afterId, int limit) {
+        List<LessonSummary> summaries = lessonRepository.findSummariesByIdGreaterThan(
+                afterId != null ? afterId : 0L, Limit.of(limit + 1));
+        return CursorPage.of(summaries, limit, LessonSummary::getId);
     }
 
     /**
@@ -63,18 +219,68 @@ public class LessonService {
      * @param id the ID of the Lesson to be updated
      * @param lessonDetails the new details for the Lesson
      * @return the updated Lesson
+     * @throws LessonConflictException if the Lesson would overlap another Lesson of its Teacher, one of its Students
+     *                                 or its Facility
+     * @throws IllegalArgumentException if its Facility is not operational or too small for its Students
+     * @throws RuntimeException if the Lesson or its Facility does not exist
      */
+    @Transactional
     public Lesson updateLesson(Long id, Lesson lessonDetails) {
+        return updateLesson(id, lessonDetails, null);
+    }
+
+    /**
+     * Updates an existing Lesson entry, reserving the best-fit free Facility of the given type if the new details
+     * do not name a Facility themselves.
+     *
+     * @param id the ID of the Lesson to be updated
+     * @param lessonDetails the new details for the Lesson
+     * @param facilityType the type of Facility to reserve, or {@code null} to keep the Facility the details name
+     * @return the updated Lesson
+     * @throws LessonConflictException if the Lesson would overlap another Lesson of its Teacher, one of its Students
+     *                                 or its Facility
+     * @throws NoFreeFacilityException if no Facility of the given type is free for the Lesson
+     * @throws IllegalArgumentException if its Facility is not operational or too small for its Students
+     * @throws RuntimeException if the Lesson or its Facility does not exist
+     */
+    @Transactional
+    public Lesson updateLesson(Long id, Lesson lessonDetails, FacilityType facilityType) {
         return lessonRepository.findById(id).map(lesson -> {
             lesson.setSubject(lessonDetails.getSubject());
             lesson.setTeacher(lessonDetails.getTeacher());
             lesson.setStartTime(lessonDetails.getStartTime());
             lesson.setEndTime(lessonDetails.getEndTime());
             lesson.setStudents(lessonDetails.getStudents());
+            lesson.setFacility(lessonDetails.getFacility());
+            reserveFacility(id, lesson, facilityType);
+            book(lesson);
             return lessonRepository.save(lesson);
         }).orElseThrow(() -> new RuntimeException("Lesson not found with id " + id));
     }
 
+    /**
+     * Lists every pair of existing Lessons that overlap for the same Teacher, Student or Facility.
+     *
+     * @return the overlapping Lessons
+     */
+    public List<LessonConflict> getLessonConflicts() {
+        return lessonSchedule.findAllConflicts();
+    }
+
+    /**
+     * Rebuilds the lesson schedule from the database once the application has started.
+     * From then on the outbox keeps it up to date.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadLessonSchedule() {
+        lessonSchedule.clear();
+        for (Lesson lesson : lessonRepository.findAll()) {
+            Hibernate.initialize(lesson.getStudents());
+            lessonSchedule.put(lesson.getId(), LessonSchedule.Booking.of(lesson));
+        }
+    }
+
     /**
      * Deletes a Lesson entry by its ID.
      *
@@ -83,4 +289,132 @@ public class LessonService {
     public void deleteLesson(Long id) {
         lessonRepository.deleteById(id);
     }
+
+    /**
+     * Books a Lesson into the schedule as part of the current transaction, so that a concurrent write cannot
+     * claim the same slot. The previous booking is restored if the transaction rolls back.
+     *
+     * @param lesson the Lesson to be booked
+     * @throws LessonConflictException if the Lesson overlaps another Lesson of its Teacher, one of its Students
+     *                                 or its Facility
+     */
+    private void book(Lesson lesson) {
+        Long lessonId = lesson.getId();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            lessonSchedule.book(lessonId, lesson);
+            return;
+        }
+        LessonSchedule.Booking previous = lessonSchedule.reserve(lessonId, lesson);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                lessonSchedule.release(lessonId, previous, status == STATUS_COMMITTED);
+            }
+        });
+    }
+
+    /**
+     * Resolves the Facility a Lesson names and checks that it can hold the Lesson, or, if it names none and a type
+     * is given, reserves the smallest operational Facility of that type that holds its Students and is free for
+     * its time window. Free Facilities are found in the {@link LessonSchedule} rather than by scanning Lessons.
+     *
+     * @param lessonId the ID of the Lesson, or {@code null} if it has not been saved yet
+     * @param lesson the Lesson
+     * @param facilityType the type of Facility to reserve, or {@code null}
+     */
+    private void reserveFacility(Long lessonId, Lesson lesson, FacilityType facilityType) {
+        Long facilityId = facilityIdOf(lesson);
+        if (facilityId != null) {
+            Facility facility = facilityRepository.findById(facilityId)
+                    .orElseThrow(() -> new RuntimeException("Facility not found with id " + facilityId));
+            List<String> errors = checkFacility(facility, lesson);
+            if (!errors.isEmpty()) {
+                throw new IllegalArgumentException(String.join("; ", errors));
+            }
+            lesson.setFacility(facility);
+        } else if (facilityType != null) {
+            int students = lesson.getStudents() != null ? lesson.getStudents().size() : 0;
+            Long freeFacilityId = lessonSchedule.findFreeFacility(facilityRepository.findBestFitIds(facilityType, students),
+                    lessonId, lesson.getStartTime(), lesson.getEndTime());
+            if (freeFacilityId == null) {
+                throw new NoFreeFacilityException("No " + facilityType + " facility with room for " + students
+                        + " students is free at that time");
+            }
+            lesson.setFacility(facilityRepository.getReferenceById(freeFacilityId));
+        } else {
+            lesson.setFacility(null);
+        }
+    }
+
+    /**
+     * Checks that a Facility is operational and holds every Student of a Lesson.
+     *
+     * @param facility the Facility
+     * @param lesson the Lesson to be held in it
+     * @return the reasons the Facility cannot hold the Lesson, empty if it can
+     */
+    private static List<String> checkFacility(Facility facility, Lesson lesson) {
+        List<String> errors = new ArrayList<>();
+        if (!facility.isOperational()) {
+            errors.add("Facility " + facility.getId() + " is not operational");
+        }
+        int students = lesson.getStudents() != null ? lesson.getStudents().size() : 0;
+        if (facility.getCapacity() < students) {
+            errors.add("Facility " + facility.getId() + " holds " + facility.getCapacity()
+                    + " students but the lesson has " + students);
+        }
+        return errors;
+    }
+
+    /**
+     * Loads every Facility named by the given Lessons in a single query.
+     */
+    private Map<Long, Facility> loadFacilities(List<Lesson> lessons) {
+        Set<Long> facilityIds = new HashSet<>();
+        for (Lesson lesson : lessons) {
+            Long facilityId = lesson != null ? facilityIdOf(lesson) : null;
+            if (facilityId != null) {
+                facilityIds.add(facilityId);
+            }
+        }
+        Map<Long, Facility> facilities = new HashMap<>();
+        if (!facilityIds.isEmpty()) {
+            for (Facility facility : facilityRepository.findAllById(facilityIds)) {
+                facilities.put(facility.getId(), facility);
+            }
+        }
+        return facilities;
+    }
+
+    private static Long facilityIdOf(Lesson lesson) {
+        return lesson.getFacility() != null ? lesson.getFacility().getId() : null;
+    }
+
+    /**
+     * Loads the associations a Lesson is serialized with while the transaction is still open.
+     * Hibernate forgets which lazy associations it could batch once the transaction ends, so loading them
+     * here fetches each association for the whole page at once instead of once per Lesson.
+     *
+     * @param lesson the Lesson whose associations are loaded
+     */
+    private static void fetchSerializedAssociations(Lesson lesson) {
+        Hibernate.initialize(lesson.getStudents());
+        if (lesson.getStudents() != null) {
+            for (Student student : lesson.getStudents()) {
+                Hibernate.initialize(student.getSchoolData());
+                Hibernate.initialize(student.getMissionHistory());
+            }
+        }
+        if (lesson.getFacility() != null) {
+            Hibernate.initialize(lesson.getFacility().getSchoolData());
+        }
+        Teacher teacher = lesson.getTeacher();
+        if (teacher != null) {
+            Hibernate.initialize(teacher.getMissionHistory());
+            Hibernate.initialize(teacher.getSubjects());
+            if (teacher.getSubjects() != null) {
+                teacher.getSubjects().forEach(subject -> Hibernate.initialize(subject.getSchoolData()));
+            }
+        }
+    }
 }
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.services;
+
+import com.give_it_a_bash.application_programming_interface.entities.Lesson;
+import com.give_it_a_bash.application_programming_interface.entities.OutboxEvent;
+import com.give_it_a_bash.application_programming_interface.events.DomainEventListener;
+import com.give_it_a_bash.application_programming_interface.projections.LessonEnrolment;
+import com.give_it_a_bash.application_programming_interface.projections.LessonStreamRow;
+import com.give_it_a_bash.application_programming_interface.repositories.LessonRepository;
+import com.give_it_a_bash.application_programming_interface.streaming.LessonSnapshot;
+import com.give_it_a_bash.application_programming_interface.streaming.LessonStream;
+import com.give_it_a_bash.application_programming_interface.streaming.LessonStreamFilter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Service class for the lesson stream.
+ * <p>
+ * The stream is fed from the domain event outbox: every batch of Lesson events is turned into the current state
+ * of the Lessons involved, read in two queries, and handed to {@link LessonStream}, which works out the deltas and
+ * pushes them to the subscribers. Writes therefore pay nothing for the subscribers, and several events for the same
+ * Lesson within a batch reach the subscribers as one change.
+ * </p>
+ */
+@Service
+public class LessonStreamService implements DomainEventListener {
+
+    @Autowired
+    private LessonStream lessonStream;
+
+    @Autowired
+    private LessonRepository lessonRepository;
+
+    /**
+     * Subscribes to the changes of the Lessons matching every given criterion.
+     *
+     * @param teacherId the ID of the Teacher of the Lessons, or {@code null} for any Teacher
+     * @param studentId the ID of a Student enrolled in the Lessons, or {@code null} for any Students
+     * @param schoolId  the ID of the school of the Lessons' Subject, or {@code null} for any school
+     * @return the emitter the changes are sent through
+     * @throws IllegalStateException if the stream has reached its limit of subscribers
+     */
+    public SseEmitter subscribe(Long teacherId, Long studentId, Long schoolId) {
+        return lessonStream.subscribe(new LessonStreamFilter(teacherId, studentId, schoolId));
+    }
+
+    /**
+     * Reads the current state of the Lessons the events are about and applies it to the stream.
+     *
+     * @param events the events, oldest first
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void onEvents(List<OutboxEvent> events) {
+        Set<Long> ids = DomainEventListener.aggregateIds(events, Lesson.class);
+        if (ids.isEmpty()) {
+            return;
+        }
+        Map<Long, LessonSnapshot> states = new LinkedHashMap<>();
+        for (Long id : ids) {
+            states.put(id, null);
+        }
+        for (LessonSnapshot snapshot : snapshots(lessonRepository.findStreamRowsByIdIn(ids),
+                lessonRepository.findEnrolmentsByLessonIdIn(ids))) {
+            states.put(snapshot.getId(), snapshot);
+        }
+        lessonStream.apply(states);
+    }
+
+    /**
+     * Loads the state of every Lesson into the stream once the application has started.
+     * From then on the outbox keeps it up to date.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadLessonStream() {
+        lessonStream.load(snapshots(lessonRepository.findAllStreamRows(), lessonRepository.findAllEnrolments()));
+    }
+
+    private static List<LessonSnapshot> snapshots(List<LessonStreamRow> rows, List<LessonEnrolment> enrolments) {
+        Map<Long, List<Long>> studentIds = new HashMap<>();
+        for (LessonEnrolment enrolment : enrolments) {
+            studentIds.computeIfAbsent(enrolment.getLessonId(), id -> new ArrayList<>()).add(enrolment.getStudentId());
+        }
+        List<LessonSnapshot> snapshots = new ArrayList<>(rows.size());
+        for (LessonStreamRow row : rows) {
+            snapshots.add(LessonSnapshot.of(row,
+                    studentIds.getOrDefault(row.getId(), Collections.<Long>emptyList())));
+        }
+        return snapshots;
+    }
+}
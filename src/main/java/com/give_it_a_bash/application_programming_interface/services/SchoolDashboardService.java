@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.services;
+
+import com.give_it_a_bash.application_programming_interface.dashboard.SchoolDashboard;
+import com.give_it_a_bash.application_programming_interface.entities.SchoolData;
+import com.give_it_a_bash.application_programming_interface.projections.DashboardAchievement;
+import com.give_it_a_bash.application_programming_interface.projections.DashboardLesson;
+import com.give_it_a_bash.application_programming_interface.projections.FacilityStatus;
+import com.give_it_a_bash.application_programming_interface.repositories.AchievementRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.FacilityRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.LessonRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.SchoolDataRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.StudentRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.SubjectRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.TeacherRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Service class for the school dashboard.
+ * <p>
+ * The dashboard is made of independent parts, each read by a single query in its own read-only transaction.
+ * The queries are run at the same time on a shared pool of threads, so reading the dashboard takes about as long
+ * as its slowest query rather than as long as all of them together.
+ * </p>
+ */
+@Service
+public class SchoolDashboardService {
+
+    /**
+     * The number of recently awarded Achievements shown on the dashboard.
+     */
+    public static final int RECENT_ACHIEVEMENTS = 10;
+
+    @Autowired
+    private SchoolDataRepository schoolDataRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private TeacherRepository teacherRepository;
+
+    @Autowired
+    private SubjectRepository subjectRepository;
+
+    @Autowired
+    private FacilityRepository facilityRepository;
+
+    @Autowired
+    private LessonRepository lessonRepository;
+
+    @Autowired
+    private AchievementRepository achievementRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ExecutorService executor;
+
+    @Autowired
+    public SchoolDashboardService(@Value("${schools.dashboard.query-threads:8}") int threads) {
+        this.executor = Executors.newFixedThreadPool(threads, new CustomizableThreadFactory("school-dashboard-"));
+    }
+
+    /**
+     * Reads the dashboard of a school as it is now.
+     *
+     * @param id the ID of the school
+     * @return the dashboard of the school
+     * @throws RuntimeException if the school does not exist
+     */
+    public SchoolDashboard getDashboard(Long id) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate today = now.toLocalDate();
+
+        CompletableFuture<Optional<SchoolData>> school = query(() -> schoolDataRepository.findById(id));
+        CompletableFuture<Long> studentCount = query(() -> studentRepository.countBySchoolDataId(id));
+        CompletableFuture<Long> teacherCount = query(() -> teacherRepository.countBySchoolDataId(id));
+        CompletableFuture<Long> subjectCount = query(() -> subjectRepository.countBySchoolDataId(id));
+        CompletableFuture<List<DashboardLesson>> todaysLessons = query(() -> lessonRepository.findDashboardLessons(
+                id, today.atStartOfDay(), today.plusDays(1).atStartOfDay()));
+        CompletableFuture<List<DashboardAchievement>> recentAchievements = query(() ->
+                achievementRepository.findRecentDashboardAchievements(id, Limit.of(RECENT_ACHIEVEMENTS)));
+        CompletableFuture<List<FacilityStatus>> facilities = query(() ->
+                facilityRepository.findStatusesBySchoolDataId(id, now));
+
+        try {
+            SchoolData schoolData = school.join()
+                    .orElseThrow(() -> new RuntimeException("School data not found with id " + id));
+            List<FacilityStatus> facilityStatuses = facilities.join();
+            return new SchoolDashboard(schoolData.getId(), schoolData.getSchoolName(), today,
+                    studentCount.join(), teacherCount.join(), subjectCount.join(), facilityStatuses.size(),
+                    todaysLessons.join(), recentAchievements.join(), facilityStatuses);
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Stops the query threads when the application shuts down.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> CompletableFuture<T> query(Supplier<T> query) {
+        return CompletableFuture.supplyAsync(() -> {
+            TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+            readOnly.setReadOnly(true);
+            return readOnly.execute(status -> query.get());
+        }, executor);
+    }
+}
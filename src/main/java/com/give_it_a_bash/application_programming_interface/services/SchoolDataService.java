@@ -11,8 +11,10 @@
 package com.give_it_a_bash.application_programming_interface.services;
 
 import com.give_it_a_bash.application_programming_interface.entities.SchoolData;
+import com.give_it_a_bash.application_programming_interface.pagination.CursorPage;
 import com.give_it_a_bash.application_programming_interface.repositories.SchoolDataRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -49,6 +51,19 @@ public class SchoolDataService {
         return schoolDataRepository.findAll();
     }
 
+    /**
+     * Retrieves a page of SchoolData entries in ascending ID order.
+     *
+     * @param afterId the ID of the last SchoolData on the previous page, or {@code null} for the first page
+     * @param limit the maximum number of SchoolData entries to return
+     * @return the page of SchoolData
+     */
+    public CursorPage<SchoolData> getSchoolDataPage(Long afterId, int limit) {
+        List<SchoolData> schoolDataList = schoolDataRepository.findByIdGreaterThanOrderByIdAsc(
+                afterId != null ? afterId : 0L, Limit.of(limit + 1));
+        return CursorPage.of(schoolDataList, limit, SchoolData::getId);
+    }
+
     /**
      * Retrieves SchoolData by its ID.
      *
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.services;
+
+import com.give_it_a_bash.application_programming_interface.entities.Mutant;
+import com.give_it_a_bash.application_programming_interface.repositories.AchievementRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.StudentRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.SubjectRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.TeacherRepository;
+import com.give_it_a_bash.application_programming_interface.search.MutantSuggester;
+import com.give_it_a_bash.application_programming_interface.search.MutantSuggestion;
+import com.give_it_a_bash.application_programming_interface.search.SearchDocument;
+import com.give_it_a_bash.application_programming_interface.search.SearchHit;
+import com.give_it_a_bash.application_programming_interface.search.SearchIndex;
+import com.give_it_a_bash.application_programming_interface.search.Tokenizer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Service class for full-text search across students, teachers, subjects and achievements, and for suggesting
+ * students and teachers by name while a user types.
+ * Queries are answered from the {@link SearchIndex} and the {@link MutantSuggester} rather than by scanning
+ * tables with {@code LIKE}.
+ */
+@Service
+public class SearchService {
+
+    @Autowired
+    private SearchIndex searchIndex;
+
+    @Autowired
+    private MutantSuggester mutantSuggester;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private TeacherRepository teacherRepository;
+
+    @Autowired
+    private SubjectRepository subjectRepository;
+
+    @Autowired
+    private AchievementRepository achievementRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Finds the Students, Teachers, Subjects and Achievements matching every word of a query, best match first.
+     * The last letters of a word may be left out, so {@code "ice"} finds {@code "Iceman"}.
+     *
+     * @param query the words to search for
+     * @param limit the maximum number of hits to return
+     * @return the matching entities, in descending order of relevance
+     * @throws IllegalArgumentException if the query contains no words
+     */
+    public List<SearchHit> search(String query, int limit) {
+        if (Tokenizer.tokenize(query).isEmpty()) {
+            throw new IllegalArgumentException("A search query must contain at least one word");
+        }
+        return searchIndex.search(query, limit);
+    }
+
+    /**
+     * Suggests the Students and Teachers whose alias, first name or last name start with every word typed so far.
+     *
+     * @param prefix the text typed so far
+     * @param limit the maximum number of suggestions to return
+     * @return the suggestions, in the order of the name matching the first word
+     * @throws IllegalArgumentException if the prefix contains no words
+     */
+    public List<MutantSuggestion> suggestMutants(String prefix, int limit) {
+        if (Tokenizer.tokenize(prefix).isEmpty()) {
+            throw new IllegalArgumentException("A prefix must contain at least one word");
+        }
+        return mutantSuggester.suggest(prefix, limit);
+    }
+
+    /**
+     * Rebuilds the search index and the mutant suggestions from the database once the application has started.
+     * Each table is read and tokenized on its own thread, in its own read-only transaction, and the
+     * documents and suggestions are then swapped in together. The writes made while the tables are read keep
+     * their latest document and suggestion, and from then on every write keeps both up to date.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIndex() {
+        List<Supplier<Stream<?>>> sources = Arrays.<Supplier<Stream<?>>>asList(
+                studentRepository::streamAllByOrderByIdAsc,
+                teacherRepository::streamAllByOrderByIdAsc,
+                subjectRepository::streamAllByOrderByIdAsc,
+                achievementRepository::streamAllByOrderByIdAsc);
+        ExecutorService executor = Executors.newFixedThreadPool(sources.size(), new CustomizableThreadFactory("search-index-"));
+        try {
+            mutantSuggester.rebuild(() -> {
+                Queue<MutantSuggestion> suggestions = new ConcurrentLinkedQueue<>();
+                searchIndex.rebuild(() -> {
+                    List<CompletableFuture<List<SearchDocument>>> loads = new ArrayList<>(sources.size());
+                    for (Supplier<Stream<?>> source : sources) {
+                        loads.add(CompletableFuture.supplyAsync(() -> readDocuments(source, suggestions), executor));
+                    }
+                    List<SearchDocument> documents = new ArrayList<>();
+                    for (CompletableFuture<List<SearchDocument>> load : loads) {
+                        documents.addAll(load.join());
+                    }
+                    return documents;
+                });
+                return suggestions;
+            });
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private List<SearchDocument> readDocuments(Supplier<Stream<?>> source, Queue<MutantSuggestion> suggestions) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        return readOnly.execute(status -> {
+            List<SearchDocument> documents = new ArrayList<>();
+            try (Stream<?> entities = source.get()) {
+                entities.forEach(entity -> {
+                    documents.add(SearchDocument.of(entity));
+                    if (entity instanceof Mutant) {
+                        suggestions.add(MutantSuggestion.of((Mutant) entity));
+                    }
+                    entityManager.detach(entity);
+                });
+            }
+            return documents;
+        });
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.services;
+
+import com.give_it_a_bash.application_programming_interface.projections.FacilityFacets;
+import com.give_it_a_bash.application_programming_interface.projections.MutantFacets;
+import com.give_it_a_bash.application_programming_interface.projections.StudentFacets;
+import com.give_it_a_bash.application_programming_interface.repositories.FacilityRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.StudentRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.TeacherRepository;
+import com.give_it_a_bash.application_programming_interface.stats.FacetCounters;
+import com.give_it_a_bash.application_programming_interface.stats.FacetCounts;
+import com.give_it_a_bash.application_programming_interface.stats.FacetMembership;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Service class for the precomputed dashboard statistics.
+ * <p>
+ * The counts are kept by {@link FacetCounters}, which every Student, Teacher and Facility write updates once
+ * it commits. The counters are loaded from the database once the application has started and reconciled
+ * against it every {@code stats.facets.reconcile-interval-ms}, which corrects any drift, such as a row
+ * written to the database by another application.
+ * </p>
+ */
+@Service
+public class StatsService {
+
+    @Autowired
+    private FacetCounters facetCounters;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private TeacherRepository teacherRepository;
+
+    @Autowired
+    private FacilityRepository facilityRepository;
+
+    /**
+     * Retrieves the counts of Students by status, Students and Teachers by power source and Facilities by type.
+     *
+     * @param schoolId the ID of the school to count within, or {@code null} to count across all schools
+     * @return the facet counts
+     */
+    public FacetCounts getFacets(Long schoolId) {
+        return facetCounters.counts(schoolId);
+    }
+
+    /**
+     * Replaces the facet counters with counts read from the database.
+     * Only the facet columns are selected, so no entity is loaded.
+     *
+     * @return the number of counters that had drifted from the database
+     */
+    @Transactional(readOnly = true)
+    public int reconcileFacets() {
+        return facetCounters.reset(this::findAllMemberships);
+    }
+
+    /**
+     * Loads the facet counters once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadFacets() {
+        reconcileFacets();
+    }
+
+    /**
+     * Periodically reconciles the facet counters with the database.
+     */
+    @Scheduled(initialDelayString = "${stats.facets.reconcile-interval-ms:600000}",
+            fixedDelayString = "${stats.facets.reconcile-interval-ms:600000}")
+    @Transactional(readOnly = true)
+    public void scheduledReconcileFacets() {
+        reconcileFacets();
+    }
+
+    private List<FacetMembership> findAllMemberships() {
+        List<FacetMembership> memberships = new ArrayList<>();
+        for (StudentFacets student : studentRepository.findAllFacets()) {
+            memberships.add(FacetMembership.student(student.getId(), student.getSchoolId(),
+                    student.getStatus(), student.getPowerSource()));
+        }
+        for (MutantFacets teacher : teacherRepository.findAllFacets()) {
+            memberships.add(FacetMembership.teacher(teacher.getId(), teacher.getSchoolId(), teacher.getPowerSource()));
+        }
+        for (FacilityFacets facility : facilityRepository.findAllFacets()) {
+            memberships.add(FacetMembership.facility(facility.getId(), facility.getSchoolId(), facility.getType()));
+        }
+        return memberships;
+    }
+}
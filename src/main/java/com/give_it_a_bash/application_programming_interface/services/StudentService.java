@@ -10,13 +10,26 @@
 
 package com.give_it_a_bash.application_programming_interface.services;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.give_it_a_bash.application_programming_interface.bulk.BulkItemResult;
+import com.give_it_a_bash.application_programming_interface.bulk.BulkPersistence;
 import com.give_it_a_bash.application_programming_interface.entities.Student;
+import com.give_it_a_bash.application_programming_interface.pagination.CursorPage;
+import com.give_it_a_bash.application_programming_interface.patch.JsonMergePatcher;
+import com.give_it_a_bash.application_programming_interface.projections.StudentSummary;
 import com.give_it_a_bash.application_programming_interface.repositories.StudentRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Service class for managing students who are mutants with unique powers.
@@ -28,6 +41,15 @@ public class StudentService {
     @Autowired
     private StudentRepository studentRepository;
 
+    @Autowired
+    private JsonMergePatcher jsonMergePatcher;
+
+    @Autowired
+    private BulkPersistence bulkPersistence;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
     /**
      * Creates a new Student entry.
      *
@@ -38,13 +60,75 @@ public class StudentService {
         return studentRepository.save(student);
     }
 
+    /**
+     * Creates many Student entries at once.
+     * Students are saved in batched chunks, and those failing validation are reported without blocking the others.
+     *
+     * @param students the Students to be created
+     * @return the outcome for each Student, in the order they were given
+     * @throws IllegalArgumentException if more than {@link BulkPersistence#MAX_ITEMS} Students are given
+     */
+    public List<BulkItemResult> createStudents(List<Student> students) {
+        return bulkPersistence.createAll(students, studentRepository, Student::getId, Student::setId);
+    }
+
     /**
      * Retrieves all Student entries.
      *
      * @return a list of all Students
      */
+    @Transactional(readOnly = true)
     public List<Student> getAllStudents() {
-        return studentRepository.findAll();
+        List<Student> students = studentRepository.findAll();
+        students.forEach(StudentService::fetchSerializedAssociations);
+        return students;
+    }
+
+    /**
+     * Retrieves a page of Student entries in ascending ID order.
+     *
+     * @param afterId the ID of the last Student on the previous page, or {@code null} for the first page
+     * @param limit the maximum number of Student entries to return
+     * @return the page of Students
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<Student> getStudentPage(Long afterId, int limit) {
+        List<Student> students = studentRepository.findByIdGreaterThanOrderByIdAsc(
+                afterId != null ? afterId : 0L, Limit.of(limit + 1));
+        students.forEach(StudentService::fetchSerializedAssociations);
+        return CursorPage.of(students, limit, Student::getId);
+    }
+
+    /**
+     * Retrieves a page of Student summaries in ascending ID order.
+     * The summaries are read as projections in a single query, without loading any Student entity.
+     *
+     * @param afterId the ID of the last Student on the previous page, or {@code null} for the first page
+     * @param limit the maximum number of Student summaries to return
+     * @return the page of Student summaries
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<StudentSummary> getStudentSummaryPage(Long afterId, int limit) {
+        List<StudentSummary> summaries = studentRepository.findSummariesByIdGreaterThan(
+                afterId != null ? afterId : 0L, Limit.of(limit + 1));
+        return CursorPage.of(summaries, limit, StudentSummary::getId);
+    }
+
+    /**
+     * Passes every Student entry, with its mission history, to the given consumer in ascending ID order.
+     * Each Student is detached from the persistence context once consumed, so memory use stays
+     * constant regardless of the number of Students.
+     *
+     * @param consumer the consumer receiving each Student
+     */
+    @Transactional(readOnly = true)
+    public void exportStudents(Consumer<? super Student> consumer) {
+        try (Stream<Student> students = studentRepository.streamAllWithMissionHistoryByOrderByIdAsc()) {
+            students.forEach(student -> {
+                consumer.accept(student);
+                entityManager.detach(student);
+            });
+        }
     }
 
     /**
@@ -89,6 +173,24 @@ public class StudentService {
         }).orElseThrow(() -> new RuntimeException("Student not found with id " + id));
     }
 
+    /**
+     * Applies a JSON Merge Patch to an existing Student entry.
+     * Only the fields present in the patch are changed, and collections the patch does not mention are
+     * left untouched, so the resulting UPDATE only writes the changed columns.
+     *
+     * @param id the ID of the Student to be patched
+     * @param patch the merge patch document
+     * @return the patched Student
+     * @throws IllegalArgumentException if the patch is not a JSON object, changes the ID or holds an invalid value
+     */
+    @Transactional
+    public Student patchStudent(Long id, JsonNode patch) {
+        return studentRepository.findById(id).map(student -> {
+            jsonMergePatcher.apply(student, patch);
+            return studentRepository.save(student);
+        }).orElseThrow(() -> new RuntimeException("Student not found with id " + id));
+    }
+
     /**
      * Deletes a Student entry by its ID.
      *
@@ -97,4 +199,14 @@ public class StudentService {
     public void deleteStudent(Long id) {
         studentRepository.deleteById(id);
     }
+
+    /**
+     * Loads the associations a Student is serialized with before the transaction ends, so that they are
+     * batch fetched for every Student on the page rather than lazily, one Student at a time, during serialization.
+     *
+     * @param student the Student whose associations are loaded
+     */
+    private static void fetchSerializedAssociations(Student student) {
+        Hibernate.initialize(student.getMissionHistory());
+    }
 }
@@ -11,8 +11,10 @@
 package com.give_it_a_bash.application_programming_interface.services;
 
 import com.give_it_a_bash.application_programming_interface.entities.Subject;
+import com.give_it_a_bash.application_programming_interface.pagination.CursorPage;
 import com.give_it_a_bash.application_programming_interface.repositories.SubjectRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -47,6 +49,19 @@ public class SubjectService {
         return subjectRepository.findAll();
     }
 
+    /**
+     * Retrieves a page of Subject entries in ascending ID order.
+     *
+     * @param afterId the ID of the last Subject on the previous page, or {@code null} for the first page
+     * @param limit the maximum number of Subject entries to return
+     * @return the page of Subjects
+     */
+    public CursorPage<Subject> getSubjectPage(Long afterId, int limit) {
+        List<Subject> subjects = subjectRepository.findByIdGreaterThanOrderByIdAsc(
+                afterId != null ? afterId : 0L, Limit.of(limit + 1));
+        return CursorPage.of(subjects, limit, Subject::getId);
+    }
+
     /**
      * Retrieves Subject by its ID.
      *
@@ -10,13 +10,26 @@
 
 package com.give_it_a_bash.application_programming_interface.services;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.give_it_a_bash.application_programming_interface.bulk.BulkItemResult;
+import com.give_it_a_bash.application_programming_interface.bulk.BulkPersistence;
 import com.give_it_a_bash.application_programming_interface.entities.Teacher;
+import com.give_it_a_bash.application_programming_interface.pagination.CursorPage;
+import com.give_it_a_bash.application_programming_interface.patch.JsonMergePatcher;
+import com.give_it_a_bash.application_programming_interface.projections.TeacherSummary;
 import com.give_it_a_bash.application_programming_interface.repositories.TeacherRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Service class for managing teachers with unique powers and characteristics.
@@ -25,9 +38,23 @@ import java.util.Optional;
 @Service
 public class TeacherService {
 
+    /**
+     * The number of Teachers read per batch when exporting.
+     */
+    private static final int EXPORT_BATCH_SIZE = 500;
+
     @Autowired
     private TeacherRepository teacherRepository;
 
+    @Autowired
+    private JsonMergePatcher jsonMergePatcher;
+
+    @Autowired
+    private BulkPersistence bulkPersistence;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
     /**
      * Creates a new Teacher entry.
      *
@@ -38,13 +65,79 @@ public class TeacherService {
         return teacherRepository.save(teacher);
     }
 
+    /**
+     * Creates many Teacher entries at once.
+     * Teachers are saved in batched chunks, and those failing validation are reported without blocking the others.
+     *
+     * @param teachers the Teachers to be created
+     * @return the outcome for each Teacher, in the order they were given
+     * @throws IllegalArgumentException if more than {@link BulkPersistence#MAX_ITEMS} Teachers are given
+     */
+    public List<BulkItemResult> createTeachers(List<Teacher> teachers) {
+        return bulkPersistence.createAll(teachers, teacherRepository, Teacher::getId, Teacher::setId);
+    }
+
     /**
      * Retrieves all Teacher entries.
      *
      * @return a list of all Teachers
      */
+    @Transactional(readOnly = true)
     public List<Teacher> getAllTeachers() {
-        return teacherRepository.findAll();
+        List<Teacher> teachers = teacherRepository.findAll();
+        teachers.forEach(TeacherService::fetchSerializedAssociations);
+        return teachers;
+    }
+
+    /**
+     * Retrieves a page of Teacher entries in ascending ID order.
+     *
+     * @param afterId the ID of the last Teacher on the previous page, or {@code null} for the first page
+     * @param limit the maximum number of Teacher entries to return
+     * @return the page of Teachers
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<Teacher> getTeacherPage(Long afterId, int limit) {
+        List<Teacher> teachers = teacherRepository.findByIdGreaterThanOrderByIdAsc(
+                afterId != null ? afterId : 0L, Limit.of(limit + 1));
+        teachers.forEach(TeacherService::fetchSerializedAssociations);
+        return CursorPage.of(teachers, limit, Teacher::getId);
+    }
+
+    /**
+     * Retrieves a page of Teacher summaries in ascending ID order.
+     * The summaries are read as projections in a single query, without loading any Teacher entity.
+     *
+     * @param afterId the ID of the last Teacher on the previous page, or {@code null} for the first page
+     * @param limit the maximum number of Teacher summaries to return
+     * @return the page of Teacher summaries
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<TeacherSummary> getTeacherSummaryPage(Long afterId, int limit) {
+        List<TeacherSummary> summaries = teacherRepository.findSummariesByIdGreaterThan(
+                afterId != null ? afterId : 0L, Limit.of(limit + 1));
+        return CursorPage.of(summaries, limit, TeacherSummary::getId);
+    }
+
+    /**
+     * Passes every Teacher entry, with its mission history and subjects, to the given consumer in ascending ID order.
+     * Teachers are read in keyset-ordered batches whose collections are fetched with one query each, and the
+     * persistence context is cleared after every batch, so memory use stays constant regardless of the number
+     * of Teachers.
+     *
+     * @param consumer the consumer receiving each Teacher
+     */
+    @Transactional(readOnly = true)
+    public void exportTeachers(Consumer<? super Teacher> consumer) {
+        List<Long> ids = teacherRepository.findIdsByIdGreaterThan(0L, Limit.of(EXPORT_BATCH_SIZE));
+        while (!ids.isEmpty()) {
+            List<Teacher> teachers = teacherRepository.findWithMissionHistoryByIdInOrderByIdAsc(ids);
+            teacherRepository.findWithSubjectsByIdIn(ids);
+            teachers.forEach(consumer);
+            entityManager.clear();
+            ids = ids.size() < EXPORT_BATCH_SIZE ? Collections.emptyList()
+                    : teacherRepository.findIdsByIdGreaterThan(ids.get(ids.size() - 1), Limit.of(EXPORT_BATCH_SIZE));
+        }
     }
 
     /**
@@ -85,6 +178,24 @@ public class TeacherService {
         }).orElseThrow(() -> new RuntimeException("Teacher not found with id " + id));
     }
 
+    /**
+     * Applies a JSON Merge Patch to an existing Teacher entry.
+     * Only the fields present in the patch are changed, and collections the patch does not mention are
+     * left untouched, so the resulting UPDATE only writes the changed columns.
+     *
+     * @param id the ID of the Teacher to be patched
+     * @param patch the merge patch document
+     * @return the patched Teacher
+     * @throws IllegalArgumentException if the patch is not a JSON object, changes the ID or holds an invalid value
+     */
+    @Transactional
+    public Teacher patchTeacher(Long id, JsonNode patch) {
+        return teacherRepository.findById(id).map(teacher -> {
+            jsonMergePatcher.apply(teacher, patch);
+            return teacherRepository.save(teacher);
+        }).orElseThrow(() -> new RuntimeException("Teacher not found with id " + id));
+    }
+
     /**
      * Deletes a Teacher entry by its ID.
      *
@@ -93,4 +204,18 @@ public class TeacherService {
     public void deleteTeacher(Long id) {
         teacherRepository.deleteById(id);
     }
+
+    /**
+     * Loads the associations a Teacher is serialized with before the transaction ends, so that they are
+     * batch fetched for every Teacher on the page rather than lazily, one Teacher at a time, during serialization.
+     *
+     * @param teacher the Teacher whose associations are loaded
+     */
+    private static void fetchSerializedAssociations(Teacher teacher) {
+        Hibernate.initialize(teacher.getMissionHistory());
+        Hibernate.initialize(teacher.getSubjects());
+        if (teacher.getSubjects() != null) {
+            teacher.getSubjects().forEach(subject -> Hibernate.initialize(subject.getSchoolData()));
+        }
+    }
 }
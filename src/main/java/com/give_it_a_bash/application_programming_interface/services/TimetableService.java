@@ -0,0 +1,317 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.services;
+
+import com.give_it_a_bash.application_programming_interface.collections.IntervalTree;
+import com.give_it_a_bash.application_programming_interface.entities.Facility;
+import com.give_it_a_bash.application_programming_interface.entities.Lesson;
+import com.give_it_a_bash.application_programming_interface.entities.Subject;
+import com.give_it_a_bash.application_programming_interface.entities.Teacher;
+import com.give_it_a_bash.application_programming_interface.repositories.FacilityRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.SubjectRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.TeacherRepository;
+import com.give_it_a_bash.application_programming_interface.scheduling.LessonConflictException;
+import com.give_it_a_bash.application_programming_interface.scheduling.LessonSchedule;
+import com.give_it_a_bash.application_programming_interface.scheduling.TimeSlot;
+import com.give_it_a_bash.application_programming_interface.timetabling.TimetableAssignment;
+import com.give_it_a_bash.application_programming_interface.timetabling.TimetableJob;
+import com.give_it_a_bash.application_programming_interface.timetabling.TimetableProblem;
+import com.give_it_a_bash.application_programming_interface.timetabling.TimetableProgress;
+import com.give_it_a_bash.application_programming_interface.timetabling.TimetableRequest;
+import com.give_it_a_bash.application_programming_interface.timetabling.TimetableSolution;
+import com.give_it_a_bash.application_programming_interface.timetabling.TimetableSolver;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Service class for generating timetables.
+ * <p>
+ * A request is checked and turned into a {@link TimetableProblem} straight away, then queued as a
+ * {@link TimetableJob}. Jobs run one at a time on a background thread: the {@link TimetableSolver} searches
+ * for a timetable within the requested time budget, and its lessons are created together in one transaction.
+ * The most recent {@link #MAX_RETAINED_JOBS} jobs are kept so that their progress and results can be read.
+ * </p>
+ */
+@Service
+public class TimetableService {
+
+    /**
+     * The maximum number of lessons a single timetable may contain.
+     */
+    public static final int MAX_LESSONS = 1000;
+
+    /**
+     * The maximum number of school days a single timetable may cover.
+     */
+    public static final int MAX_DAYS = 31;
+
+    /**
+     * The longest time budget a job may be given.
+     */
+    public static final Duration MAX_TIME_BUDGET = Duration.ofMinutes(5);
+
+    /**
+     * The number of jobs kept, including finished ones.
+     */
+    static final int MAX_RETAINED_JOBS = 100;
+
+    @Autowired
+    private SubjectRepository subjectRepository;
+
+    @Autowired
+    private TeacherRepository teacherRepository;
+
+    @Autowired
+    private FacilityRepository facilityRepository;
+
+    @Autowired
+    private LessonSchedule lessonSchedule;
+
+    @Autowired
+    private LessonService lessonService;
+
+    @Autowired
+    private TimetableSolver timetableSolver;
+
+    private ExecutorService jobExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "timetable-jobs");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Map<String, TimetableJob> jobs = Collections.synchronizedMap(
+            new LinkedHashMap<String, TimetableJob>() {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, TimetableJob> eldest) {
+                    return size() > MAX_RETAINED_JOBS;
+                }
+            });
+
+    /**
+     * Queues a job generating the requested timetable.
+     * Active Teachers are considered for the Subjects they teach, and operational Facilities of the requested
+     * type, smallest first, are shared out between the placed lessons; neither is placed over a Lesson it is
+     * already booked for.
+     *
+     * @param request the lessons needed and the days and hours they may be placed in
+     * @return the queued job
+     * @throws IllegalArgumentException if the request is invalid, or no operational Facility exists
+     * @throws RuntimeException if a requested Subject does not exist
+     */
+    @Transactional(readOnly = true)
+    public TimetableJob startJob(TimetableRequest request) {
+        List<TimeSlot> slots = toSlots(request);
+        Duration timeBudget = Duration.ofSeconds(request.getTimeBudgetSeconds());
+        if (timeBudget.isNegative() || timeBudget.isZero() || timeBudget.compareTo(MAX_TIME_BUDGET) > 0) {
+            throw new IllegalArgumentException("The time budget must be between 1 and " + MAX_TIME_BUDGET.getSeconds() + " seconds");
+        }
+
+        Map<Long, Subject> subjects = new HashMap<>();
+        List<Long> lessonSubjectIds = new ArrayList<>();
+        for (TimetableRequest.SubjectRequirement requirement : request.getRequirements()) {
+            if (requirement.getSubjectId() == null || requirement.getLessons() <= 0) {
+                throw new IllegalArgumentException("Every requirement must name a subject and at least one lesson");
+            }
+            if (lessonSubjectIds.size() + requirement.getLessons() > MAX_LESSONS) {
+                throw new IllegalArgumentException("A timetable may contain at most " + MAX_LESSONS + " lessons");
+            }
+            Long subjectId = requirement.getSubjectId();
+            subjects.put(subjectId, subjectRepository.findById(subjectId)
+                    .orElseThrow(() -> new RuntimeException("Subject not found with id " + subjectId)));
+            lessonSubjectIds.addAll(Collections.nCopies(requirement.getLessons(), subjectId));
+        }
+        if (lessonSubjectIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one lesson must be requested");
+        }
+
+        Map<Long, Facility> facilities = new LinkedHashMap<>();
+        List<Facility> operational = new ArrayList<>();
+        for (Facility facility : facilityRepository.findAll()) {
+            if (facility.isOperational() && (request.getFacilityType() == null || request.getFacilityType() == facility.getType())) {
+                operational.add(facility);
+            }
+        }
+        operational.sort(Comparator.comparingInt(Facility::getCapacity).thenComparing(Facility::getId));
+        Map<Long, BitSet> facilityBusySlots = new HashMap<>();
+        for (Facility facility : operational) {
+            facilities.put(facility.getId(), facility);
+            facilityBusySlots.put(facility.getId(), busySlots(Collections.<Long>emptyList(),
+                    Collections.singletonList(facility.getId()), slots));
+        }
+        if (facilities.isEmpty()) {
+            throw new IllegalArgumentException("There is no operational facility of the requested type to hold lessons in");
+        }
+
+        Map<Long, Teacher> teachers = new HashMap<>();
+        Map<Long, Set<Long>> teacherSubjectIds = new LinkedHashMap<>();
+        Map<Long, BitSet> teacherBusySlots = new HashMap<>();
+        for (Teacher teacher : teacherRepository.findAll()) {
+            if (Boolean.FALSE.equals(teacher.getIsActive()) || teacher.getSubjects() == null) {
+                continue;
+            }
+            Set<Long> taught = new HashSet<>();
+            for (Subject subject : teacher.getSubjects()) {
+                if (subjects.containsKey(subject.getId())) {
+                    taught.add(subject.getId());
+                }
+            }
+            if (!taught.isEmpty()) {
+                teachers.put(teacher.getId(), teacher);
+                teacherSubjectIds.put(teacher.getId(), taught);
+                teacherBusySlots.put(teacher.getId(), busySlots(Collections.singletonList(teacher.getId()),
+                        Collections.<Long>emptyList(), slots));
+            }
+        }
+
+        TimetableProblem problem = new TimetableProblem(slots, lessonSubjectIds, teacherSubjectIds, teacherBusySlots,
+                new ArrayList<>(facilities.keySet()), facilityBusySlots);
+        TimetableJob job = new TimetableJob(UUID.randomUUID().toString(), LocalDateTime.now(),
+                new TimetableProgress(lessonSubjectIds.size()));
+        jobs.put(job.getId(), job);
+        jobExecutor.execute(() -> run(job, problem, timeBudget, subjects, teachers, facilities));
+        return job;
+    }
+
+    /**
+     * Retrieves a timetable generation job by its ID.
+     *
+     * @param id the ID of the job
+     * @return an Optional containing the job if it is still retained
+     */
+    public Optional<TimetableJob> getJob(String id) {
+        return Optional.ofNullable(jobs.get(id));
+    }
+
+    /**
+     * Stops the job thread when the application shuts down, abandoning queued jobs.
+     */
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
+    }
+
+    private void run(TimetableJob job, TimetableProblem problem, Duration timeBudget,
+                     Map<Long, Subject> subjects, Map<Long, Teacher> teachers, Map<Long, Facility> facilities) {
+        job.start();
+        TimetableSolution solution = timetableSolver.solve(problem, timeBudget, job.getProgress());
+        if (solution.getOutcome() == TimetableSolution.Outcome.INFEASIBLE) {
+            job.fail("The requested lessons cannot all be placed with the available teachers and facilities");
+            return;
+        }
+        if (solution.getOutcome() == TimetableSolution.Outcome.TIMED_OUT) {
+            job.fail("No timetable was found within the time budget of " + timeBudget.getSeconds() + " seconds");
+            return;
+        }
+
+        List<TimetableAssignment> assignments = solution.getAssignments();
+        List<Lesson> lessons = new ArrayList<>(assignments.size());
+        for (TimetableAssignment assignment : assignments) {
+            lessons.add(Lesson.builder()
+                    .subject(subjects.get(assignment.getSubjectId()))
+                    .teacher(teachers.get(assignment.getTeacherId()))
+                    .facility(facilities.get(assignment.getFacilityId()))
+                    .startTime(assignment.getStartTime())
+                    .endTime(assignment.getEndTime())
+                    .students(new ArrayList<>())
+                    .build());
+        }
+        try {
+            List<Lesson> createdLessons = lessonService.createLessonsAtomically(lessons);
+            for (int i = 0; i < assignments.size(); i++) {
+                assignments.get(i).setLessonId(createdLessons.get(i).getId());
+            }
+            job.succeed(assignments);
+        } catch (LessonConflictException e) {
+            job.fail("The timetable conflicts with lessons booked while it was generated: " + e.getConflicts());
+        } catch (RuntimeException e) {
+            job.fail(NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+        }
+    }
+
+    /**
+     * Divides every school day of the request into back-to-back slots.
+     */
+    private static List<TimeSlot> toSlots(TimetableRequest request) {
+        if (request.getFirstDay() == null || request.getDayStart() == null || request.getDayEnd() == null) {
+            throw new IllegalArgumentException("The first day and the hours of a day must be given");
+        }
+        if (request.getDays() <= 0 || request.getDays() > MAX_DAYS) {
+            throw new IllegalArgumentException("A timetable must cover between 1 and " + MAX_DAYS + " school days");
+        }
+        if (request.getLessonMinutes() <= 0) {
+            throw new IllegalArgumentException("The lesson length must be positive");
+        }
+        Duration lessonLength = Duration.ofMinutes(request.getLessonMinutes());
+        if (Duration.between(request.getDayStart(), request.getDayEnd()).compareTo(lessonLength) < 0) {
+            throw new IllegalArgumentException("A school day must fit at least one lesson");
+        }
+        if (!request.getFirstDay().atTime(request.getDayStart()).isAfter(LocalDateTime.now())) {
+            throw new IllegalArgumentException("The timetable must start in the future");
+        }
+
+        List<TimeSlot> slots = new ArrayList<>();
+        LocalDate day = request.getFirstDay();
+        for (int schoolDays = 0; schoolDays < request.getDays(); day = day.plusDays(1)) {
+            if (day.getDayOfWeek() == DayOfWeek.SATURDAY || day.getDayOfWeek() == DayOfWeek.SUNDAY) {
+                continue;
+            }
+            LocalDateTime dayEnd = day.atTime(request.getDayEnd());
+            for (LocalDateTime start = day.atTime(request.getDayStart());
+                 !start.plus(lessonLength).isAfter(dayEnd);
+                 start = start.plus(lessonLength)) {
+                slots.add(new TimeSlot(start, start.plus(lessonLength)));
+            }
+            schoolDays++;
+        }
+        return slots;
+    }
+
+    /**
+     * Marks the slots overlapping a Lesson the given Teachers or Facilities are already booked for.
+     */
+    private BitSet busySlots(List<Long> teacherIds, List<Long> facilityIds, List<TimeSlot> slots) {
+        BitSet busy = new BitSet(slots.size());
+        List<IntervalTree.Interval<LocalDateTime, Long>> lessons = lessonSchedule.findBusy(
+                teacherIds, Collections.<Long>emptyList(), facilityIds,
+                slots.get(0).getStart(), slots.get(slots.size() - 1).getEnd());
+        for (IntervalTree.Interval<LocalDateTime, Long> lesson : lessons) {
+            for (int slot = 0; slot < slots.size(); slot++) {
+                TimeSlot timeSlot = slots.get(slot);
+                if (lesson.getStart().isBefore(timeSlot.getEnd()) && timeSlot.getStart().isBefore(lesson.getEnd())) {
+                    busy.set(slot);
+                }
+            }
+        }
+        return busy;
+    }
+}
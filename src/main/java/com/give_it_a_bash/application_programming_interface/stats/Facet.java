@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.stats;
+
+import com.give_it_a_bash.application_programming_interface.entities.FacilityType;
+import com.give_it_a_bash.application_programming_interface.entities.PowerSource;
+import com.give_it_a_bash.application_programming_interface.entities.Status;
+
+/**
+ * A dimension that dashboards break counts down by.
+ */
+public enum Facet {
+
+    /**
+     * Students by their {@link Status}.
+     */
+    STUDENT_STATUS,
+
+    /**
+     * Students and Teachers by the {@link PowerSource} of their power.
+     */
+    POWER_SOURCE,
+
+    /**
+     * Facilities by their {@link FacilityType}.
+     */
+    FACILITY_TYPE
+}
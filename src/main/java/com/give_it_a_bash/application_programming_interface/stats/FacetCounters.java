@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.stats;
+
+import com.give_it_a_bash.application_programming_interface.entities.FacilityType;
+import com.give_it_a_bash.application_programming_interface.entities.PowerSource;
+import com.give_it_a_bash.application_programming_interface.entities.Status;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * In-memory counts of Students, Teachers and Facilities by facet value, per school and across all schools.
+ * <p>
+ * Every counter is a {@link LongAdder}, so concurrent writes to the same facet value do not contend on a single
+ * field. The counters remember the {@link FacetMembership} of every entity they count, so an update moves the
+ * entity from its previous values to its new ones and a delete takes it out. Reading the counts of a school
+ * costs one lookup per facet value, however many rows are counted.
+ * </p>
+ * <p>
+ * Writes run concurrently with each other; {@link #reset(Supplier)} excludes them while it replaces every
+ * counter. A write applied while the reset's memberships are being read may or may not be among them, so the
+ * reset notes the entities written meanwhile and reapplies their latest membership after the replacement.
+ * </p>
+ */
+@Component
+public class FacetCounters {
+
+    private final ConcurrentMap<FacetKey, LongAdder> counters = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<FacetMembership.Key, FacetMembership> memberships = new ConcurrentHashMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Object resetLock = new Object();
+
+    private volatile Set<FacetMembership.Key> writtenDuringReset;
+
+    /**
+     * Counts an entity under its facet values, replacing the values it was previously counted under.
+     *
+     * @param membership the facet values of the entity
+     */
+    public void put(FacetMembership membership) {
+        lock.readLock().lock();
+        try {
+            memberships.compute(membership.getKey(), (key, previous) -> {
+                add(previous, -1);
+                add(membership, 1);
+                return membership;
+            });
+            noteWrite(membership.getKey());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Stops counting an entity.
+     *
+     * @param key the key of the entity's membership
+     * @return the previous membership of the entity, or {@code null} if it was not counted
+     */
+    public FacetMembership remove(FacetMembership.Key key) {
+        lock.readLock().lock();
+        try {
+            FacetMembership previous = memberships.remove(key);
+            add(previous, -1);
+            noteWrite(key);
+            return previous;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces every counter with the counts of the memberships read by the given supplier.
+     * The entities written while the supplier runs keep the membership of their latest write, as the supplier may
+     * have read them before that write committed.
+     *
+     * @param all supplies the memberships of every entity to be counted
+     * @return the number of counters whose value changed
+     */
+    public int reset(Supplier<? extends Collection<FacetMembership>> all) {
+        synchronized (resetLock) {
+            writtenDuringReset = ConcurrentHashMap.newKeySet();
+            try {
+                return reset(all.get());
+            } finally {
+                writtenDuringReset = null;
+            }
+        }
+    }
+
+    private int reset(Collection<FacetMembership> all) {
+        lock.writeLock().lock();
+        try {
+            Map<FacetKey, Long> before = new HashMap<>();
+            for (Map.Entry<FacetKey, LongAdder> counter : counters.entrySet()) {
+                before.put(counter.getKey(), counter.getValue().sum());
+            }
+            Map<FacetMembership.Key, FacetMembership> written = new HashMap<>();
+            for (FacetMembership.Key key : writtenDuringReset) {
+                written.put(key, memberships.get(key));
+            }
+            counters.clear();
+            memberships.clear();
+            for (FacetMembership membership : all) {
+                if (!written.containsKey(membership.getKey())) {
+                    FacetMembership previous = memberships.put(membership.getKey(), membership);
+                    add(previous, -1);
+                    add(membership, 1);
+                }
+            }
+            for (FacetMembership membership : written.values()) {
+                if (membership != null) {
+                    memberships.put(membership.getKey(), membership);
+                    add(membership, 1);
+                }
+            }
+
+            Set<FacetKey> keys = new HashSet<>(before.keySet());
+            keys.addAll(counters.keySet());
+            int changed = 0;
+            for (FacetKey key : keys) {
+                if (before.getOrDefault(key, 0L) != count(key)) {
+                    changed++;
+                }
+            }
+            return changed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of entities counted under a facet value.
+     *
+     * @param facet    the facet
+     * @param schoolId the ID of the school to count within, or {@code null} to count across all schools
+     * @param value    the value of the facet
+     * @return the number of entities with the value
+     */
+    public long count(Facet facet, Long schoolId, Enum<?> value) {
+        return count(new FacetKey(facet, schoolId, value));
+    }
+
+    /**
+     * Returns the counts of every facet value.
+     *
+     * @param schoolId the ID of the school to count within, or {@code null} to count across all schools
+     * @return the counts, listing every value of every facet
+     */
+    public FacetCounts counts(Long schoolId) {
+        return new FacetCounts(schoolId,
+                countsOf(Facet.STUDENT_STATUS, schoolId, Status.class),
+                countsOf(Facet.POWER_SOURCE, schoolId, PowerSource.class),
+                countsOf(Facet.FACILITY_TYPE, schoolId, FacilityType.class));
+    }
+
+    /**
+     * Returns the number of counted entities.
+     *
+     * @return the number of Students, Teachers and Facilities counted
+     */
+    public int size() {
+        return memberships.size();
+    }
+
+    private <E extends Enum<E>> Map<E, Long> countsOf(Facet facet, Long schoolId, Class<E> type) {
+        Map<E, Long> counts = new EnumMap<>(type);
+        for (E value : type.getEnumConstants()) {
+            counts.put(value, count(facet, schoolId, value));
+        }
+        return counts;
+    }
+
+    private long count(FacetKey key) {
+        LongAdder counter = counters.get(key);
+        return counter != null ? counter.sum() : 0;
+    }
+
+    private void noteWrite(FacetMembership.Key key) {
+        Set<FacetMembership.Key> written = writtenDuringReset;
+        if (written != null) {
+            written.add(key);
+        }
+    }
+
+    private void add(FacetMembership membership, int delta) {
+        if (membership == null) {
+            return;
+        }
+        for (Map.Entry<Facet, Enum<?>> value : membership.getValues().entrySet()) {
+            counter(new FacetKey(value.getKey(), null, value.getValue())).add(delta);
+            if (membership.getSchoolId() != null) {
+                counter(new FacetKey(value.getKey(), membership.getSchoolId(), value.getValue())).add(delta);
+            }
+        }
+    }
+
+    private LongAdder counter(FacetKey key) {
+        return counters.computeIfAbsent(key, k -> new LongAdder());
+    }
+}
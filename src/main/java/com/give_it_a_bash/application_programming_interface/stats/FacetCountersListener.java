@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.stats;
+
+import com.give_it_a_bash.application_programming_interface.entities.Facility;
+import com.give_it_a_bash.application_programming_interface.entities.OutboxEvent;
+import com.give_it_a_bash.application_programming_interface.entities.Student;
+import com.give_it_a_bash.application_programming_interface.entities.Teacher;
+import com.give_it_a_bash.application_programming_interface.events.DomainEventListener;
+import com.give_it_a_bash.application_programming_interface.projections.FacilityFacets;
+import com.give_it_a_bash.application_programming_interface.projections.MutantFacets;
+import com.give_it_a_bash.application_programming_interface.projections.StudentFacets;
+import com.give_it_a_bash.application_programming_interface.repositories.FacilityRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.StudentRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.TeacherRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Keeps the {@link FacetCounters} in step with every write to a Student, Teacher or Facility, including merge
+ * patches and writes made by the bulk endpoints.
+ * <p>
+ * The listener is fed from the domain event outbox, off the request thread, and reads the current facets of the
+ * entities a batch is about. Entities that no longer exist are removed from the counters.
+ * </p>
+ */
+@Component
+public class FacetCountersListener implements DomainEventListener {
+
+    @Autowired
+    private FacetCounters facetCounters;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private TeacherRepository teacherRepository;
+
+    @Autowired
+    private FacilityRepository facilityRepository;
+
+    /**
+     * Reads the current facets of the entities the events are about and applies them to the counters.
+     *
+     * @param events the events, oldest first
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void onEvents(List<OutboxEvent> events) {
+        Set<Long> studentIds = DomainEventListener.aggregateIds(events, Student.class);
+        if (!studentIds.isEmpty()) {
+            for (StudentFacets student : studentRepository.findFacetsByIdIn(studentIds)) {
+                studentIds.remove(student.getId());
+                facetCounters.put(FacetMembership.student(student.getId(), student.getSchoolId(),
+                        student.getStatus(), student.getPowerSource()));
+            }
+            removeAll(FacetMembership.Kind.MUTANT, studentIds);
+        }
+        Set<Long> teacherIds = DomainEventListener.aggregateIds(events, Teacher.class);
+        if (!teacherIds.isEmpty()) {
+            for (MutantFacets teacher : teacherRepository.findFacetsByIdIn(teacherIds)) {
+                teacherIds.remove(teacher.getId());
+                facetCounters.put(FacetMembership.teacher(teacher.getId(), teacher.getSchoolId(),
+                        teacher.getPowerSource()));
+            }
+            removeAll(FacetMembership.Kind.MUTANT, teacherIds);
+        }
+        Set<Long> facilityIds = DomainEventListener.aggregateIds(events, Facility.class);
+        if (!facilityIds.isEmpty()) {
+            for (FacilityFacets facility : facilityRepository.findFacetsByIdIn(facilityIds)) {
+                facilityIds.remove(facility.getId());
+                facetCounters.put(FacetMembership.facility(facility.getId(), facility.getSchoolId(),
+                        facility.getType()));
+            }
+            removeAll(FacetMembership.Kind.FACILITY, facilityIds);
+        }
+    }
+
+    private void removeAll(FacetMembership.Kind kind, Set<Long> ids) {
+        for (Long id : ids) {
+            facetCounters.remove(new FacetMembership.Key(kind, id));
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.stats;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.give_it_a_bash.application_programming_interface.entities.FacilityType;
+import com.give_it_a_bash.application_programming_interface.entities.PowerSource;
+import com.give_it_a_bash.application_programming_interface.entities.Status;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * The counts of every facet, either for one school or across all schools.
+ * Every value of a facet is listed, including those with a count of zero.
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class FacetCounts {
+
+    /**
+     * The ID of the school counted, or {@code null} for the counts across all schools.
+     */
+    private final Long schoolId;
+
+    private final Map<Status, Long> studentsByStatus;
+
+    private final Map<PowerSource, Long> mutantsByPowerSource;
+
+    private final Map<FacilityType, Long> facilitiesByType;
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.stats;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * Identifies one counter: a value of a facet, either within a school or, when the school is {@code null},
+ * across all schools.
+ */
+@Getter
+@EqualsAndHashCode
+class FacetKey {
+
+    private final Facet facet;
+
+    private final Long schoolId;
+
+    private final Enum<?> value;
+
+    FacetKey(Facet facet, Long schoolId, Enum<?> value) {
+        this.facet = facet;
+        this.schoolId = schoolId;
+        this.value = value;
+    }
+}
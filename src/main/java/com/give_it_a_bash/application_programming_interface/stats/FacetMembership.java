@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.stats;
+
+import com.give_it_a_bash.application_programming_interface.entities.Facility;
+import com.give_it_a_bash.application_programming_interface.entities.FacilityType;
+import com.give_it_a_bash.application_programming_interface.entities.Mutant;
+import com.give_it_a_bash.application_programming_interface.entities.PowerSource;
+import com.give_it_a_bash.application_programming_interface.entities.Status;
+import com.give_it_a_bash.application_programming_interface.entities.Student;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The facet values a single Student, Teacher or Facility is counted under.
+ * <p>
+ * A membership is captured when the entity is written, so that the counters can take the entity out of its
+ * previous values when it changes or is deleted without reading it back from the database.
+ * </p>
+ */
+@Getter
+public class FacetMembership {
+
+    /**
+     * The kind of entity a membership belongs to. Mutants and facilities use separate ID sequences.
+     */
+    public enum Kind {
+        MUTANT,
+        FACILITY
+    }
+
+    private final Key key;
+
+    private final Long schoolId;
+
+    private final Map<Facet, Enum<?>> values;
+
+    private FacetMembership(Key key, Long schoolId, Map<Facet, Enum<?>> values) {
+        this.key = key;
+        this.schoolId = schoolId;
+        this.values = Collections.unmodifiableMap(values);
+    }
+
+    /**
+     * Creates the membership of a Student.
+     *
+     * @param id          the ID of the Student
+     * @param schoolId    the ID of the Student's school, or {@code null}
+     * @param status      the status of the Student, or {@code null}
+     * @param powerSource the source of the Student's power, or {@code null}
+     * @return the membership of the Student
+     */
+    public static FacetMembership student(Long id, Long schoolId, Status status, PowerSource powerSource) {
+        Map<Facet, Enum<?>> values = new EnumMap<>(Facet.class);
+        if (status != null) {
+            values.put(Facet.STUDENT_STATUS, status);
+        }
+        if (powerSource != null) {
+            values.put(Facet.POWER_SOURCE, powerSource);
+        }
+        return new FacetMembership(new Key(Kind.MUTANT, id), schoolId, values);
+    }
+
+    /**
+     * Creates the membership of a Teacher.
+     *
+     * @param id          the ID of the Teacher
+     * @param schoolId    the ID of the Teacher's school, or {@code null}
+     * @param powerSource the source of the Teacher's power, or {@code null}
+     * @return the membership of the Teacher
+     */
+    public static FacetMembership teacher(Long id, Long schoolId, PowerSource powerSource) {
+        return student(id, schoolId, null, powerSource);
+    }
+
+    /**
+     * Creates the membership of a Facility.
+     *
+     * @param id       the ID of the Facility
+     * @param schoolId the ID of the Facility's school
+     * @param type     the type of the Facility, or {@code null}
+     * @return the membership of the Facility
+     */
+    public static FacetMembership facility(Long id, Long schoolId, FacilityType type) {
+        Map<Facet, Enum<?>> values = new EnumMap<>(Facet.class);
+        if (type != null) {
+            values.put(Facet.FACILITY_TYPE, type);
+        }
+        return new FacetMembership(new Key(Kind.FACILITY, id), schoolId, values);
+    }
+
+    /**
+     * Creates the membership of a Student, Teacher or Facility.
+     *
+     * @param entity a Student, Teacher or Facility
+     * @return the membership of the entity, or {@code null} if the entity is of another type
+     */
+    public static FacetMembership of(Object entity) {
+        if (entity instanceof Mutant) {
+            Mutant mutant = (Mutant) entity;
+            Long schoolId = mutant.getSchoolData() != null ? mutant.getSchoolData().getId() : null;
+            PowerSource powerSource = mutant.getPower() != null ? mutant.getPower().getOriginSource() : null;
+            Status status = mutant instanceof Student ? ((Student) mutant).getStatus() : null;
+            return student(mutant.getId(), schoolId, status, powerSource);
+        }
+        if (entity instanceof Facility) {
+            Facility facility = (Facility) entity;
+            Long schoolId = facility.getSchoolData() != null ? facility.getSchoolData().getId() : null;
+            return facility(facility.getId(), schoolId, facility.getType());
+        }
+        return null;
+    }
+
+    /**
+     * Returns the key of the membership of a Student, Teacher or Facility.
+     *
+     * @param entity a Student, Teacher or Facility
+     * @return the key of the entity's membership, or {@code null} if the entity is of another type
+     */
+    public static Key keyOf(Object entity) {
+        if (entity instanceof Mutant) {
+            return new Key(Kind.MUTANT, ((Mutant) entity).getId());
+        }
+        if (entity instanceof Facility) {
+            return new Key(Kind.FACILITY, ((Facility) entity).getId());
+        }
+        return null;
+    }
+
+    /**
+     * Identifies the entity a membership belongs to.
+     */
+    @Getter
+    @EqualsAndHashCode
+    public static class Key {
+
+        private final Kind kind;
+
+        private final Long id;
+
+        public Key(Kind kind, Long id) {
+            this.kind = kind;
+            this.id = id;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.streaming;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A change to one lesson, pushed to the subscribers of the lesson stream.
+ * <p>
+ * A change is the difference between two states of the lesson, so the changes a slow subscriber has not received
+ * yet can be coalesced into one by taking the state before the first and the state after the last.
+ * </p>
+ */
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class LessonChange {
+
+    private final LessonChangeType type;
+
+    private final Long lessonId;
+
+    /**
+     * The lesson after the change, or {@code null} if it was deleted.
+     */
+    private final LessonSnapshot lesson;
+
+    /**
+     * The IDs of the students enrolled by the change.
+     */
+    private final List<Long> enrolledStudentIds;
+
+    /**
+     * The IDs of the students no longer enrolled after the change.
+     */
+    private final List<Long> unenrolledStudentIds;
+
+    @JsonIgnore
+    private final LessonSnapshot before;
+
+    private LessonChange(LessonChangeType type, LessonSnapshot before, LessonSnapshot after) {
+        this.type = type;
+        this.lessonId = after != null ? after.getId() : before.getId();
+        this.lesson = after;
+        this.before = before;
+        List<Long> studentsBefore = before != null ? before.getStudentIds() : Collections.<Long>emptyList();
+        List<Long> studentsAfter = after != null ? after.getStudentIds() : Collections.<Long>emptyList();
+        this.enrolledStudentIds = difference(studentsAfter, studentsBefore);
+        this.unenrolledStudentIds = difference(studentsBefore, studentsAfter);
+    }
+
+    /**
+     * Describes the change between two states of a lesson.
+     *
+     * @param before the lesson before, or {@code null} if it did not exist
+     * @param after  the lesson after, or {@code null} if it no longer exists
+     * @return the change, or {@code null} if the states are the same
+     */
+    public static LessonChange of(LessonSnapshot before, LessonSnapshot after) {
+        if (before == null && after == null || before != null && before.equals(after)) {
+            return null;
+        }
+        if (before == null) {
+            return new LessonChange(LessonChangeType.CREATED, null, after);
+        }
+        if (after == null) {
+            return new LessonChange(LessonChangeType.DELETED, before, null);
+        }
+        return new LessonChange(after.sameExceptStudents(before)
+                ? LessonChangeType.ENROLMENT_CHANGED : LessonChangeType.UPDATED, before, after);
+    }
+
+    /**
+     * Coalesces this change with a later change to the same lesson.
+     *
+     * @param next the later change
+     * @return the change from the state before this one to the state after the later one, or {@code null} if
+     * the lesson ends up as it was
+     */
+    public LessonChange then(LessonChange next) {
+        return of(before, next.lesson);
+    }
+
+    /**
+     * Returns whether the lesson matched the given filter before or after the change, so that subscribers also
+     * learn about lessons leaving their view.
+     *
+     * @param filter the filter of a subscriber
+     * @return {@code true} if the change concerns the subscriber
+     */
+    public boolean matches(LessonStreamFilter filter) {
+        return before != null && filter.matches(before) || lesson != null && filter.matches(lesson);
+    }
+
+    private static List<Long> difference(List<Long> from, List<Long> removed) {
+        List<Long> difference = new ArrayList<>(from);
+        difference.removeAll(removed);
+        return Collections.unmodifiableList(difference);
+    }
+}
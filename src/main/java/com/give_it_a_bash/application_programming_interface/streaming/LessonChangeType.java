@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.streaming;
+
+/**
+ * Enum representing the kinds of change pushed to the subscribers of the lesson stream.
+ */
+public enum LessonChangeType {
+    /**
+     * The lesson was created.
+     */
+    CREATED,
+
+    /**
+     * The subject, teacher, facility or time of the lesson changed, and possibly its students too.
+     */
+    UPDATED,
+
+    /**
+     * Only the students enrolled in the lesson changed.
+     */
+    ENROLMENT_CHANGED,
+
+    /**
+     * The lesson was deleted.
+     */
+    DELETED
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.streaming;
+
+import com.give_it_a_bash.application_programming_interface.projections.LessonStreamRow;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * The state of a lesson as pushed to the subscribers of the lesson stream, referring to its associations by ID.
+ */
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode
+public class LessonSnapshot {
+
+    private final Long id;
+
+    private final Long subjectId;
+
+    private final Long teacherId;
+
+    /**
+     * The ID of the reserved facility, or {@code null} if the lesson does not need one.
+     */
+    private final Long facilityId;
+
+    /**
+     * The ID of the school of the lesson's subject.
+     */
+    private final Long schoolId;
+
+    private final LocalDateTime startTime;
+
+    private final LocalDateTime endTime;
+
+    /**
+     * The IDs of the enrolled students, in ascending order.
+     */
+    private final List<Long> studentIds;
+
+    /**
+     * Creates the snapshot of a lesson.
+     *
+     * @param row        the columns of the lesson
+     * @param studentIds the IDs of the enrolled students, in any order
+     * @return the snapshot
+     */
+    public static LessonSnapshot of(LessonStreamRow row, Collection<Long> studentIds) {
+        return new LessonSnapshot(row.getId(), row.getSubjectId(), row.getTeacherId(), row.getFacilityId(),
+                row.getSchoolId(), row.getStartTime(), row.getEndTime(),
+                Collections.unmodifiableList(studentIds.stream().sorted().distinct().collect(Collectors.toList())));
+    }
+
+    /**
+     * Returns whether the lesson differs from the given one in its students at most.
+     *
+     * @param other the other state of the lesson
+     * @return {@code true} if the subject, teacher, facility, school and times are the same
+     */
+    boolean sameExceptStudents(LessonSnapshot other) {
+        return Objects.equals(subjectId, other.subjectId)
+                && Objects.equals(teacherId, other.teacherId)
+                && Objects.equals(facilityId, other.facilityId)
+                && Objects.equals(schoolId, other.schoolId)
+                && Objects.equals(startTime, other.startTime)
+                && Objects.equals(endTime, other.endTime);
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.streaming;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Pushes the changes to lessons to the subscribers of the lesson stream as Server-Sent Events.
+ * <p>
+ * The stream keeps the last state of every lesson, so each new state can be turned into a delta, and deleted
+ * lessons can still be matched against the subscribers' filters. Each subscriber has its own bounded buffer, see
+ * {@link LessonSubscription}, and events are written on a small pool of threads, so a slow client neither holds up
+ * the others nor grows memory without bound. The number of subscribers is capped as well.
+ * </p>
+ */
+@Component
+public class LessonStream {
+
+    private final Map<Long, LessonSnapshot> lessons = new HashMap<>();
+
+    private final Set<LessonSubscription> subscriptions = ConcurrentHashMap.newKeySet();
+
+    private final int bufferCapacity;
+
+    private final int maxSubscribers;
+
+    private final long timeout;
+
+    private final ExecutorService sender;
+
+    /**
+     * Creates a lesson stream.
+     *
+     * @param bufferCapacity the number of lessons whose changes may wait for one subscriber
+     * @param maxSubscribers the number of subscribers allowed at once
+     * @param timeout        how long a subscription lasts before the client has to reconnect, in milliseconds
+     * @param threads        the number of threads writing events
+     */
+    @Autowired
+    public LessonStream(@Value("${lessons.stream.buffer-capacity:256}") int bufferCapacity,
+                        @Value("${lessons.stream.max-subscribers:1000}") int maxSubscribers,
+                        @Value("${lessons.stream.timeout-ms:1800000}") long timeout,
+                        @Value("${lessons.stream.sender-threads:4}") int threads) {
+        this.bufferCapacity = bufferCapacity;
+        this.maxSubscribers = maxSubscribers;
+        this.timeout = timeout;
+        this.sender = Executors.newFixedThreadPool(threads, new CustomizableThreadFactory("lesson-stream-"));
+    }
+
+    /**
+     * Opens a subscription to the changes of the lessons selected by a filter.
+     *
+     * @param filter selects the lessons
+     * @return the emitter the events are sent through
+     * @throws IllegalStateException if the maximum number of subscribers is reached
+     */
+    public synchronized SseEmitter subscribe(LessonStreamFilter filter) {
+        if (subscriptions.size() >= maxSubscribers) {
+            throw new IllegalStateException("The lesson stream has reached its limit of " + maxSubscribers
+                    + " subscribers");
+        }
+        LessonSubscription subscription = new LessonSubscription(new SseEmitter(timeout), filter, bufferCapacity,
+                sender);
+        Runnable unsubscribe = () -> {
+            subscription.close();
+            subscriptions.remove(subscription);
+        };
+        subscription.getEmitter().onCompletion(unsubscribe);
+        subscription.getEmitter().onTimeout(unsubscribe);
+        subscription.getEmitter().onError(e -> unsubscribe.run());
+        subscriptions.add(subscription);
+        return subscription.getEmitter();
+    }
+
+    /**
+     * Records the new states of some lessons and offers the resulting changes to every subscriber.
+     *
+     * @param states the state of each lesson by its ID, {@code null} for lessons that no longer exist
+     */
+    public synchronized void apply(Map<Long, LessonSnapshot> states) {
+        List<LessonChange> changes = new ArrayList<>();
+        for (Map.Entry<Long, LessonSnapshot> state : states.entrySet()) {
+            LessonSnapshot before = state.getValue() != null
+                    ? lessons.put(state.getKey(), state.getValue())
+                    : lessons.remove(state.getKey());
+            LessonChange change = LessonChange.of(before, state.getValue());
+            if (change != null) {
+                changes.add(change);
+            }
+        }
+        for (LessonSubscription subscription : subscriptions) {
+            for (LessonChange change : changes) {
+                subscription.offer(change);
+            }
+        }
+    }
+
+    /**
+     * Replaces the known state of every lesson without sending any change.
+     *
+     * @param snapshots the state of every lesson
+     */
+    public synchronized void load(Collection<LessonSnapshot> snapshots) {
+        lessons.clear();
+        for (LessonSnapshot snapshot : snapshots) {
+            lessons.put(snapshot.getId(), snapshot);
+        }
+    }
+
+    /**
+     * Returns the number of open subscriptions.
+     *
+     * @return the number of subscribers
+     */
+    public int getSubscriberCount() {
+        return subscriptions.size();
+    }
+
+    /**
+     * Stops the sending threads when the application shuts down.
+     */
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+    }
+}
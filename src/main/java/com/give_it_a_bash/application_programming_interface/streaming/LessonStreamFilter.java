@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.streaming;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Selects the lessons a subscriber of the lesson stream is told about. Every criterion that is set must hold.
+ */
+@Getter
+@AllArgsConstructor
+public class LessonStreamFilter {
+
+    /**
+     * The ID of the teacher of the lessons, or {@code null} for any teacher.
+     */
+    private final Long teacherId;
+
+    /**
+     * The ID of a student enrolled in the lessons, or {@code null} for any students.
+     */
+    private final Long studentId;
+
+    /**
+     * The ID of the school of the lessons' subject, or {@code null} for any school.
+     */
+    private final Long schoolId;
+
+    /**
+     * Returns whether a lesson is selected.
+     *
+     * @param lesson the lesson
+     * @return {@code true} if the lesson meets every criterion that is set
+     */
+    public boolean matches(LessonSnapshot lesson) {
+        return (teacherId == null || teacherId.equals(lesson.getTeacherId()))
+                && (studentId == null || lesson.getStudentIds().contains(studentId))
+                && (schoolId == null || schoolId.equals(lesson.getSchoolId()));
+    }
+}
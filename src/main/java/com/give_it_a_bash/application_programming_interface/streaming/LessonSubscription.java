@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.streaming;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/**
+ * One subscriber of the lesson stream, with the changes it has not been sent yet.
+ * <p>
+ * Changes are buffered per lesson: a change to a lesson that is still waiting is coalesced with the waiting change
+ * rather than queued behind it, so a subscriber that falls behind receives the net change. The buffer holds at most
+ * a fixed number of lessons. When a change to one more lesson arrives, the buffer is dropped and the subscriber is
+ * sent a {@code RESYNC} event telling it to reload the lessons, so a slow client costs bounded memory. Changes are
+ * sent on a shared pool of threads, never on the thread that offers them.
+ * </p>
+ */
+class LessonSubscription {
+
+    /**
+     * The name of the event telling a subscriber that changes were dropped.
+     */
+    static final String RESYNC = "RESYNC";
+
+    /**
+     * The number of events sent in one go before the thread is handed to other subscribers.
+     */
+    static final int SEND_BATCH = 32;
+
+    private final SseEmitter emitter;
+
+    private final LessonStreamFilter filter;
+
+    private final int capacity;
+
+    private final Executor sender;
+
+    private final Map<Long, LessonChange> pending = new LinkedHashMap<>();
+
+    private boolean overflowed;
+
+    private boolean sending;
+
+    private boolean closed;
+
+    LessonSubscription(SseEmitter emitter, LessonStreamFilter filter, int capacity, Executor sender) {
+        this.emitter = emitter;
+        this.filter = filter;
+        this.capacity = capacity;
+        this.sender = sender;
+    }
+
+    SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    /**
+     * Buffers a change if it concerns the subscriber, and makes sure it will be sent.
+     *
+     * @param change the change
+     */
+    synchronized void offer(LessonChange change) {
+        if (closed || !change.matches(filter)) {
+            return;
+        }
+        LessonChange waiting = pending.remove(change.getLessonId());
+        if (waiting != null) {
+            change = waiting.then(change);
+        } else if (pending.size() >= capacity) {
+            pending.clear();
+            overflowed = true;
+        }
+        if (change != null) {
+            pending.put(change.getLessonId(), change);
+        }
+        if (!sending && (overflowed || !pending.isEmpty())) {
+            sending = true;
+            sender.execute(this::send);
+        }
+    }
+
+    /**
+     * Stops buffering changes for the subscriber and drops the waiting ones.
+     */
+    synchronized void close() {
+        closed = true;
+        pending.clear();
+    }
+
+    private void send() {
+        for (int sent = 0; sent < SEND_BATCH; sent++) {
+            SseEmitter.SseEventBuilder event;
+            synchronized (this) {
+                if (closed || !overflowed && pending.isEmpty()) {
+                    sending = false;
+                    return;
+                }
+                if (overflowed) {
+                    overflowed = false;
+                    event = SseEmitter.event().name(RESYNC).data("");
+                } else {
+                    Iterator<LessonChange> oldest = pending.values().iterator();
+                    LessonChange change = oldest.next();
+                    oldest.remove();
+                    event = SseEmitter.event().name(change.getType().name()).data(change, MediaType.APPLICATION_JSON);
+                }
+            }
+            try {
+                emitter.send(event);
+            } catch (IOException | IllegalStateException e) {
+                close();
+                emitter.completeWithError(e);
+                return;
+            }
+        }
+        sender.execute(this::send);
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.timetabling;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * A lesson placed by the {@link TimetableSolver}: its subject, teacher, facility and time.
+ */
+@Getter
+public class TimetableAssignment {
+
+    /**
+     * The ID of the Lesson created for this assignment, or {@code null} until it is persisted.
+     */
+    @Setter
+    private Long lessonId;
+
+    private final Long subjectId;
+
+    private final Long teacherId;
+
+    private final Long facilityId;
+
+    private final LocalDateTime startTime;
+
+    private final LocalDateTime endTime;
+
+    public TimetableAssignment(Long subjectId, Long teacherId, Long facilityId, LocalDateTime startTime, LocalDateTime endTime) {
+        this.subjectId = subjectId;
+        this.teacherId = teacherId;
+        this.facilityId = facilityId;
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.timetabling;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A timetable generation job. It is updated by the thread running it and may be read from any thread.
+ */
+@Getter
+public class TimetableJob {
+
+    private final String id;
+
+    private final LocalDateTime submittedAt;
+
+    private final TimetableProgress progress;
+
+    private volatile TimetableJobStatus status = TimetableJobStatus.QUEUED;
+
+    /**
+     * The lessons of the generated timetable, empty unless the job succeeded.
+     */
+    private volatile List<TimetableAssignment> assignments = Collections.emptyList();
+
+    /**
+     * Why the job failed, or {@code null} if it did not.
+     */
+    private volatile String error;
+
+    public TimetableJob(String id, LocalDateTime submittedAt, TimetableProgress progress) {
+        this.id = id;
+        this.submittedAt = submittedAt;
+        this.progress = progress;
+    }
+
+    /**
+     * Marks the job as running.
+     */
+    public void start() {
+        status = TimetableJobStatus.RUNNING;
+    }
+
+    /**
+     * Marks the job as succeeded with the lessons it created.
+     *
+     * @param assignments the lessons of the generated timetable
+     */
+    public void succeed(List<TimetableAssignment> assignments) {
+        this.assignments = Collections.unmodifiableList(assignments);
+        status = TimetableJobStatus.SUCCEEDED;
+    }
+
+    /**
+     * Marks the job as failed.
+     *
+     * @param error why the job failed
+     */
+    public void fail(String error) {
+        this.error = error;
+        status = TimetableJobStatus.FAILED;
+    }
+
+    /**
+     * Checks whether the job has stopped running.
+     *
+     * @return {@code true} if the job succeeded or failed
+     */
+    public boolean isFinished() {
+        return status == TimetableJobStatus.SUCCEEDED || status == TimetableJobStatus.FAILED;
+    }
+}
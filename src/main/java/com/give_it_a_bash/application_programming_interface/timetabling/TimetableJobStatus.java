@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.timetabling;
+
+/**
+ * Enum representing the state of a timetable generation job.
+ */
+public enum TimetableJobStatus {
+
+    /**
+     * The job is waiting for an earlier job to finish.
+     */
+    QUEUED,
+
+    /**
+     * The solver is searching for a timetable.
+     */
+    RUNNING,
+
+    /**
+     * A timetable was found and its lessons were created.
+     */
+    SUCCEEDED,
+
+    /**
+     * No timetable was found, or its lessons could not be created.
+     */
+    FAILED
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.timetabling;
+
+import com.give_it_a_bash.application_programming_interface.scheduling.TimeSlot;
+import lombok.Getter;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The input of the {@link TimetableSolver}: the lessons to be placed and the resources they may use.
+ * Slots are referred to by their index in {@link #slots}.
+ */
+@Getter
+public class TimetableProblem {
+
+    /**
+     * The time slots a lesson may be placed in, in chronological order.
+     */
+    private final List<TimeSlot> slots;
+
+    /**
+     * The Subject ID of every lesson to be placed, one entry per lesson.
+     */
+    private final List<Long> lessonSubjectIds;
+
+    /**
+     * The IDs of the Subjects each available Teacher may teach, by Teacher ID.
+     */
+    private final Map<Long, Set<Long>> teacherSubjectIds;
+
+    /**
+     * The indexes of the slots in which a Teacher is already booked, by Teacher ID.
+     * Teachers without an entry are free in every slot.
+     */
+    private final Map<Long, BitSet> teacherBusySlots;
+
+    /**
+     * The IDs of the Facilities lessons may be held in, in order of preference.
+     */
+    private final List<Long> facilityIds;
+
+    /**
+     * The indexes of the slots in which a Facility is already booked, by Facility ID.
+     * Facilities without an entry are free in every slot.
+     */
+    private final Map<Long, BitSet> facilityBusySlots;
+
+    public TimetableProblem(List<TimeSlot> slots,
+                            List<Long> lessonSubjectIds,
+                            Map<Long, Set<Long>> teacherSubjectIds,
+                            Map<Long, BitSet> teacherBusySlots,
+                            List<Long> facilityIds,
+                            Map<Long, BitSet> facilityBusySlots) {
+        this.slots = Collections.unmodifiableList(slots);
+        this.lessonSubjectIds = Collections.unmodifiableList(lessonSubjectIds);
+        this.teacherSubjectIds = Collections.unmodifiableMap(teacherSubjectIds);
+        this.teacherBusySlots = Collections.unmodifiableMap(teacherBusySlots);
+        this.facilityIds = Collections.unmodifiableList(facilityIds);
+        this.facilityBusySlots = Collections.unmodifiableMap(facilityBusySlots);
+    }
+}
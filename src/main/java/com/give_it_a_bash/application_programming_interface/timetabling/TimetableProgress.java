@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.timetabling;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Reports how far a {@link TimetableSolver} run has got. It is updated by the solver's worker threads and
+ * may be read from any thread while the search runs.
+ */
+public class TimetableProgress {
+
+    private final int totalLessons;
+
+    private final AtomicInteger placedLessons = new AtomicInteger();
+
+    private final LongAdder exploredNodes = new LongAdder();
+
+    public TimetableProgress(int totalLessons) {
+        this.totalLessons = totalLessons;
+    }
+
+    /**
+     * Returns the number of lessons to be placed.
+     *
+     * @return the number of lessons to be placed
+     */
+    public int getTotalLessons() {
+        return totalLessons;
+    }
+
+    /**
+     * Returns the largest number of lessons placed together so far by any branch of the search.
+     *
+     * @return the number of lessons placed by the deepest partial timetable
+     */
+    public int getPlacedLessons() {
+        return placedLessons.get();
+    }
+
+    /**
+     * Returns the number of partial timetables the search has visited.
+     *
+     * @return the number of explored search nodes
+     */
+    public long getExploredNodes() {
+        return exploredNodes.sum();
+    }
+
+    void recordNode(int placed) {
+        exploredNodes.increment();
+        if (placed > placedLessons.get()) {
+            placedLessons.accumulateAndGet(placed, Math::max);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.timetabling;
+
+import com.give_it_a_bash.application_programming_interface.entities.FacilityType;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Describes the timetable to be generated: how many lessons of each subject are needed, and the school
+ * days and hours they may be placed in. Days run from {@link #firstDay} and skip weekends; each day is
+ * divided into back-to-back slots of {@link #lessonMinutes} from {@link #dayStart} to {@link #dayEnd}.
+ */
+@Getter
+@Setter
+public class TimetableRequest {
+
+    /**
+     * The number of lessons needed per subject.
+     */
+    private List<SubjectRequirement> requirements = new ArrayList<>();
+
+    /**
+     * The first day of the timetable.
+     */
+    private LocalDate firstDay;
+
+    /**
+     * The number of school days the timetable covers, weekends excluded.
+     */
+    private int days = 5;
+
+    /**
+     * The time the first lesson of a day may start.
+     */
+    private LocalTime dayStart = LocalTime.of(9, 0);
+
+    /**
+     * The time the last lesson of a day must end by.
+     */
+    private LocalTime dayEnd = LocalTime.of(17, 0);
+
+    /**
+     * The length of every lesson, in minutes.
+     */
+    private int lessonMinutes = 60;
+
+    /**
+     * The type of Facility lessons are held in, or {@code null} for any type.
+     */
+    private FacilityType facilityType;
+
+    /**
+     * How long the solver may search for a timetable, in seconds.
+     */
+    private int timeBudgetSeconds = 10;
+
+    /**
+     * The number of lessons needed for one subject.
+     */
+    @Getter
+    @Setter
+    public static class SubjectRequirement {
+
+        /**
+         * The ID of the Subject.
+         */
+        private Long subjectId;
+
+        /**
+         * The number of lessons of the Subject to be placed.
+         */
+        private int lessons;
+
+        // No-argument constructor
+        public SubjectRequirement() {
+        }
+
+        public SubjectRequirement(Long subjectId, int lessons) {
+            this.subjectId = subjectId;
+            this.lessons = lessons;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.timetabling;
+
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The result of a {@link TimetableSolver} run.
+ */
+@Getter
+public class TimetableSolution {
+
+    /**
+     * How a search ended.
+     */
+    public enum Outcome {
+        /**
+         * Every lesson was placed.
+         */
+        SOLVED,
+        /**
+         * The whole search space was explored without placing every lesson.
+         */
+        INFEASIBLE,
+        /**
+         * The time budget ran out before a timetable was found.
+         */
+        TIMED_OUT
+    }
+
+    private final Outcome outcome;
+
+    /**
+     * The placed lessons ordered by start time, empty unless the outcome is {@link Outcome#SOLVED}.
+     */
+    private final List<TimetableAssignment> assignments;
+
+    public TimetableSolution(Outcome outcome, List<TimetableAssignment> assignments) {
+        this.outcome = outcome;
+        this.assignments = assignments;
+    }
+
+    static TimetableSolution unsolved(Outcome outcome) {
+        return new TimetableSolution(outcome, Collections.<TimetableAssignment>emptyList());
+    }
+}
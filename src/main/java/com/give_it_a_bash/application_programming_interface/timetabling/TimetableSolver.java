@@ -0,0 +1,366 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.timetabling;
+
+import com.give_it_a_bash.application_programming_interface.scheduling.TimeSlot;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Places lessons into time slots, assigning each a qualified teacher and a facility, so that no teacher
+ * and no facility is used twice in the same slot and no teacher or facility is placed over one of its
+ * booked lessons.
+ * <p>
+ * The search is a depth-first backtracking search over the lessons, most constrained first (fewest
+ * qualified teachers). The alternatives for the first {@link #FORK_DEPTH} lessons are explored in parallel
+ * as {@link RecursiveAction}s on a dedicated {@link ForkJoinPool}; below that each branch is searched
+ * sequentially. The first complete timetable found stops every branch, as does the time budget running out.
+ * </p>
+ * <p>
+ * Two symmetries are broken to keep the search small. The facilities free in a slot are interchangeable
+ * within it, so a slot only tracks how many are in use and they are numbered off in order of preference
+ * when the solution is built. Lessons of the same
+ * subject are interchangeable too, so each is placed strictly after the previous one in (slot, teacher) order.
+ * </p>
+ */
+@Component
+public class TimetableSolver {
+
+    /**
+     * The number of lessons whose alternatives are forked as separate tasks.
+     */
+    static final int FORK_DEPTH = 1;
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a solver.
+     *
+     * @param parallelism the number of worker threads, or 0 for one per available processor
+     */
+    @Autowired
+    public TimetableSolver(@Value("${timetable.solver.parallelism:0}") int parallelism) {
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Searches for a timetable placing every lesson of the problem.
+     *
+     * @param problem    the lessons to be placed and the resources available
+     * @param timeBudget how long the search may run
+     * @param progress   updated as the search runs
+     * @return the timetable, or why none was found
+     */
+    public TimetableSolution solve(TimetableProblem problem, Duration timeBudget, TimetableProgress progress) {
+        Search search = new Search(problem, System.nanoTime() + timeBudget.toNanos(), progress);
+        if (search.hasUnteachableLesson()) {
+            return TimetableSolution.unsolved(TimetableSolution.Outcome.INFEASIBLE);
+        }
+        pool.invoke(new SearchTask(search, search.initialPlacement(), 0));
+
+        Placement solution = search.solution.get();
+        if (solution != null) {
+            return new TimetableSolution(TimetableSolution.Outcome.SOLVED, search.toAssignments(solution));
+        }
+        return TimetableSolution.unsolved(search.timedOut
+                ? TimetableSolution.Outcome.TIMED_OUT
+                : TimetableSolution.Outcome.INFEASIBLE);
+    }
+
+    /**
+     * Stops the worker threads when the application shuts down.
+     */
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * The problem compiled to indexes, and the state shared by every branch of one search.
+     */
+    private static final class Search {
+
+        private final TimetableProblem problem;
+
+        private final long deadline;
+
+        private final TimetableProgress progress;
+
+        private final Long[] teacherIds;
+
+        private final Long[] subjectIds;
+
+        /**
+         * The indexes of the teachers qualified for each lesson, in ascending order.
+         */
+        private final int[][] candidates;
+
+        /**
+         * Whether a lesson is of the same subject as the one before it.
+         */
+        private final boolean[] followsSameSubject;
+
+        private final int slotCount;
+
+        /**
+         * The number of facilities not already booked in each slot.
+         */
+        private final int[] facilitiesFree;
+
+        private final AtomicReference<Placement> solution = new AtomicReference<>();
+
+        private volatile boolean timedOut;
+
+        private Search(TimetableProblem problem, long deadline, TimetableProgress progress) {
+            this.problem = problem;
+            this.deadline = deadline;
+            this.progress = progress;
+            this.teacherIds = problem.getTeacherSubjectIds().keySet().toArray(new Long[0]);
+            this.slotCount = problem.getSlots().size();
+            this.facilitiesFree = new int[slotCount];
+            for (int slot = 0; slot < slotCount; slot++) {
+                for (Long facilityId : problem.getFacilityIds()) {
+                    if (isFacilityFree(facilityId, slot)) {
+                        facilitiesFree[slot]++;
+                    }
+                }
+            }
+
+            List<Long> lessonSubjects = new ArrayList<>(problem.getLessonSubjectIds());
+            List<int[]> lessonCandidates = new ArrayList<>(lessonSubjects.size());
+            for (Long subjectId : lessonSubjects) {
+                List<Integer> qualified = new ArrayList<>();
+                for (int teacher = 0; teacher < teacherIds.length; teacher++) {
+                    if (problem.getTeacherSubjectIds().get(teacherIds[teacher]).contains(subjectId)) {
+                        qualified.add(teacher);
+                    }
+                }
+                lessonCandidates.add(qualified.stream().mapToInt(Integer::intValue).toArray());
+            }
+
+            Integer[] order = new Integer[lessonSubjects.size()];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, Comparator.<Integer>comparingInt(i -> lessonCandidates.get(i).length)
+                    .thenComparing(lessonSubjects::get));
+
+            this.subjectIds = new Long[order.length];
+            this.candidates = new int[order.length][];
+            this.followsSameSubject = new boolean[order.length];
+            for (int i = 0; i < order.length; i++) {
+                subjectIds[i] = lessonSubjects.get(order[i]);
+                candidates[i] = lessonCandidates.get(order[i]);
+                followsSameSubject[i] = i > 0 && subjectIds[i].equals(subjectIds[i - 1]);
+            }
+        }
+
+        private boolean hasUnteachableLesson() {
+            for (int[] teachers : candidates) {
+                if (teachers.length == 0) {
+                    return true;
+                }
+            }
+            return problem.getFacilityIds().isEmpty() && candidates.length > 0;
+        }
+
+        private boolean isFacilityFree(Long facilityId, int slot) {
+            BitSet busy = problem.getFacilityBusySlots().get(facilityId);
+            return busy == null || !busy.get(slot);
+        }
+
+        private Placement initialPlacement() {
+            BitSet[] teacherBusy = new BitSet[teacherIds.length];
+            for (int teacher = 0; teacher < teacherIds.length; teacher++) {
+                BitSet busy = problem.getTeacherBusySlots().get(teacherIds[teacher]);
+                teacherBusy[teacher] = busy != null ? (BitSet) busy.clone() : new BitSet(slotCount);
+            }
+            return new Placement(candidates.length, slotCount, teacherBusy);
+        }
+
+        private boolean isStopped() {
+            if (solution.get() != null) {
+                return true;
+            }
+            if (System.nanoTime() - deadline >= 0) {
+                timedOut = true;
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Checks whether a lesson may be placed in a slot with a teacher, given the lessons placed before it.
+         */
+        private boolean canPlace(Placement placement, int lesson, int slot, int teacher) {
+            if (placement.facilitiesInUse[slot] == facilitiesFree[slot] || placement.teacherBusy[teacher].get(slot)) {
+                return false;
+            }
+            return !followsSameSubject[lesson]
+                    || slot > placement.slotOf[lesson - 1]
+                    || slot == placement.slotOf[lesson - 1] && teacher > placement.teacherOf[lesson - 1];
+        }
+
+        /**
+         * Places the given lesson and every lesson after it, backtracking on failure.
+         *
+         * @return {@code true} if every lesson was placed and this placement recorded as the solution
+         */
+        private boolean place(Placement placement, int lesson) {
+            if (isStopped()) {
+                return false;
+            }
+            progress.recordNode(lesson);
+            if (lesson == candidates.length) {
+                return solution.compareAndSet(null, placement);
+            }
+            int firstSlot = followsSameSubject[lesson] ? placement.slotOf[lesson - 1] : 0;
+            for (int slot = firstSlot; slot < slotCount; slot++) {
+                for (int teacher : candidates[lesson]) {
+                    if (canPlace(placement, lesson, slot, teacher)) {
+                        placement.assign(lesson, slot, teacher);
+                        if (place(placement, lesson + 1)) {
+                            return true;
+                        }
+                        placement.unassign(lesson);
+                        if (isStopped()) {
+                            return false;
+                        }
+                    }
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Numbers off the free facilities of each slot and orders the placed lessons by time and teacher.
+         */
+        private List<TimetableAssignment> toAssignments(Placement placement) {
+            int[] nextFacility = new int[slotCount];
+            List<TimetableAssignment> assignments = new ArrayList<>(candidates.length);
+            for (int lesson = 0; lesson < candidates.length; lesson++) {
+                int slot = placement.slotOf[lesson];
+                while (!isFacilityFree(problem.getFacilityIds().get(nextFacility[slot]), slot)) {
+                    nextFacility[slot]++;
+                }
+                TimeSlot timeSlot = problem.getSlots().get(slot);
+                assignments.add(new TimetableAssignment(subjectIds[lesson],
+                        teacherIds[placement.teacherOf[lesson]],
+                        problem.getFacilityIds().get(nextFacility[slot]++),
+                        timeSlot.getStart(),
+                        timeSlot.getEnd()));
+            }
+            assignments.sort(Comparator.comparing(TimetableAssignment::getStartTime)
+                    .thenComparing(TimetableAssignment::getTeacherId));
+            return assignments;
+        }
+    }
+
+    /**
+     * A partial timetable: the slot and teacher of every placed lesson, and the resources they use.
+     */
+    private static final class Placement {
+
+        private final int[] slotOf;
+
+        private final int[] teacherOf;
+
+        private final int[] facilitiesInUse;
+
+        private final BitSet[] teacherBusy;
+
+        private Placement(int lessonCount, int slotCount, BitSet[] teacherBusy) {
+            this.slotOf = new int[lessonCount];
+            this.teacherOf = new int[lessonCount];
+            this.facilitiesInUse = new int[slotCount];
+            this.teacherBusy = teacherBusy;
+        }
+
+        private Placement(Placement other) {
+            this.slotOf = other.slotOf.clone();
+            this.teacherOf = other.teacherOf.clone();
+            this.facilitiesInUse = other.facilitiesInUse.clone();
+            this.teacherBusy = new BitSet[other.teacherBusy.length];
+            for (int teacher = 0; teacher < teacherBusy.length; teacher++) {
+                teacherBusy[teacher] = (BitSet) other.teacherBusy[teacher].clone();
+            }
+        }
+
+        private void assign(int lesson, int slot, int teacher) {
+            slotOf[lesson] = slot;
+            teacherOf[lesson] = teacher;
+            facilitiesInUse[slot]++;
+            teacherBusy[teacher].set(slot);
+        }
+
+        private void unassign(int lesson) {
+            facilitiesInUse[slotOf[lesson]]--;
+            teacherBusy[teacherOf[lesson]].clear(slotOf[lesson]);
+        }
+    }
+
+    /**
+     * Searches the subtree below a partial timetable, forking one subtask per alternative for the
+     * first {@link #FORK_DEPTH} lessons.
+     */
+    private static final class SearchTask extends RecursiveAction {
+
+        private final Search search;
+
+        private final Placement placement;
+
+        private final int lesson;
+
+        private SearchTask(Search search, Placement placement, int lesson) {
+            this.search = search;
+            this.placement = placement;
+            this.lesson = lesson;
+        }
+
+        @Override
+        protected void compute() {
+            if (lesson >= FORK_DEPTH || lesson == search.candidates.length) {
+                search.place(placement, lesson);
+                return;
+            }
+            if (search.isStopped()) {
+                return;
+            }
+            search.progress.recordNode(lesson);
+            int firstSlot = search.followsSameSubject[lesson] ? placement.slotOf[lesson - 1] : 0;
+            List<SearchTask> alternatives = new ArrayList<>();
+            for (int slot = firstSlot; slot < search.slotCount; slot++) {
+                for (int teacher : search.candidates[lesson]) {
+                    if (search.canPlace(placement, lesson, slot, teacher)) {
+                        Placement next = new Placement(placement);
+                        next.assign(lesson, slot, teacher);
+                        alternatives.add(new SearchTask(search, next, lesson + 1));
+                    }
+                }
+            }
+            invokeAll(alternatives);
+        }
+    }
+}
@@ -10,7 +10,10 @@
 
 package com.give_it_a_bash.application_programming_interface.web;
 
+import com.give_it_a_bash.application_programming_interface.bulk.BulkItemResult;
+import com.give_it_a_bash.application_programming_interface.bulk.BulkPersistence;
 import com.give_it_a_bash.application_programming_interface.entities.Achievement;
+import com.give_it_a_bash.application_programming_interface.pagination.CursorPage;
 import com.give_it_a_bash.application_programming_interface.services.AchievementService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -44,13 +47,41 @@ public class AchievementController {
     }
 
     /**
-     * Retrieves all Achievement entries.
+     * Creates many Achievement entries in a single request.
      *
-     * @return ResponseEntity containing a list of all Achievements and HTTP status
+     * @param achievements the Achievements to be created
+     * @return ResponseEntity containing the outcome for each Achievement and a CREATED status if all were created,
+     * a MULTI_STATUS status if some were not, or a PAYLOAD_TOO_LARGE status if more than
+     * {@link BulkPersistence#MAX_ITEMS} Achievements were sent
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<BulkItemResult>> createAchievements(@RequestBody List<Achievement> achievements) {
+        try {
+            List<BulkItemResult> results = achievementService.createAchievements(achievements);
+            HttpStatus status = BulkItemResult.allCreated(results) ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+            return new ResponseEntity<>(results, status);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+        }
+    }
+
+    /**
+     * Retrieves a page of Achievement entries using keyset pagination.
+     *
+     * @param after the opaque cursor returned with the previous page, or {@code null} for the first page
+     * @param limit the maximum number of Achievement entries to return, capped at {@link CursorPage#MAX_LIMIT}
+     * @return ResponseEntity containing a page of Achievements and HTTP status, or a BAD_REQUEST status if the cursor is malformed
      */
     @GetMapping
-    public ResponseEntity<List<Achievement>> getAllAchievements() {
-        List<Achievement> achievements = achievementService.getAllAchievements();
+    public ResponseEntity<CursorPage<Achievement>> getAllAchievements(@RequestParam(value = "after", required = false) String after,
+                                                                      @RequestParam(value = "limit", required = false) Integer limit) {
+        Long afterId;
+        try {
+            afterId = CursorPage.decodeCursor(after);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+        CursorPage<Achievement> achievements = achievementService.getAchievementPage(afterId, CursorPage.resolveLimit(limit));
         return new ResponseEntity<>(achievements, HttpStatus.OK);
     }
 
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.web;
+
+import com.give_it_a_bash.application_programming_interface.analytics.AchievementCount;
+import com.give_it_a_bash.application_programming_interface.analytics.AchievementRollup;
+import com.give_it_a_bash.application_programming_interface.entities.SubjectCategory;
+import com.give_it_a_bash.application_programming_interface.services.AnalyticsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * REST controller for the achievement analytics.
+ */
+@RestController
+@RequestMapping("/api/analytics")
+public class AnalyticsController {
+
+    @Autowired
+    private AnalyticsService analyticsService;
+
+    /**
+     * Retrieves the number of achievements awarded per month, school and category within a date range.
+     * The counts are read from in-memory rollups, so the request does not query the database.
+     *
+     * @param from     the first day of the range
+     * @param to       the last day of the range
+     * @param schoolId the ID of the school to count, or {@code null} to count every school
+     * @param category the category to count, or {@code null} to count every category
+     * @return ResponseEntity containing the counts and HTTP status, or a BAD_REQUEST status if the range ends before it starts
+     * or overlaps more than {@link AchievementRollup#MAX_MONTHS} months
+     */
+    @GetMapping("/achievements")
+    public ResponseEntity<List<AchievementCount>> getAchievementCounts(@RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                       @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                                       @RequestParam(value = "schoolId", required = false) Long schoolId,
+                                                                       @RequestParam(value = "category", required = false) SubjectCategory category) {
+        try {
+            return new ResponseEntity<>(analyticsService.getAchievementCounts(from, to, schoolId, category), HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.web;
+
+import com.give_it_a_bash.application_programming_interface.scheduling.TimeSlot;
+import com.give_it_a_bash.application_programming_interface.services.AvailabilityService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Controller class for handling availability queries.
+ * This class exposes a RESTful endpoint for finding when teachers, students and facilities are all free.
+ */
+@RestController
+@RequestMapping("/api/availability")
+public class AvailabilityController {
+
+    @Autowired
+    private AvailabilityService availabilityService;
+
+    /**
+     * Finds the slots in which all the given Teachers, Students and Facilities are free.
+     *
+     * @param teacherIds the IDs of the Teachers who must be free
+     * @param studentIds the IDs of the Students who must be free
+     * @param facilityIds the IDs of the Facilities which must be free
+     * @param from the inclusive start of the search window, as an ISO date-time
+     * @param to the exclusive end of the search window, as an ISO date-time
+     * @param duration the minimum length of a slot, in minutes, from 1 to {@link AvailabilityService#MAX_DURATION}
+     * @return ResponseEntity containing the free slots and HTTP status, or a BAD_REQUEST status if the window or duration is invalid
+     */
+    @GetMapping
+    public ResponseEntity<List<TimeSlot>> getAvailability(@RequestParam(value = "teacherIds", required = false) List<Long> teacherIds,
+                                                          @RequestParam(value = "studentIds", required = false) List<Long> studentIds,
+                                                          @RequestParam(value = "facilityIds", required = false) List<Long> facilityIds,
+                                                          @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                          @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                                          @RequestParam(value = "duration", defaultValue = "60") long duration) {
+        if (duration < 1 || duration > AvailabilityService.MAX_DURATION.toMinutes()) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+        try {
+            List<TimeSlot> slots = availabilityService.findFreeSlots(
+                    teacherIds != null ? teacherIds : Collections.<Long>emptyList(),
+                    studentIds != null ? studentIds : Collections.<Long>emptyList(),
+                    facilityIds != null ? facilityIds : Collections.<Long>emptyList(),
+                    from, to, Duration.ofMinutes(duration));
+            return new ResponseEntity<>(slots, HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+}
@@ -11,13 +11,13 @@
 package com.give_it_a_bash.application_programming_interface.web;
 
 import com.give_it_a_bash.application_programming_interface.entities.Facility;
+import com.give_it_a_bash.application_programming_interface.pagination.CursorPage;
 import com.give_it_a_bash.application_programming_interface.services.FacilityService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.Optional;
 
 /**
@@ -44,13 +44,22 @@ public class FacilityController {
     }
 
     /**
-     * Retrieves all Facility entries.
+     * Retrieves a page of Facility entries using keyset pagination.
      *
-     * @return ResponseEntity containing a list of all Facilities and HTTP status
+     * @param after the opaque cursor returned with the previous page, or {@code null} for the first page
+     * @param limit the maximum number of Facility entries to return, capped at {@link CursorPage#MAX_LIMIT}
+     * @return ResponseEntity containing a page of Facilities and HTTP status, or a BAD_REQUEST status if the cursor is malformed
      */
     @GetMapping
-    public ResponseEntity<List<Facility>> getAllFacilities() {
-        List<Facility> facilities = facilityService.getAllFacilities();
+    public ResponseEntity<CursorPage<Facility>> getAllFacilities(@RequestParam(value = "after", required = false) String after,
+                                                                 @RequestParam(value = "limit", required = false) Integer limit) {
+        Long afterId;
+        try {
+            afterId = CursorPage.decodeCursor(after);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+        CursorPage<Facility> facilities = facilityService.getFacilityPage(afterId, CursorPage.resolveLimit(limit));
         return new ResponseEntity<>(facilities, HttpStatus.OK);
     }
 
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.web;
+
+import com.give_it_a_bash.application_programming_interface.bulk.ImportFormat;
+import com.give_it_a_bash.application_programming_interface.bulk.ImportReport;
+import com.give_it_a_bash.application_programming_interface.services.ImportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * REST controller for importing Students, Teachers and Lessons from NDJSON or CSV files.
+ */
+@RestController
+@RequestMapping("/api/import")
+public class ImportController {
+
+    @Autowired
+    private ImportService importService;
+
+    /**
+     * Imports the rows of an uploaded NDJSON ({@code application/x-ndjson}) or CSV ({@code text/csv}) body.
+     * The body is read while the rows are written, so it may be larger than the server's memory.
+     *
+     * @param entity      the kind of entity imported: {@code students}, {@code teachers} or {@code lessons}
+     * @param contentType the content type of the body
+     * @param body        the uploaded body
+     * @return ResponseEntity containing the import report, with a CREATED status if every row was created or
+     * a MULTI_STATUS status otherwise; an UNSUPPORTED_MEDIA_TYPE status for other formats, a BAD_REQUEST status
+     * for an invalid CSV header, or a NOT_FOUND status if the entity cannot be imported
+     * @throws IOException if the body could not be read
+     */
+    @PostMapping("/{entity}")
+    public ResponseEntity<ImportReport> importEntities(@PathVariable("entity") String entity,
+                                                       @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+                                                       InputStream body) throws IOException {
+        ImportFormat format = ImportFormat.of(contentType);
+        if (format == null) {
+            return ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE).build();
+        }
+        try {
+            ImportReport report = importService.importEntities(entity, format, body);
+            return new ResponseEntity<>(report, report.allCreated() ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+    }
+}
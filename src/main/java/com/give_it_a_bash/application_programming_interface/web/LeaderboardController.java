@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.web;
+
+import com.give_it_a_bash.application_programming_interface.leaderboard.LeaderboardEntry;
+import com.give_it_a_bash.application_programming_interface.pagination.CursorPage;
+import com.give_it_a_bash.application_programming_interface.services.LeaderboardService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Controller class for handling power leaderboard queries.
+ * This class exposes RESTful endpoints for the most powerful mutants and for the rank of a single mutant.
+ */
+@RestController
+@RequestMapping("/api/leaderboard")
+public class LeaderboardController {
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    /**
+     * Retrieves the most powerful Students and Teachers.
+     *
+     * @param schoolId the ID of the school to rank within, or {@code null} to rank across all schools
+     * @param limit the maximum number of mutants to return, capped at {@link CursorPage#MAX_LIMIT}
+     * @return ResponseEntity containing the leaderboard entries and HTTP status
+     */
+    @GetMapping
+    public ResponseEntity<List<LeaderboardEntry>> getTopMutants(@RequestParam(value = "schoolId", required = false) Long schoolId,
+                                                                @RequestParam(value = "limit", required = false) Integer limit) {
+        List<LeaderboardEntry> entries = leaderboardService.getTopMutants(schoolId, CursorPage.resolveLimit(limit));
+        return new ResponseEntity<>(entries, HttpStatus.OK);
+    }
+
+    /**
+     * Retrieves the rank of a Student or Teacher.
+     *
+     * @param id the ID of the mutant
+     * @param schoolId the ID of the school to rank within, or {@code null} to rank across all schools
+     * @return ResponseEntity containing the leaderboard entry and HTTP status, or a NOT_FOUND status if the mutant is not ranked
+     */
+    @GetMapping("/mutants/{id}")
+    public ResponseEntity<LeaderboardEntry> getRank(@PathVariable("id") Long id,
+                                                    @RequestParam(value = "schoolId", required = false) Long schoolId) {
+        try {
+            return new ResponseEntity<>(leaderboardService.getRank(id, schoolId), HttpStatus.OK);
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+    }
+}
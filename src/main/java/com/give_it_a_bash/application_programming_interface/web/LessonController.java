@@ -10,13 +10,27 @@
 
 package com.give_it_a_bash.application_programming_interface.web;
 
+import com.give_it_a_bash.application_programming_interface.bulk.BulkItemResult;
+import com.give_it_a_bash.application_programming_interface.bulk.BulkPersistence;
+import com.give_it_a_bash.application_programming_interface.entities.FacilityType;
 import com.give_it_a_bash.application_programming_interface.entities.Lesson;
+import com.give_it_a_bash.application_programming_interface.pagination.CursorPage;
+import com.give_it_a_bash.application_programming_interface.projections.LessonSummary;
+import com.give_it_a_bash.application_programming_interface.scheduling.LessonConflict;
+import com.give_it_a_bash.application_programming_interface.scheduling.LessonConflictException;
+import com.give_it_a_bash.application_programming_interface.scheduling.NoFreeFacilityException;
 import com.give_it_a_bash.application_programming_interface.services.LessonService;
+import com.give_it_a_bash.application_programming_interface.services.LessonStreamService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.Optional;
@@ -33,29 +47,129 @@ public class LessonController {
     @Autowired
     private LessonService lessonService;
 
+    @Autowired
+    private LessonStreamService lessonStreamService;
+
     /**
      * Creates a new Lesson entry.
      *
      * @param lesson the Lesson to be created
-     * @return ResponseEntity containing the created Lesson and HTTP status
+     * @param facilityType the type of Facility to reserve for the Lesson if it does not name one
+     * @return ResponseEntity containing the created Lesson and HTTP status, a CONFLICT status if the Lesson
+     * would double-book its Teacher, one of its Students or its Facility, or no Facility of the requested type is
+     * free, a BAD_REQUEST status if its Facility cannot hold it, or a NOT_FOUND status if its Facility does not exist
      */
     @PostMapping
-    public ResponseEntity<Lesson> createLesson(@RequestBody Lesson lesson) {
-        Lesson createdLesson = lessonService.createLesson(lesson);
-        return new ResponseEntity<>(createdLesson, HttpStatus.CREATED);
+    public ResponseEntity<Lesson> createLesson(@RequestBody Lesson lesson,
+                                               @RequestParam(value = "facilityType", required = false) FacilityType facilityType) {
+        try {
+            Lesson createdLesson = lessonService.createLesson(lesson, facilityType);
+            return new ResponseEntity<>(createdLesson, HttpStatus.CREATED);
+        } catch (LessonConflictException | NoFreeFacilityException e) {
+            return rollbackWith(HttpStatus.CONFLICT);
+        } catch (IllegalArgumentException e) {
+            return rollbackWith(HttpStatus.BAD_REQUEST);
+        } catch (RuntimeException e) {
+            return rollbackWith(HttpStatus.NOT_FOUND);
+        }
+    }
+
+    /**
+     * Creates many Lesson entries in a single request.
+     *
+     * @param lessons the Lessons to be created
+     * @return ResponseEntity containing the outcome for each Lesson and a CREATED status if all were created,
+     * a MULTI_STATUS status if some were not, or a PAYLOAD_TOO_LARGE status if more than
+     * {@link BulkPersistence#MAX_ITEMS} Lessons were sent
+     */
+    @PostMapping("/batch")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResponseEntity<List<BulkItemResult>> createLessons(@RequestBody List<Lesson> lessons) {
+        try {
+            List<BulkItemResult> results = lessonService.createLessons(lessons);
+            HttpStatus status = BulkItemResult.allCreated(results) ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+            return new ResponseEntity<>(results, status);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+        }
     }
 
     /**
-     * Retrieves all Lesson entries.
+     * Retrieves a page of Lesson entries using keyset pagination.
      *
-     * @return ResponseEntity containing a list of all Lessons and HTTP status
+     * @param after the opaque cursor returned with the previous page, or {@code null} for the first page
+     * @param limit the maximum number of Lesson entries to return, capped at {@link CursorPage#MAX_LIMIT}
+     * @return ResponseEntity containing a page of Lessons and HTTP status, or a BAD_REQUEST status if the cursor is malformed
      */
     @GetMapping
-    public ResponseEntity<List<Lesson>> getAllLessons() {
-        List<Lesson> lessons = lessonService.getAllLessons();
+    public ResponseEntity<CursorPage<Lesson>> getAllLessons(@RequestParam(value = "after", required = false) String after,
+                                                            @RequestParam(value = "limit", required = false) Integer limit) {
+        Long afterId;
+        try {
+            afterId = CursorPage.decodeCursor(after);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+        CursorPage<Lesson> lessons = lessonService.getLessonPage(afterId, CursorPage.resolveLimit(limit));
         return new ResponseEntity<>(lessons, HttpStatus.OK);
     }
 
+    /**
+     * Retrieves a page of Lesson summaries using keyset pagination, selected with {@code view=summary}.
+     * Summaries carry only the fields needed by list views and are read without loading any entity.
+     *
+     * @param after the opaque cursor returned with the previous page, or {@code null} for the first page
+     * @param limit the maximum number of Lesson summaries to return, capped at {@link CursorPage#MAX_LIMIT}
+     * @return ResponseEntity containing a page of Lesson summaries and HTTP status, or a BAD_REQUEST status if the cursor is malformed
+     */
+    @GetMapping(params = "view=summary")
+    public ResponseEntity<CursorPage<LessonSummary>> getLessonSummaries(@RequestParam(value = "after", required = false) String after,
+                                                                        @RequestParam(value = "limit", required = false) Integer limit) {
+        Long afterId;
+        try {
+            afterId = CursorPage.decodeCursor(after);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+        CursorPage<LessonSummary> summaries = lessonService.getLessonSummaryPage(afterId, CursorPage.resolveLimit(limit));
+        return new ResponseEntity<>(summaries, HttpStatus.OK);
+    }
+
+    /**
+     * Lists every pair of existing Lessons that overlap for the same Teacher, Student or Facility.
+     *
+     * @return ResponseEntity containing the overlapping Lessons and HTTP status
+     */
+    @GetMapping("/conflicts")
+    public ResponseEntity<List<LessonConflict>> getLessonConflicts() {
+        return new ResponseEntity<>(lessonService.getLessonConflicts(), HttpStatus.OK);
+    }
+
+    /**
+     * Streams the changes to Lessons as Server-Sent Events, so clients need not poll for them.
+     * Each event is named after the kind of change and carries the Lesson after the change and the Students it
+     * enrolled or unenrolled. A {@code RESYNC} event tells a client that fell too far behind to reload the Lessons.
+     * The stream runs outside any transaction and without an open EntityManager, so an open stream holds no
+     * database connection.
+     *
+     * @param teacherId only stream the Lessons of this Teacher
+     * @param studentId only stream the Lessons this Student is enrolled in
+     * @param schoolId only stream the Lessons of Subjects of this school
+     * @return ResponseEntity containing the event stream, or a SERVICE_UNAVAILABLE status if the stream has
+     * reached its limit of subscribers
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResponseEntity<SseEmitter> streamLessons(@RequestParam(value = "teacherId", required = false) Long teacherId,
+                                                    @RequestParam(value = "studentId", required = false) Long studentId,
+                                                    @RequestParam(value = "schoolId", required = false) Long schoolId) {
+        try {
+            return new ResponseEntity<>(lessonStreamService.subscribe(teacherId, studentId, schoolId), HttpStatus.OK);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
     /**
      * Retrieves Lesson by its ID.
      *
@@ -74,16 +188,25 @@ public class LessonController {
      *
      * @param id the ID of the Lesson to be updated
      * @param lessonDetails the new details for the Lesson
-     * @return ResponseEntity containing the updated Lesson and HTTP status
+     * @param facilityType the type of Facility to reserve for the Lesson if the new details do not name one
+     * @return ResponseEntity containing the updated Lesson and HTTP status, a CONFLICT status if the Lesson
+     * would double-book its Teacher, one of its Students or its Facility, or no Facility of the requested type is
+     * free, a BAD_REQUEST status if its Facility cannot hold it, or a NOT_FOUND status if the Lesson or its
+     * Facility does not exist
      */
     @PutMapping("/{id}")
     public ResponseEntity<Lesson> updateLesson(@PathVariable("id") Long id,
-                                               @RequestBody Lesson lessonDetails) {
+                                               @RequestBody Lesson lessonDetails,
+                                               @RequestParam(value = "facilityType", required = false) FacilityType facilityType) {
         try {
-            Lesson updatedLesson = lessonService.updateLesson(id, lessonDetails);
+            Lesson updatedLesson = lessonService.updateLesson(id, lessonDetails, facilityType);
             return new ResponseEntity<>(updatedLesson, HttpStatus.OK);
+        } catch (LessonConflictException | NoFreeFacilityException e) {
+            return rollbackWith(HttpStatus.CONFLICT);
+        } catch (IllegalArgumentException e) {
+            return rollbackWith(HttpStatus.BAD_REQUEST);
         } catch (RuntimeException e) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+            return rollbackWith(HttpStatus.NOT_FOUND);
         }
     }
 
@@ -102,4 +225,19 @@ public class LessonController {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
         }
     }
+
+    /**
+     * Rolls back the request's transaction and builds an empty response with the given status.
+     * A service call that failed has already marked the transaction rollback-only, so committing it would fail.
+     *
+     * @param status the HTTP status of the response
+     * @param <T> the type of the response body
+     * @return ResponseEntity with the given HTTP status
+     */
+    private static <T> ResponseEntity<T> rollbackWith(HttpStatus status) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+        }
+        return ResponseEntity.status(status).build();
+    }
 }
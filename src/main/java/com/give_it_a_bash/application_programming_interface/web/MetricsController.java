@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.web;
+
+import com.give_it_a_bash.application_programming_interface.instrumentation.LatencyRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller exposing the latency metrics of the endpoints and service methods to Prometheus.
+ */
+@RestController
+@RequestMapping("/api/metrics")
+public class MetricsController {
+
+    /**
+     * The media type of the Prometheus text exposition format.
+     */
+    public static final String PROMETHEUS_TEXT_VALUE = "text/plain;version=0.0.4;charset=utf-8";
+
+    @Autowired
+    private LatencyRegistry latencyRegistry;
+
+    /**
+     * Retrieves the latency percentiles, totals and error counts of every endpoint and service method called so far.
+     *
+     * @return ResponseEntity containing the metrics in the Prometheus text format and HTTP status
+     */
+    @GetMapping(produces = PROMETHEUS_TEXT_VALUE)
+    public ResponseEntity<String> getMetrics() {
+        return new ResponseEntity<>(latencyRegistry.scrape(), HttpStatus.OK);
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.web;
+
+import com.give_it_a_bash.application_programming_interface.search.MutantSuggester;
+import com.give_it_a_bash.application_programming_interface.search.MutantSuggestion;
+import com.give_it_a_bash.application_programming_interface.services.SearchService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Controller class for handling requests that span Students and Teachers.
+ * This class exposes a RESTful endpoint for suggesting mutants by name while a user types.
+ */
+@RestController
+@RequestMapping("/api/mutants")
+public class MutantController {
+
+    @Autowired
+    private SearchService searchService;
+
+    /**
+     * Suggests Students and Teachers whose alias, first name or last name start with the given prefix.
+     *
+     * @param prefix the text typed so far
+     * @param limit the maximum number of suggestions to return, capped at {@link MutantSuggester#MAX_LIMIT}
+     * @return ResponseEntity containing the suggestions and HTTP status, or a BAD_REQUEST status if the prefix contains no words
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<MutantSuggestion>> suggestMutants(@RequestParam(value = "prefix", required = false) String prefix,
+                                                                 @RequestParam(value = "limit", required = false) Integer limit) {
+        try {
+            List<MutantSuggestion> suggestions = searchService.suggestMutants(prefix, MutantSuggester.resolveLimit(limit));
+            return new ResponseEntity<>(suggestions, HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+}
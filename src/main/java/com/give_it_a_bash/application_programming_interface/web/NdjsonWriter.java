@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.web;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Writes objects to an output stream as newline-delimited JSON (NDJSON), one document per line.
+ * Each object is serialized as soon as it is accepted, so nothing is buffered beyond the
+ * underlying generator's output buffer. Every line, including the last, ends with a newline.
+ */
+class NdjsonWriter implements Consumer<Object>, Closeable {
+
+    private final ObjectWriter objectWriter;
+
+    private final JsonGenerator generator;
+
+    private final boolean flushAfterLine;
+
+    NdjsonWriter(ObjectMapper objectMapper, OutputStream outputStream) throws IOException {
+        this.objectWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.generator = objectWriter.createGenerator(outputStream);
+        this.generator.setRootValueSeparator(null);
+        this.flushAfterLine = objectMapper.isEnabled(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Serializes the given object as the next line of the output.
+     *
+     * @param value the object to be written
+     * @throws UncheckedIOException if the object could not be written
+     */
+    @Override
+    public void accept(Object value) {
+        try {
+            objectWriter.writeValue(generator, value);
+            generator.writeRaw('\n');
+            if (flushAfterLine) {
+                generator.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Flushes any buffered output and closes the underlying stream.
+     *
+     * @throws IOException if the output could not be flushed
+     */
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
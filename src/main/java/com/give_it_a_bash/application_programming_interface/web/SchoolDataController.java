@@ -10,14 +10,16 @@
 
 package com.give_it_a_bash.application_programming_interface.web;
 
+import com.give_it_a_bash.application_programming_interface.dashboard.SchoolDashboard;
 import com.give_it_a_bash.application_programming_interface.entities.SchoolData;
+import com.give_it_a_bash.application_programming_interface.pagination.CursorPage;
+import com.give_it_a_bash.application_programming_interface.services.SchoolDashboardService;
 import com.give_it_a_bash.application_programming_interface.services.SchoolDataService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.Optional;
 
 /**
@@ -31,6 +33,9 @@ public class SchoolDataController {
     @Autowired
     private SchoolDataService schoolDataService;
 
+    @Autowired
+    private SchoolDashboardService schoolDashboardService;
+
     /**
      * Creates a new SchoolData entry.
      *
@@ -44,13 +49,22 @@ public class SchoolDataController {
     }
 
     /**
-     * Retrieves all SchoolData entries.
+     * Retrieves a page of SchoolData entries using keyset pagination.
      *
-     * @return ResponseEntity containing a list of all SchoolData and HTTP status
+     * @param after the opaque cursor returned with the previous page, or {@code null} for the first page
+     * @param limit the maximum number of SchoolData entries to return, capped at {@link CursorPage#MAX_LIMIT}
+     * @return ResponseEntity containing a page of SchoolData and HTTP status, or a BAD_REQUEST status if the cursor is malformed
      */
     @GetMapping
-    public ResponseEntity<List<SchoolData>> getAllSchoolData() {
-        List<SchoolData> schoolDataList = schoolDataService.getAllSchoolData();
+    public ResponseEntity<CursorPage<SchoolData>> getAllSchoolData(@RequestParam(value = "after", required = false) String after,
+                                                                   @RequestParam(value = "limit", required = false) Integer limit) {
+        Long afterId;
+        try {
+            afterId = CursorPage.decodeCursor(after);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+        CursorPage<SchoolData> schoolDataList = schoolDataService.getSchoolDataPage(afterId, CursorPage.resolveLimit(limit));
         return new ResponseEntity<>(schoolDataList, HttpStatus.OK);
     }
 
@@ -67,6 +81,22 @@ public class SchoolDataController {
                 .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).build());
     }
 
+    /**
+     * Retrieves the dashboard of a school: the number of its Students, Teachers, Subjects and Facilities,
+     * today's Lessons, recently awarded Achievements and the status of its Facilities.
+     *
+     * @param id the ID of the SchoolData
+     * @return ResponseEntity containing the dashboard if the school is found, otherwise a NOT_FOUND status
+     */
+    @GetMapping("/{id}/dashboard")
+    public ResponseEntity<SchoolDashboard> getSchoolDashboard(@PathVariable("id") Long id) {
+        try {
+            return new ResponseEntity<>(schoolDashboardService.getDashboard(id), HttpStatus.OK);
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+    }
+
     /**
      * Updates an existing SchoolData entry.
      *
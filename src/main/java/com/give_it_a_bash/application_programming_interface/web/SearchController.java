@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.web;
+
+import com.give_it_a_bash.application_programming_interface.pagination.CursorPage;
+import com.give_it_a_bash.application_programming_interface.search.SearchHit;
+import com.give_it_a_bash.application_programming_interface.services.SearchService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Controller class for handling full-text search requests.
+ * This class exposes a RESTful endpoint for finding students, teachers, subjects and achievements by the words they contain.
+ */
+@RestController
+@RequestMapping("/api/search")
+public class SearchController {
+
+    @Autowired
+    private SearchService searchService;
+
+    /**
+     * Searches Students, Teachers, Subjects and Achievements.
+     *
+     * @param query the words to search for
+     * @param limit the maximum number of hits to return, capped at {@link CursorPage#MAX_LIMIT}
+     * @return ResponseEntity containing the hits and HTTP status, or a BAD_REQUEST status if the query contains no words
+     */
+    @GetMapping
+    public ResponseEntity<List<SearchHit>> search(@RequestParam(value = "q", required = false) String query,
+                                                  @RequestParam(value = "limit", required = false) Integer limit) {
+        try {
+            List<SearchHit> hits = searchService.search(query, CursorPage.resolveLimit(limit));
+            return new ResponseEntity<>(hits, HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+}
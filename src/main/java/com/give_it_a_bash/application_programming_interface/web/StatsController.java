@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.web;
+
+import com.give_it_a_bash.application_programming_interface.services.StatsService;
+import com.give_it_a_bash.application_programming_interface.stats.FacetCounts;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for the precomputed dashboard statistics.
+ */
+@RestController
+@RequestMapping("/api/stats")
+public class StatsController {
+
+    @Autowired
+    private StatsService statsService;
+
+    /**
+     * Retrieves the counts of Students by status, Students and Teachers by power source and Facilities by type.
+     * The counts are kept in memory, so the request does not query the database.
+     *
+     * @param schoolId the ID of the school to count within, or {@code null} to count across all schools
+     * @return ResponseEntity containing the facet counts and HTTP status
+     */
+    @GetMapping("/facets")
+    public ResponseEntity<FacetCounts> getFacets(@RequestParam(value = "schoolId", required = false) Long schoolId) {
+        return new ResponseEntity<>(statsService.getFacets(schoolId), HttpStatus.OK);
+    }
+}
@@ -10,13 +10,23 @@
 
 package com.give_it_a_bash.application_programming_interface.web;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.give_it_a_bash.application_programming_interface.bulk.BulkItemResult;
+import com.give_it_a_bash.application_programming_interface.bulk.BulkPersistence;
 import com.give_it_a_bash.application_programming_interface.entities.Student;
+import com.give_it_a_bash.application_programming_interface.pagination.CursorPage;
+import com.give_it_a_bash.application_programming_interface.patch.JsonMergePatcher;
+import com.give_it_a_bash.application_programming_interface.projections.StudentSummary;
 import com.give_it_a_bash.application_programming_interface.services.StudentService;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,6 +41,9 @@ public class StudentController {
     @Autowired
     private StudentService studentService;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     /**
      * Creates a new Student entry.
      *
@@ -44,16 +57,81 @@ public class StudentController {
     }
 
     /**
-     * Retrieves all Student entries.
+     * Creates many Student entries in a single request.
+     *
+     * @param students the Students to be created
+     * @return ResponseEntity containing the outcome for each Student and a CREATED status if all were created,
+     * a MULTI_STATUS status if some were not, or a PAYLOAD_TOO_LARGE status if more than
+     * {@link BulkPersistence#MAX_ITEMS} Students were sent
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<BulkItemResult>> createStudents(@RequestBody List<Student> students) {
+        try {
+            List<BulkItemResult> results = studentService.createStudents(students);
+            HttpStatus status = BulkItemResult.allCreated(results) ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+            return new ResponseEntity<>(results, status);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+        }
+    }
+
+    /**
+     * Retrieves a page of Student entries using keyset pagination.
      *
-     * @return ResponseEntity containing a list of all Students and HTTP status
+     * @param after the opaque cursor returned with the previous page, or {@code null} for the first page
+     * @param limit the maximum number of Student entries to return, capped at {@link CursorPage#MAX_LIMIT}
+     * @return ResponseEntity containing a page of Students and HTTP status, or a BAD_REQUEST status if the cursor is malformed
      */
     @GetMapping
-    public ResponseEntity<List<Student>> getAllStudents() {
-        List<Student> students = studentService.getAllStudents();
+    public ResponseEntity<CursorPage<Student>> getAllStudents(@RequestParam(value = "after", required = false) String after,
+                                                              @RequestParam(value = "limit", required = false) Integer limit) {
+        Long afterId;
+        try {
+            afterId = CursorPage.decodeCursor(after);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+        CursorPage<Student> students = studentService.getStudentPage(afterId, CursorPage.resolveLimit(limit));
         return new ResponseEntity<>(students, HttpStatus.OK);
     }
 
+    /**
+     * Retrieves a page of Student summaries using keyset pagination, selected with {@code view=summary}.
+     * Summaries carry only the fields needed by list views and are read without loading any entity.
+     *
+     * @param after the opaque cursor returned with the previous page, or {@code null} for the first page
+     * @param limit the maximum number of Student summaries to return, capped at {@link CursorPage#MAX_LIMIT}
+     * @return ResponseEntity containing a page of Student summaries and HTTP status, or a BAD_REQUEST status if the cursor is malformed
+     */
+    @GetMapping(params = "view=summary")
+    public ResponseEntity<CursorPage<StudentSummary>> getStudentSummaries(@RequestParam(value = "after", required = false) String after,
+                                                                          @RequestParam(value = "limit", required = false) Integer limit) {
+        Long afterId;
+        try {
+            afterId = CursorPage.decodeCursor(after);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+        CursorPage<StudentSummary> summaries = studentService.getStudentSummaryPage(afterId, CursorPage.resolveLimit(limit));
+        return new ResponseEntity<>(summaries, HttpStatus.OK);
+    }
+
+    /**
+     * Exports all Student entries as newline-delimited JSON.
+     * Students are written to the response as they are read from the database, so the full table is
+     * never held in memory.
+     *
+     * @param response the response the Students are written to
+     * @throws IOException if the response could not be written
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void exportStudents(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        try (NdjsonWriter writer = new NdjsonWriter(objectMapper, response.getOutputStream())) {
+            studentService.exportStudents(writer);
+        }
+    }
+
     /**
      * Retrieves Student by its ID.
      *
@@ -85,6 +163,28 @@ public class StudentController {
         }
     }
 
+    /**
+     * Partially updates an existing Student entry with a JSON Merge Patch (RFC 7396).
+     * Fields absent from the patch keep their current values, and {@code null} clears a field.
+     *
+     * @param id the ID of the Student to be patched
+     * @param patch the merge patch document
+     * @return ResponseEntity containing the patched Student and HTTP status, a BAD_REQUEST status if the patch is invalid,
+     * or a NOT_FOUND status if the Student does not exist
+     */
+    @PatchMapping(value = "/{id}", consumes = {JsonMergePatcher.MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<Student> patchStudent(@PathVariable("id") Long id,
+                                                @RequestBody JsonNode patch) {
+        try {
+            Student patchedStudent = studentService.patchStudent(id, patch);
+            return new ResponseEntity<>(patchedStudent, HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+    }
+
     /**
      * Deletes a Student entry by its ID.
      *
@@ -10,14 +10,21 @@
 
 package com.give_it_a_bash.application_programming_interface.web;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.give_it_a_bash.application_programming_interface.entities.Teacher;
+import com.give_it_a_bash.application_programming_interface.pagination.CursorPage;
+import com.give_it_a_bash.application_programming_interface.patch.JsonMergePatcher;
+import com.give_it_a_bash.application_programming_interface.projections.TeacherSummary;
 import com.give_it_a_bash.application_programming_interface.services.TeacherService;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.io.IOException;
 import java.util.Optional;
 
 /**
@@ -31,6 +38,9 @@ public class TeacherController {
     @Autowired
     private TeacherService teacherService;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     /**
      * Creates a new Teacher entry.
      *
@@ -44,16 +54,62 @@ public class TeacherController {
     }
 
     /**
-     * Retrieves all Teacher entries.
+     * Retrieves a page of Teacher entries using keyset pagination.
      *
-     * @return ResponseEntity containing a list of all Teachers and HTTP status
+     * @param after the opaque cursor returned with the previous page, or {@code null} for the first page
+     * @param limit the maximum number of Teacher entries to return, capped at {@link CursorPage#MAX_LIMIT}
+     * @return ResponseEntity containing a page of Teachers and HTTP status, or a BAD_REQUEST status if the cursor is malformed
      */
     @GetMapping
-    public ResponseEntity<List<Teacher>> getAllTeachers() {
-        List<Teacher> teachers = teacherService.getAllTeachers();
+    public ResponseEntity<CursorPage<Teacher>> getAllTeachers(@RequestParam(value = "after", required = false) String after,
+                                                              @RequestParam(value = "limit", required = false) Integer limit) {
+        Long afterId;
+        try {
+            afterId = CursorPage.decodeCursor(after);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+        CursorPage<Teacher> teachers = teacherService.getTeacherPage(afterId, CursorPage.resolveLimit(limit));
         return new ResponseEntity<>(teachers, HttpStatus.OK);
     }
 
+    /**
+     * Retrieves a page of Teacher summaries using keyset pagination, selected with {@code view=summary}.
+     * Summaries carry only the fields needed by list views and are read without loading any entity.
+     *
+     * @param after the opaque cursor returned with the previous page, or {@code null} for the first page
+     * @param limit the maximum number of Teacher summaries to return, capped at {@link CursorPage#MAX_LIMIT}
+     * @return ResponseEntity containing a page of Teacher summaries and HTTP status, or a BAD_REQUEST status if the cursor is malformed
+     */
+    @GetMapping(params = "view=summary")
+    public ResponseEntity<CursorPage<TeacherSummary>> getTeacherSummaries(@RequestParam(value = "after", required = false) String after,
+                                                                          @RequestParam(value = "limit", required = false) Integer limit) {
+        Long afterId;
+        try {
+            afterId = CursorPage.decodeCursor(after);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+        CursorPage<TeacherSummary> summaries = teacherService.getTeacherSummaryPage(afterId, CursorPage.resolveLimit(limit));
+        return new ResponseEntity<>(summaries, HttpStatus.OK);
+    }
+
+    /**
+     * Exports all Teacher entries as newline-delimited JSON.
+     * Teachers are written to the response as they are read from the database, so the full table is
+     * never held in memory.
+     *
+     * @param response the response the Teachers are written to
+     * @throws IOException if the response could not be written
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void exportTeachers(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        try (NdjsonWriter writer = new NdjsonWriter(objectMapper, response.getOutputStream())) {
+            teacherService.exportTeachers(writer);
+        }
+    }
+
     /**
      * Retrieves Teacher by its ID.
      *
@@ -85,6 +141,28 @@ public class TeacherController {
         }
     }
 
+    /**
+     * Partially updates an existing Teacher entry with a JSON Merge Patch (RFC 7396).
+     * Fields absent from the patch keep their current values, and {@code null} clears a field.
+     *
+     * @param id the ID of the Teacher to be patched
+     * @param patch the merge patch document
+     * @return ResponseEntity containing the patched Teacher and HTTP status, a BAD_REQUEST status if the patch is invalid,
+     * or a NOT_FOUND status if the Teacher does not exist
+     */
+    @PatchMapping(value = "/{id}", consumes = {JsonMergePatcher.MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<Teacher> patchTeacher(@PathVariable("id") Long id,
+                                                @RequestBody JsonNode patch) {
+        try {
+            Teacher patchedTeacher = teacherService.patchTeacher(id, patch);
+            return new ResponseEntity<>(patchedTeacher, HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+    }
+
     /**
      * Deletes a Teacher entry by its ID.
      *
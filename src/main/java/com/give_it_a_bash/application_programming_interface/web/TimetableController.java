@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.web;
+
+import com.give_it_a_bash.application_programming_interface.services.TimetableService;
+import com.give_it_a_bash.application_programming_interface.timetabling.TimetableJob;
+import com.give_it_a_bash.application_programming_interface.timetabling.TimetableRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Controller class for generating timetables.
+ * This class exposes RESTful endpoints for starting a timetable generation job and following its progress.
+ */
+@RestController
+@RequestMapping("/api/timetables")
+public class TimetableController {
+
+    @Autowired
+    private TimetableService timetableService;
+
+    /**
+     * Starts generating a timetable in the background.
+     *
+     * @param request the lessons needed and the days and hours they may be placed in
+     * @return ResponseEntity containing the queued job and an ACCEPTED status, a BAD_REQUEST status if the request
+     * is invalid, or a NOT_FOUND status if a requested Subject does not exist
+     */
+    @PostMapping("/jobs")
+    public ResponseEntity<TimetableJob> startJob(@RequestBody TimetableRequest request) {
+        try {
+            TimetableJob job = timetableService.startJob(request);
+            return new ResponseEntity<>(job, HttpStatus.ACCEPTED);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+    }
+
+    /**
+     * Retrieves the status, progress and result of a timetable generation job.
+     *
+     * @param id the ID of the job
+     * @return ResponseEntity containing the job and HTTP status, or a NOT_FOUND status if no such job is retained
+     */
+    @GetMapping("/jobs/{id}")
+    public ResponseEntity<TimetableJob> getJob(@PathVariable("id") String id) {
+        return timetableService.getJob(id)
+                .map(job -> new ResponseEntity<>(job, HttpStatus.OK))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).build());
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.analytics;
+
+import com.give_it_a_bash.application_programming_interface.entities.SubjectCategory;
+import com.give_it_a_bash.application_programming_interface.projections.AchievementAward;
+import com.give_it_a_bash.application_programming_interface.projections.StudentFacets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the {@link AchievementRollup} class.
+ */
+public class AchievementRollupTest {
+
+    private static final SubjectCategory[] CATEGORIES = SubjectCategory.values();
+
+    private final AchievementRollup rollup = new AchievementRollup();
+
+    @BeforeEach
+    public void setUp() {
+        rollup.putStudent(1L, 10L);
+        rollup.putStudent(2L, 20L);
+    }
+
+    /**
+     * Tests that counts are grouped by month, school and category, and that partly covered months only count
+     * the days within the range.
+     */
+    @Test
+    public void testCount() {
+        rollup.putAchievement(1L, 1L, CATEGORIES[0], LocalDate.of(2024, 1, 5));
+        rollup.putAchievement(2L, 1L, CATEGORIES[0], LocalDate.of(2024, 1, 25));
+        rollup.putAchievement(3L, 2L, CATEGORIES[1], LocalDate.of(2024, 2, 10));
+        rollup.putAchievement(4L, 1L, CATEGORIES[1], LocalDate.of(2024, 3, 31));
+
+        List<AchievementCount> counts = rollup.count(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 3, 31), null, null);
+        assertThat(counts).extracting(AchievementCount::getMonth, AchievementCount::getSchoolId,
+                        AchievementCount::getCategory, AchievementCount::getCount)
+                .containsExactly(
+                        tuple(YearMonth.of(2024, 1), 10L, CATEGORIES[0], 2L),
+                        tuple(YearMonth.of(2024, 2), 20L, CATEGORIES[1], 1L),
+                        tuple(YearMonth.of(2024, 3), 10L, CATEGORIES[1], 1L));
+
+        assertThat(rollup.count(LocalDate.of(2024, 1, 10), LocalDate.of(2024, 3, 30), null, null))
+                .extracting(AchievementCount::getCount).containsExactly(1L, 1L);
+        assertThat(rollup.count(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), 20L, null))
+                .extracting(AchievementCount::getMonth).containsExactly(YearMonth.of(2024, 2));
+        assertThat(rollup.count(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), null, CATEGORIES[1]))
+                .hasSize(2);
+        assertThat(rollup.count(LocalDate.of(2023, 1, 1), LocalDate.of(2023, 12, 31), null, null)).isEmpty();
+    }
+
+    /**
+     * Tests that changed achievements replace their previous counts and that removed ones are no longer counted.
+     */
+    @Test
+    public void testPutReplacesAndRemove() {
+        rollup.putAchievement(1L, 1L, CATEGORIES[0], LocalDate.of(2024, 1, 5));
+        rollup.putAchievement(1L, 1L, CATEGORIES[1], LocalDate.of(2024, 2, 5));
+
+        assertThat(rollup.count(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 2, 29), null, null))
+                .extracting(AchievementCount::getMonth, AchievementCount::getCategory)
+                .containsExactly(tuple(YearMonth.of(2024, 2), CATEGORIES[1]));
+        assertThat(rollup.size()).isEqualTo(1);
+
+        assertThat(rollup.removeAchievement(1L)).isTrue();
+        assertThat(rollup.removeAchievement(1L)).isFalse();
+        assertThat(rollup.count(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 2, 29), null, null)).isEmpty();
+    }
+
+    /**
+     * Tests that achievements follow their student to another school, and are counted without a school until
+     * the school of their student is known.
+     */
+    @Test
+    public void testStudentChangesSchool() {
+        rollup.putAchievement(1L, 3L, CATEGORIES[0], LocalDate.of(2024, 1, 5));
+        assertThat(rollup.count(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31), null, null))
+                .extracting(AchievementCount::getSchoolId).containsExactly((Long) null);
+
+        rollup.putStudent(3L, 10L);
+        rollup.putAchievement(2L, 1L, CATEGORIES[0], LocalDate.of(2024, 1, 6));
+        assertThat(rollup.count(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31), 10L, null))
+                .extracting(AchievementCount::getCount).containsExactly(2L);
+
+        rollup.putStudent(1L, 20L);
+        assertThat(rollup.count(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31), null, null))
+                .extracting(AchievementCount::getSchoolId, AchievementCount::getCount)
+                .containsExactly(tuple(10L, 1L), tuple(20L, 1L));
+
+        rollup.removeStudent(3L);
+        assertThat(rollup.count(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31), 10L, null)).isEmpty();
+    }
+
+    /**
+     * Tests the rollups against counting every achievement over many random writes and date ranges.
+     */
+    @Test
+    public void testMatchesCountingEveryAchievement() {
+        Random random = new Random(42);
+        Map<Long, Object[]> achievements = new HashMap<>();
+        Map<Long, Long> schools = new HashMap<>();
+        LocalDate epoch = LocalDate.of(2024, 1, 1);
+        for (int i = 0; i < 3_000; i++) {
+            int operation = random.nextInt(10);
+            if (operation == 0) {
+                long studentId = random.nextInt(20);
+                long schoolId = random.nextInt(3);
+                rollup.putStudent(studentId, schoolId);
+                schools.put(studentId, schoolId);
+            } else if (operation == 1) {
+                long achievementId = random.nextInt(500);
+                rollup.removeAchievement(achievementId);
+                achievements.remove(achievementId);
+            } else {
+                long achievementId = random.nextInt(500);
+                Object[] achievement = {(long) random.nextInt(20), CATEGORIES[random.nextInt(3)],
+                        epoch.plusDays(random.nextInt(400))};
+                rollup.putAchievement(achievementId, (Long) achievement[0], (SubjectCategory) achievement[1],
+                        (LocalDate) achievement[2]);
+                achievements.put(achievementId, achievement);
+            }
+        }
+
+        for (int query = 0; query < 200; query++) {
+            LocalDate from = epoch.plusDays(random.nextInt(400));
+            LocalDate to = from.plusDays(random.nextInt(120));
+            Map<String, Long> expected = new TreeMap<>();
+            for (Object[] achievement : achievements.values()) {
+                LocalDate date = (LocalDate) achievement[2];
+                if (!date.isBefore(from) && !date.isAfter(to)) {
+                    expected.merge(YearMonth.from(date) + "/" + schools.get(achievement[0]) + "/" + achievement[1],
+                            1L, Long::sum);
+                }
+            }
+            Map<String, Long> actual = new TreeMap<>();
+            List<AchievementCount> counts = rollup.count(from, to, null, null);
+            for (AchievementCount count : counts) {
+                actual.put(count.getMonth() + "/" + count.getSchoolId() + "/" + count.getCategory(), count.getCount());
+            }
+            assertThat(actual).isEqualTo(expected);
+            List<YearMonth> months = new ArrayList<>();
+            counts.forEach(count -> months.add(count.getMonth()));
+            assertThat(months).isSorted();
+        }
+    }
+
+    /**
+     * Tests that a rebuild replaces every student and achievement and keeps the students and achievements written
+     * while it reads them, whether or not they were read.
+     */
+    @Test
+    public void testRebuild_WritesDuringRead() {
+        rollup.putAchievement(1L, 1L, CATEGORIES[0], LocalDate.of(2024, 1, 5));
+        rollup.putAchievement(2L, 2L, CATEGORIES[0], LocalDate.of(2024, 1, 6));
+
+        rollup.rebuild(() -> {
+            rollup.putStudent(1L, 30L);
+            rollup.removeAchievement(2L);
+            rollup.putAchievement(3L, 2L, CATEGORIES[1], LocalDate.of(2024, 1, 7));
+            return Arrays.asList(student(1L, 10L), student(2L, 20L));
+        }, () -> Arrays.asList(award(1L, 1L, LocalDate.of(2024, 1, 5)), award(2L, 2L, LocalDate.of(2024, 1, 6)),
+                award(4L, 1L, LocalDate.of(2024, 1, 8))));
+
+        List<AchievementCount> counts = rollup.count(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31), null, null);
+        assertThat(counts).extracting(AchievementCount::getSchoolId, AchievementCount::getCategory,
+                        AchievementCount::getCount)
+                .containsExactly(tuple(20L, CATEGORIES[1], 1L), tuple(30L, CATEGORIES[0], 2L));
+        assertThat(rollup.size()).isEqualTo(3);
+
+        rollup.rebuild(() -> Collections.singletonList(student(2L, 20L)), Collections::emptyList);
+        assertThat(rollup.size()).isZero();
+    }
+
+    private static StudentFacets student(Long id, Long schoolId) {
+        StudentFacets student = mock(StudentFacets.class);
+        when(student.getId()).thenReturn(id);
+        when(student.getSchoolId()).thenReturn(schoolId);
+        return student;
+    }
+
+    private static AchievementAward award(Long id, Long studentId, LocalDate dateAwarded) {
+        AchievementAward award = mock(AchievementAward.class);
+        when(award.getId()).thenReturn(id);
+        when(award.getStudentId()).thenReturn(studentId);
+        when(award.getCategory()).thenReturn(CATEGORIES[0]);
+        when(award.getDateAwarded()).thenReturn(dateAwarded);
+        return award;
+    }
+}
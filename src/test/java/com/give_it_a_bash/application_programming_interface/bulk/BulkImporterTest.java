@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.bulk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.give_it_a_bash.application_programming_interface.entities.Lesson;
+import com.give_it_a_bash.application_programming_interface.entities.Status;
+import com.give_it_a_bash.application_programming_interface.entities.Student;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the {@link BulkImporter} class.
+ */
+public class BulkImporterTest {
+
+    private final BulkImporter bulkImporter = new BulkImporter();
+
+    private final List<List<Student>> chunks = new ArrayList<>();
+
+    /**
+     * Creates every Student except those with the last name "Rejected", recording each chunk it is given.
+     */
+    private final Function<List<Student>, List<BulkItemResult>> create = students -> {
+        chunks.add(students);
+        List<BulkItemResult> results = new ArrayList<>();
+        for (int i = 0; i < students.size(); i++) {
+            results.add("Rejected".equals(students.get(i).getLastName())
+                    ? BulkItemResult.failed(i, "Rejected by the database")
+                    : BulkItemResult.created(i, (long) i));
+        }
+        return results;
+    };
+
+    @BeforeEach
+    public void setUp() {
+        ReflectionTestUtils.setField(bulkImporter, "objectMapper", new ObjectMapper().findAndRegisterModules());
+    }
+
+    /**
+     * Tests importing NDJSON, skipping blank lines and reporting unparseable and rejected rows by line.
+     *
+     * @throws IOException if the body could not be read
+     */
+    @Test
+    public void testImportNdjson() throws IOException {
+        String body = "{\"firstName\":\"Bobby\",\"lastName\":\"Drake\",\"status\":\"ACTIVE\"}\n"
+                + "\n"
+                + "{\"firstName\":\"Kitty\",\"lastName\":\"Rejected\"}\n"
+                + "{\"firstName\":\n"
+                + "{\"firstName\":\"Kurt\",\"status\":\"NOT_A_STATUS\"}\n";
+
+        ImportReport report = bulkImporter.importAll(stream(body), ImportFormat.NDJSON, Student.class, create);
+
+        assertThat(report.getRows()).isEqualTo(4);
+        assertThat(report.getCreated()).isEqualTo(1);
+        assertThat(report.getFailed()).isEqualTo(3);
+        assertThat(report.allCreated()).isFalse();
+        assertThat(report.getErrors()).extracting(ImportError::getLine).containsExactly(3L, 4L, 5L);
+        assertThat(report.getErrors()).extracting(ImportError::getStatus)
+                .containsExactly(BulkItemStatus.FAILED, BulkItemStatus.INVALID, BulkItemStatus.INVALID);
+        assertThat(chunks).hasSize(1);
+        assertThat(chunks.get(0)).extracting(Student::getStatus).containsExactly(Status.ACTIVE, null);
+    }
+
+    /**
+     * Tests importing CSV with nested and quoted fields, reporting rows of the wrong width by line.
+     *
+     * @throws IOException if the body could not be read
+     */
+    @Test
+    public void testImportCsv() throws IOException {
+        String body = "firstName,lastName,alias,power.powerName,power.powerLevel,schoolData.id,missionHistory[]\r\n"
+                + "Bobby,Drake,Iceman,Cryokinesis,7,3,Mission A|Mission B\r\n"
+                + "\"Pryde, Kitty\",\"Shadow \"\"Cat\"\"\",\"Line one\nLine two\",,,,\r\n"
+                + "\r\n"
+                + "Kurt,Wagner\r\n";
+
+        ImportReport report = bulkImporter.importAll(stream(body), ImportFormat.CSV, Student.class, create);
+
+        assertThat(report.getCreated()).isEqualTo(2);
+        assertThat(report.getErrors()).extracting(ImportError::getLine).containsExactly(6L);
+        Student bobby = chunks.get(0).get(0);
+        assertThat(bobby.getPower().getName()).isEqualTo("Cryokinesis");
+        assertThat(bobby.getPower().getPowerLevel()).isEqualTo(7);
+        assertThat(bobby.getSchoolData().getId()).isEqualTo(3L);
+        assertThat(bobby.getMissionHistory()).containsExactly("Mission A", "Mission B");
+        Student kitty = chunks.get(0).get(1);
+        assertThat(kitty.getFirstName()).isEqualTo("Pryde, Kitty");
+        assertThat(kitty.getLastName()).isEqualTo("Shadow \"Cat\"");
+        assertThat(kitty.getAlias()).isEqualTo("Line one\nLine two");
+        assertThat(kitty.getPower()).isNull();
+    }
+
+    /**
+     * Tests that lists of objects are built from the columns they share.
+     *
+     * @throws IOException if the body could not be read
+     */
+    @Test
+    public void testImportCsvListOfObjects() throws IOException {
+        List<Lesson> lessons = new ArrayList<>();
+        String body = "subject.id,teacher.id,startTime,endTime,students[].id\n"
+                + "1,2,2030-09-02T09:00:00,2030-09-02T10:00:00,5|6|7\n";
+
+        ImportReport report = bulkImporter.importAll(stream(body), ImportFormat.CSV, Lesson.class, chunk -> {
+            lessons.addAll(chunk);
+            List<BulkItemResult> results = new ArrayList<>();
+            chunk.forEach(lesson -> results.add(BulkItemResult.created(results.size(), 1L)));
+            return results;
+        });
+
+        assertThat(report.allCreated()).isTrue();
+        assertThat(lessons.get(0).getStudents()).extracting(Student::getId).containsExactly(5L, 6L, 7L);
+        assertThat(lessons.get(0).getTeacher().getId()).isEqualTo(2L);
+    }
+
+    /**
+     * Tests that large bodies are written one chunk at a time and that only the first errors are listed.
+     *
+     * @throws IOException if the body could not be read
+     */
+    @Test
+    public void testImportInChunks() throws IOException {
+        StringBuilder body = new StringBuilder("firstName,lastName\n");
+        int rows = BulkPersistence.CHUNK_SIZE * 2 + ImportReport.MAX_REPORTED_ERRORS + 1;
+        for (int i = 0; i < rows; i++) {
+            body.append("Student").append(i).append(',').append(i % 2 == 0 ? "Rejected" : "Accepted").append('\n');
+        }
+
+        ImportReport report = bulkImporter.importAll(stream(body.toString()), ImportFormat.CSV, Student.class, create);
+
+        assertThat(chunks).hasSize(5);
+        assertThat(chunks).allSatisfy(chunk -> assertThat(chunk.size()).isLessThanOrEqualTo(BulkPersistence.CHUNK_SIZE));
+        assertThat(report.getRows()).isEqualTo(rows);
+        assertThat(report.getFailed()).isEqualTo((rows + 1) / 2);
+        assertThat(report.getErrors()).hasSize(ImportReport.MAX_REPORTED_ERRORS);
+        assertThat(report.isErrorsTruncated()).isTrue();
+        assertThat(report.getErrors().get(0).getLine()).isEqualTo(2);
+    }
+
+    /**
+     * Tests that CSV headers with unnamed or conflicting columns are rejected, and that an empty body imports nothing.
+     *
+     * @throws IOException if the body could not be read
+     */
+    @Test
+    public void testImportInvalidHeader() throws IOException {
+        assertThatThrownBy(() -> bulkImporter.importAll(stream("firstName,,lastName\n"), ImportFormat.CSV,
+                Student.class, create)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> bulkImporter.importAll(stream("power,power.name\n"), ImportFormat.CSV,
+                Student.class, create)).isInstanceOf(IllegalArgumentException.class);
+
+        ImportReport report = bulkImporter.importAll(stream(""), ImportFormat.CSV, Student.class, create);
+        assertThat(report.getRows()).isZero();
+        assertThat(chunks).isEmpty();
+    }
+
+    /**
+     * Tests that an upload's content type selects its format.
+     */
+    @Test
+    public void testFormatOf() {
+        assertThat(ImportFormat.of("text/csv; charset=UTF-8")).isEqualTo(ImportFormat.CSV);
+        assertThat(ImportFormat.of("application/x-ndjson")).isEqualTo(ImportFormat.NDJSON);
+        assertThat(ImportFormat.of("application/json")).isNull();
+        assertThat(ImportFormat.of("not a type")).isNull();
+        assertThat(ImportFormat.of(null)).isNull();
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.bulk;
+
+import com.give_it_a_bash.application_programming_interface.entities.Student;
+import com.give_it_a_bash.application_programming_interface.repositories.StudentRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Path;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link BulkPersistence} class.
+ */
+public class BulkPersistenceTest {
+
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    private final StudentRepository studentRepository = mock(StudentRepository.class);
+
+    private final BulkPersistence bulkPersistence = new BulkPersistence(transactionManager);
+
+    @BeforeEach
+    public void setUp() {
+        ReflectionTestUtils.setField(bulkPersistence, "entityManager", mock(EntityManager.class));
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    /**
+     * Tests creating items outside a transaction.
+     * Verifies that each chunk starts a transaction of its own rather than suspending another one.
+     */
+    @Test
+    public void testCreateAll() {
+        Student student = new Student();
+        student.setId(1L);
+
+        List<BulkItemResult> results = bulkPersistence.createAll(Collections.singletonList(student),
+                studentRepository, Student::getId, Student::setId);
+
+        assertThat(results).extracting(BulkItemResult::getStatus).containsExactly(BulkItemStatus.CREATED);
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager, times(1)).getTransaction(definition.capture());
+        assertThat(definition.getValue().getPropagationBehavior())
+                .isEqualTo(TransactionDefinition.PROPAGATION_REQUIRED);
+        verify(studentRepository, times(1)).saveAll(Collections.singletonList(student));
+    }
+
+    /**
+     * Tests creating items with a callback that rejects one of them once it has been saved.
+     * Verifies that the chunk is retried one item at a time, so that only the rejected item fails.
+     */
+    @Test
+    public void testCreateAll_OnSavedRejectsItem() {
+        Student accepted = new Student();
+        accepted.setId(1L);
+        Student rejected = new Student();
+        rejected.setId(2L);
+        when(studentRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<BulkItemResult> results = bulkPersistence.createAll(Arrays.asList(accepted, rejected),
+                studentRepository, Student::getId, (student, id) -> {
+                }, student -> Collections.emptyList(), student -> {
+                    if (student == rejected) {
+                        throw new IllegalStateException("Slot already taken");
+                    }
+                });
+
+        assertThat(results).extracting(BulkItemResult::getStatus)
+                .containsExactly(BulkItemStatus.CREATED, BulkItemStatus.FAILED);
+        verify(transactionManager, times(3)).getTransaction(any());
+        verify(transactionManager, times(2)).rollback(any());
+    }
+
+    /**
+     * Tests creating items one of which fails bean validation when its chunk is flushed.
+     * Verifies that the chunk is retried one item at a time and that the invalid item is reported with its
+     * constraint violations rather than as rejected by the database.
+     */
+    @Test
+    public void testCreateAll_InvalidItem() {
+        Student valid = new Student();
+        Student invalid = new Student();
+        ConstraintViolation<?> violation = mock(ConstraintViolation.class);
+        Path email = mock(Path.class);
+        when(email.toString()).thenReturn("email");
+        when(violation.getPropertyPath()).thenReturn(email);
+        when(violation.getMessage()).thenReturn("Email must be valid");
+        when(studentRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Student> students = invocation.getArgument(0);
+            if (students.stream().anyMatch(student -> student == invalid)) {
+                throw new ConstraintViolationException(Collections.singleton(violation));
+            }
+            return students;
+        });
+
+        List<BulkItemResult> results = bulkPersistence.createAll(Arrays.asList(valid, invalid, null),
+                studentRepository, Student::getId, Student::setId);
+
+        assertThat(results).extracting(BulkItemResult::getStatus)
+                .containsExactly(BulkItemStatus.CREATED, BulkItemStatus.INVALID, BulkItemStatus.INVALID);
+        assertThat(results.get(1).getErrors()).containsExactly("email: Email must be valid");
+        assertThat(results.get(2).getErrors()).containsExactly("Item must not be null");
+        verify(transactionManager, times(3)).getTransaction(any());
+    }
+
+    /**
+     * Tests creating items within a transaction.
+     * Verifies that the call is rejected before anything is written.
+     */
+    @Test
+    public void testCreateAll_WithinTransaction() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        assertThatThrownBy(() -> bulkPersistence.createAll(Collections.singletonList(new Student()),
+                studentRepository, Student::getId, Student::setId))
+                .isInstanceOf(IllegalStateException.class);
+        verifyNoInteractions(transactionManager, studentRepository);
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the {@link IntervalTree} class.
+ */
+public class IntervalTreeTest {
+
+    /**
+     * Tests that overlapping intervals are found and that touching intervals are not.
+     */
+    @Test
+    public void testFindOverlapping() {
+        IntervalTree<Integer, Long> tree = new IntervalTree<>();
+        tree.insert(9, 10, 1L);
+        tree.insert(10, 11, 2L);
+        tree.insert(8, 12, 3L);
+        tree.insert(13, 14, 4L);
+
+        assertThat(tree.findOverlapping(9, 10)).containsExactly(3L, 1L);
+        assertThat(tree.findOverlapping(10, 13)).containsExactly(3L, 2L);
+        assertThat(tree.findOverlapping(12, 13)).isEmpty();
+        assertThat(tree.findOverlapping(0, 20)).containsExactly(3L, 1L, 2L, 4L);
+        assertThat(tree.findOverlappingIntervals(13, 20)).extracting(IntervalTree.Interval::getEnd).containsExactly(14);
+        assertThat(tree.size()).isEqualTo(4);
+    }
+
+    /**
+     * Tests that intervals with the same start are told apart by their value, and that re-inserting an
+     * interval replaces its end.
+     */
+    @Test
+    public void testInsertAndRemoveWithSameStart() {
+        IntervalTree<Integer, Long> tree = new IntervalTree<>();
+        tree.insert(9, 10, 1L);
+        tree.insert(9, 10, 2L);
+        tree.insert(9, 15, 1L);
+
+        assertThat(tree.size()).isEqualTo(2);
+        assertThat(tree.findOverlapping(12, 13)).containsExactly(1L);
+
+        assertThat(tree.remove(9, 1L)).isTrue();
+        assertThat(tree.remove(9, 1L)).isFalse();
+        assertThat(tree.findOverlapping(0, 20)).containsExactly(2L);
+        assertThat(tree.remove(9, 2L)).isTrue();
+        assertThat(tree.isEmpty()).isTrue();
+    }
+
+    /**
+     * Tests the tree against a brute force scan over many random inserts, removals and queries,
+     * so that rebalancing keeps the subtree maxima correct.
+     */
+    @Test
+    public void testMatchesBruteForce() {
+        Random random = new Random(42);
+        IntervalTree<Integer, Long> tree = new IntervalTree<>();
+        List<int[]> intervals = new ArrayList<>();
+        for (long value = 0; value < 2_000; value++) {
+            int start = random.nextInt(1_000);
+            int end = start + 1 + random.nextInt(20);
+            tree.insert(start, end, value);
+            intervals.add(new int[]{start, end, (int) value});
+            if (random.nextInt(3) == 0) {
+                int[] removed = intervals.remove(random.nextInt(intervals.size()));
+                assertThat(tree.remove(removed[0], (long) removed[2])).isTrue();
+            }
+        }
+        assertThat(tree.size()).isEqualTo(intervals.size());
+
+        for (int query = 0; query < 500; query++) {
+            int start = random.nextInt(1_000);
+            int end = start + 1 + random.nextInt(30);
+            List<Long> expected = new ArrayList<>();
+            for (int[] interval : intervals) {
+                if (interval[0] < end && start < interval[1]) {
+                    expected.add((long) interval[2]);
+                }
+            }
+            assertThat(tree.findOverlapping(start, end)).containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the {@link OrderStatisticTree} class.
+ */
+public class OrderStatisticTreeTest {
+
+    /**
+     * Tests ranks, positional lookups and the first elements of a small tree.
+     */
+    @Test
+    public void testRankAndGet() {
+        OrderStatisticTree<Integer> tree = new OrderStatisticTree<>();
+        assertThat(tree.add(30)).isTrue();
+        assertThat(tree.add(10)).isTrue();
+        assertThat(tree.add(20)).isTrue();
+        assertThat(tree.add(20)).isFalse();
+
+        assertThat(tree.size()).isEqualTo(3);
+        assertThat(tree.rank(10)).isZero();
+        assertThat(tree.rank(30)).isEqualTo(2);
+        assertThat(tree.rank(25)).isEqualTo(-1);
+        assertThat(tree.get(1)).isEqualTo(20);
+        assertThat(tree.first(2)).containsExactly(10, 20);
+        assertThat(tree.first(10)).containsExactly(10, 20, 30);
+        assertThatThrownBy(() -> tree.get(3)).isInstanceOf(IndexOutOfBoundsException.class);
+
+        assertThat(tree.remove(10)).isTrue();
+        assertThat(tree.remove(10)).isFalse();
+        assertThat(tree.rank(30)).isEqualTo(1);
+        tree.clear();
+        assertThat(tree.isEmpty()).isTrue();
+    }
+
+    /**
+     * Tests the tree against a sorted list over many random additions and removals,
+     * so that rebalancing keeps the subtree sizes correct.
+     */
+    @Test
+    public void testMatchesSortedList() {
+        Random random = new Random(42);
+        OrderStatisticTree<Integer> tree = new OrderStatisticTree<>();
+        List<Integer> elements = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            int element = random.nextInt(5_000);
+            if (tree.add(element)) {
+                elements.add(element);
+            }
+            if (random.nextInt(3) == 0) {
+                Integer removed = elements.remove(random.nextInt(elements.size()));
+                assertThat(tree.remove(removed)).isTrue();
+            }
+        }
+        Collections.sort(elements);
+        assertThat(tree.size()).isEqualTo(elements.size());
+        assertThat(tree.first(50)).containsExactlyElementsOf(elements.subList(0, 50));
+
+        for (int query = 0; query < 500; query++) {
+            int rank = random.nextInt(elements.size());
+            assertThat(tree.get(rank)).isEqualTo(elements.get(rank));
+            assertThat(tree.rank(elements.get(rank))).isEqualTo(rank);
+        }
+    }
+}
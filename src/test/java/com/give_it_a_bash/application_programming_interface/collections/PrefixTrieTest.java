@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the {@link PrefixTrie} class.
+ */
+public class PrefixTrieTest {
+
+    /**
+     * Tests that the values of every key starting with a prefix are found in key order, once each.
+     */
+    @Test
+    public void testFind() {
+        PrefixTrie<Long> trie = new PrefixTrie<>();
+        trie.add("iceman", 1L);
+        trie.add("ice", 2L);
+        trie.add("icarus", 3L);
+        trie.add("bobby", 1L);
+        assertThat(trie.add("ice", 2L)).isFalse();
+
+        assertThat(trie.find("ic", 10)).containsExactly(3L, 2L, 1L);
+        assertThat(trie.find("ice", 10)).containsExactly(2L, 1L);
+        assertThat(trie.find("ic", 2)).containsExactly(3L, 2L);
+        assertThat(trie.find("", 10)).containsExactly(1L, 3L, 2L);
+        assertThat(trie.find("x", 10)).isEmpty();
+        assertThat(trie.size()).isEqualTo(4);
+    }
+
+    /**
+     * Tests that removing a value prunes the nodes left without keys, and that other keys are unaffected.
+     */
+    @Test
+    public void testRemove() {
+        PrefixTrie<Long> trie = new PrefixTrie<>();
+        trie.add("iceman", 1L);
+        trie.add("ice", 2L);
+
+        assertThat(trie.remove("iceman", 1L)).isTrue();
+        assertThat(trie.remove("iceman", 1L)).isFalse();
+        assertThat(trie.remove("ic", 2L)).isFalse();
+        assertThat(trie.find("icem", 10)).isEmpty();
+        assertThat(trie.find("ic", 10)).containsExactly(2L);
+
+        assertThat(trie.remove("ice", 2L)).isTrue();
+        assertThat(trie.isEmpty()).isTrue();
+        assertThat(trie.find("", 10)).isEmpty();
+    }
+
+    /**
+     * Tests the trie against a sorted map over many random additions, removals and prefix queries.
+     */
+    @Test
+    public void testMatchesSortedMap() {
+        Random random = new Random(42);
+        PrefixTrie<Integer> trie = new PrefixTrie<>();
+        TreeMap<String, TreeSet<Integer>> keys = new TreeMap<>();
+        List<String[]> added = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            String key = randomWord(random);
+            int value = random.nextInt(100);
+            if (trie.add(key, value)) {
+                keys.computeIfAbsent(key, k -> new TreeSet<>()).add(value);
+                added.add(new String[]{key, Integer.toString(value)});
+            }
+            if (random.nextInt(3) == 0) {
+                String[] removed = added.remove(random.nextInt(added.size()));
+                assertThat(trie.remove(removed[0], Integer.valueOf(removed[1]))).isTrue();
+                keys.get(removed[0]).remove(Integer.valueOf(removed[1]));
+            }
+        }
+
+        for (int query = 0; query < 200; query++) {
+            String prefix = randomWord(random).substring(0, 1 + random.nextInt(2));
+            List<Integer> expected = new ArrayList<>();
+            for (TreeSet<Integer> values : keys.subMap(prefix, prefix + Character.MAX_VALUE).values()) {
+                for (Integer value : values) {
+                    if (!expected.contains(value) && expected.size() < 5) {
+                        expected.add(value);
+                    }
+                }
+            }
+            assertThat(trie.find(prefix, 5)).containsExactlyElementsOf(expected);
+        }
+    }
+
+    private static String randomWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        int length = 3 + random.nextInt(4);
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(4)));
+        }
+        return word.toString();
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.events;
+
+import com.give_it_a_bash.application_programming_interface.entities.DomainEventType;
+import com.give_it_a_bash.application_programming_interface.entities.OutboxEvent;
+import com.give_it_a_bash.application_programming_interface.repositories.OutboxEventRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link OutboxDispatcher} class.
+ */
+class OutboxDispatcherTest {
+
+    private final OutboxEventRepository outboxEventRepository = mock(OutboxEventRepository.class);
+
+    private final OutboxDispatcher outboxDispatcher = new OutboxDispatcher(2, 2, 1, 1000, 60000, 3);
+
+    private final List<List<OutboxEvent>> delivered = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(outboxDispatcher, "outboxEventRepository", outboxEventRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxDispatcher.shutdown();
+    }
+
+    /**
+     * Tests dispatching a batch of events.
+     * Verifies that every listener receives the batch and that the batch is then removed from the outbox.
+     */
+    @Test
+    void testDispatch() {
+        List<OutboxEvent> events = Arrays.asList(event(1L), event(2L));
+        when(outboxEventRepository.findByParkedAtIsNullOrderByIdAsc(Limit.of(2))).thenReturn(events);
+        ReflectionTestUtils.setField(outboxDispatcher, "listeners",
+                Arrays.<DomainEventListener>asList(delivered::add, delivered::add, delivered::add));
+
+        int dispatched = outboxDispatcher.dispatch();
+
+        assertThat(dispatched).isEqualTo(2);
+        assertThat(delivered).hasSize(3).allSatisfy(batch -> assertThat(batch).isEqualTo(events));
+        verify(outboxEventRepository, times(1)).deleteAllInBatch(events);
+    }
+
+    /**
+     * Tests dispatching when a listener fails.
+     * Verifies that the other listeners still receive the batch and that it is kept in the outbox for a retry.
+     */
+    @Test
+    void testDispatch_ListenerFails() {
+        List<OutboxEvent> events = Collections.singletonList(event(1L));
+        when(outboxEventRepository.findByParkedAtIsNullOrderByIdAsc(Limit.of(2))).thenReturn(events);
+        DomainEventListener failing = batch -> {
+            throw new IllegalStateException("Listener failure");
+        };
+        ReflectionTestUtils.setField(outboxDispatcher, "listeners",
+                Arrays.<DomainEventListener>asList(failing, delivered::add));
+        LocalDateTime before = LocalDateTime.now();
+
+        int dispatched = outboxDispatcher.dispatch();
+
+        assertThat(dispatched).isZero();
+        assertThat(delivered).containsExactly(events);
+        verify(outboxEventRepository, never()).deleteAllInBatch(any());
+        ArgumentCaptor<LocalDateTime> retryAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(outboxEventRepository, times(1)).recordFailedAttempt(eq(Collections.singleton(1L)), retryAt.capture());
+        assertThat(retryAt.getValue()).isAfterOrEqualTo(before.plusSeconds(1));
+    }
+
+    /**
+     * Tests dispatching events a listener failed on before.
+     * Verifies that they are only delivered to the listener that failed and are then removed from the outbox.
+     */
+    @Test
+    void testDispatch_Retry() {
+        List<OutboxEvent> events = Arrays.asList(event(1L), event(2L));
+        when(outboxEventRepository.findByParkedAtIsNullOrderByIdAsc(Limit.of(2))).thenReturn(events);
+        List<List<OutboxEvent>> retried = new ArrayList<>();
+        boolean[] failing = {true};
+        DomainEventListener recovering = batch -> {
+            if (failing[0]) {
+                throw new IllegalStateException("Listener failure");
+            }
+            retried.add(batch);
+        };
+        ReflectionTestUtils.setField(outboxDispatcher, "listeners",
+                Arrays.<DomainEventListener>asList(recovering, delivered::add));
+        outboxDispatcher.dispatch();
+        failing[0] = false;
+
+        int dispatched = outboxDispatcher.dispatch();
+
+        assertThat(dispatched).isEqualTo(2);
+        assertThat(retried).containsExactly(events);
+        assertThat(delivered).containsExactly(events);
+        verify(outboxEventRepository, times(1)).deleteAllInBatch(events);
+    }
+
+    /**
+     * Tests dispatching an event whose delivery has failed the maximum number of times.
+     * Verifies that it is parked rather than retried, while the other events of the failed batch are retried.
+     */
+    @Test
+    void testDispatch_Parked() {
+        OutboxEvent poison = event(1L);
+        poison.setAttempts(2);
+        OutboxEvent event = event(2L);
+        when(outboxEventRepository.findByParkedAtIsNullOrderByIdAsc(Limit.of(2))).thenReturn(Arrays.asList(poison, event));
+        DomainEventListener failing = batch -> {
+            if (batch.contains(poison)) {
+                throw new IllegalStateException("Listener failure");
+            }
+        };
+        ReflectionTestUtils.setField(outboxDispatcher, "listeners", Collections.singletonList(failing));
+
+        int dispatched = outboxDispatcher.dispatch();
+
+        assertThat(dispatched).isZero();
+        verify(outboxEventRepository, times(1)).park(eq(Collections.singleton(1L)), any());
+        verify(outboxEventRepository, times(1)).recordFailedAttempt(eq(Collections.singleton(2L)), any());
+    }
+
+    /**
+     * Tests dispatching while the oldest event is backing off after a failed delivery.
+     * Verifies that nothing is delivered, so that later events do not overtake it.
+     */
+    @Test
+    void testDispatch_BackingOff() {
+        OutboxEvent failed = event(1L);
+        failed.setAttempts(1);
+        failed.setNextAttemptAt(LocalDateTime.now().plusMinutes(1));
+        when(outboxEventRepository.findByParkedAtIsNullOrderByIdAsc(Limit.of(2))).thenReturn(Arrays.asList(failed, event(2L)));
+        ReflectionTestUtils.setField(outboxDispatcher, "listeners",
+                Collections.<DomainEventListener>singletonList(delivered::add));
+
+        int dispatched = outboxDispatcher.dispatch();
+
+        assertThat(dispatched).isZero();
+        assertThat(delivered).isEmpty();
+        verify(outboxEventRepository, never()).deleteAllInBatch(any());
+    }
+
+    /**
+     * Tests dispatching from an empty outbox.
+     * Verifies that nothing is delivered or removed.
+     */
+    @Test
+    void testDispatch_Empty() {
+        when(outboxEventRepository.findByParkedAtIsNullOrderByIdAsc(Limit.of(2))).thenReturn(Collections.emptyList());
+        ReflectionTestUtils.setField(outboxDispatcher, "listeners",
+                Collections.<DomainEventListener>singletonList(delivered::add));
+
+        int dispatched = outboxDispatcher.dispatch();
+
+        assertThat(dispatched).isZero();
+        assertThat(delivered).isEmpty();
+        verify(outboxEventRepository, never()).deleteAllInBatch(any());
+    }
+
+    /**
+     * Tests the periodic dispatch.
+     * Verifies that batches are dispatched until one is not full.
+     */
+    @Test
+    void testScheduledDispatch() {
+        when(outboxEventRepository.findByParkedAtIsNullOrderByIdAsc(Limit.of(2)))
+                .thenReturn(Arrays.asList(event(1L), event(2L)))
+                .thenReturn(Arrays.asList(event(3L), event(4L)))
+                .thenReturn(Collections.singletonList(event(5L)));
+        ReflectionTestUtils.setField(outboxDispatcher, "listeners",
+                Collections.<DomainEventListener>singletonList(delivered::add));
+
+        outboxDispatcher.scheduledDispatch();
+
+        assertThat(delivered).extracting(List::size).containsExactly(2, 2, 1);
+        verify(outboxEventRepository, times(3)).deleteAllInBatch(any());
+    }
+
+    private static OutboxEvent event(Long id) {
+        return OutboxEvent.builder()
+                .id(id)
+                .aggregateType("Student")
+                .aggregateId(id * 10)
+                .eventType(DomainEventType.CREATED)
+                .occurredAt(LocalDateTime.of(2030, 9, 2, 9, 0))
+                .build();
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.instrumentation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Unit tests for the {@link LatencyHistogram} class.
+ */
+class LatencyHistogramTest {
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    /**
+     * Tests that every latency falls into the bucket whose bounds contain it, and that buckets are contiguous.
+     */
+    @Test
+    void testBuckets() {
+        for (int index = 1; index <= LatencyHistogram.bucketIndex(LatencyHistogram.MAX_NANOS); index++) {
+            long lowerBound = LatencyHistogram.bucketUpperBound(index - 1) + 1;
+            assertThat(LatencyHistogram.bucketIndex(lowerBound)).isEqualTo(index);
+            assertThat(LatencyHistogram.bucketIndex(LatencyHistogram.bucketUpperBound(index))).isEqualTo(index);
+        }
+    }
+
+    /**
+     * Tests the percentiles of a uniform spread of latencies.
+     * Verifies that each is within the precision of the buckets.
+     */
+    @Test
+    void testValueAtQuantile() {
+        for (long millis = 1; millis <= 1000; millis++) {
+            histogram.record(millis * 1_000_000, false);
+        }
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertThat(snapshot.getCount()).isEqualTo(1000);
+        assertThat(snapshot.getTotalNanos()).isEqualTo(500_500_000_000L);
+        assertThat(snapshot.getMaxNanos()).isEqualTo(1_000_000_000L);
+        assertThat((double) snapshot.valueAtQuantile(0.5)).isCloseTo(500e6, within(500e6 / LatencyHistogram.SUB_BUCKETS));
+        assertThat((double) snapshot.valueAtQuantile(0.99)).isCloseTo(990e6, within(990e6 / LatencyHistogram.SUB_BUCKETS));
+        assertThat(snapshot.valueAtQuantile(0.999)).isEqualTo(snapshot.valueAtQuantile(1));
+        assertThat(snapshot.valueAtQuantile(1)).isEqualTo(1_000_000_000L);
+    }
+
+    /**
+     * Tests an empty histogram and out of range values.
+     */
+    @Test
+    void testEdgeCases() {
+        assertThat(histogram.snapshot().valueAtQuantile(0.99)).isZero();
+        assertThatThrownBy(() -> histogram.snapshot().valueAtQuantile(1.5))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        histogram.record(-5, false);
+        histogram.record(Long.MAX_VALUE, true);
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertThat(snapshot.valueAtQuantile(0)).isZero();
+        assertThat(snapshot.getMaxNanos()).isEqualTo(LatencyHistogram.MAX_NANOS);
+        assertThat(snapshot.valueAtQuantile(1)).isEqualTo(LatencyHistogram.MAX_NANOS);
+        assertThat(snapshot.getErrors()).isEqualTo(1);
+    }
+
+    /**
+     * Tests recording from several threads at once.
+     * Verifies that no latency is lost.
+     */
+    @Test
+    void testConcurrentRecording() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> recorders = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                recorders.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        histogram.record(i, i % 10 == 0);
+                    }
+                }));
+            }
+            for (Future<?> recorder : recorders) {
+                recorder.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertThat(snapshot.getCount()).isEqualTo(40_000);
+        assertThat(snapshot.getErrors()).isEqualTo(4_000);
+        assertThat(snapshot.getMaxNanos()).isEqualTo(9_999);
+    }
+}
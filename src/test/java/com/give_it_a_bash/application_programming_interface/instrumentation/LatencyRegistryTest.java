@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.instrumentation;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the {@link LatencyRegistry} and {@link ServiceLatencyInterceptor} classes.
+ */
+class LatencyRegistryTest {
+
+    private final LatencyRegistry registry = new LatencyRegistry();
+
+    /**
+     * Tests that the latencies of an endpoint are written as a Prometheus summary, with its maximum and errors.
+     */
+    @Test
+    void testScrapeEndpoint() {
+        registry.endpoint("GET", "/api/students/{id}").record(2_000_000, false);
+        registry.endpoint("GET", "/api/students/{id}").record(4_000_000, true);
+
+        String text = registry.scrape();
+
+        assertThat(text).contains(
+                "# TYPE http_server_request_duration_seconds summary\n",
+                "http_server_request_duration_seconds{method=\"GET\",uri=\"/api/students/{id}\",quantile=\"0.5\"} 0.002",
+                "http_server_request_duration_seconds{method=\"GET\",uri=\"/api/students/{id}\",quantile=\"0.999\"} 0.004\n",
+                "http_server_request_duration_seconds_sum{method=\"GET\",uri=\"/api/students/{id}\"} 0.006\n",
+                "http_server_request_duration_seconds_count{method=\"GET\",uri=\"/api/students/{id}\"} 2\n",
+                "http_server_request_duration_seconds_max{method=\"GET\",uri=\"/api/students/{id}\"} 0.004\n",
+                "# TYPE http_server_request_errors_total counter\n",
+                "http_server_request_errors_total{method=\"GET\",uri=\"/api/students/{id}\"} 1\n");
+    }
+
+    /**
+     * Tests that label values are escaped.
+     */
+    @Test
+    void testScrapeEscapesLabels() {
+        registry.endpoint("GET", "/api/\"quoted\"\\path").record(1, false);
+
+        assertThat(registry.scrape()).contains("uri=\"/api/\\\"quoted\\\"\\\\path\"");
+    }
+
+    /**
+     * Tests that the interceptor records the calls to a service method, counting those that throw as errors,
+     * and that overloads of a method share one series.
+     */
+    @Test
+    void testServiceLatencyInterceptor() throws Throwable {
+        ServiceLatencyInterceptor interceptor = new ServiceLatencyInterceptor(() -> registry);
+        Method append = StringBuilder.class.getMethod("append", String.class);
+        Method appendChars = StringBuilder.class.getMethod("append", char[].class);
+        MethodInvocation succeeding = mock(MethodInvocation.class);
+        when(succeeding.getMethod()).thenReturn(append);
+        when(succeeding.proceed()).thenReturn("result");
+        MethodInvocation failing = mock(MethodInvocation.class);
+        when(failing.getMethod()).thenReturn(appendChars);
+        when(failing.proceed()).thenThrow(new IllegalStateException("Service failure"));
+
+        assertThat(interceptor.invoke(succeeding)).isEqualTo("result");
+        assertThatThrownBy(() -> interceptor.invoke(failing)).isInstanceOf(IllegalStateException.class);
+
+        assertThat(registry.serviceMethod(append)).isSameAs(registry.serviceMethod(appendChars));
+        assertThat(registry.scrape()).contains(
+                "service_method_duration_seconds_count{class=\"StringBuilder\",method=\"append\"} 2\n",
+                "service_method_errors_total{class=\"StringBuilder\",method=\"append\"} 1\n");
+    }
+}
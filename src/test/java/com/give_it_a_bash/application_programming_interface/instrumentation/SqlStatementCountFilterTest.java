@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.instrumentation;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the {@link SqlStatementCountFilter} class.
+ */
+public class SqlStatementCountFilterTest {
+
+    private final SqlStatementCountFilter filter = new SqlStatementCountFilter();
+
+    private final SqlStatementCounter counter = new SqlStatementCounter();
+
+    /**
+     * Tests filtering a request that streams its body, accepting any media type.
+     * Verifies that the body reaches the response as it is written rather than being buffered, and that the
+     * header carries the statements issued before the body was written.
+     */
+    @Test
+    public void testStreamedResponseIsNotBuffered() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/students/export");
+        request.addHeader("Accept", "*/*");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> {
+            counter.inspect("select 1");
+            res.getOutputStream().write("{}\n".getBytes(StandardCharsets.UTF_8));
+            res.flushBuffer();
+            assertThat(response.getContentAsString()).isEqualTo("{}\n");
+            counter.inspect("select 2");
+        };
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(response.getHeader(SqlStatementCountFilter.HEADER)).isEqualTo("1");
+    }
+
+    /**
+     * Tests filtering a request that writes no body.
+     * Verifies that the header carries every statement the request issued.
+     */
+    @Test
+    public void testResponseWithoutBody() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> {
+            counter.inspect("select 1");
+            counter.inspect("select 2");
+        };
+
+        filter.doFilter(new MockHttpServletRequest("DELETE", "/api/students/1"), response, chain);
+
+        assertThat(response.getHeader(SqlStatementCountFilter.HEADER)).isEqualTo("2");
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.instrumentation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the {@link SqlStatementCounter} class.
+ */
+public class SqlStatementCounterTest {
+
+    private final SqlStatementCounter counter = new SqlStatementCounter();
+
+    /**
+     * Tests that statements pass through unchanged and are only counted while a scope is open.
+     */
+    @Test
+    public void testCountsWhileScopeIsOpen() {
+        assertThat(counter.inspect("select 1")).isEqualTo("select 1");
+
+        SqlStatementCounter.Scope scope = SqlStatementCounter.open();
+        counter.inspect("select 1");
+        counter.inspect("select 2");
+        scope.close();
+        counter.inspect("select 3");
+
+        assertThat(scope.getCount()).isEqualTo(2);
+    }
+
+    /**
+     * Tests that a statement counts towards every open scope when scopes are nested.
+     */
+    @Test
+    public void testNestedScopes() {
+        try (SqlStatementCounter.Scope outer = SqlStatementCounter.open()) {
+            counter.inspect("select 1");
+            try (SqlStatementCounter.Scope inner = SqlStatementCounter.open()) {
+                counter.inspect("select 2");
+                assertThat(inner.getCount()).isEqualTo(1);
+            }
+            counter.inspect("select 3");
+            assertThat(outer.getCount()).isEqualTo(3);
+        }
+    }
+}
@@ -26,7 +26,9 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDate;
+import java.util.Arrays;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -93,6 +95,7 @@ class AchievementIT {
                 .guardianLastName("Grey")
                 .guardianContactNumber("+1 555-555-5555")
                 .guardianEmail("john.grey@example.com")
+                .contactNumber("+1 555-555-5556")
                 .power(power)
                 .build();
         student = studentRepository.save(student);
@@ -135,16 +138,57 @@ class AchievementIT {
                 .andExpect(jsonPath("$.student.id").value(newAchievement.getStudent().getId()));
     }
 
+
+    /**
+     * Test creating several Achievement records via the POST /api/achievements/batch endpoint,
+     * where one of them references a student that does not exist and is rejected by the database.
+     * @throws Exception If an error occurs during the HTTP request
+     */
+    @Test
+    void createAchievementsInBatch() throws Exception {
+        Achievement telekinesis = Achievement.builder()
+                .title("Telekinesis Mastery")
+                .description("Achieved mastery over telekinetic powers")
+                .dateAwarded(LocalDate.now())
+                .awardedBy("Professor X")
+                .category(SubjectCategory.ACADEMIC)
+                .student(student)
+                .build();
+
+        Student missingStudent = new Student();
+        missingStudent.setId(student.getId() + 1000);
+        Achievement orphan = Achievement.builder()
+                .title("Phantom Award")
+                .description("Awarded to a student who never enrolled")
+                .dateAwarded(LocalDate.now())
+                .awardedBy("Professor X")
+                .category(SubjectCategory.ACADEMIC)
+                .student(missingStudent)
+                .build();
+
+        mockMvc.perform(post("/api/achievements/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Arrays.asList(telekinesis, orphan))))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$[0].status").value("CREATED"))
+                .andExpect(jsonPath("$[0].id").isNumber())
+                .andExpect(jsonPath("$[1].status").value("FAILED"))
+                .andExpect(jsonPath("$[1].id").doesNotExist());
+
+        assertEquals(2, achievementRepository.count());
+    }
+
     /**
      * Test retrieving all Achievement records via the GET /api/achievements endpoint.
      * @throws Exception If an error occurs during the HTTP request
      */
     @Test
+    @SqlStatementBudget(2)
     void getAllAchievements() throws Exception {
         mockMvc.perform(get("/api/achievements"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].title").value(achievement.getTitle()))
-                .andExpect(jsonPath("$[0].description").value(achievement.getDescription()));
+                .andExpect(jsonPath("$.items[0].title").value(achievement.getTitle()))
+                .andExpect(jsonPath("$.items[0].description").value(achievement.getDescription()));
     }
 
     /**
@@ -152,6 +196,7 @@ class AchievementIT {
      * @throws Exception If an error occurs during the HTTP request
      */
     @Test
+    @SqlStatementBudget(2)
     void getAchievementById() throws Exception {
         mockMvc.perform(get("/api/achievements/" + achievement.getId()))
                 .andExpect(status().isOk())
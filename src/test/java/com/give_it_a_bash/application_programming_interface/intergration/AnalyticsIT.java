@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.intergration;
+
+import com.give_it_a_bash.application_programming_interface.entities.*;
+import com.give_it_a_bash.application_programming_interface.events.OutboxDispatcher;
+import com.give_it_a_bash.application_programming_interface.repositories.AchievementRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.SchoolDataRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.StudentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+
+import static com.give_it_a_bash.application_programming_interface.testData.TestDataHelper.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the Analytics API endpoints.
+ * This class tests counting Achievements by month, school and category, and that the counts follow writes
+ * to Achievements and Students.
+ */
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:analytics_it;DB_CLOSE_DELAY=-1")
+class AnalyticsIT {
+
+    @Autowired
+    private MockMvc mockMvc; // MockMvc to perform HTTP requests
+
+    @Autowired
+    private SchoolDataRepository schoolDataRepository; // Repository for interacting with the database
+
+    @Autowired
+    private StudentRepository studentRepository; // Repository for interacting with the database
+
+    @Autowired
+    private AchievementRepository achievementRepository; // Repository for interacting with the database
+
+    @Autowired
+    private OutboxDispatcher outboxDispatcher; // Delivers the recorded events to the derived views
+
+    private SchoolData xavierInstitute; // The school of the first Student
+
+    private SchoolData massachusettsAcademy; // The school of the second Student
+
+    private Student jean; // A Student at the Xavier Institute with two Achievements
+
+    private Achievement telepathy; // An academic Achievement awarded to Jean in January
+
+    /**
+     * Set up the test environment before each test.
+     * This method deletes all records in the database and saves two Students in two schools with three Achievements.
+     */
+    @BeforeEach
+    void setUp() {
+        achievementRepository.deleteAll();
+        studentRepository.deleteAll();
+        schoolDataRepository.deleteAll();
+
+        xavierInstitute = schoolDataRepository.save(createSchoolData("Xavier Institute for Higher Learning"));
+        massachusettsAcademy = schoolDataRepository.save(createSchoolData("Massachusetts Academy"));
+        jean = studentRepository.save(createStudent(xavierInstitute, "Jean", "Grey",
+                createPower("Telepathy", 8, 8, PowerSource.GENETIC_MUTATION)));
+        Student emma = studentRepository.save(createStudent(massachusettsAcademy, "Emma", "Frost",
+                createPower("Telepathy", 8, 8, PowerSource.GENETIC_MUTATION)));
+
+        telepathy = achievementRepository.save(createAchievement(jean, "Outstanding Contribution",
+                SubjectCategory.ACADEMIC, LocalDate.of(2024, 1, 15)));
+        achievementRepository.save(createAchievement(jean, "Outstanding Contribution",
+                SubjectCategory.ART, LocalDate.of(2024, 2, 20)));
+        achievementRepository.save(createAchievement(emma, "Outstanding Contribution",
+                SubjectCategory.ACADEMIC, LocalDate.of(2024, 1, 31)));
+        dispatchAll();
+    }
+
+    /**
+     * Test counting Achievements via the GET /api/analytics/achievements endpoint, in full and partial months.
+     * The counts are served from memory, so the request issues no SQL statements.
+     * @throws Exception If an error occurs during the HTTP request
+     */
+    @Test
+    @SqlStatementBudget(0)
+    void getAchievementCounts() throws Exception {
+        mockMvc.perform(get("/api/analytics/achievements").param("from", "2024-01-01").param("to", "2024-12-31"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].month").value("2024-01"))
+                .andExpect(jsonPath("$[0].schoolId").value(xavierInstitute.getId()))
+                .andExpect(jsonPath("$[0].category").value("ACADEMIC"))
+                .andExpect(jsonPath("$[0].count").value(1))
+                .andExpect(jsonPath("$[1].schoolId").value(massachusettsAcademy.getId()))
+                .andExpect(jsonPath("$[2].month").value("2024-02"))
+                .andExpect(jsonPath("$[2].category").value("ART"));
+
+        mockMvc.perform(get("/api/analytics/achievements").param("from", "2024-01-20").param("to", "2024-02-10")
+                        .param("category", "ACADEMIC"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].schoolId").value(massachusettsAcademy.getId()));
+
+        mockMvc.perform(get("/api/analytics/achievements").param("from", "2024-01-01").param("to", "2024-12-31")
+                        .param("schoolId", xavierInstitute.getId().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2));
+    }
+
+    /**
+     * Test that the counts follow created and deleted Achievements, and Students moving to another school.
+     * An Achievement created with a reference to its Student is counted under the Student's school.
+     * @throws Exception If an error occurs during the HTTP request
+     */
+    @Test
+    void getAchievementCountsFollowsWrites() throws Exception {
+        mockMvc.perform(post("/api/achievements")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Phoenix Force\",\"description\":\"Contained the Phoenix Force\","
+                                + "\"dateAwarded\":\"2024-01-20\",\"awardedBy\":\"Professor X\","
+                                + "\"category\":\"ACADEMIC\",\"student\":{\"id\":" + jean.getId() + "}}"))
+                .andExpect(status().isCreated());
+        mockMvc.perform(delete("/api/achievements/" + telepathy.getId()))
+                .andExpect(status().isNoContent());
+        dispatchAll();
+
+        mockMvc.perform(get("/api/analytics/achievements").param("from", "2024-01-01").param("to", "2024-01-31")
+                        .param("schoolId", xavierInstitute.getId().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].count").value(1));
+
+        Student moved = studentRepository.findById(jean.getId()).orElseThrow();
+        moved.setSchoolData(massachusettsAcademy);
+        studentRepository.save(moved);
+        dispatchAll();
+
+        mockMvc.perform(get("/api/analytics/achievements").param("from", "2024-01-01").param("to", "2024-12-31")
+                        .param("schoolId", xavierInstitute.getId().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+        mockMvc.perform(get("/api/analytics/achievements").param("from", "2024-01-01").param("to", "2024-01-31")
+                        .param("schoolId", massachusettsAcademy.getId().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].count").value(2));
+    }
+
+    /**
+     * Test that a range ending before it starts is rejected with a 400 status.
+     * @throws Exception If an error occurs during the HTTP request
+     */
+    @Test
+    void getAchievementCountsRejectsInvalidRange() throws Exception {
+        mockMvc.perform(get("/api/analytics/achievements").param("from", "2024-02-01").param("to", "2024-01-01"))
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Test that a range overlapping more than the maximum number of months is rejected with a 400 status.
+     * @throws Exception If an error occurs during the HTTP request
+     */
+    @Test
+    void getAchievementCountsRejectsLongRange() throws Exception {
+        mockMvc.perform(get("/api/analytics/achievements").param("from", "0001-01-01").param("to", "9999-12-31"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private void dispatchAll() {
+        while (outboxDispatcher.dispatch() > 0) {
+            // Deliver every recorded event
+        }
+    }
+}
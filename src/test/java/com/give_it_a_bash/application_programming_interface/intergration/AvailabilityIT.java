@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.intergration;
+
+import com.give_it_a_bash.application_programming_interface.entities.*;
+import com.give_it_a_bash.application_programming_interface.events.OutboxDispatcher;
+import com.give_it_a_bash.application_programming_interface.repositories.LessonRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.SchoolDataRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.StudentRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.SubjectRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.TeacherRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the Availability API endpoint.
+ * This class tests finding the free slots shared by a Teacher and a Student around their booked Lessons.
+ */
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:availability_it;DB_CLOSE_DELAY=-1")
+class AvailabilityIT {
+
+    @Autowired
+    private MockMvc mockMvc; // MockMvc to perform HTTP requests
+
+    @Autowired
+    private LessonRepository lessonRepository; // Repository for interacting with the database
+
+    @Autowired
+    private SchoolDataRepository schoolDataRepository; // Repository for interacting with the database
+
+    @Autowired
+    private TeacherRepository teacherRepository; // Repository for interacting with the database
+
+    @Autowired
+    private StudentRepository studentRepository; // Repository for interacting with the database
+
+    @Autowired
+    private SubjectRepository subjectRepository; // Repository for interacting with the database
+
+    @Autowired
+    private OutboxDispatcher outboxDispatcher; // Delivers the recorded events to the derived views
+
+    private Teacher teacher; // A class level test instance of Teacher
+
+    private Student student; // A class level test instance of Student
+
+    /**
+     * Set up the test environment before each test.
+     * This method deletes all records in the database, then books one Lesson for the Teacher and a
+     * second Lesson, with another Teacher, for the Student on the same morning.
+     */
+    @BeforeEach
+    void setUp() {
+        lessonRepository.deleteAll();
+        teacherRepository.deleteAll();
+        studentRepository.deleteAll();
+        subjectRepository.deleteAll();
+        schoolDataRepository.deleteAll();
+
+        SchoolData schoolData = schoolDataRepository.save(SchoolData.builder()
+                .schoolName("Xavier Institute for Higher Learning")
+                .location("1407 Graymalkin Lane, Salem Center, NY")
+                .motto("Mutatis Mutandis")
+                .yearEstablished(1963)
+                .affiliation("Mutant Education and Research")
+                .contactInfo("+1-555-XAVIER")
+                .isActive(true)
+                .build());
+
+        Power power = Power.builder()
+                .name("Telepathy")
+                .powerLevel(10)
+                .description("Ability to read and control minds")
+                .category("Psychic")
+                .isActive(true)
+                .controlLevel(10)
+                .originSource(PowerSource.GENETIC_MUTATION)
+                .build();
+
+        teacher = teacherRepository.save(Teacher.builder()
+                .schoolData(schoolData)
+                .firstName("Charles")
+                .lastName("Xavier")
+                .alias("Professor X")
+                .power(power)
+                .missionHistory(Collections.singletonList("The Cerebro Chronicles"))
+                .isActive(true)
+                .email("charles.xavier@xavier.edu")
+                .phoneNumber("1234567890")
+                .address("1407 Graymalkin Lane")
+                .qualifications("PhD in Genetics")
+                .yearsOfExperience(20)
+                .department("Psychic Studies")
+                .build());
+
+        student = studentRepository.save(Student.builder()
+                .schoolData(schoolData)
+                .firstName("Jean")
+                .lastName("Grey")
+                .power(power)
+                .missionHistory(Collections.singletonList("Phoenix Saga"))
+                .isActive(true)
+                .status(Status.ACTIVE)
+                .guardianFirstName("John")
+                .guardianLastName("Grey")
+                .guardianContactNumber("+1-555-0101")
+                .contactNumber("+1-555-0102")
+                .build());
+
+        Teacher otherTeacher = teacherRepository.save(Teacher.builder()
+                .schoolData(schoolData)
+                .firstName("Ororo")
+                .lastName("Munroe")
+                .alias("Storm")
+                .power(power)
+                .missionHistory(Collections.singletonList("The Dark Phoenix Saga"))
+                .isActive(true)
+                .email("ororo.munroe@xavier.edu")
+                .phoneNumber("0987654321")
+                .address("1407 Graymalkin Lane")
+                .qualifications("MSc in Meteorology")
+                .yearsOfExperience(10)
+                .department("Environmental Studies")
+                .build());
+
+        Subject subject = subjectRepository.save(Subject.builder()
+                .schoolData(schoolData)
+                .name("Mutant Studies")
+                .build());
+
+        lessonRepository.save(Lesson.builder()
+                .subject(subject)
+                .teacher(teacher)
+                .startTime(LocalDateTime.of(2030, 9, 2, 9, 0))
+                .endTime(LocalDateTime.of(2030, 9, 2, 10, 0))
+                .build());
+        lessonRepository.save(Lesson.builder()
+                .subject(subject)
+                .teacher(otherTeacher)
+                .students(new ArrayList<>(Collections.singletonList(student)))
+                .startTime(LocalDateTime.of(2030, 9, 2, 10, 30))
+                .endTime(LocalDateTime.of(2030, 9, 2, 11, 30))
+                .build());
+        dispatchAll();
+    }
+
+    /**
+     * Test finding the free slots shared by a Teacher and a Student via the GET /api/availability endpoint.
+     * @throws Exception If an error occurs during the HTTP request
+     */
+    @Test
+    @SqlStatementBudget(0)
+    void getAvailability() throws Exception {
+        mockMvc.perform(get("/api/availability")
+                        .param("teacherIds", teacher.getId().toString())
+                        .param("studentIds", student.getId().toString())
+                        .param("from", "2030-09-02T08:00:00")
+                        .param("to", "2030-09-02T13:00:00")
+                        .param("duration", "60"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].start").value("2030-09-02T08:00:00"))
+                .andExpect(jsonPath("$[0].end").value("2030-09-02T09:00:00"))
+                .andExpect(jsonPath("$[1].start").value("2030-09-02T11:30:00"))
+                .andExpect(jsonPath("$[1].end").value("2030-09-02T13:00:00"));
+    }
+
+    /**
+     * Test that a search window ending before it starts is rejected by the GET /api/availability endpoint.
+     * @throws Exception If an error occurs during the HTTP request
+     */
+    @Test
+    void getAvailabilityWithInvalidWindowReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/availability")
+                        .param("from", "2030-09-02T13:00:00")
+                        .param("to", "2030-09-02T08:00:00"))
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Test that a duration too long to be represented is rejected by the GET /api/availability endpoint.
+     * @throws Exception If an error occurs during the HTTP request
+     */
+    @Test
+    void getAvailabilityWithInvalidDurationReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/availability")
+                        .param("from", "2030-09-02T08:00:00")
+                        .param("to", "2030-09-02T13:00:00")
+                        .param("duration", String.valueOf(Long.MAX_VALUE)))
+                .andExpect(status().isBadRequest());
+    }
+
+    private void dispatchAll() {
+        while (outboxDispatcher.dispatch() > 0) {
+            // Deliver every recorded event
+        }
+    }
+}
@@ -126,17 +126,18 @@ class FacilityIT {
      * @throws Exception If an error occurs during the HTTP request
      */
     @Test
+    @SqlStatementBudget(1)
     void getAllFacilities() throws Exception {
         mockMvc.perform(get("/api/facilities"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].name").value(facility.getName()))
-                .andExpect(jsonPath("$[0].type").value(facility.getType().name()))
-                .andExpect(jsonPath("$[0].description").value(facility.getDescription()))
-                .andExpect(jsonPath("$[0].accessible").value(facility.isAccessible()))
-                .andExpect(jsonPath("$[0].locationWithinCampus").value(facility.getLocationWithinCampus()))
-                .andExpect(jsonPath("$[0].capacity").value(facility.getCapacity()))
-                .andExpect(jsonPath("$[0].schoolData.id").value(facility.getSchoolData().getId()))
-                .andExpect(jsonPath("$[0].operational").value(facility.isOperational()));
+                .andExpect(jsonPath("$.items[0].name").value(facility.getName()))
+                .andExpect(jsonPath("$.items[0].type").value(facility.getType().name()))
+                .andExpect(jsonPath("$.items[0].description").value(facility.getDescription()))
+                .andExpect(jsonPath("$.items[0].accessible").value(facility.isAccessible()))
+                .andExpect(jsonPath("$.items[0].locationWithinCampus").value(facility.getLocationWithinCampus()))
+                .andExpect(jsonPath("$.items[0].capacity").value(facility.getCapacity()))
+                .andExpect(jsonPath("$.items[0].schoolData.id").value(facility.getSchoolData().getId()))
+                .andExpect(jsonPath("$.items[0].operational").value(facility.isOperational()));
     }
 
     /**
@@ -144,6 +145,7 @@ class FacilityIT {
      * @throws Exception If an error occurs during the HTTP request
      */
     @Test
+    @SqlStatementBudget(1)
     void getFacilityById() throws Exception {
         mockMvc.perform(get("/api/facilities/" + facility.getId()))
                 .andExpect(status().isOk())
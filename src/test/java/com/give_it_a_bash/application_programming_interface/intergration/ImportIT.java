@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.intergration;
+
+import com.give_it_a_bash.application_programming_interface.entities.*;
+import com.give_it_a_bash.application_programming_interface.repositories.LessonRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.SchoolDataRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.StudentRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.SubjectRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.TeacherRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the Import API endpoints.
+ * This class tests importing Students, Teachers and Lessons from CSV and NDJSON bodies, and the per-row
+ * report of the rows that were not created.
+ */
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:import_it;DB_CLOSE_DELAY=-1")
+class ImportIT {
+
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv");
+
+    private static final String STUDENT_HEADER = "firstName,lastName,alias,isActive,status,schoolData.id,"
+            + "guardianFirstName,guardianLastName,guardianContactNumber,guardianEmail,contactNumber,"
+            + "power.powerName,power.powerLevel,power.controlLevel,power.isPowerActive,power.originSource,missionHistory[]\n";
+
+    @Autowired
+    private MockMvc mockMvc; // MockMvc to perform HTTP requests
+
+    @Autowired
+    private SchoolDataRepository schoolDataRepository; // Repository for interacting with the database
+
+    @Autowired
+    private StudentRepository studentRepository; // Repository for interacting with the database
+
+    @Autowired
+    private TeacherRepository teacherRepository; // Repository for interacting with the database
+
+    @Autowired
+    private SubjectRepository subjectRepository; // Repository for interacting with the database
+
+    @Autowired
+    private LessonRepository lessonRepository; // Repository for interacting with the database
+
+    private SchoolData schoolData; // The school every imported row belongs to
+
+    private Teacher teacher; // The Teacher of the imported Lessons
+
+    private Subject subject; // The Subject of the imported Lessons
+
+    /**
+     * Set up the test environment before each test.
+     * This method deletes all records in the database and saves a school with a Teacher and a Subject.
+     */
+    @BeforeEach
+    void setUp() {
+        lessonRepository.deleteAll();
+        teacherRepository.deleteAll();
+        studentRepository.deleteAll();
+        subjectRepository.deleteAll();
+        schoolDataRepository.deleteAll();
+
+        schoolData = schoolDataRepository.save(SchoolData.builder()
+                .schoolName("Xavier Institute for Higher Learning")
+                .location("1407 Graymalkin Lane, Salem Center, NY")
+                .motto("Mutatis Mutandis")
+                .yearEstablished(1963)
+                .affiliation("Mutant Education and Research")
+                .contactInfo("+1-555-XAVIER")
+                .isActive(true)
+                .build());
+        teacher = teacherRepository.save(Teacher.builder()
+                .schoolData(schoolData)
+                .firstName("Charles")
+                .lastName("Xavier")
+                .alias("Professor X")
+                .power(Power.builder()
+                        .name("Telepathy")
+                        .powerLevel(10)
+                        .description("Ability to read and control minds")
+                        .category("Psychic")
+                        .isActive(true)
+                        .controlLevel(10)
+                        .originSource(PowerSource.GENETIC_MUTATION)
+                        .build())
+                .missionHistory(Collections.singletonList("The Cerebro Chronicles"))
+                .isActive(true)
+                .email("charles.xavier@xavier.edu")
+                .phoneNumber("1234567890")
+                .address("1407 Graymalkin Lane")
+                .qualifications("PhD in Genetics")
+                .yearsOfExperience(20)
+                .department("Psychic Studies")
+                .build());
+        subject = subjectRepository.save(Subject.builder()
+                .schoolData(schoolData)
+                .name("Mutant Studies")
+                .build());
+    }
+
+    /**
+     * Test importing Students from a CSV body via the POST /api/import/students endpoint.
+     * The row failing bean validation is reported by its line, and the other rows are created.
+     * @throws Exception If an error occurs during the HTTP request
+     */
+    @Test
+    void importStudentsFromCsv() throws Exception {
+        String body = STUDENT_HEADER
+                + studentRow("Bobby", "Drake")
+                + studentRow("", "Pryde")
+                + studentRow("Kurt", "Wagner");
+
+        mockMvc.perform(post("/api/import/students").contentType(TEXT_CSV).content(body))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.rows").value(3))
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.errors[0].line").value(3))
+                .andExpect(jsonPath("$.errors[0].status").value("INVALID"))
+                .andExpect(jsonPath("$.errors[0].errors[0]").value("firstName: First name cannot be empty"))
+                .andExpect(jsonPath("$.errorsTruncated").value(false));
+
+        assertThat(studentRepository.count()).isEqualTo(2);
+        Student bobby = studentRepository.findAll().stream()
+                .filter(student -> "Bobby".equals(student.getFirstName())).findFirst().orElseThrow();
+        assertThat(bobby.getSchoolData().getId()).isEqualTo(schoolData.getId());
+        assertThat(bobby.getPower().getPowerLevel()).isEqualTo(7);
+    }
+
+    /**
+     * Test importing Teachers from an NDJSON body via the POST /api/import/teachers endpoint.
+     * @throws Exception If an error occurs during the HTTP request
+     */
+    @Test
+    void importTeachersFromNdjson() throws Exception {
+        String body = "{\"firstName\":\"Hank\",\"lastName\":\"McCoy\","
+                + "\"email\":\"hank.mccoy@xavier.edu\",\"phoneNumber\":\"+1-555-0201\","
+                + "\"isActive\":true,\"schoolData\":{\"id\":"
+                + schoolData.getId() + "},\"power\":{\"powerName\":\"Agility\",\"powerLevel\":7,\"controlLevel\":9,"
+                + "\"isPowerActive\":true,\"originSource\":\"GENETIC_MUTATION\"}}\n"
+                + "{\"firstName\":\"Ororo\",\"lastName\":\"Munroe\","
+                + "\"email\":\"ororo.munroe@xavier.edu\",\"phoneNumber\":\"+1-555-0202\","
+                + "\"isActive\":true,\"schoolData\":{\"id\":"
+                + schoolData.getId() + "},\"power\":{\"powerName\":\"Weather\",\"powerLevel\":9,\"controlLevel\":8,"
+                + "\"isPowerActive\":true,\"originSource\":\"GENETIC_MUTATION\"}}\n";
+
+        mockMvc.perform(post("/api/import/teachers").contentType(MediaType.APPLICATION_NDJSON).content(body))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.errors.length()").value(0));
+
+        assertThat(teacherRepository.count()).isEqualTo(3);
+    }
+
+    /**
+     * Test importing Lessons from a CSV body via the POST /api/import/lessons endpoint.
+     * A Lesson clashing with an earlier row of the same import is rejected like in a batch.
+     * @throws Exception If an error occurs during the HTTP request
+     */
+    @Test
+    void importLessonsFromCsv() throws Exception {
+        String body = "subject.id,teacher.id,startTime,endTime\n"
+                + subject.getId() + "," + teacher.getId() + ",2030-09-02T09:00:00,2030-09-02T10:00:00\n"
+                + subject.getId() + "," + teacher.getId() + ",2030-09-02T09:30:00,2030-09-02T10:30:00\n"
+                + subject.getId() + "," + teacher.getId() + ",not a time,2030-09-02T11:30:00\n";
+
+        mockMvc.perform(post("/api/import/lessons").contentType(TEXT_CSV).content(body))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.errors[0].line").value(3))
+                .andExpect(jsonPath("$.errors[0].status").value("INVALID"))
+                .andExpect(jsonPath("$.errors[1].line").value(4));
+
+        assertThat(lessonRepository.count()).isEqualTo(1);
+    }
+
+    /**
+     * Test that uploads in an unsupported format, or of an entity that cannot be imported, are rejected.
+     * @throws Exception If an error occurs during the HTTP request
+     */
+    @Test
+    void importRejectsUnsupportedUploads() throws Exception {
+        mockMvc.perform(post("/api/import/students").contentType(MediaType.APPLICATION_JSON).content("[]"))
+                .andExpect(status().isUnsupportedMediaType());
+        mockMvc.perform(post("/api/import/facilities").contentType(TEXT_CSV).content("name\nGym\n"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(post("/api/import/students").contentType(TEXT_CSV).content("firstName,,lastName\n"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private String studentRow(String firstName, String lastName) {
+        return firstName + "," + lastName + "," + firstName + ",true,ACTIVE," + schoolData.getId()
+                + ",William," + lastName + ",+1-555-0101,guardian@example.com,+1-555-0102"
+                + ",Cryokinesis,7,5,true,GENETIC_MUTATION,Mission A|Mission B\n";
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.intergration;
+
+import com.give_it_a_bash.application_programming_interface.entities.*;
+import com.give_it_a_bash.application_programming_interface.events.OutboxDispatcher;
+import com.give_it_a_bash.application_programming_interface.patch.JsonMergePatcher;
+import com.give_it_a_bash.application_programming_interface.repositories.SchoolDataRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.StudentRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.TeacherRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Collections;
+
+import static com.give_it_a_bash.application_programming_interface.testData.TestDataHelper.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the Leaderboard API endpoints.
+ * This class tests ranking Students and Teachers by power, across all schools and within one school,
+ * and that the ranking follows writes to them.
+ */
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:leaderboard_it;DB_CLOSE_DELAY=-1")
+class LeaderboardIT {
+
+    @Autowired
+    private MockMvc mockMvc; // MockMvc to perform HTTP requests
+
+    @Autowired
+    private SchoolDataRepository schoolDataRepository; // Repository for interacting with the database
+
+    @Autowired
+    private TeacherRepository teacherRepository; // Repository for interacting with the database
+
+    @Autowired
+    private StudentRepository studentRepository; // Repository for interacting with the database
+
+    @Autowired
+    private OutboxDispatcher outboxDispatcher; // Delivers the recorded events to the derived views
+
+    private SchoolData xavierInstitute; // The school of the Teacher and the first Student
+
+    private SchoolData massachusettsAcademy; // The school of the second Student
+
+    private Teacher teacher; // A Teacher with power level 10
+
+    private Student iceman; // A Student with power level 7
+
+    private Student siryn; // A Student with power level 8
+
+    /**
+     * Set up the test environment before each test.
+     * This method deletes all records in the database and saves a Teacher and two Students in two schools.
+     */
+    @BeforeEach
+    void setUp() {
+        teacherRepository.deleteAll();
+        studentRepository.deleteAll();
+        schoolDataRepository.deleteAll();
+
+        xavierInstitute = schoolDataRepository.save(createSchoolData("Xavier Institute for Higher Learning"));
+        massachusettsAcademy = schoolDataRepository.save(createSchoolData("Massachusetts Academy"));
+
+        teacher = teacherRepository.save(Teacher.builder()
+                .schoolData(xavierInstitute)
+                .firstName("Charles")
+                .lastName("Xavier")
+                .alias("Professor X")
+                .power(createPower("Telepathy", 10, 10, PowerSource.GENETIC_MUTATION))
+                .missionHistory(Collections.singletonList("The Cerebro Chronicles"))
+                .isActive(true)
+                .email("charles.xavier@xavier.edu")
+                .phoneNumber("1234567890")
+                .address("1407 Graymalkin Lane")
+                .qualifications("PhD in Genetics")
+                .yearsOfExperience(20)
+                .department("Psychic Studies")
+                .build());
+        iceman = studentRepository.save(createStudent(xavierInstitute, "Bobby", "Drake", "Iceman",
+                createPower("Cryokinesis", 7, 5, PowerSource.GENETIC_MUTATION), Status.ACTIVE));
+        siryn = studentRepository.save(createStudent(massachusettsAcademy, "Theresa", "Cassidy", "Siryn",
+                createPower("Sonic Scream", 8, 6, PowerSource.GENETIC_MUTATION), Status.ACTIVE));
+        dispatchAll();
+    }
+
+    /**
+     * Test retrieving the most powerful mutants via the GET /api/leaderboard endpoint, globally and per school.
+     * The leaderboard is served from memory, so the request issues no SQL statements.
+     * @throws Exception If an error occurs during the HTTP request
+     */
+    @Test
+    @SqlStatementBudget(0)
+    void getTopMutants() throws Exception {
+        mockMvc.perform(get("/api/leaderboard").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].rank").value(1))
+                .andExpect(jsonPath("$[0].mutantId").value(teacher.getId()))
+                .andExpect(jsonPath("$[0].mutantType").value("TEACHER"))
+                .andExpect(jsonPath("$[1].mutantId").value(siryn.getId()))
+                .andExpect(jsonPath("$[1].alias").value("Siryn"));
+
+        mockMvc.perform(get("/api/leaderboard").param("schoolId", xavierInstitute.getId().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[1].mutantId").value(iceman.getId()))
+                .andExpect(jsonPath("$[1].rank").value(2))
+                .andExpect(jsonPath("$[1].powerLevel").value(7));
+    }
+
+    /**
+     * Test that the rank returned by the GET /api/leaderboard/mutants/{id} endpoint follows patches and deletes.
+     * @throws Exception If an error occurs during the HTTP request
+     */
+    @Test
+    void getRankFollowsWrites() throws Exception {
+        mockMvc.perform(get("/api/leaderboard/mutants/" + iceman.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rank").value(3));
+
+        mockMvc.perform(patch("/api/students/" + iceman.getId())
+                        .contentType(JsonMergePatcher.MERGE_PATCH_JSON_VALUE)
+                        .content("{\"power\":{\"powerLevel\":11}}"))
+                .andExpect(status().isOk());
+        dispatchAll();
+
+        mockMvc.perform(get("/api/leaderboard/mutants/" + iceman.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rank").value(1))
+                .andExpect(jsonPath("$.powerLevel").value(11));
+        mockMvc.perform(get("/api/leaderboard/mutants/" + teacher.getId())
+                        .param("schoolId", xavierInstitute.getId().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rank").value(2));
+        mockMvc.perform(get("/api/leaderboard/mutants/" + siryn.getId())
+                        .param("schoolId", xavierInstitute.getId().toString()))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(delete("/api/students/" + iceman.getId()))
+                .andExpect(status().isNoContent());
+        dispatchAll();
+
+        mockMvc.perform(get("/api/leaderboard/mutants/" + iceman.getId()))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/leaderboard/mutants/" + teacher.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rank").value(1));
+    }
+
+    private void dispatchAll() {
+        while (outboxDispatcher.dispatch() > 0) {
+            // Deliver every recorded event
+        }
+    }
+}
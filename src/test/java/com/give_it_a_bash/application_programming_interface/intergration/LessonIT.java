@@ -12,8 +12,12 @@ package com.give_it_a_bash.application_programming_interface.intergration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.give_it_a_bash.application_programming_interface.entities.*;
+import com.give_it_a_bash.application_programming_interface.events.OutboxDispatcher;
+import com.give_it_a_bash.application_programming_interface.instrumentation.SqlStatementCountFilter;
+import com.give_it_a_bash.application_programming_interface.repositories.FacilityRepository;
 import com.give_it_a_bash.application_programming_interface.repositories.LessonRepository;
 import com.give_it_a_bash.application_programming_interface.repositories.SchoolDataRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.StudentRepository;
 import com.give_it_a_bash.application_programming_interface.repositories.TeacherRepository;
 import com.give_it_a_bash.application_programming_interface.repositories.SubjectRepository;
 import org.junit.jupiter.api.BeforeAll;
@@ -28,12 +32,17 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -70,9 +79,18 @@ class LessonIT {
     @Autowired
     private SubjectRepository subjectRepository; // Repository for interacting with the database
 
+    @Autowired
+    private StudentRepository studentRepository; // Repository for interacting with the database
+
+    @Autowired
+    private FacilityRepository facilityRepository; // Repository for interacting with the database
+
     @Autowired
     private ObjectMapper objectMapper; // ObjectMapper to convert objects to JSON
 
+    @Autowired
+    private OutboxDispatcher outboxDispatcher; // Delivers the recorded events to the derived views
+
     private Lesson lesson; // A class level test instance of Lesson
 
     private SchoolData schoolData; // A class level test instance of SchoolData
@@ -114,7 +132,9 @@ class LessonIT {
     @BeforeEach
     void setUp() {
         lessonRepository.deleteAll();
+        facilityRepository.deleteAll();
         teacherRepository.deleteAll();
+        studentRepository.deleteAll();
 
         power = Power.builder()
                 .name("Telepathy")
@@ -154,10 +174,11 @@ class LessonIT {
         lesson = Lesson.builder()
                 .subject(subject)
                 .teacher(teacher)
-                .startTime(LocalDateTime.of(2024, 12, 11, 9, 0))
-                .endTime(LocalDateTime.of(2024, 12, 11, 10, 0))
+                .startTime(LocalDateTime.of(2030, 12, 11, 9, 0))
+                .endTime(LocalDateTime.of(2030, 12, 11, 10, 0))
                 .build();
         lesson = lessonRepository.save(lesson);
+        dispatchAll();
     }
 
     /**
@@ -169,8 +190,8 @@ class LessonIT {
         Lesson newLesson = Lesson.builder()
                 .subject(subject)
                 .teacher(teacher)
-                .startTime(LocalDateTime.of(2024, 12, 18, 9, 0))
-                .endTime(LocalDateTime.of(2024, 12, 18, 10, 0))
+                .startTime(LocalDateTime.of(2030, 12, 18, 9, 0))
+                .endTime(LocalDateTime.of(2030, 12, 18, 10, 0))
                 .build();
 
         mockMvc.perform(post("/api/lessons")
@@ -183,18 +204,243 @@ class LessonIT {
                 .andExpect(jsonPath("$.endTime").value(newLesson.getEndTime().format(formatter)));
     }
 
+    /**
+     * Test that creating a Lesson which double-books its Teacher via the POST /api/lessons endpoint is
+     * rejected, while a back-to-back Lesson is accepted.
+     * @throws Exception If an error occurs during the HTTP request
+     */
+    @Test
+    void createOverlappingLessonReturnsConflict() throws Exception {
+        Lesson overlapping = Lesson.builder()
+                .subject(subject)
+                .teacher(teacher)
+                .startTime(lesson.getStartTime().plusMinutes(30))
+                .endTime(lesson.getEndTime().plusMinutes(30))
+                .build();
+
+        mockMvc.perform(post("/api/lessons")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(overlapping)))
+                .andExpect(status().isConflict());
+
+        Lesson backToBack = Lesson.builder()
+                .subject(subject)
+                .teacher(teacher)
+                .startTime(lesson.getEndTime())
+                .endTime(lesson.getEndTime().plusHours(1))
+                .build();
+
+        mockMvc.perform(post("/api/lessons")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(backToBack)))
+                .andExpect(status().isCreated());
+        assertEquals(2, lessonRepository.count());
+    }
+
+
+    /**
+     * Test creating several Lesson records via the POST /api/lessons/batch endpoint.
+     * @throws Exception If an error occurs during the HTTP request
+     */
+    @Test
+    void createLessonsInBatch() throws Exception {
+        LocalDateTime nextWeek = LocalDateTime.now().plusWeeks(1).withNano(0);
+        Lesson firstLesson = Lesson.builder()
+                .subject(subject)
+                .teacher(teacher)
+                .startTime(nextWeek)
+                .endTime(nextWeek.plusHours(1))
+                .build();
+        Lesson secondLesson = Lesson.builder()
+                .subject(subject)
+                .teacher(teacher)
+                .startTime(nextWeek.plusDays(1))
+                .endTime(nextWeek.plusDays(1).plusHours(1))
+                .build();
+
+        mockMvc.perform(post("/api/lessons/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Arrays.asList(firstLesson, secondLesson))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$[0].status").value("CREATED"))
+                .andExpect(jsonPath("$[1].status").value("CREATED"))
+                .andExpect(jsonPath("$[1].id").isNumber());
+    }
+
+    /**
+     * Test that Lessons sent to the POST /api/lessons/batch endpoint which overlap an existing Lesson, or an
+     * earlier Lesson of the same request, are reported as invalid.
+     * @throws Exception If an error occurs during the HTTP request
+     */
+    @Test
+    void createLessonsInBatchRejectsOverlaps() throws Exception {
+        LocalDateTime nextWeek = LocalDateTime.now().plusWeeks(1).withNano(0);
+        Lesson existing = lessonRepository.save(Lesson.builder()
+                .subject(subject)
+                .teacher(teacher)
+                .startTime(nextWeek)
+                .endTime(nextWeek.plusHours(1))
+                .build());
+        dispatchAll();
+        Lesson overlappingExisting = Lesson.builder()
+                .subject(subject)
+                .teacher(teacher)
+                .startTime(existing.getStartTime())
+                .endTime(existing.getEndTime())
+                .build();
+        Lesson later = Lesson.builder()
+                .subject(subject)
+                .teacher(teacher)
+                .startTime(existing.getEndTime())
+                .endTime(existing.getEndTime().plusHours(1))
+                .build();
+        Lesson overlappingLater = Lesson.builder()
+                .subject(subject)
+                .teacher(teacher)
+                .startTime(later.getStartTime().plusMinutes(30))
+                .endTime(later.getEndTime().plusMinutes(30))
+                .build();
+
+        mockMvc.perform(post("/api/lessons/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Arrays.asList(overlappingExisting, later, overlappingLater))))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$[0].status").value("INVALID"))
+                .andExpect(jsonPath("$[0].errors[0]").value("Lesson overlaps lesson " + existing.getId() + " for teacher " + teacher.getId()))
+                .andExpect(jsonPath("$[1].status").value("CREATED"))
+                .andExpect(jsonPath("$[2].status").value("INVALID"));
+    }
+
     /**
      * Test retrieving all Lesson records via the GET /api/lessons endpoint.
      * @throws Exception If an error occurs during the HTTP request
      */
     @Test
+    @SqlStatementBudget(4)
     void getAllLessons() throws Exception {
         mockMvc.perform(get("/api/lessons"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].subject.id").value(lesson.getSubject().getId()))
-                .andExpect(jsonPath("$[0].teacher.id").value(lesson.getTeacher().getId()))
-                .andExpect(jsonPath("$[0].startTime").value(lesson.getStartTime().format(formatter)))
-                .andExpect(jsonPath("$[0].endTime").value(lesson.getEndTime().format(formatter)));
+                .andExpect(jsonPath("$.items[0].subject.id").value(lesson.getSubject().getId()))
+                .andExpect(jsonPath("$.items[0].teacher.id").value(lesson.getTeacher().getId()))
+                .andExpect(jsonPath("$.items[0].startTime").value(lesson.getStartTime().format(formatter)))
+                .andExpect(jsonPath("$.items[0].endTime").value(lesson.getEndTime().format(formatter)));
+    }
+
+    /**
+     * Test retrieving Lesson summaries via the GET /api/lessons?view=summary endpoint in a single SQL statement.
+     * @throws Exception If an error occurs during the HTTP request
+     */
+    @Test
+    @SqlStatementBudget(1)
+    void getAllLessonSummaries() throws Exception {
+        mockMvc.perform(get("/api/lessons").param("view", "summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].id").value(lesson.getId()))
+                .andExpect(jsonPath("$.items[0].subjectName").value(subject.getName()))
+                .andExpect(jsonPath("$.items[0].teacherFirstName").value(teacher.getFirstName()))
+                .andExpect(jsonPath("$.items[0].teacherLastName").value(teacher.getLastName()))
+                .andExpect(jsonPath("$.items[0].startTime").value(lesson.getStartTime().format(formatter)))
+                .andExpect(jsonPath("$.items[0].endTime").value(lesson.getEndTime().format(formatter)))
+                .andExpect(jsonPath("$.items[0].studentCount").value(0))
+                .andExpect(jsonPath("$.items[0].teacher").doesNotExist());
+    }
+
+
+    /**
+     * Test that retrieving a page of Lesson records via the GET /api/lessons endpoint reports the same
+     * number of SQL statements whether the page holds one Lesson or many, each with its own teacher,
+     * subject and students.
+     * @throws Exception If an error occurs during the HTTP request
+     */
+    @Test
+    void getAllLessonsRunsFixedNumberOfStatements() throws Exception {
+        long singleLessonStatements = statementCount(mockMvc.perform(get("/api/lessons"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(SqlStatementCountFilter.HEADER))
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andReturn());
+
+        for (int i = 0; i < 10; i++) {
+            Teacher otherTeacher = teacherRepository.save(Teacher.builder()
+                    .schoolData(schoolData)
+                    .firstName("Teacher" + i)
+                    .lastName("Lensherr")
+                    .power(power)
+                    .missionHistory(Collections.singletonList("Mission " + i))
+                    .isActive(true)
+                    .email("teacher" + i + "@xavier.edu")
+                    .phoneNumber("1234567890")
+                    .subjects(new ArrayList<>(Collections.singletonList(subject)))
+                    .build());
+            Subject otherSubject = subjectRepository.save(Subject.builder()
+                    .schoolData(schoolData)
+                    .name("Subject " + i)
+                    .build());
+            List<Student> students = studentRepository.saveAll(Arrays.asList(
+                    Student.builder().schoolData(schoolData).firstName("First" + i).lastName("Student")
+                            .power(power).missionHistory(Collections.singletonList("Mission " + i))
+                            .isActive(true).status(Status.ACTIVE).guardianFirstName("Guardian")
+                            .guardianLastName("Student").guardianContactNumber("+1-555-0101")
+                            .contactNumber("+1-555-0102").build(),
+                    Student.builder().schoolData(schoolData).firstName("Second" + i).lastName("Student")
+                            .power(power).missionHistory(Collections.singletonList("Mission " + i))
+                            .isActive(true).status(Status.ACTIVE).guardianFirstName("Guardian")
+                            .guardianLastName("Student").guardianContactNumber("+1-555-0101")
+                            .contactNumber("+1-555-0102").build()));
+            lessonRepository.save(Lesson.builder()
+                    .subject(otherSubject)
+                    .teacher(otherTeacher)
+                    .students(new ArrayList<>(students))
+                    .startTime(LocalDateTime.of(2030, 12, 12 + i, 9, 0))
+                    .endTime(LocalDateTime.of(2030, 12, 12 + i, 10, 0))
+                    .build());
+        }
+
+        long manyLessonStatements = statementCount(mockMvc.perform(get("/api/lessons"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(11))
+                .andExpect(jsonPath("$.items[10].students[1].missionHistory[0]").value("Mission 9"))
+                .andExpect(jsonPath("$.items[10].teacher.subjects[0].name").value(subject.getName()))
+                .andReturn());
+
+        assertEquals(singleLessonStatements, manyLessonStatements);
+    }
+
+    /**
+     * Test listing overlapping Lesson records via the GET /api/lessons/conflicts endpoint.
+     * Lessons written directly through the repository bypass the conflict check, but are still indexed once
+     * their events have been delivered.
+     * @throws Exception If an error occurs during the HTTP request
+     */
+    @Test
+    void getLessonConflicts() throws Exception {
+        mockMvc.perform(get("/api/lessons/conflicts"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+
+        Lesson overlapping = lessonRepository.save(Lesson.builder()
+                .subject(subject)
+                .teacher(teacher)
+                .startTime(lesson.getStartTime().plusMinutes(15))
+                .endTime(lesson.getEndTime())
+                .build());
+        dispatchAll();
+
+        mockMvc.perform(get("/api/lessons/conflicts"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].type").value("TEACHER"))
+                .andExpect(jsonPath("$[0].resourceId").value(teacher.getId()))
+                .andExpect(jsonPath("$[0].lessonId").value(lesson.getId()))
+                .andExpect(jsonPath("$[0].conflictingLessonId").value(overlapping.getId()));
+
+        lessonRepository.delete(overlapping);
+        dispatchAll();
+
+        mockMvc.perform(get("/api/lessons/conflicts"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
     }
 
     /**
@@ -202,6 +448,7 @@ class LessonIT {
      * @throws Exception If an error occurs during the HTTP request
      */
     @Test
+    @SqlStatementBudget(4)
     void getLessonById() throws Exception {
         mockMvc.perform(get("/api/lessons/" + lesson.getId()))
                 .andExpect(status().isOk())
@@ -231,8 +478,8 @@ class LessonIT {
         Lesson updatedLesson = Lesson.builder()
                 .subject(subject)
                 .teacher(teacher)
-                .startTime(LocalDateTime.of(2024, 12, 11, 9, 0))
-                .endTime(LocalDateTime.of(2024, 12, 11, 10, 30))
+                .startTime(LocalDateTime.of(2030, 12, 11, 9, 0))
+                .endTime(LocalDateTime.of(2030, 12, 11, 10, 30))
                 .build();
 
         updatedLesson.setId(lesson.getId());
@@ -244,6 +491,131 @@ class LessonIT {
                 .andExpect(jsonPath("$.endTime").value(updatedLesson.getEndTime().format(formatter)));
     }
 
+    /**
+     * Test that moving a Lesson onto a slot its Teacher already teaches via the PUT /api/lessons/{id}
+     * endpoint is rejected, leaving the Lesson unchanged.
+     * @throws Exception If an error occurs during the HTTP request
+     */
+    @Test
+    void updateLessonIntoConflictReturnsConflict() throws Exception {
+        Lesson later = lessonRepository.save(Lesson.builder()
+                .subject(subject)
+                .teacher(teacher)
+                .startTime(lesson.getEndTime())
+                .endTime(lesson.getEndTime().plusHours(1))
+                .build());
+        dispatchAll();
+        Lesson moved = Lesson.builder()
+                .subject(subject)
+                .teacher(teacher)
+                .startTime(lesson.getStartTime())
+                .endTime(lesson.getEndTime())
+                .build();
+
+        mockMvc.perform(put("/api/lessons/" + later.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(moved)))
+                .andExpect(status().isConflict());
+
+        mockMvc.perform(get("/api/lessons/" + later.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.startTime").value(later.getStartTime().format(formatter)));
+    }
+
+    /**
+     * Test that creating a Lesson via the POST /api/lessons endpoint with a facilityType reserves the smallest
+     * operational Facility of that type which is free for the Lesson.
+     * @throws Exception If an error occurs during the HTTP request
+     */
+    @Test
+    void createLessonReservesBestFitFacility() throws Exception {
+        facilityRepository.save(facility("Old Classroom", FacilityType.CLASSROOM, 5, false));
+        Facility small = facilityRepository.save(facility("Study Hall", FacilityType.CLASSROOM, 10, true));
+        Facility large = facilityRepository.save(facility("Lecture Hall", FacilityType.CLASSROOM, 30, true));
+        facilityRepository.save(facility("Hank's Lab", FacilityType.LABORATORY, 10, true));
+        lessonRepository.save(Lesson.builder()
+                .subject(subject)
+                .teacher(otherTeacher())
+                .startTime(LocalDateTime.of(2030, 12, 18, 9, 0))
+                .endTime(LocalDateTime.of(2030, 12, 18, 10, 0))
+                .facility(small)
+                .build());
+        dispatchAll();
+
+        Lesson overlapping = Lesson.builder()
+                .subject(subject)
+                .teacher(teacher)
+                .startTime(LocalDateTime.of(2030, 12, 18, 9, 30))
+                .endTime(LocalDateTime.of(2030, 12, 18, 10, 30))
+                .build();
+        mockMvc.perform(post("/api/lessons").param("facilityType", "CLASSROOM")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(overlapping)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.facility.id").value(large.getId()));
+
+        Lesson later = Lesson.builder()
+                .subject(subject)
+                .teacher(teacher)
+                .startTime(LocalDateTime.of(2030, 12, 18, 11, 0))
+                .endTime(LocalDateTime.of(2030, 12, 18, 12, 0))
+                .build();
+        mockMvc.perform(post("/api/lessons").param("facilityType", "CLASSROOM")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(later)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.facility.id").value(small.getId()));
+
+        Lesson laterStill = Lesson.builder()
+                .subject(subject)
+                .teacher(teacher)
+                .startTime(LocalDateTime.of(2030, 12, 18, 11, 30))
+                .endTime(LocalDateTime.of(2030, 12, 18, 12, 30))
+                .build();
+        mockMvc.perform(post("/api/lessons").param("facilityType", "GYM")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(laterStill)))
+                .andExpect(status().isConflict());
+    }
+
+    /**
+     * Test that creating a Lesson via the POST /api/lessons endpoint in a Facility that is booked at the same time
+     * is rejected, and that a Facility which is not operational is refused.
+     * @throws Exception If an error occurs during the HTTP request
+     */
+    @Test
+    void createLessonInUnavailableFacilityIsRejected() throws Exception {
+        Facility room = facilityRepository.save(facility("Danger Room", FacilityType.CLASSROOM, 20, true));
+        Facility closed = facilityRepository.save(facility("Old Classroom", FacilityType.CLASSROOM, 20, false));
+        lessonRepository.save(Lesson.builder()
+                .subject(subject)
+                .teacher(otherTeacher())
+                .startTime(LocalDateTime.of(2030, 12, 18, 9, 0))
+                .endTime(LocalDateTime.of(2030, 12, 18, 10, 0))
+                .facility(room)
+                .build());
+        dispatchAll();
+
+        Lesson sameRoom = Lesson.builder()
+                .subject(subject)
+                .teacher(teacher)
+                .startTime(LocalDateTime.of(2030, 12, 18, 9, 30))
+                .endTime(LocalDateTime.of(2030, 12, 18, 10, 30))
+                .facility(reference(room))
+                .build();
+        mockMvc.perform(post("/api/lessons")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(sameRoom)))
+                .andExpect(status().isConflict());
+
+        sameRoom.setFacility(reference(closed));
+        mockMvc.perform(post("/api/lessons")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(sameRoom)))
+                .andExpect(status().isBadRequest());
+        assertEquals(2, lessonRepository.count());
+    }
+
     /**
      * Test deleting an existing Lesson record via the DELETE /api/lessons/{id} endpoint.
      * @throws Exception If an error occurs during the HTTP request
@@ -256,4 +628,73 @@ class LessonIT {
         mockMvc.perform(get("/api/lessons/" + lesson.getId()))
                 .andExpect(status().isNotFound());
     }
+
+    /**
+     * Builds a Facility of the class level SchoolData.
+     * @param name The name of the Facility
+     * @param type The type of the Facility
+     * @param capacity The number of Students the Facility holds
+     * @param operational Whether the Facility is operational
+     * @return The unsaved Facility
+     */
+    private Facility facility(String name, FacilityType type, int capacity, boolean operational) {
+        return Facility.builder()
+                .schoolData(schoolData)
+                .name(name)
+                .type(type)
+                .description("A room of the Xavier Institute")
+                .isAccessible(true)
+                .locationWithinCampus("Main Building")
+                .capacity(capacity)
+                .isOperational(operational)
+                .build();
+    }
+
+    /**
+     * Builds a Facility holding only the ID of a saved Facility, as a client names it in a request.
+     * @param facility The saved Facility
+     * @return The reference
+     */
+    private Facility reference(Facility facility) {
+        Facility reference = new Facility();
+        reference.setId(facility.getId());
+        return reference;
+    }
+
+    /**
+     * Saves a second Teacher, so that Lessons may share a Facility without double-booking the class level Teacher.
+     * @return The saved Teacher
+     */
+    private Teacher otherTeacher() {
+        return teacherRepository.save(Teacher.builder()
+                .schoolData(schoolData)
+                .firstName("Ororo")
+                .lastName("Munroe")
+                .alias("Storm")
+                .power(power)
+                .missionHistory(Collections.singletonList("The Dark Phoenix Saga"))
+                .isActive(true)
+                .email("ororo.munroe@xavier.edu")
+                .phoneNumber("0987654321")
+                .address("1407 Graymalkin Lane")
+                .qualifications("MSc in Meteorology")
+                .yearsOfExperience(10)
+                .department("Environmental Studies")
+                .build());
+    }
+
+    /**
+     * Reads the number of SQL statements a request issued from the response header reporting it.
+     * @param result The result of the request
+     * @return The number of statements issued
+     */
+    private long statementCount(MvcResult result) {
+        return Long.parseLong(result.getResponse().getHeader(SqlStatementCountFilter.HEADER));
+    }
+
+    private void dispatchAll() {
+        while (outboxDispatcher.dispatch() > 0) {
+            // Deliver every recorded event
+        }
+    }
 }
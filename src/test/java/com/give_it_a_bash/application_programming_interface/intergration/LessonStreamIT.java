@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.intergration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.give_it_a_bash.application_programming_interface.entities.*;
+import com.give_it_a_bash.application_programming_interface.events.OutboxDispatcher;
+import com.give_it_a_bash.application_programming_interface.repositories.LessonRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.SchoolDataRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.StudentRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.SubjectRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.TeacherRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.give_it_a_bash.application_programming_interface.testData.TestDataHelper.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the Lesson stream endpoint.
+ * This class tests that Lesson writes reach the subscribers of GET /api/lessons/stream as Server-Sent Events,
+ * filtered by Teacher and Student, including changes to the enrolled Students alone.
+ */
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:lesson_stream_it;DB_CLOSE_DELAY=-1",
+        "outbox.dispatch.interval-ms=3600000",
+        "spring.datasource.hikari.maximum-pool-size=" + LessonStreamIT.POOL_SIZE,
+        "spring.datasource.hikari.connection-timeout=2000"
+})
+class LessonStreamIT {
+
+    static final int POOL_SIZE = 4;
+
+    private static final LocalDateTime START = LocalDateTime.of(2030, 9, 2, 9, 0);
+
+    @Autowired
+    private MockMvc mockMvc; // MockMvc to perform HTTP requests
+
+    @Autowired
+    private ObjectMapper objectMapper; // ObjectMapper for JSON conversion
+
+    @Autowired
+    private SchoolDataRepository schoolDataRepository; // Repository for interacting with the database
+
+    @Autowired
+    private TeacherRepository teacherRepository; // Repository for interacting with the database
+
+    @Autowired
+    private StudentRepository studentRepository; // Repository for interacting with the database
+
+    @Autowired
+    private SubjectRepository subjectRepository; // Repository for interacting with the database
+
+    @Autowired
+    private LessonRepository lessonRepository; // Repository for interacting with the database
+
+    @Autowired
+    private OutboxDispatcher outboxDispatcher; // Delivers the recorded events to the stream
+
+    private Teacher xavier; // The Teacher whose Lessons are streamed
+
+    private Teacher grey; // Another Teacher
+
+    private Student iceman; // A Student enrolled from the start
+
+    private Student shadowcat; // A Student enrolled later
+
+    private Subject subject; // The Subject of every Lesson
+
+    /**
+     * Set up the test environment before each test.
+     * This method deletes all records in the database and saves two Teachers, two Students and a Subject.
+     */
+    @BeforeEach
+    void setUp() {
+        lessonRepository.deleteAll();
+        subjectRepository.deleteAll();
+        teacherRepository.deleteAll();
+        studentRepository.deleteAll();
+        schoolDataRepository.deleteAll();
+
+        SchoolData school = schoolDataRepository.save(createSchoolData("Xavier Institute for Higher Learning"));
+        xavier = teacherRepository.save(createTeacher(school, "Charles", "Xavier", "charles.xavier@xavier.edu",
+                createPower("Telepathy", 8, 8, PowerSource.GENETIC_MUTATION)));
+        grey = teacherRepository.save(createTeacher(school, "Jean", "Grey", "jean.grey@xavier.edu",
+                createPower("Telepathy", 8, 8, PowerSource.GENETIC_MUTATION)));
+        iceman = studentRepository.save(createStudent(school, "Bobby", "Drake",
+                createPower("Telepathy", 8, 8, PowerSource.GENETIC_MUTATION)));
+        shadowcat = studentRepository.save(createStudent(school, "Kitty", "Pryde",
+                createPower("Telepathy", 8, 8, PowerSource.GENETIC_MUTATION)));
+        subject = subjectRepository.save(Subject.builder().schoolData(school).name("Mutant Ethics").build());
+        dispatchAll();
+    }
+
+    /**
+     * Test that a subscriber filtering by Teacher is sent the creation, enrolment change, update and deletion of
+     * that Teacher's Lesson, and nothing about the Lessons of other Teachers.
+     * @throws Exception If an error occurs during the HTTP request
+     */
+    @Test
+    void streamsLessonChangesOfTeacher() throws Exception {
+        MvcResult stream = mockMvc.perform(get("/api/lessons/stream")
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .param("teacherId", xavier.getId().toString()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        createLesson(grey, START.plusDays(1), iceman.getId());
+        long lessonId = createLesson(xavier, START, iceman.getId());
+        awaitEvents(stream, "CREATED");
+
+        updateLesson(lessonId, xavier, START, iceman.getId(), shadowcat.getId());
+        awaitEvents(stream, "CREATED", "ENROLMENT_CHANGED");
+
+        updateLesson(lessonId, xavier, START.plusHours(2), iceman.getId(), shadowcat.getId());
+        awaitEvents(stream, "CREATED", "ENROLMENT_CHANGED", "UPDATED");
+
+        mockMvc.perform(delete("/api/lessons/" + lessonId)).andExpect(status().isNoContent());
+        dispatchAll();
+        List<String> data = awaitEvents(stream, "CREATED", "ENROLMENT_CHANGED", "UPDATED", "DELETED");
+
+        assertThat(objectMapper.readTree(data.get(0)).get("lesson").get("teacherId").asLong()).isEqualTo(xavier.getId());
+        assertThat(objectMapper.readTree(data.get(1)).get("enrolledStudentIds").get(0).asLong())
+                .isEqualTo(shadowcat.getId());
+        assertThat(objectMapper.readTree(data.get(2)).get("lesson").get("startTime").asText())
+                .isEqualTo("2030-09-02T11:00:00");
+        assertThat(objectMapper.readTree(data.get(3)).get("lessonId").asLong()).isEqualTo(lessonId);
+        assertThat(stream.getResponse().getContentType()).startsWith(MediaType.TEXT_EVENT_STREAM_VALUE);
+    }
+
+    /**
+     * Test that a subscriber filtering by Student is told when the Student is enrolled in or removed from a Lesson.
+     * @throws Exception If an error occurs during the HTTP request
+     */
+    @Test
+    void streamsEnrolmentsOfStudent() throws Exception {
+        MvcResult stream = mockMvc.perform(get("/api/lessons/stream")
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .param("studentId", shadowcat.getId().toString()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        long lessonId = createLesson(xavier, START, iceman.getId());
+        updateLesson(lessonId, xavier, START, iceman.getId(), shadowcat.getId());
+        awaitEvents(stream, "ENROLMENT_CHANGED");
+
+        updateLesson(lessonId, xavier, START, iceman.getId());
+        List<String> data = awaitEvents(stream, "ENROLMENT_CHANGED", "ENROLMENT_CHANGED");
+
+        assertThat(objectMapper.readTree(data.get(1)).get("unenrolledStudentIds").get(0).asLong())
+                .isEqualTo(shadowcat.getId());
+    }
+
+    /**
+     * Test that open streams hold no database connection, so more subscribers than the connection pool holds
+     * leave the other endpoints working.
+     * @throws Exception If an error occurs during the HTTP request
+     */
+    @Test
+    void subscribersDoNotHoldConnections() throws Exception {
+        List<MvcResult> streams = new ArrayList<>();
+        for (int i = 0; i < POOL_SIZE * 2; i++) {
+            streams.add(mockMvc.perform(get("/api/lessons/stream").accept(MediaType.TEXT_EVENT_STREAM))
+                    .andExpect(request().asyncStarted())
+                    .andReturn());
+        }
+
+        long lessonId = createLesson(xavier, START, iceman.getId());
+        mockMvc.perform(get("/api/lessons/" + lessonId)).andExpect(status().isOk());
+        for (MvcResult stream : streams) {
+            awaitEvents(stream, "CREATED");
+        }
+    }
+
+    private long createLesson(Teacher teacher, LocalDateTime start, Long... studentIds) throws Exception {
+        String created = mockMvc.perform(post("/api/lessons")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(lessonJson(teacher, start, studentIds)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        dispatchAll();
+        return objectMapper.readTree(created).get("id").asLong();
+    }
+
+    private void updateLesson(long lessonId, Teacher teacher, LocalDateTime start, Long... studentIds)
+            throws Exception {
+        mockMvc.perform(put("/api/lessons/" + lessonId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(lessonJson(teacher, start, studentIds)))
+                .andExpect(status().isOk());
+        dispatchAll();
+    }
+
+    private String lessonJson(Teacher teacher, LocalDateTime start, Long... studentIds) {
+        return "{\"subject\":{\"id\":" + subject.getId() + "},\"teacher\":{\"id\":" + teacher.getId() + "},"
+                + "\"startTime\":\"" + start + ":00\",\"endTime\":\"" + start.plusHours(1) + ":00\","
+                + "\"students\":[" + Arrays.stream(studentIds).map(id -> "{\"id\":" + id + "}")
+                .collect(Collectors.joining(",")) + "]}";
+    }
+
+    private void dispatchAll() {
+        while (outboxDispatcher.dispatch() > 0) {
+            // Deliver every recorded event
+        }
+    }
+
+    /**
+     * Waits until the stream has sent exactly the given events, and returns their data.
+     * Only complete events, which end with a blank line, are read, so an event still being written is not parsed.
+     */
+    private static List<String> awaitEvents(MvcResult stream, String... names) throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (true) {
+            String content = stream.getResponse().getContentAsString();
+            List<String> sent = new ArrayList<>();
+            List<String> data = new ArrayList<>();
+            int end;
+            for (int start = 0; (end = content.indexOf("\n\n", start)) >= 0; start = end + 2) {
+                String event = null;
+                for (String line : content.substring(start, end).split("\n")) {
+                    if (line.startsWith("event:")) {
+                        event = line.substring("event:".length());
+                    } else if (line.startsWith("data:")) {
+                        data.add(line.substring("data:".length()));
+                    }
+                }
+                if (event != null) {
+                    sent.add(event);
+                }
+            }
+            if ((sent.size() >= names.length && data.size() >= sent.size()) || System.currentTimeMillis() > deadline) {
+                assertThat(sent).containsExactly(names);
+                assertThat(data).hasSameSizeAs(sent);
+                return data;
+            }
+            Thread.sleep(20);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.intergration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the latency metrics.
+ * This class tests that requests to the API and the service methods they call are recorded, and that
+ * GET /api/metrics returns the recorded latencies in the Prometheus text format.
+ */
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:metrics_it;DB_CLOSE_DELAY=-1")
+class MetricsIT {
+
+    @Autowired
+    private MockMvc mockMvc; // MockMvc to perform HTTP requests
+
+    /**
+     * Tests that a request is recorded under the pattern of the endpoint it matched, together with the service
+     * method it called.
+     */
+    @Test
+    void recordsEndpointAndServiceMethod() throws Exception {
+        mockMvc.perform(get("/api/students/999999"))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(get("/api/metrics"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_PLAIN))
+                .andExpect(content().string(containsString("# TYPE http_server_request_duration_seconds summary\n")))
+                .andExpect(content().string(containsString(
+                        "http_server_request_duration_seconds{method=\"GET\",uri=\"/api/students/{id}\",quantile=\"0.99\"} ")))
+                .andExpect(content().string(containsString(
+                        "service_method_duration_seconds{class=\"StudentService\",method=\"getStudentById\",quantile=\"0.5\"} ")))
+                .andExpect(content().string(containsString(
+                        "service_method_errors_total{class=\"StudentService\",method=\"getStudentById\"} 0\n")));
+    }
+
+    /**
+     * Tests that a service method that throws is counted as an error, while the request it failed is not, since
+     * the controller answers it with a client error.
+     */
+    @Test
+    void countsServiceMethodErrors() throws Exception {
+        mockMvc.perform(put("/api/students/999999")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(get("/api/metrics"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(
+                        "service_method_errors_total{class=\"StudentService\",method=\"updateStudent\"} 1\n")))
+                .andExpect(content().string(containsString(
+                        "http_server_request_errors_total{method=\"PUT\",uri=\"/api/students/{id}\"} 0\n")));
+    }
+}
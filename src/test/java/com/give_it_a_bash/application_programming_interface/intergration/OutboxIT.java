@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.intergration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.give_it_a_bash.application_programming_interface.entities.DomainEventType;
+import com.give_it_a_bash.application_programming_interface.entities.OutboxEvent;
+import com.give_it_a_bash.application_programming_interface.entities.SchoolData;
+import com.give_it_a_bash.application_programming_interface.entities.Subject;
+import com.give_it_a_bash.application_programming_interface.events.DomainEventListener;
+import com.give_it_a_bash.application_programming_interface.events.OutboxDispatcher;
+import com.give_it_a_bash.application_programming_interface.repositories.OutboxEventRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.SchoolDataRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.SubjectRepository;
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static com.give_it_a_bash.application_programming_interface.testData.TestDataHelper.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the domain event outbox.
+ * This class tests that writes record their events in the outbox within their own transaction, and that the
+ * dispatcher delivers them to the registered listeners and then removes them.
+ */
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:outbox_it;DB_CLOSE_DELAY=-1",
+        "outbox.dispatch.interval-ms=3600000",
+        "outbox.retry.initial-backoff-ms=0",
+        "outbox.retry.max-attempts=2"
+})
+class OutboxIT {
+
+    /**
+     * Registers a listener keeping every event delivered to it.
+     */
+    @TestConfiguration
+    static class RecordingListenerConfiguration {
+
+        @Bean
+        RecordingListener recordingListener() {
+            return new RecordingListener();
+        }
+    }
+
+    /**
+     * A listener keeping every event delivered to it.
+     */
+    static class RecordingListener implements DomainEventListener {
+
+        private final List<OutboxEvent> events = Collections.synchronizedList(new ArrayList<>());
+
+        private volatile boolean failing;
+
+        @Override
+        public void onEvents(List<OutboxEvent> batch) {
+            if (failing) {
+                throw new IllegalStateException("Listener failure");
+            }
+            events.addAll(batch);
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc; // MockMvc to perform HTTP requests
+
+    @Autowired
+    private ObjectMapper objectMapper; // ObjectMapper for JSON conversion
+
+    @Autowired
+    private SchoolDataRepository schoolDataRepository; // Repository for interacting with the database
+
+    @Autowired
+    private SubjectRepository subjectRepository; // Repository for interacting with the database
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository; // Repository holding the undelivered events
+
+    @Autowired
+    private OutboxDispatcher outboxDispatcher; // The dispatcher delivering the events
+
+    @Autowired
+    private RecordingListener recordingListener; // The listener the events are delivered to
+
+    @Autowired
+    private PlatformTransactionManager transactionManager; // Used to roll a write back
+
+    /**
+     * Set up the test environment before each test.
+     * This method deletes all records in the database, including the events recorded by the deletions.
+     */
+    @BeforeEach
+    void setUp() {
+        subjectRepository.deleteAll();
+        schoolDataRepository.deleteAll();
+        outboxEventRepository.deleteAll();
+        recordingListener.events.clear();
+        recordingListener.failing = false;
+    }
+
+    /**
+     * Test that creating, updating and deleting a SchoolData record via the API records one event each,
+     * in order, and that they are delivered and removed from the outbox by the dispatcher.
+     * @throws Exception If an error occurs during the HTTP request
+     */
+    @Test
+    void writesAreDeliveredInOrder() throws Exception {
+        SchoolData school = createSchoolData("Xavier Institute for Higher Learning");
+        String created = mockMvc.perform(post("/api/schooldata")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(school)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        Long id = objectMapper.readTree(created).get("id").asLong();
+        school.setSchoolName("Xavier's School for Gifted Youngsters");
+        mockMvc.perform(put("/api/schooldata/" + id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(school)))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/api/schooldata/" + id))
+                .andExpect(status().isNoContent());
+
+        assertThat(outboxEventRepository.findAll()).extracting(OutboxEvent::getEventType)
+                .containsExactly(DomainEventType.CREATED, DomainEventType.UPDATED, DomainEventType.DELETED);
+
+        int dispatched = outboxDispatcher.dispatch();
+
+        assertThat(dispatched).isEqualTo(3);
+        assertThat(recordingListener.events).extracting(OutboxEvent::getEventType)
+                .containsExactly(DomainEventType.CREATED, DomainEventType.UPDATED, DomainEventType.DELETED);
+        assertThat(recordingListener.events).allSatisfy(event -> {
+            assertThat(event.getAggregateType()).isEqualTo("SchoolData");
+            assertThat(event.getAggregateId()).isEqualTo(id);
+            assertThat(event.getOccurredAt()).isNotNull();
+        });
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    /**
+     * Test that a write made through a repository rather than the API records its event as well, under the
+     * name of the entity class.
+     */
+    @Test
+    void repositoryWritesAreRecorded() {
+        SchoolData school = schoolDataRepository.save(createSchoolData("Massachusetts Academy"));
+        Subject subject = subjectRepository.save(Subject.builder().schoolData(school).name("Ethics").build());
+
+        outboxDispatcher.dispatch();
+
+        assertThat(recordingListener.events).extracting(OutboxEvent::getAggregateType, OutboxEvent::getAggregateId)
+                .containsExactly(
+                        Tuple.tuple("SchoolData", school.getId()),
+                        Tuple.tuple("Subject", subject.getId()));
+    }
+
+    /**
+     * Test that a transaction writing more entities than fit in one JDBC batch records an event for each of them,
+     * in the order they were written.
+     */
+    @Test
+    void bulkWritesAreRecordedInOrder() {
+        SchoolData school = schoolDataRepository.save(createSchoolData("Xavier Institute"));
+        List<Subject> subjects = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            subjects.add(Subject.builder().schoolData(school).name("Subject " + i).build());
+        }
+        List<Long> subjectIds = new ArrayList<>();
+        subjectRepository.saveAll(subjects).forEach(subject -> subjectIds.add(subject.getId()));
+
+        assertThat(outboxEventRepository.findByParkedAtIsNullOrderByIdAsc(Limit.of(200)))
+                .filteredOn(event -> event.getAggregateType().equals("Subject"))
+                .extracting(OutboxEvent::getAggregateId)
+                .containsExactlyElementsOf(subjectIds);
+    }
+
+    /**
+     * Test that a write which is rolled back leaves no event behind.
+     */
+    @Test
+    void rolledBackWritesAreNotRecorded() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            schoolDataRepository.saveAndFlush(createSchoolData("Hellfire Club Academy"));
+            status.setRollbackOnly();
+        });
+
+        assertThat(schoolDataRepository.count()).isZero();
+        assertThat(outboxEventRepository.count()).isZero();
+        assertThat(outboxDispatcher.dispatch()).isZero();
+        assertThat(recordingListener.events).isEmpty();
+    }
+
+    /**
+     * Test that events a listener fails on stay in the outbox with their attempt counted, and are delivered
+     * and removed once the listener recovers.
+     */
+    @Test
+    void failedDeliveriesAreRetried() {
+        SchoolData school = schoolDataRepository.save(createSchoolData("Jean Grey School for Higher Learning"));
+        recordingListener.failing = true;
+
+        assertThat(outboxDispatcher.dispatch()).isZero();
+
+        assertThat(outboxEventRepository.findAll()).singleElement().satisfies(event -> {
+            assertThat(event.getAttempts()).isEqualTo(1);
+            assertThat(event.getNextAttemptAt()).isNotNull();
+        });
+
+        recordingListener.failing = false;
+
+        assertThat(outboxDispatcher.dispatch()).isEqualTo(1);
+        assertThat(recordingListener.events).extracting(OutboxEvent::getAggregateId).containsExactly(school.getId());
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    /**
+     * Test that an event failing its last allowed delivery is parked, and no longer holds back the events
+     * recorded after it.
+     */
+    @Test
+    void repeatedlyFailingEventsAreParked() {
+        SchoolData poison = schoolDataRepository.save(createSchoolData("Hellfire Club Academy"));
+        recordingListener.failing = true;
+        outboxDispatcher.dispatch();
+
+        assertThat(outboxDispatcher.dispatch()).isZero();
+
+        assertThat(outboxEventRepository.findByParkedAtIsNotNullOrderByIdAsc()).singleElement().satisfies(event -> {
+            assertThat(event.getAggregateId()).isEqualTo(poison.getId());
+            assertThat(event.getAttempts()).isEqualTo(2);
+        });
+
+        recordingListener.failing = false;
+        SchoolData school = schoolDataRepository.save(createSchoolData("Xavier Institute"));
+
+        assertThat(outboxDispatcher.dispatch()).isEqualTo(1);
+        assertThat(recordingListener.events).extracting(OutboxEvent::getAggregateId).containsExactly(school.getId());
+        assertThat(outboxEventRepository.count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.intergration;
+
+import com.give_it_a_bash.application_programming_interface.entities.*;
+import com.give_it_a_bash.application_programming_interface.repositories.AchievementRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.FacilityRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.LessonRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.SchoolDataRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.StudentRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.SubjectRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.TeacherRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static com.give_it_a_bash.application_programming_interface.testData.TestDataHelper.*;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the school dashboard endpoint.
+ * This class tests that GET /api/schooldata/{id}/dashboard gathers the counts, today's Lessons, recent
+ * Achievements and Facility statuses of one school, leaving out those of other schools.
+ */
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:school_dashboard_it;DB_CLOSE_DELAY=-1")
+class SchoolDashboardIT {
+
+    @Autowired
+    private MockMvc mockMvc; // MockMvc to perform HTTP requests
+
+    @Autowired
+    private SchoolDataRepository schoolDataRepository; // Repository for interacting with the database
+
+    @Autowired
+    private StudentRepository studentRepository; // Repository for interacting with the database
+
+    @Autowired
+    private TeacherRepository teacherRepository; // Repository for interacting with the database
+
+    @Autowired
+    private SubjectRepository subjectRepository; // Repository for interacting with the database
+
+    @Autowired
+    private FacilityRepository facilityRepository; // Repository for interacting with the database
+
+    @Autowired
+    private LessonRepository lessonRepository; // Repository for interacting with the database
+
+    @Autowired
+    private AchievementRepository achievementRepository; // Repository for interacting with the database
+
+    @PersistenceContext
+    private EntityManager entityManager; // Moves the Lesson that has already started into the past
+
+    @Autowired
+    private TransactionTemplate transactionTemplate; // Runs the update of the Lesson that has already started
+
+    private SchoolData xavierInstitute; // The school whose dashboard is read
+
+    private Lesson lessonNow; // A Lesson of the school taking place now
+
+    private Facility dangerRoom; // The Facility the Lesson takes place in
+
+    /**
+     * Set up the test environment before each test.
+     * This method deletes all records in the database and saves two schools, the first of which has two Students,
+     * a Teacher, a Subject, two Facilities, a Lesson taking place now, a Lesson tomorrow and two Achievements.
+     */
+    @BeforeEach
+    void setUp() {
+        achievementRepository.deleteAll();
+        lessonRepository.deleteAll();
+        subjectRepository.deleteAll();
+        facilityRepository.deleteAll();
+        teacherRepository.deleteAll();
+        studentRepository.deleteAll();
+        schoolDataRepository.deleteAll();
+
+        xavierInstitute = schoolDataRepository.save(createSchoolData("Xavier Institute for Higher Learning"));
+        SchoolData massachusettsAcademy = schoolDataRepository.save(createSchoolData("Massachusetts Academy"));
+
+        Student iceman = studentRepository.save(createStudent(xavierInstitute, "Bobby", "Drake",
+                createPower("Telepathy", 8, 8, PowerSource.GENETIC_MUTATION)));
+        Student shadowcat = studentRepository.save(createStudent(xavierInstitute, "Kitty", "Pryde",
+                createPower("Telepathy", 8, 8, PowerSource.GENETIC_MUTATION)));
+        Student jubilee = studentRepository.save(createStudent(massachusettsAcademy, "Jubilation", "Lee",
+                createPower("Telepathy", 8, 8, PowerSource.GENETIC_MUTATION)));
+        Teacher xavier = teacherRepository.save(createTeacher(xavierInstitute, "Charles", "Xavier", "charles@example.com",
+                createPower("Telepathy", 8, 8, PowerSource.GENETIC_MUTATION)));
+        teacherRepository.save(createTeacher(massachusettsAcademy, "Emma", "Frost", "emma@example.com",
+                createPower("Telepathy", 8, 8, PowerSource.GENETIC_MUTATION)));
+        Subject ethics = subjectRepository.save(Subject.builder().schoolData(xavierInstitute).name("Mutant Ethics").build());
+        subjectRepository.save(Subject.builder().schoolData(massachusettsAcademy).name("Telepathy").build());
+        dangerRoom = facilityRepository.save(createFacility(xavierInstitute, "Danger Room", true));
+        facilityRepository.save(createFacility(xavierInstitute, "Cerebro Chamber", false));
+        facilityRepository.save(createFacility(massachusettsAcademy, "Hellfire Club", true));
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime start = now.minusMinutes(1).toLocalDate().equals(now.toLocalDate())
+                ? now.minusMinutes(1) : now.toLocalDate().atStartOfDay();
+        // A Lesson must start in the future when it is saved, so the one taking place now is moved back afterwards
+        lessonNow = lessonRepository.save(Lesson.builder()
+                .subject(ethics)
+                .teacher(xavier)
+                .facility(dangerRoom)
+                .startTime(now.plusMinutes(30))
+                .endTime(now.plusHours(1))
+                .students(new ArrayList<>(Arrays.asList(iceman, shadowcat)))
+                .build());
+        transactionTemplate.executeWithoutResult(status -> entityManager
+                .createQuery("update Lesson l set l.startTime = :startTime where l.id = :id")
+                .setParameter("startTime", start)
+                .setParameter("id", lessonNow.getId())
+                .executeUpdate());
+        lessonNow.setStartTime(start);
+        lessonRepository.save(Lesson.builder()
+                .subject(ethics)
+                .teacher(xavier)
+                .startTime(now.toLocalDate().plusDays(1).atTime(9, 0))
+                .endTime(now.toLocalDate().plusDays(1).atTime(10, 0))
+                .students(new ArrayList<>(Arrays.asList(iceman)))
+                .build());
+
+        achievementRepository.save(createAchievement(iceman, "Snowball Fight Champion", SubjectCategory.ACADEMIC,
+                LocalDate.of(2030, 1, 10)));
+        achievementRepository.save(createAchievement(shadowcat, "Phasing Mastery", SubjectCategory.ACADEMIC,
+                LocalDate.of(2030, 3, 5)));
+        achievementRepository.save(createAchievement(jubilee, "Fireworks Display", SubjectCategory.ACADEMIC,
+                LocalDate.of(2030, 6, 1)));
+    }
+
+    /**
+     * Test reading the dashboard of a school via the GET /api/schooldata/{id}/dashboard endpoint.
+     * @throws Exception If an error occurs during the HTTP request
+     */
+    @Test
+    void getSchoolDashboard() throws Exception {
+        mockMvc.perform(get("/api/schooldata/" + xavierInstitute.getId() + "/dashboard"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.schoolId").value(xavierInstitute.getId()))
+                .andExpect(jsonPath("$.schoolName").value("Xavier Institute for Higher Learning"))
+                .andExpect(jsonPath("$.studentCount").value(2))
+                .andExpect(jsonPath("$.teacherCount").value(1))
+                .andExpect(jsonPath("$.subjectCount").value(1))
+                .andExpect(jsonPath("$.facilityCount").value(2))
+                .andExpect(jsonPath("$.todaysLessons", hasSize(1)))
+                .andExpect(jsonPath("$.todaysLessons[0].id").value(lessonNow.getId()))
+                .andExpect(jsonPath("$.todaysLessons[0].subjectName").value("Mutant Ethics"))
+                .andExpect(jsonPath("$.todaysLessons[0].teacherLastName").value("Xavier"))
+                .andExpect(jsonPath("$.todaysLessons[0].facilityName").value("Danger Room"))
+                .andExpect(jsonPath("$.todaysLessons[0].studentCount").value(2))
+                .andExpect(jsonPath("$.recentAchievements", hasSize(2)))
+                .andExpect(jsonPath("$.recentAchievements[0].title").value("Phasing Mastery"))
+                .andExpect(jsonPath("$.recentAchievements[0].studentFirstName").value("Kitty"))
+                .andExpect(jsonPath("$.recentAchievements[1].title").value("Snowball Fight Champion"))
+                .andExpect(jsonPath("$.facilities", hasSize(2)))
+                .andExpect(jsonPath("$.facilities[0].id").value(dangerRoom.getId()))
+                .andExpect(jsonPath("$.facilities[0].operational").value(true))
+                .andExpect(jsonPath("$.facilities[0].inUse").value(true))
+                .andExpect(jsonPath("$.facilities[1].name").value("Cerebro Chamber"))
+                .andExpect(jsonPath("$.facilities[1].operational").value(false))
+                .andExpect(jsonPath("$.facilities[1].inUse").value(false));
+    }
+
+    /**
+     * Test reading the dashboard of a school that does not exist via the GET /api/schooldata/{id}/dashboard endpoint.
+     * @throws Exception If an error occurs during the HTTP request
+     */
+    @Test
+    void getSchoolDashboard_NotFound() throws Exception {
+        mockMvc.perform(get("/api/schooldata/" + (xavierInstitute.getId() + 100) + "/dashboard"))
+                .andExpect(status().isNotFound());
+    }
+}
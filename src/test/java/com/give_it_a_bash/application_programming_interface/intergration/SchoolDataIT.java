@@ -112,16 +112,17 @@ class SchoolDataIT {
      * @throws Exception If an error occurs during the HTTP request
      */
     @Test
+    @SqlStatementBudget(1)
     void getAllSchoolData() throws Exception {
         mockMvc.perform(get("/api/schooldata"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].schoolName").value(schoolData.getSchoolName()))
-                .andExpect(jsonPath("$[0].location").value(schoolData.getLocation()))
-                .andExpect(jsonPath("$[0].motto").value(schoolData.getMotto()))
-                .andExpect(jsonPath("$[0].yearEstablished").value(schoolData.getYearEstablished()))
-                .andExpect(jsonPath("$[0].affiliation").value(schoolData.getAffiliation()))
-                .andExpect(jsonPath("$[0].contactInfo").value(schoolData.getContactInfo()))
-                .andExpect(jsonPath("$[0].active").value(schoolData.isActive()));
+                .andExpect(jsonPath("$.items[0].schoolName").value(schoolData.getSchoolName()))
+                .andExpect(jsonPath("$.items[0].location").value(schoolData.getLocation()))
+                .andExpect(jsonPath("$.items[0].motto").value(schoolData.getMotto()))
+                .andExpect(jsonPath("$.items[0].yearEstablished").value(schoolData.getYearEstablished()))
+                .andExpect(jsonPath("$.items[0].affiliation").value(schoolData.getAffiliation()))
+                .andExpect(jsonPath("$.items[0].contactInfo").value(schoolData.getContactInfo()))
+                .andExpect(jsonPath("$.items[0].active").value(schoolData.isActive()));
     }
 
     /**
@@ -129,6 +130,7 @@ class SchoolDataIT {
      * @throws Exception If an error occurs during the HTTP request
      */
     @Test
+    @SqlStatementBudget(1)
     void getSchoolDataById() throws Exception {
         mockMvc.perform(get("/api/schooldata/" + schoolData.getId()))
                 .andExpect(status().isOk())
@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.intergration;
+
+import com.give_it_a_bash.application_programming_interface.entities.*;
+import com.give_it_a_bash.application_programming_interface.events.OutboxDispatcher;
+import com.give_it_a_bash.application_programming_interface.patch.JsonMergePatcher;
+import com.give_it_a_bash.application_programming_interface.repositories.AchievementRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.SchoolDataRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.StudentRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.SubjectRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.Collections;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the Search API endpoint.
+ * This class tests finding Students, Subjects and Achievements by the words they contain,
+ * and that the results follow writes to them.
+ */
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:search_it;DB_CLOSE_DELAY=-1")
+class SearchIT {
+
+    @Autowired
+    private MockMvc mockMvc; // MockMvc to perform HTTP requests
+
+    @Autowired
+    private SchoolDataRepository schoolDataRepository; // Repository for interacting with the database
+
+    @Autowired
+    private StudentRepository studentRepository; // Repository for interacting with the database
+
+    @Autowired
+    private SubjectRepository subjectRepository; // Repository for interacting with the database
+
+    @Autowired
+    private AchievementRepository achievementRepository; // Repository for interacting with the database
+
+    @Autowired
+    private OutboxDispatcher outboxDispatcher; // Delivers the recorded events to the derived views
+
+    private Student student; // A class level test instance of Student
+
+    private Subject subject; // A class level test instance of Subject
+
+    private Achievement achievement; // A class level test instance of Achievement
+
+    /**
+     * Set up the test environment before each test.
+     * This method deletes all records in the database and saves a Student with an Achievement, and a Subject.
+     */
+    @BeforeEach
+    void setUp() {
+        achievementRepository.deleteAll();
+        studentRepository.deleteAll();
+        subjectRepository.deleteAll();
+        schoolDataRepository.deleteAll();
+
+        SchoolData schoolData = schoolDataRepository.save(SchoolData.builder()
+                .schoolName("Xavier Institute for Higher Learning")
+                .location("1407 Graymalkin Lane, Salem Center, NY")
+                .motto("Mutatis Mutandis")
+                .yearEstablished(1963)
+                .affiliation("Mutant Education and Research")
+                .contactInfo("+1-555-XAVIER")
+                .isActive(true)
+                .build());
+
+        student = studentRepository.save(Student.builder()
+                .schoolData(schoolData)
+                .firstName("Bobby")
+                .lastName("Drake")
+                .alias("Iceman")
+                .power(Power.builder()
+                        .name("Cryokinesis")
+                        .powerLevel(7)
+                        .description("Ability to lower the temperature of surrounding moisture")
+                        .category("Elemental")
+                        .isActive(true)
+                        .controlLevel(5)
+                        .originSource(PowerSource.GENETIC_MUTATION)
+                        .build())
+                .missionHistory(Collections.singletonList("The Battle of the Triskelion"))
+                .isActive(true)
+                .guardianFirstName("William")
+                .guardianLastName("Drake")
+                .guardianContactNumber("+1-555-ICEMAN")
+                .guardianEmail("william.drake@example.com")
+                .contactNumber("+1-555-ICE1234")
+                .email("bobby.drake@example.com")
+                .status(Status.ACTIVE)
+                .build());
+
+        subject = subjectRepository.save(Subject.builder()
+                .schoolData(schoolData)
+                .name("Ice Sculpture")
+                .build());
+
+        achievement = achievementRepository.save(Achievement.builder()
+                .title("Science Fair Winner")
+                .description("Built a machine that makes ice in the desert")
+                .dateAwarded(LocalDate.of(2024, 5, 21))
+                .awardedBy("Professor Hank McCoy")
+                .category(SubjectCategory.ACADEMIC)
+                .student(student)
+                .build());
+        dispatchAll();
+    }
+
+    /**
+     * Test searching via the GET /api/search endpoint.
+     * Matches in names rank above matches in descriptions, and the index is served from memory,
+     * so the request issues no SQL statements.
+     * @throws Exception If an error occurs during the HTTP request
+     */
+    @Test
+    @SqlStatementBudget(0)
+    void search() throws Exception {
+        mockMvc.perform(get("/api/search").param("q", "ice"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].type").value("SUBJECT"))
+                .andExpect(jsonPath("$[0].id").value(subject.getId()))
+                .andExpect(jsonPath("$[1].type").value("STUDENT"))
+                .andExpect(jsonPath("$[1].title").value("Bobby Drake (Iceman)"))
+                .andExpect(jsonPath("$[2].type").value("ACHIEVEMENT"));
+
+        mockMvc.perform(get("/api/search").param("q", "cryo moisture"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(student.getId()));
+    }
+
+    /**
+     * Test that the results of the GET /api/search endpoint follow patches and deletes.
+     * @throws Exception If an error occurs during the HTTP request
+     */
+    @Test
+    void searchFollowsWrites() throws Exception {
+        mockMvc.perform(patch("/api/students/" + student.getId())
+                        .contentType(JsonMergePatcher.MERGE_PATCH_JSON_VALUE)
+                        .content("{\"alias\":\"Frosty\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/api/achievements/" + achievement.getId()))
+                .andExpect(status().isNoContent());
+        dispatchAll();
+
+        mockMvc.perform(get("/api/search").param("q", "frosty"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].title").value("Bobby Drake (Frosty)"));
+        mockMvc.perform(get("/api/search").param("q", "ice"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].type").value("SUBJECT"));
+    }
+
+    /**
+     * Test that a query without words is rejected by the GET /api/search endpoint.
+     * @throws Exception If an error occurs during the HTTP request
+     */
+    @Test
+    void searchWithoutWordsReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/search").param("q", "  "))
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Test suggesting mutants by name via the GET /api/mutants/suggest endpoint.
+     * Suggestions are served from memory, so the request issues no SQL statements.
+     * @throws Exception If an error occurs during the HTTP request
+     */
+    @Test
+    @SqlStatementBudget(0)
+    void suggestMutants() throws Exception {
+        mockMvc.perform(get("/api/mutants/suggest").param("prefix", "Ice"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(student.getId()))
+                .andExpect(jsonPath("$[0].type").value("STUDENT"))
+                .andExpect(jsonPath("$[0].alias").value("Iceman"));
+
+        mockMvc.perform(get("/api/mutants/suggest").param("prefix", "bobby d"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+
+        mockMvc.perform(get("/api/mutants/suggest").param("prefix", "scul"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+
+    /**
+     * Test that the suggestions of the GET /api/mutants/suggest endpoint follow patches.
+     * @throws Exception If an error occurs during the HTTP request
+     */
+    @Test
+    void suggestMutantsFollowsWrites() throws Exception {
+        mockMvc.perform(patch("/api/students/" + student.getId())
+                        .contentType(JsonMergePatcher.MERGE_PATCH_JSON_VALUE)
+                        .content("{\"alias\":\"Frosty\"}"))
+                .andExpect(status().isOk());
+        dispatchAll();
+
+        mockMvc.perform(get("/api/mutants/suggest").param("prefix", "ice"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+        mockMvc.perform(get("/api/mutants/suggest").param("prefix", "fro"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].alias").value("Frosty"));
+    }
+
+    private void dispatchAll() {
+        while (outboxDispatcher.dispatch() > 0) {
+            // Deliver every recorded event
+        }
+    }
+}
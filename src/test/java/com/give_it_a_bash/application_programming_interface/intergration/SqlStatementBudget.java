@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.intergration;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Fails the annotated test if its body issues more SQL statements than the budget allows.
+ * <p>
+ * Only statements prepared on the test thread while the test method runs are counted; set-up and
+ * tear-down methods are excluded. Requests performed with MockMvc run on the test thread, so a budget
+ * on a test that performs a single request is that request's budget. An N+1 regression shows up as a
+ * count that grows with the number of rows involved.
+ * </p>
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(SqlStatementBudgetExtension.class)
+public @interface SqlStatementBudget {
+
+    /**
+     * The maximum number of SQL statements the test may issue.
+     *
+     * @return the statement budget
+     */
+    long value();
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.intergration;
+
+import com.give_it_a_bash.application_programming_interface.instrumentation.SqlStatementCounter;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.opentest4j.AssertionFailedError;
+
+/**
+ * JUnit extension enforcing {@link SqlStatementBudget} on test methods.
+ */
+class SqlStatementBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(SqlStatementBudgetExtension.class);
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        context.getStore(NAMESPACE).put(context.getUniqueId(), SqlStatementCounter.open());
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        SqlStatementCounter.Scope scope = context.getStore(NAMESPACE)
+                .remove(context.getUniqueId(), SqlStatementCounter.Scope.class);
+        scope.close();
+
+        SqlStatementBudget budget = context.getRequiredTestMethod().getAnnotation(SqlStatementBudget.class);
+        if (budget != null && scope.getCount() > budget.value()) {
+            throw new AssertionFailedError("Expected at most " + budget.value() + " SQL statements but "
+                    + scope.getCount() + " were issued", budget.value(), scope.getCount());
+        }
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.intergration;
+
+import com.give_it_a_bash.application_programming_interface.entities.*;
+import com.give_it_a_bash.application_programming_interface.events.OutboxDispatcher;
+import com.give_it_a_bash.application_programming_interface.patch.JsonMergePatcher;
+import com.give_it_a_bash.application_programming_interface.repositories.FacilityRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.SchoolDataRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.StudentRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.TeacherRepository;
+import com.give_it_a_bash.application_programming_interface.services.StatsService;
+import com.give_it_a_bash.application_programming_interface.stats.FacetCounters;
+import com.give_it_a_bash.application_programming_interface.stats.FacetMembership;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Collections;
+
+import static com.give_it_a_bash.application_programming_interface.testData.TestDataHelper.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the Stats API endpoints.
+ * This class tests the facet counts of Students, Teachers and Facilities, that they follow writes to them,
+ * and that reconciling them with the database corrects any drift.
+ */
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:stats_it;DB_CLOSE_DELAY=-1")
+class StatsIT {
+
+    @Autowired
+    private MockMvc mockMvc; // MockMvc to perform HTTP requests
+
+    @Autowired
+    private SchoolDataRepository schoolDataRepository; // Repository for interacting with the database
+
+    @Autowired
+    private TeacherRepository teacherRepository; // Repository for interacting with the database
+
+    @Autowired
+    private StudentRepository studentRepository; // Repository for interacting with the database
+
+    @Autowired
+    private FacilityRepository facilityRepository; // Repository for interacting with the database
+
+    @Autowired
+    private FacetCounters facetCounters; // The in-memory counters behind the endpoint
+
+    @Autowired
+    private StatsService statsService; // The service reconciling the counters
+
+    @Autowired
+    private OutboxDispatcher outboxDispatcher; // Delivers the recorded events to the derived views
+
+    private SchoolData xavierInstitute; // The school of the Teacher, the first Student and the Facility
+
+    private SchoolData massachusettsAcademy; // The school of the second Student
+
+    private Student iceman; // An active Student with a genetic power
+
+    /**
+     * Set up the test environment before each test.
+     * This method deletes all records in the database and saves a Teacher, two Students and a Facility in two schools.
+     */
+    @BeforeEach
+    void setUp() {
+        facilityRepository.deleteAll();
+        teacherRepository.deleteAll();
+        studentRepository.deleteAll();
+        schoolDataRepository.deleteAll();
+
+        xavierInstitute = schoolDataRepository.save(createSchoolData("Xavier Institute for Higher Learning"));
+        massachusettsAcademy = schoolDataRepository.save(createSchoolData("Massachusetts Academy"));
+
+        teacherRepository.save(Teacher.builder()
+                .schoolData(xavierInstitute)
+                .firstName("Charles")
+                .lastName("Xavier")
+                .alias("Professor X")
+                .power(createPower("A mutant power", 5, 5, PowerSource.GENETIC_MUTATION))
+                .missionHistory(Collections.singletonList("The Cerebro Chronicles"))
+                .isActive(true)
+                .email("charles.xavier@xavier.edu")
+                .phoneNumber("1234567890")
+                .address("1407 Graymalkin Lane")
+                .qualifications("PhD in Genetics")
+                .yearsOfExperience(20)
+                .department("Psychic Studies")
+                .build());
+        iceman = studentRepository.save(createStudent(xavierInstitute, "Bobby", "Drake", "Bobby",
+                createPower("A mutant power", 5, 5, PowerSource.GENETIC_MUTATION), Status.ACTIVE));
+        studentRepository.save(createStudent(massachusettsAcademy, "Forge", "Unknown", "Forge",
+                createPower("A mutant power", 5, 5, PowerSource.TECHNOLOGY), Status.GRADUATED));
+        facilityRepository.save(Facility.builder()
+                .schoolData(xavierInstitute)
+                .name("Danger Room")
+                .type(FacilityType.TRAINING_CENTER)
+                .description("A room for combat training")
+                .isAccessible(true)
+                .locationWithinCampus("Sub-basement")
+                .capacity(20)
+                .isOperational(true)
+                .build());
+        dispatchAll();
+    }
+
+    /**
+     * Test retrieving the facet counts via the GET /api/stats/facets endpoint, globally and per school.
+     * The counts are served from memory, so the request issues no SQL statements.
+     * @throws Exception If an error occurs during the HTTP request
+     */
+    @Test
+    @SqlStatementBudget(0)
+    void getFacets() throws Exception {
+        mockMvc.perform(get("/api/stats/facets"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.schoolId").doesNotExist())
+                .andExpect(jsonPath("$.studentsByStatus.ACTIVE").value(1))
+                .andExpect(jsonPath("$.studentsByStatus.GRADUATED").value(1))
+                .andExpect(jsonPath("$.studentsByStatus.SUSPENDED").value(0))
+                .andExpect(jsonPath("$.mutantsByPowerSource.GENETIC_MUTATION").value(2))
+                .andExpect(jsonPath("$.mutantsByPowerSource.TECHNOLOGY").value(1))
+                .andExpect(jsonPath("$.facilitiesByType.TRAINING_CENTER").value(1));
+
+        mockMvc.perform(get("/api/stats/facets").param("schoolId", massachusettsAcademy.getId().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.schoolId").value(massachusettsAcademy.getId()))
+                .andExpect(jsonPath("$.studentsByStatus.ACTIVE").value(0))
+                .andExpect(jsonPath("$.studentsByStatus.GRADUATED").value(1))
+                .andExpect(jsonPath("$.mutantsByPowerSource.TECHNOLOGY").value(1))
+                .andExpect(jsonPath("$.facilitiesByType.TRAINING_CENTER").value(0));
+    }
+
+    /**
+     * Test that the counts returned by the GET /api/stats/facets endpoint follow patches and deletes.
+     * @throws Exception If an error occurs during the HTTP request
+     */
+    @Test
+    void getFacetsFollowsWrites() throws Exception {
+        mockMvc.perform(patch("/api/students/" + iceman.getId())
+                        .contentType(JsonMergePatcher.MERGE_PATCH_JSON_VALUE)
+                        .content("{\"status\":\"SUSPENDED\",\"power\":{\"originSource\":\"TECHNOLOGY\"}}"))
+                .andExpect(status().isOk());
+        dispatchAll();
+
+        mockMvc.perform(get("/api/stats/facets").param("schoolId", xavierInstitute.getId().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.studentsByStatus.ACTIVE").value(0))
+                .andExpect(jsonPath("$.studentsByStatus.SUSPENDED").value(1))
+                .andExpect(jsonPath("$.mutantsByPowerSource.GENETIC_MUTATION").value(1))
+                .andExpect(jsonPath("$.mutantsByPowerSource.TECHNOLOGY").value(1));
+
+        mockMvc.perform(delete("/api/students/" + iceman.getId()))
+                .andExpect(status().isNoContent());
+        dispatchAll();
+
+        mockMvc.perform(get("/api/stats/facets"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.studentsByStatus.SUSPENDED").value(0))
+                .andExpect(jsonPath("$.mutantsByPowerSource.TECHNOLOGY").value(1));
+    }
+
+    /**
+     * Test that reconciling the counters with the database corrects counts that drifted from it.
+     * @throws Exception If an error occurs during the HTTP request
+     */
+    @Test
+    void reconcileFacetsCorrectsDrift() throws Exception {
+        facetCounters.put(FacetMembership.facility(Long.MAX_VALUE, xavierInstitute.getId(), FacilityType.CHAPEL));
+        facetCounters.remove(new FacetMembership.Key(FacetMembership.Kind.MUTANT, iceman.getId()));
+
+        assertThat(statsService.reconcileFacets()).isEqualTo(6);
+
+        mockMvc.perform(get("/api/stats/facets").param("schoolId", xavierInstitute.getId().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.facilitiesByType.CHAPEL").value(0))
+                .andExpect(jsonPath("$.studentsByStatus.ACTIVE").value(1))
+                .andExpect(jsonPath("$.mutantsByPowerSource.GENETIC_MUTATION").value(2));
+    }
+
+    private void dispatchAll() {
+        while (outboxDispatcher.dispatch() > 0) {
+            // Deliver every recorded event
+        }
+    }
+}
@@ -11,7 +11,9 @@
 package com.give_it_a_bash.application_programming_interface.intergration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
 import com.give_it_a_bash.application_programming_interface.entities.*;
+import com.give_it_a_bash.application_programming_interface.patch.JsonMergePatcher;
 import com.give_it_a_bash.application_programming_interface.repositories.SchoolDataRepository;
 import com.give_it_a_bash.application_programming_interface.repositories.StudentRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -24,9 +26,12 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.util.Arrays;
 import java.util.Collections;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -174,34 +179,174 @@ class StudentIT {
                 .andExpect(jsonPath("$.status").value(newStudent.getStatus().name()));
     }
 
+
+    /**
+     * Test creating several Student records via the POST /api/students/batch endpoint,
+     * where one of them fails validation and is reported without blocking the others.
+     * @throws Exception If an error occurs during the HTTP request
+     */
+    @Test
+    void createStudentsInBatch() throws Exception {
+        Student kitty = Student.builder()
+                .schoolData(schoolData)
+                .firstName("Kitty")
+                .lastName("Pryde")
+                .alias("Shadowcat")
+                .power(power)
+                .isActive(true)
+                .guardianFirstName("Carmen")
+                .guardianLastName("Pryde")
+                .guardianContactNumber("+1-555-PRYDE")
+                .guardianEmail("carmen.pryde@example.com")
+                .contactNumber("+1-555-KITTY")
+                .email("kitty.pryde@example.com")
+                .status(Status.ACTIVE)
+                .build();
+
+        Student nameless = Student.builder()
+                .schoolData(schoolData)
+                .firstName("")
+                .lastName("Unknown")
+                .power(power)
+                .isActive(true)
+                .guardianFirstName("Unknown")
+                .guardianLastName("Unknown")
+                .guardianContactNumber("+1-555-0000")
+                .contactNumber("+1-555-0000")
+                .status(Status.ACTIVE)
+                .build();
+
+        mockMvc.perform(post("/api/students/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Arrays.asList(kitty, nameless))))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$[0].index").value(0))
+                .andExpect(jsonPath("$[0].status").value("CREATED"))
+                .andExpect(jsonPath("$[0].id").isNumber())
+                .andExpect(jsonPath("$[1].index").value(1))
+                .andExpect(jsonPath("$[1].status").value("INVALID"))
+                .andExpect(jsonPath("$[1].errors[0]").value("firstName: First name cannot be empty"));
+
+        assertEquals(2, studentRepository.count());
+    }
+
     /**
      * Test retrieving all Student records via the GET /api/student endpoint.
      * @throws Exception If an error occurs during the HTTP request
      */
     @Test
+    @SqlStatementBudget(2)
     void getAllStudents() throws Exception {
         mockMvc.perform(get("/api/students"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].schoolData.id").value(student.getSchoolData().getId()))
-                .andExpect(jsonPath("$[0].firstName").value(student.getFirstName()))
-                .andExpect(jsonPath("$[0].lastName").value(student.getLastName()))
-                .andExpect(jsonPath("$[0].alias").value(student.getAlias()))
-                .andExpect(jsonPath("$[0].power.powerName").value(student.getPower().getName()))
-                .andExpect(jsonPath("$[0].power.powerLevel").value(student.getPower().getPowerLevel()))
-                .andExpect(jsonPath("$[0].power.powerDescription").value(student.getPower().getDescription()))
-                .andExpect(jsonPath("$[0].power.powerCategory").value(student.getPower().getCategory()))
-                .andExpect(jsonPath("$[0].power.isPowerActive").value(student.getPower().isActive()))
-                .andExpect(jsonPath("$[0].power.controlLevel").value(student.getPower().getControlLevel()))
-                .andExpect(jsonPath("$[0].power.originSource").value(student.getPower().getOriginSource().name()))
-                .andExpect(jsonPath("$[0].missionHistory[0]").value(student.getMissionHistory().get(0)))
-                .andExpect(jsonPath("$[0].isActive").value(student.getIsActive()))
-                .andExpect(jsonPath("$[0].guardianFirstName").value(student.getGuardianFirstName()))
-                .andExpect(jsonPath("$[0].guardianLastName").value(student.getGuardianLastName()))
-                .andExpect(jsonPath("$[0].guardianContactNumber").value(student.getGuardianContactNumber()))
-                .andExpect(jsonPath("$[0].guardianEmail").value(student.getGuardianEmail()))
-                .andExpect(jsonPath("$[0].contactNumber").value(student.getContactNumber()))
-                .andExpect(jsonPath("$[0].email").value(student.getEmail()))
-                .andExpect(jsonPath("$[0].status").value(student.getStatus().name()));
+                .andExpect(jsonPath("$.items[0].schoolData.id").value(student.getSchoolData().getId()))
+                .andExpect(jsonPath("$.items[0].firstName").value(student.getFirstName()))
+                .andExpect(jsonPath("$.items[0].lastName").value(student.getLastName()))
+                .andExpect(jsonPath("$.items[0].alias").value(student.getAlias()))
+                .andExpect(jsonPath("$.items[0].power.powerName").value(student.getPower().getName()))
+                .andExpect(jsonPath("$.items[0].power.powerLevel").value(student.getPower().getPowerLevel()))
+                .andExpect(jsonPath("$.items[0].power.powerDescription").value(student.getPower().getDescription()))
+                .andExpect(jsonPath("$.items[0].power.powerCategory").value(student.getPower().getCategory()))
+                .andExpect(jsonPath("$.items[0].power.isPowerActive").value(student.getPower().isActive()))
+                .andExpect(jsonPath("$.items[0].power.controlLevel").value(student.getPower().getControlLevel()))
+                .andExpect(jsonPath("$.items[0].power.originSource").value(student.getPower().getOriginSource().name()))
+                .andExpect(jsonPath("$.items[0].missionHistory[0]").value(student.getMissionHistory().get(0)))
+                .andExpect(jsonPath("$.items[0].isActive").value(student.getIsActive()))
+                .andExpect(jsonPath("$.items[0].guardianFirstName").value(student.getGuardianFirstName()))
+                .andExpect(jsonPath("$.items[0].guardianLastName").value(student.getGuardianLastName()))
+                .andExpect(jsonPath("$.items[0].guardianContactNumber").value(student.getGuardianContactNumber()))
+                .andExpect(jsonPath("$.items[0].guardianEmail").value(student.getGuardianEmail()))
+                .andExpect(jsonPath("$.items[0].contactNumber").value(student.getContactNumber()))
+                .andExpect(jsonPath("$.items[0].email").value(student.getEmail()))
+                .andExpect(jsonPath("$.items[0].status").value(student.getStatus().name()));
+    }
+
+    /**
+     * Test retrieving Student summaries via the GET /api/students?view=summary endpoint in a single SQL statement.
+     * @throws Exception If an error occurs during the HTTP request
+     */
+    @Test
+    @SqlStatementBudget(1)
+    void getAllStudentSummaries() throws Exception {
+        mockMvc.perform(get("/api/students").param("view", "summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].id").value(student.getId()))
+                .andExpect(jsonPath("$.items[0].firstName").value(student.getFirstName()))
+                .andExpect(jsonPath("$.items[0].lastName").value(student.getLastName()))
+                .andExpect(jsonPath("$.items[0].alias").value(student.getAlias()))
+                .andExpect(jsonPath("$.items[0].status").value(student.getStatus().name()))
+                .andExpect(jsonPath("$.items[0].schoolName").value(schoolData.getSchoolName()))
+                .andExpect(jsonPath("$.items[0].power").doesNotExist())
+                .andExpect(jsonPath("$.items[0].guardianEmail").doesNotExist());
+    }
+
+    /**
+     * Test paging through Student records via the GET /api/students endpoint using the returned cursor.
+     * @throws Exception If an error occurs during the HTTP request
+     */
+    @Test
+    void getAllStudentsPagesWithCursor() throws Exception {
+        for (String alias : new String[]{"Nightcrawler", "Shadowcat"}) {
+            studentRepository.save(Student.builder()
+                    .schoolData(schoolData)
+                    .firstName(alias)
+                    .lastName("Student")
+                    .alias(alias)
+                    .power(power)
+                    .isActive(true)
+                    .guardianFirstName("Guardian")
+                    .guardianLastName("Student")
+                    .guardianContactNumber("+1-555-0000")
+                    .contactNumber("+1-555-0001")
+                    .status(Status.ACTIVE)
+                    .build());
+        }
+
+        MvcResult firstPage = mockMvc.perform(get("/api/students").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].alias").value(student.getAlias()))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+                .andReturn();
+        String nextCursor = JsonPath.read(firstPage.getResponse().getContentAsString(), "$.nextCursor");
+
+        mockMvc.perform(get("/api/students").param("after", nextCursor).param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].alias").value("Shadowcat"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    /**
+     * Test requesting Student records with a malformed cursor via the GET /api/students endpoint.
+     * @throws Exception If an error occurs during the HTTP request
+     */
+    @Test
+    @SqlStatementBudget(2)
+    void getAllStudentsWithMalformedCursor() throws Exception {
+        mockMvc.perform(get("/api/students").param("after", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Test exporting all Student records as NDJSON via the GET /api/students/export endpoint.
+     * The mission histories are fetched with the Students, so the export takes a single query.
+     * @throws Exception If an error occurs during the HTTP request
+     */
+    @Test
+    @SqlStatementBudget(2)
+    void exportStudents() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/students/export"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn();
+
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertEquals(studentRepository.count(), lines.length);
+        assertEquals(student.getAlias(), objectMapper.readTree(lines[0]).get("alias").asText());
+        assertEquals(student.getMissionHistory().get(0),
+                objectMapper.readTree(lines[0]).get("missionHistory").get(0).asText());
     }
 
     /**
@@ -209,6 +354,7 @@ class StudentIT {
      * @throws Exception If an error occurs during the HTTP request
      */
     @Test
+    @SqlStatementBudget(2)
     void getStudentById() throws Exception {
         mockMvc.perform(get("/api/students/" + student.getId()))
                 .andExpect(status().isOk())
@@ -277,6 +423,93 @@ class StudentIT {
                 .andExpect(jsonPath("$.isActive").value(updatedStudent.getIsActive()));
     }
 
+    /**
+     * Test patching a single field of an existing Student record via the PATCH /api/students/{id} endpoint.
+     * Only the student row is updated: the mission history is neither deleted nor re-inserted. The budget includes
+     * the outbox event recording the change, whose ID may take a sequence call.
+     * @throws Exception If an error occurs during the HTTP request
+     */
+    @Test
+    @SqlStatementBudget(5)
+    void patchStudent() throws Exception {
+        mockMvc.perform(patch("/api/students/" + student.getId())
+                        .contentType(JsonMergePatcher.MERGE_PATCH_JSON_VALUE)
+                        .content("{\"email\":\"bobby.drake@iceman.com\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.email").value("bobby.drake@iceman.com"))
+                .andExpect(jsonPath("$.guardianEmail").value(student.getGuardianEmail()))
+                .andExpect(jsonPath("$.alias").value(student.getAlias()))
+                .andExpect(jsonPath("$.missionHistory[0]").value(student.getMissionHistory().get(0)));
+    }
+
+    /**
+     * Test merging a nested object into an existing Student record via the PATCH /api/students/{id} endpoint.
+     * @throws Exception If an error occurs during the HTTP request
+     */
+    @Test
+    void patchStudentMergesPower() throws Exception {
+        mockMvc.perform(patch("/api/students/" + student.getId())
+                        .contentType(JsonMergePatcher.MERGE_PATCH_JSON_VALUE)
+                        .content("{\"alias\":null,\"power\":{\"powerLevel\":9}}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.alias").doesNotExist())
+                .andExpect(jsonPath("$.power.powerLevel").value(9))
+                .andExpect(jsonPath("$.power.powerName").value(power.getName()));
+
+        mockMvc.perform(get("/api/students/" + student.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.power.powerLevel").value(9))
+                .andExpect(jsonPath("$.power.controlLevel").value(power.getControlLevel()));
+    }
+
+    /**
+     * Test moving an existing Student record to another school via the PATCH /api/students/{id} endpoint.
+     * The school is replaced by the one its ID refers to, and neither school is changed by the other members given.
+     * @throws Exception If an error occurs during the HTTP request
+     */
+    @Test
+    void patchStudentReplacesSchoolByReference() throws Exception {
+        SchoolData academy = schoolDataRepository.save(SchoolData.builder()
+                .schoolName("Massachusetts Academy")
+                .location("Snow Valley, MA")
+                .isActive(true)
+                .build());
+
+        mockMvc.perform(patch("/api/students/" + student.getId())
+                        .contentType(JsonMergePatcher.MERGE_PATCH_JSON_VALUE)
+                        .content("{\"schoolData\":{\"id\":" + academy.getId() + ",\"schoolName\":\"Hellfire Club\"}}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.schoolData.id").value(academy.getId()))
+                .andExpect(jsonPath("$.schoolData.schoolName").value("Massachusetts Academy"));
+
+        assertEquals("Massachusetts Academy", schoolDataRepository.findById(academy.getId()).get().getSchoolName());
+        assertEquals(schoolData.getSchoolName(), schoolDataRepository.findById(schoolData.getId()).get().getSchoolName());
+    }
+
+    /**
+     * Test patching an existing Student record with a patch that changes its ID via the PATCH /api/students/{id} endpoint.
+     * @throws Exception If an error occurs during the HTTP request
+     */
+    @Test
+    void patchStudentRejectsIdChange() throws Exception {
+        mockMvc.perform(patch("/api/students/" + student.getId())
+                        .contentType(JsonMergePatcher.MERGE_PATCH_JSON_VALUE)
+                        .content("{\"id\":" + (student.getId() + 1) + "}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Test patching a Student record that does not exist via the PATCH /api/students/{id} endpoint.
+     * @throws Exception If an error occurs during the HTTP request
+     */
+    @Test
+    void patchStudentNotFound() throws Exception {
+        mockMvc.perform(patch("/api/students/" + (student.getId() + 1000))
+                        .contentType(JsonMergePatcher.MERGE_PATCH_JSON_VALUE)
+                        .content("{\"alias\":\"Unknown\"}"))
+                .andExpect(status().isNotFound());
+    }
+
     /**
      * Test deleting an existing Student record via the DELETE /api/student/{id} endpoint.
      * @throws Exception If an error occurs during the HTTP request
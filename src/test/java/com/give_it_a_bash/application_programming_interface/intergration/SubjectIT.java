@@ -113,10 +113,11 @@ class SubjectIT {
      * @throws Exception If an error occurs during the HTTP request
      */
     @Test
+    @SqlStatementBudget(1)
     void getAllSubjects() throws Exception {
         mockMvc.perform(get("/api/subjects"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].name").value(subject.getName()));
+                .andExpect(jsonPath("$.items[0].name").value(subject.getName()));
     }
 
     /**
@@ -124,6 +125,7 @@ class SubjectIT {
      * @throws Exception If an error occurs during the HTTP request
      */
     @Test
+    @SqlStatementBudget(1)
     void getSubjectById() throws Exception {
         mockMvc.perform(get("/api/subjects/" + subject.getId()))
                 .andExpect(status().isOk())
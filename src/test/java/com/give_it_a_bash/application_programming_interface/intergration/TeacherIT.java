@@ -12,6 +12,7 @@ package com.give_it_a_bash.application_programming_interface.intergration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.give_it_a_bash.application_programming_interface.entities.*;
+import com.give_it_a_bash.application_programming_interface.patch.JsonMergePatcher;
 import com.give_it_a_bash.application_programming_interface.repositories.TeacherRepository;
 import com.give_it_a_bash.application_programming_interface.repositories.SchoolDataRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -24,9 +25,11 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.util.Collections;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -176,29 +179,70 @@ class TeacherIT {
      * @throws Exception If an error occurs during the HTTP request
      */
     @Test
+    @SqlStatementBudget(3)
     void getAllTeachers() throws Exception {
         mockMvc.perform(get("/api/teachers"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].id").value(1))
-                .andExpect(jsonPath("$[0].schoolData.id").value(1))
-                .andExpect(jsonPath("$[0].firstName").value(teacher.getFirstName()))
-                .andExpect(jsonPath("$[0].lastName").value(teacher.getLastName()))
-                .andExpect(jsonPath("$[0].alias").value(teacher.getAlias()))
-                .andExpect(jsonPath("$[0].power.powerName").value(teacher.getPower().getName()))
-                .andExpect(jsonPath("$[0].power.powerLevel").value(teacher.getPower().getPowerLevel()))
-                .andExpect(jsonPath("$[0].power.powerDescription").value(teacher.getPower().getDescription()))
-                .andExpect(jsonPath("$[0].power.powerCategory").value(teacher.getPower().getCategory()))
-                .andExpect(jsonPath("$[0].power.isPowerActive").value(teacher.getPower().isActive()))
-                .andExpect(jsonPath("$[0].power.controlLevel").value(teacher.getPower().getControlLevel()))
-                .andExpect(jsonPath("$[0].power.originSource").value(teacher.getPower().getOriginSource().name()))
-                .andExpect(jsonPath("$[0].missionHistory[0]").value(teacher.getMissionHistory().get(0)))
-                .andExpect(jsonPath("$[0].isActive").value(teacher.getIsActive()))
-                .andExpect(jsonPath("$[0].email").value(teacher.getEmail()))
-                .andExpect(jsonPath("$[0].phoneNumber").value(teacher.getPhoneNumber()))
-                .andExpect(jsonPath("$[0].address").value(teacher.getAddress()))
-                .andExpect(jsonPath("$[0].qualifications").value(teacher.getQualifications()))
-                .andExpect(jsonPath("$[0].yearsOfExperience").value(teacher.getYearsOfExperience()))
-                .andExpect(jsonPath("$[0].department").value(teacher.getDepartment()));
+                .andExpect(jsonPath("$.items[0].id").value(1))
+                .andExpect(jsonPath("$.items[0].schoolData.id").value(1))
+                .andExpect(jsonPath("$.items[0].firstName").value(teacher.getFirstName()))
+                .andExpect(jsonPath("$.items[0].lastName").value(teacher.getLastName()))
+                .andExpect(jsonPath("$.items[0].alias").value(teacher.getAlias()))
+                .andExpect(jsonPath("$.items[0].power.powerName").value(teacher.getPower().getName()))
+                .andExpect(jsonPath("$.items[0].power.powerLevel").value(teacher.getPower().getPowerLevel()))
+                .andExpect(jsonPath("$.items[0].power.powerDescription").value(teacher.getPower().getDescription()))
+                .andExpect(jsonPath("$.items[0].power.powerCategory").value(teacher.getPower().getCategory()))
+                .andExpect(jsonPath("$.items[0].power.isPowerActive").value(teacher.getPower().isActive()))
+                .andExpect(jsonPath("$.items[0].power.controlLevel").value(teacher.getPower().getControlLevel()))
+                .andExpect(jsonPath("$.items[0].power.originSource").value(teacher.getPower().getOriginSource().name()))
+                .andExpect(jsonPath("$.items[0].missionHistory[0]").value(teacher.getMissionHistory().get(0)))
+                .andExpect(jsonPath("$.items[0].isActive").value(teacher.getIsActive()))
+                .andExpect(jsonPath("$.items[0].email").value(teacher.getEmail()))
+                .andExpect(jsonPath("$.items[0].phoneNumber").value(teacher.getPhoneNumber()))
+                .andExpect(jsonPath("$.items[0].address").value(teacher.getAddress()))
+                .andExpect(jsonPath("$.items[0].qualifications").value(teacher.getQualifications()))
+                .andExpect(jsonPath("$.items[0].yearsOfExperience").value(teacher.getYearsOfExperience()))
+                .andExpect(jsonPath("$.items[0].department").value(teacher.getDepartment()));
+    }
+
+    /**
+     * Test retrieving Teacher summaries via the GET /api/teachers?view=summary endpoint in a single SQL statement.
+     * @throws Exception If an error occurs during the HTTP request
+     */
+    @Test
+    @SqlStatementBudget(1)
+    void getAllTeacherSummaries() throws Exception {
+        mockMvc.perform(get("/api/teachers").param("view", "summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].id").value(teacher.getId()))
+                .andExpect(jsonPath("$.items[0].firstName").value(teacher.getFirstName()))
+                .andExpect(jsonPath("$.items[0].lastName").value(teacher.getLastName()))
+                .andExpect(jsonPath("$.items[0].alias").value(teacher.getAlias()))
+                .andExpect(jsonPath("$.items[0].department").value(teacher.getDepartment()))
+                .andExpect(jsonPath("$.items[0].schoolName").value(schoolData.getSchoolName()))
+                .andExpect(jsonPath("$.items[0].power").doesNotExist())
+                .andExpect(jsonPath("$.items[0].subjects").doesNotExist());
+    }
+
+    /**
+     * Test exporting all Teacher records as NDJSON via the GET /api/teachers/export endpoint.
+     * Each batch of Teachers is read with one query for the IDs and one per collection, not one per Teacher.
+     * @throws Exception If an error occurs during the HTTP request
+     */
+    @Test
+    @SqlStatementBudget(4)
+    void exportTeachers() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/teachers/export"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn();
+
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertEquals(teacherRepository.count(), lines.length);
+        assertEquals(teacher.getAlias(), objectMapper.readTree(lines[0]).get("alias").asText());
+        assertEquals(teacher.getMissionHistory().get(0),
+                objectMapper.readTree(lines[0]).get("missionHistory").get(0).asText());
     }
 
     /**
@@ -206,6 +250,7 @@ class TeacherIT {
      * @throws Exception If an error occurs during the HTTP request
      */
     @Test
+    @SqlStatementBudget(3)
     void getTeacherById() throws Exception {
         mockMvc.perform(get("/api/teachers/" + teacher.getId()))
                 .andExpect(status().isOk())
@@ -273,6 +318,69 @@ class TeacherIT {
                 .andExpect(jsonPath("$.isActive").value(updatedTeacher.getIsActive()));
     }
 
+    /**
+     * Test patching a single field of an existing Teacher record via the PATCH /api/teachers/{id} endpoint.
+     * Only the teacher row is updated: the mission history is neither deleted nor re-inserted. The budget includes
+     * the outbox event recording the change, whose ID may take a sequence call.
+     * @throws Exception If an error occurs during the HTTP request
+     */
+    @Test
+    @SqlStatementBudget(6)
+    void patchTeacher() throws Exception {
+        mockMvc.perform(patch("/api/teachers/" + teacher.getId())
+                        .contentType(JsonMergePatcher.MERGE_PATCH_JSON_VALUE)
+                        .content("{\"department\":\"Telepathic Studies\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.department").value("Telepathic Studies"))
+                .andExpect(jsonPath("$.email").value(teacher.getEmail()))
+                .andExpect(jsonPath("$.alias").value(teacher.getAlias()))
+                .andExpect(jsonPath("$.missionHistory[0]").value(teacher.getMissionHistory().get(0)));
+    }
+
+    /**
+     * Test merging a nested object into an existing Teacher record via the PATCH /api/teachers/{id} endpoint.
+     * @throws Exception If an error occurs during the HTTP request
+     */
+    @Test
+    void patchTeacherMergesPower() throws Exception {
+        mockMvc.perform(patch("/api/teachers/" + teacher.getId())
+                        .contentType(JsonMergePatcher.MERGE_PATCH_JSON_VALUE)
+                        .content("{\"alias\":null,\"power\":{\"powerLevel\":9}}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.alias").doesNotExist())
+                .andExpect(jsonPath("$.power.powerLevel").value(9))
+                .andExpect(jsonPath("$.power.powerName").value(power.getName()));
+
+        mockMvc.perform(get("/api/teachers/" + teacher.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.power.powerLevel").value(9))
+                .andExpect(jsonPath("$.power.controlLevel").value(power.getControlLevel()));
+    }
+
+    /**
+     * Test patching an existing Teacher record with a patch that changes its ID via the PATCH /api/teachers/{id} endpoint.
+     * @throws Exception If an error occurs during the HTTP request
+     */
+    @Test
+    void patchTeacherRejectsIdChange() throws Exception {
+        mockMvc.perform(patch("/api/teachers/" + teacher.getId())
+                        .contentType(JsonMergePatcher.MERGE_PATCH_JSON_VALUE)
+                        .content("{\"id\":" + (teacher.getId() + 1) + "}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Test patching a Teacher record that does not exist via the PATCH /api/teachers/{id} endpoint.
+     * @throws Exception If an error occurs during the HTTP request
+     */
+    @Test
+    void patchTeacherNotFound() throws Exception {
+        mockMvc.perform(patch("/api/teachers/" + (teacher.getId() + 1000))
+                        .contentType(JsonMergePatcher.MERGE_PATCH_JSON_VALUE)
+                        .content("{\"alias\":\"Unknown\"}"))
+                .andExpect(status().isNotFound());
+    }
+
     /**
      * Test deleting an existing Teacher record via the DELETE /api/teacher/{id} endpoint.
      * @throws Exception If an error occurs during the HTTP request
@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.intergration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.give_it_a_bash.application_programming_interface.entities.*;
+import com.give_it_a_bash.application_programming_interface.repositories.FacilityRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.LessonRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.SchoolDataRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.SubjectRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.TeacherRepository;
+import com.give_it_a_bash.application_programming_interface.timetabling.TimetableRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the Timetable API endpoints.
+ * This class tests generating a timetable as a background job, including:
+ * <ul>
+ *     <li>Starting a job and polling it until it finishes</li>
+ *     <li>Creating the generated Lessons</li>
+ *     <li>Rejecting an invalid request</li>
+ * </ul>
+ */
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:timetable_it;DB_CLOSE_DELAY=-1")
+class TimetableIT {
+
+    private static final long POLL_TIMEOUT_MILLIS = 20_000;
+
+    @Autowired
+    private MockMvc mockMvc; // MockMvc to perform HTTP requests
+
+    @Autowired
+    private LessonRepository lessonRepository; // Repository for interacting with the database
+
+    @Autowired
+    private TeacherRepository teacherRepository; // Repository for interacting with the database
+
+    @Autowired
+    private SubjectRepository subjectRepository; // Repository for interacting with the database
+
+    @Autowired
+    private FacilityRepository facilityRepository; // Repository for interacting with the database
+
+    @Autowired
+    private SchoolDataRepository schoolDataRepository; // Repository for interacting with the database
+
+    @Autowired
+    private ObjectMapper objectMapper; // ObjectMapper to convert objects to JSON
+
+    private Subject mutantStudies; // A class level test instance of Subject
+
+    private Subject ethics; // A class level test instance of Subject
+
+    /**
+     * Set up the test environment before each test.
+     * This method deletes all records in the database and inserts two Subjects, two Teachers and a Facility.
+     */
+    @BeforeEach
+    void setUp() {
+        lessonRepository.deleteAll();
+        teacherRepository.deleteAll();
+        facilityRepository.deleteAll();
+        subjectRepository.deleteAll();
+        schoolDataRepository.deleteAll();
+
+        SchoolData schoolData = schoolDataRepository.save(SchoolData.builder()
+                .schoolName("Xavier Institute for Higher Learning")
+                .location("1407 Graymalkin Lane, Salem Center, NY")
+                .motto("Mutatis Mutandis")
+                .yearEstablished(1963)
+                .affiliation("Mutant Education and Research")
+                .contactInfo("+1-555-XAVIER")
+                .isActive(true)
+                .build());
+
+        mutantStudies = subjectRepository.save(Subject.builder().schoolData(schoolData).name("Mutant Studies").build());
+        ethics = subjectRepository.save(Subject.builder().schoolData(schoolData).name("Philosophy and Ethics").build());
+
+        teacherRepository.save(teacher(schoolData, "Charles", "Xavier", Arrays.asList(mutantStudies, ethics)));
+        teacherRepository.save(teacher(schoolData, "Hank", "McCoy", Collections.singletonList(mutantStudies)));
+
+        facilityRepository.save(Facility.builder()
+                .schoolData(schoolData)
+                .name("Danger Room")
+                .type(FacilityType.CLASSROOM)
+                .description("A room equipped for training and practice.")
+                .isAccessible(true)
+                .locationWithinCampus("Sub-basement")
+                .capacity(30)
+                .isOperational(true)
+                .build());
+    }
+
+    /**
+     * Test generating a timetable via the POST /api/timetables/jobs endpoint, following it via the
+     * GET /api/timetables/jobs/{id} endpoint until it succeeds.
+     * @throws Exception If an error occurs during the HTTP request
+     */
+    @Test
+    void generateTimetable() throws Exception {
+        TimetableRequest request = new TimetableRequest();
+        request.setFirstDay(LocalDate.now().plusWeeks(1).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)));
+        request.setDays(1);
+        request.setDayStart(LocalTime.of(9, 0));
+        request.setDayEnd(LocalTime.of(12, 0));
+        request.setRequirements(Arrays.asList(
+                new TimetableRequest.SubjectRequirement(mutantStudies.getId(), 2),
+                new TimetableRequest.SubjectRequirement(ethics.getId(), 1)));
+
+        String response = mockMvc.perform(post("/api/timetables/jobs")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.progress.totalLessons").value(3))
+                .andReturn().getResponse().getContentAsString();
+        String jobId = objectMapper.readTree(response).get("id").asText();
+
+        JsonNode job = poll(jobId);
+        assertEquals("SUCCEEDED", job.get("status").asText());
+        assertEquals(3, job.get("progress").get("placedLessons").asInt());
+        assertEquals(3, job.get("assignments").size());
+        assertEquals(3, lessonRepository.count());
+        for (JsonNode assignment : job.get("assignments")) {
+            assertTrue(lessonRepository.existsById(assignment.get("lessonId").asLong()));
+        }
+
+        mockMvc.perform(get("/api/lessons/conflicts"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+
+    /**
+     * Test that a request without lessons is rejected by the POST /api/timetables/jobs endpoint.
+     * @throws Exception If an error occurs during the HTTP request
+     */
+    @Test
+    void generateTimetableWithoutLessonsReturnsBadRequest() throws Exception {
+        TimetableRequest request = new TimetableRequest();
+        request.setFirstDay(LocalDate.now().plusWeeks(1));
+
+        mockMvc.perform(post("/api/timetables/jobs")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Test that an unknown job is reported as not found by the GET /api/timetables/jobs/{id} endpoint.
+     * @throws Exception If an error occurs during the HTTP request
+     */
+    @Test
+    void getUnknownJobReturnsNotFound() throws Exception {
+        mockMvc.perform(get("/api/timetables/jobs/{id}", "missing"))
+                .andExpect(status().isNotFound());
+    }
+
+    private JsonNode poll(String jobId) throws Exception {
+        long deadline = System.currentTimeMillis() + POLL_TIMEOUT_MILLIS;
+        while (true) {
+            JsonNode job = objectMapper.readTree(mockMvc.perform(get("/api/timetables/jobs/{id}", jobId))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString());
+            String status = job.get("status").asText();
+            if ("SUCCEEDED".equals(status) || "FAILED".equals(status) || System.currentTimeMillis() > deadline) {
+                return job;
+            }
+            Thread.sleep(50);
+        }
+    }
+
+    private static Teacher teacher(SchoolData schoolData, String firstName, String lastName, List<Subject> subjects) {
+        return Teacher.builder()
+                .schoolData(schoolData)
+                .firstName(firstName)
+                .lastName(lastName)
+                .alias(firstName)
+                .power(Power.builder()
+                        .name("Telepathy")
+                        .powerLevel(10)
+                        .description("Ability to read and control minds")
+                        .category("Psychic")
+                        .isActive(true)
+                        .controlLevel(10)
+                        .originSource(PowerSource.GENETIC_MUTATION)
+                        .build())
+                .missionHistory(Collections.singletonList("The Cerebro Chronicles"))
+                .isActive(true)
+                .email(firstName.toLowerCase() + "@xavier.edu")
+                .phoneNumber("1234567890")
+                .address("1407 Graymalkin Lane")
+                .qualifications("PhD in Genetics")
+                .yearsOfExperience(20)
+                .department("Psychic Studies")
+                .subjects(subjects)
+                .build();
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.leaderboard;
+
+import com.give_it_a_bash.application_programming_interface.entities.Power;
+import com.give_it_a_bash.application_programming_interface.entities.SchoolData;
+import com.give_it_a_bash.application_programming_interface.entities.Student;
+import com.give_it_a_bash.application_programming_interface.testData.TestDataHelper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the {@link PowerLeaderboard} class.
+ */
+public class PowerLeaderboardTest {
+
+    private final PowerLeaderboard leaderboard = new PowerLeaderboard();
+
+    @BeforeEach
+    public void setUp() {
+        TestDataHelper.reset();
+    }
+
+    /**
+     * Tests that mutants are ranked by power level, then control level, then ID, globally and within their school.
+     */
+    @Test
+    public void testTopAndRank() {
+        leaderboard.put(1L, standing(1L, 100L, 5, 3));
+        leaderboard.put(2L, standing(2L, 100L, 9, 1));
+        leaderboard.put(3L, standing(3L, 200L, 5, 7));
+        leaderboard.put(4L, standing(4L, 200L, 5, 3));
+
+        assertThat(leaderboard.top(null, 10)).extracting(entry -> entry.getStanding().getMutantId())
+                .containsExactly(2L, 3L, 1L, 4L);
+        assertThat(leaderboard.top(null, 2)).extracting(LeaderboardEntry::getRank).containsExactly(1, 2);
+        assertThat(leaderboard.top(200L, 10)).extracting(entry -> entry.getStanding().getMutantId())
+                .containsExactly(3L, 4L);
+        assertThat(leaderboard.top(300L, 10)).isEmpty();
+
+        assertThat(leaderboard.rankOf(4L, null).getRank()).isEqualTo(4);
+        assertThat(leaderboard.rankOf(4L, 200L).getRank()).isEqualTo(2);
+        assertThat(leaderboard.rankOf(4L, 100L)).isNull();
+        assertThat(leaderboard.rankOf(5L, null)).isNull();
+    }
+
+    /**
+     * Tests that putting a mutant again moves it, including between schools, and that removed mutants are not ranked.
+     */
+    @Test
+    public void testPutReplacesAndRemove() {
+        leaderboard.put(1L, standing(1L, 100L, 5, 3));
+        leaderboard.put(2L, standing(2L, 100L, 6, 3));
+
+        leaderboard.put(1L, standing(1L, 200L, 8, 3));
+
+        assertThat(leaderboard.size()).isEqualTo(2);
+        assertThat(leaderboard.rankOf(1L, null).getRank()).isEqualTo(1);
+        assertThat(leaderboard.top(100L, 10)).extracting(entry -> entry.getStanding().getMutantId()).containsExactly(2L);
+        assertThat(leaderboard.top(200L, 10)).extracting(entry -> entry.getStanding().getMutantId()).containsExactly(1L);
+
+        assertThat(leaderboard.remove(1L).getPowerLevel()).isEqualTo(8);
+        leaderboard.put(2L, null);
+
+        assertThat(leaderboard.size()).isZero();
+        assertThat(leaderboard.top(null, 10)).isEmpty();
+        assertThat(leaderboard.top(200L, 10)).isEmpty();
+    }
+
+    /**
+     * Tests that a rebuild replaces every standing and keeps the standings written while it reads them, whether or
+     * not they were read.
+     */
+    @Test
+    public void testRebuild_WritesDuringRead() {
+        leaderboard.put(1L, standing(1L, 100L, 5, 3));
+        leaderboard.put(2L, standing(2L, 100L, 6, 3));
+        leaderboard.put(3L, standing(3L, 200L, 7, 3));
+
+        leaderboard.rebuild(() -> {
+            assertThat(leaderboard.size()).isEqualTo(3);
+            leaderboard.put(1L, standing(1L, 200L, 9, 3));
+            leaderboard.remove(2L);
+            leaderboard.put(4L, standing(4L, 100L, 1, 1));
+            return Arrays.asList(standing(1L, 100L, 5, 3), standing(2L, 100L, 6, 3), standing(5L, 100L, 2, 2));
+        });
+
+        assertThat(leaderboard.top(null, 10)).extracting(entry -> entry.getStanding().getMutantId())
+                .containsExactly(1L, 5L, 4L);
+        assertThat(leaderboard.top(200L, 10)).extracting(entry -> entry.getStanding().getMutantId())
+                .containsExactly(1L);
+        assertThat(leaderboard.rankOf(2L, null)).isNull();
+
+        leaderboard.put(1L, standing(1L, 200L, 3, 3));
+        leaderboard.rebuild(() -> Arrays.asList(standing(2L, 100L, 6, 3)));
+        assertThat(leaderboard.top(null, 10)).extracting(entry -> entry.getStanding().getMutantId())
+                .containsExactly(2L);
+    }
+
+    /**
+     * Tests that the standing of a mutant is captured from its power, and that a mutant without power is not ranked.
+     */
+    @Test
+    public void testStandingOf() {
+        Student student = TestDataHelper.getSTUDENT();
+        student.setId(20L);
+        SchoolData schoolData = new SchoolData();
+        schoolData.setId(100L);
+        student.setSchoolData(schoolData);
+        student.setPower(Power.builder().powerLevel(7).controlLevel(4).build());
+
+        Standing standing = Standing.of(student);
+
+        assertThat(standing.getMutantId()).isEqualTo(20L);
+        assertThat(standing.getMutantType()).isEqualTo(Standing.MutantType.STUDENT);
+        assertThat(standing.getSchoolId()).isEqualTo(100L);
+        assertThat(standing.getPowerLevel()).isEqualTo(7);
+        assertThat(standing.getControlLevel()).isEqualTo(4);
+
+        student.setPower(null);
+        assertThat(Standing.of(student)).isNull();
+    }
+
+    private static Standing standing(Long mutantId, Long schoolId, int powerLevel, int controlLevel) {
+        return new Standing(mutantId, Standing.MutantType.STUDENT, schoolId, "Jean", "Grey", "Phoenix",
+                powerLevel, controlLevel);
+    }
+}
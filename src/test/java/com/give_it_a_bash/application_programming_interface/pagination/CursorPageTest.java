@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.pagination;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the {@link CursorPage} class.
+ */
+public class CursorPageTest {
+
+    /**
+     * Tests that a cursor survives an encode/decode round trip.
+     */
+    @Test
+    public void testCursorRoundTrip() {
+        assertThat(CursorPage.decodeCursor(CursorPage.encodeCursor(42L))).isEqualTo(42L);
+        assertThat(CursorPage.decodeCursor(null)).isNull();
+        assertThat(CursorPage.decodeCursor("")).isNull();
+    }
+
+    /**
+     * Tests that malformed cursors are rejected.
+     */
+    @Test
+    public void testMalformedCursor() {
+        assertThatThrownBy(() -> CursorPage.decodeCursor("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CursorPage.decodeCursor("!!!"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Tests that the requested limit is defaulted and clamped to the hard maximum.
+     */
+    @Test
+    public void testResolveLimit() {
+        assertThat(CursorPage.resolveLimit(null)).isEqualTo(CursorPage.DEFAULT_LIMIT);
+        assertThat(CursorPage.resolveLimit(0)).isEqualTo(1);
+        assertThat(CursorPage.resolveLimit(25)).isEqualTo(25);
+        assertThat(CursorPage.resolveLimit(Integer.MAX_VALUE)).isEqualTo(CursorPage.MAX_LIMIT);
+    }
+
+    /**
+     * Tests that the extra look-ahead row is dropped and turned into a next cursor.
+     */
+    @Test
+    public void testOf() {
+        CursorPage<Long> page = CursorPage.of(Arrays.asList(3L, 5L, 8L), 2, Function.identity());
+
+        assertThat(page.getItems()).containsExactly(3L, 5L);
+        assertThat(CursorPage.decodeCursor(page.getNextCursor())).isEqualTo(5L);
+
+        CursorPage<Long> lastPage = CursorPage.of(Collections.singletonList(13L), 2, Function.identity());
+
+        assertThat(lastPage.getItems()).containsExactly(13L);
+        assertThat(lastPage.getNextCursor()).isNull();
+    }
+}
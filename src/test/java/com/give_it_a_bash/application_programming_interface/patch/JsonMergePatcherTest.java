@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.patch;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.give_it_a_bash.application_programming_interface.entities.Power;
+import com.give_it_a_bash.application_programming_interface.entities.SchoolData;
+import com.give_it_a_bash.application_programming_interface.entities.Student;
+import com.give_it_a_bash.application_programming_interface.testData.TestDataHelper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the {@link JsonMergePatcher} class.
+ */
+public class JsonMergePatcherTest {
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private EntityManager entityManager;
+
+    @InjectMocks
+    private JsonMergePatcher jsonMergePatcher;
+
+    private Student student;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        TestDataHelper.reset();
+        student = TestDataHelper.getSTUDENT();
+        student.setId(1L);
+    }
+
+    /**
+     * Tests that only the members present in the patch are changed, and that collections the patch
+     * does not mention keep their instance.
+     */
+    @Test
+    public void testApplyChangesOnlyPatchedFields() throws Exception {
+        List<String> missionHistory = student.getMissionHistory();
+
+        jsonMergePatcher.apply(student, objectMapper.readTree("{\"email\":\"phoenix@example.com\"}"));
+
+        assertThat(student.getEmail()).isEqualTo("phoenix@example.com");
+        assertThat(student.getFirstName()).isEqualTo("Jean");
+        assertThat(student.getGuardianEmail()).isEqualTo("john.grey@example.com");
+        assertThat(student.getMissionHistory()).isSameAs(missionHistory);
+    }
+
+    /**
+     * Tests that a {@code null} member clears the field.
+     */
+    @Test
+    public void testApplyNullClearsField() throws Exception {
+        jsonMergePatcher.apply(student, objectMapper.readTree("{\"alias\":null}"));
+
+        assertThat(student.getAlias()).isNull();
+        assertThat(student.getFirstName()).isEqualTo("Jean");
+    }
+
+    /**
+     * Tests that a nested object is merged into the current value rather than replacing it.
+     */
+    @Test
+    public void testApplyMergesNestedObject() throws Exception {
+        Power power = student.getPower();
+
+        jsonMergePatcher.apply(student, objectMapper.readTree("{\"power\":{\"powerLevel\":3}}"));
+
+        assertThat(student.getPower().getPowerLevel()).isEqualTo(3);
+        assertThat(student.getPower().getName()).isEqualTo(power.getName());
+        assertThat(student.getPower().getDescription()).isEqualTo(power.getDescription());
+        assertThat(student.getPower().getOriginSource()).isEqualTo(power.getOriginSource());
+    }
+
+    /**
+     * Tests that an association is replaced by the entity its ID refers to rather than merged, so the
+     * other members given for it are not written onto that entity.
+     */
+    @Test
+    public void testApplyReplacesAssociationByReference() throws Exception {
+        SchoolData current = SchoolData.builder().schoolName("Xavier Institute").build();
+        current.setId(1L);
+        SchoolData other = SchoolData.builder().schoolName("Massachusetts Academy").build();
+        other.setId(2L);
+        student.setSchoolData(current);
+        when(entityManager.find(SchoolData.class, 2L)).thenReturn(other);
+
+        jsonMergePatcher.apply(student, objectMapper.readTree("{\"schoolData\":{\"id\":2,\"schoolName\":\"Hellfire\"}}"));
+
+        assertThat(student.getSchoolData()).isSameAs(other);
+        assertThat(other.getSchoolName()).isEqualTo("Massachusetts Academy");
+        assertThat(current.getSchoolName()).isEqualTo("Xavier Institute");
+
+        jsonMergePatcher.apply(student, objectMapper.readTree("{\"schoolData\":null}"));
+
+        assertThat(student.getSchoolData()).isNull();
+    }
+
+    /**
+     * Tests that an association referenced without an ID, or by the ID of a missing entity, is rejected.
+     */
+    @Test
+    public void testApplyRejectsInvalidAssociationReference() throws Exception {
+        assertThatThrownBy(() -> jsonMergePatcher.apply(student,
+                objectMapper.readTree("{\"schoolData\":{\"schoolName\":\"Hellfire\"}}")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> jsonMergePatcher.apply(student,
+                objectMapper.readTree("{\"schoolData\":{\"id\":3}}")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("SchoolData not found with id 3");
+    }
+
+    /**
+     * Tests that an unchanged ID is accepted and a changed ID is rejected.
+     */
+    @Test
+    public void testApplyRejectsIdChange() throws Exception {
+        jsonMergePatcher.apply(student, objectMapper.readTree("{\"id\":1,\"alias\":\"Dark Phoenix\"}"));
+        assertThat(student.getAlias()).isEqualTo("Dark Phoenix");
+
+        assertThatThrownBy(() -> jsonMergePatcher.apply(student, objectMapper.readTree("{\"id\":2}")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(student.getId()).isEqualTo(1L);
+    }
+
+    /**
+     * Tests that patches which are not JSON objects, or hold values of the wrong type, are rejected.
+     */
+    @Test
+    public void testApplyRejectsInvalidPatch() throws Exception {
+        assertThatThrownBy(() -> jsonMergePatcher.apply(student, objectMapper.readTree("[]")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> jsonMergePatcher.apply(student, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> jsonMergePatcher.apply(student, objectMapper.readTree("{\"status\":\"ASLEEP\"}")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
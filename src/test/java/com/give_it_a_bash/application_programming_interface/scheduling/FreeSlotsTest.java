@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.scheduling;
+
+import com.give_it_a_bash.application_programming_interface.collections.IntervalTree;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the {@link FreeSlots} class.
+ */
+public class FreeSlotsTest {
+
+    private static final LocalDateTime EIGHT = LocalDateTime.of(2030, 9, 2, 8, 0);
+
+    private static final LocalDateTime SIX = LocalDateTime.of(2030, 9, 2, 18, 0);
+
+    /**
+     * Tests that an empty timetable leaves the whole window free.
+     */
+    @Test
+    public void testNoBusyIntervals() {
+        assertThat(FreeSlots.find(Collections.<IntervalTree.Interval<LocalDateTime, Long>>emptyList(), EIGHT, SIX, Duration.ofHours(1)))
+                .containsExactly(new TimeSlot(EIGHT, SIX));
+    }
+
+    /**
+     * Tests that overlapping and touching intervals are merged, and that gaps are clipped to the window.
+     */
+    @Test
+    public void testMergesOverlappingIntervals() {
+        List<IntervalTree.Interval<LocalDateTime, Long>> busy = Arrays.asList(
+                interval(7, 0, 9, 0),
+                interval(10, 0, 11, 0),
+                interval(10, 30, 12, 0),
+                interval(12, 0, 13, 0),
+                interval(17, 0, 19, 0));
+
+        assertThat(FreeSlots.find(busy, EIGHT, SIX, Duration.ofMinutes(30)))
+                .containsExactly(new TimeSlot(at(9, 0), at(10, 0)), new TimeSlot(at(13, 0), at(17, 0)));
+    }
+
+    /**
+     * Tests that gaps shorter than the requested duration are left out.
+     */
+    @Test
+    public void testSkipsShortGaps() {
+        List<IntervalTree.Interval<LocalDateTime, Long>> busy = Arrays.asList(
+                interval(9, 0, 10, 0),
+                interval(10, 45, 12, 0));
+
+        assertThat(FreeSlots.find(busy, EIGHT, SIX, Duration.ofHours(1)))
+                .containsExactly(new TimeSlot(EIGHT, at(9, 0)), new TimeSlot(at(12, 0), SIX));
+    }
+
+    /**
+     * Tests that a window covered entirely by lessons has no free slots.
+     */
+    @Test
+    public void testFullyBooked() {
+        assertThat(FreeSlots.find(Collections.singletonList(interval(7, 0, 19, 0)), EIGHT, SIX, Duration.ofMinutes(1)))
+                .isEmpty();
+    }
+
+    private static LocalDateTime at(int hour, int minute) {
+        return EIGHT.withHour(hour).withMinute(minute);
+    }
+
+    private static IntervalTree.Interval<LocalDateTime, Long> interval(int startHour, int startMinute, int endHour, int endMinute) {
+        return new IntervalTree.Interval<>(at(startHour, startMinute), at(endHour, endMinute), 1L);
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.scheduling;
+
+import com.give_it_a_bash.application_programming_interface.collections.IntervalTree;
+import com.give_it_a_bash.application_programming_interface.entities.Facility;
+import com.give_it_a_bash.application_programming_interface.entities.Lesson;
+import com.give_it_a_bash.application_programming_interface.entities.Student;
+import com.give_it_a_bash.application_programming_interface.entities.Teacher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the {@link LessonSchedule} class.
+ */
+public class LessonScheduleTest {
+
+    private static final LocalDateTime NINE = LocalDateTime.of(2030, 9, 2, 9, 0);
+
+    private LessonSchedule lessonSchedule;
+
+    private Teacher teacher;
+
+    private Student jean;
+
+    private Student scott;
+
+    @BeforeEach
+    void setUp() {
+        lessonSchedule = new LessonSchedule();
+        teacher = new Teacher();
+        teacher.setId(1L);
+        jean = new Student();
+        jean.setId(2L);
+        scott = new Student();
+        scott.setId(3L);
+    }
+
+    /**
+     * Tests that a lesson overlapping another lesson of the same teacher is rejected and not booked.
+     */
+    @Test
+    public void testBookRejectsTeacherOverlap() {
+        lessonSchedule.book(10L, lesson(teacher, NINE, 60));
+
+        assertThatThrownBy(() -> lessonSchedule.book(11L, lesson(teacher, NINE.plusMinutes(30), 60)))
+                .isInstanceOf(LessonConflictException.class)
+                .hasMessage("Lesson overlaps lesson 10 for teacher 1");
+        assertThat(lessonSchedule.getBooking(11L)).isNull();
+        assertThat(lessonSchedule.size()).isEqualTo(1);
+    }
+
+    /**
+     * Tests that a lesson sharing a student with an overlapping lesson is rejected, while back-to-back
+     * lessons and lessons of other teachers and students are accepted.
+     */
+    @Test
+    public void testBookChecksStudents() {
+        lessonSchedule.book(10L, lesson(teacher, NINE, 60, jean));
+        lessonSchedule.book(11L, lesson(teacher, NINE.plusMinutes(60), 60, jean));
+        lessonSchedule.book(12L, lesson(null, NINE, 60, scott));
+
+        assertThat(lessonSchedule.findConflicts(null, lesson(null, NINE.plusMinutes(30), 15, scott, jean)))
+                .containsExactly(new LessonConflict(LessonConflict.Type.STUDENT, 2L, null, 10L),
+                        new LessonConflict(LessonConflict.Type.STUDENT, 3L, null, 12L));
+    }
+
+    /**
+     * Tests that rebooking a lesson replaces its previous slot rather than conflicting with it.
+     */
+    @Test
+    public void testBookReplacesOwnBooking() {
+        lessonSchedule.book(10L, lesson(teacher, NINE, 60, jean));
+
+        LessonSchedule.Booking previous = lessonSchedule.book(10L, lesson(teacher, NINE.plusMinutes(30), 60, jean));
+
+        assertThat(previous.getStartTime()).isEqualTo(NINE);
+        assertThat(lessonSchedule.getBooking(10L).getStartTime()).isEqualTo(NINE.plusMinutes(30));
+        assertThat(lessonSchedule.findConflicts(null, lesson(teacher, NINE, 30))).isEmpty();
+    }
+
+    /**
+     * Tests that removing a lesson frees its slot.
+     */
+    @Test
+    public void testRemove() {
+        lessonSchedule.book(10L, lesson(teacher, NINE, 60, jean));
+
+        assertThat(lessonSchedule.remove(10L)).isNotNull();
+
+        assertThat(lessonSchedule.book(11L, lesson(teacher, NINE, 60, jean))).isNull();
+        assertThat(lessonSchedule.remove(10L)).isNull();
+    }
+
+    /**
+     * Tests refreshing the schedule with the committed state of lessons.
+     * Verifies that a lesson reserved by an uncompleted transaction is left alone until it is released, and that
+     * releasing a reservation that did not commit restores the previous booking.
+     */
+    @Test
+    public void testRefreshSkipsReservedLessons() {
+        LessonSchedule.Booking committed = LessonSchedule.Booking.of(lesson(teacher, NINE, 60));
+        lessonSchedule.put(10L, committed);
+        LessonSchedule.Booking previous = lessonSchedule.reserve(10L, lesson(teacher, NINE.plusHours(2), 60));
+
+        lessonSchedule.refresh(Collections.singletonMap(10L, committed));
+
+        assertThat(lessonSchedule.getBooking(10L).getStartTime()).isEqualTo(NINE.plusHours(2));
+
+        lessonSchedule.release(10L, previous, false);
+
+        assertThat(lessonSchedule.getBooking(10L).getStartTime()).isEqualTo(NINE);
+
+        lessonSchedule.refresh(Collections.singletonMap(10L, null));
+
+        assertThat(lessonSchedule.getBooking(10L)).isNull();
+    }
+
+    /**
+     * Tests that every overlapping pair is reported once per shared teacher or student.
+     */
+    @Test
+    public void testFindAllConflicts() {
+        lessonSchedule.put(10L, LessonSchedule.Booking.of(lesson(teacher, NINE, 60, jean)));
+        lessonSchedule.put(11L, LessonSchedule.Booking.of(lesson(teacher, NINE.plusMinutes(30), 60, jean, scott)));
+        lessonSchedule.put(12L, LessonSchedule.Booking.of(lesson(null, NINE.plusMinutes(45), 60, scott)));
+        lessonSchedule.put(13L, LessonSchedule.Booking.of(lesson(teacher, NINE.plusMinutes(90), 60)));
+
+        assertThat(lessonSchedule.findAllConflicts()).containsExactly(
+                new LessonConflict(LessonConflict.Type.TEACHER, 1L, 10L, 11L),
+                new LessonConflict(LessonConflict.Type.STUDENT, 2L, 10L, 11L),
+                new LessonConflict(LessonConflict.Type.STUDENT, 3L, 11L, 12L));
+    }
+
+    /**
+     * Tests that the busy intervals of several teachers and students are returned once per lesson, in order.
+     */
+    @Test
+    public void testFindBusy() {
+        lessonSchedule.put(10L, LessonSchedule.Booking.of(lesson(teacher, NINE.plusHours(2), 60, jean)));
+        lessonSchedule.put(11L, LessonSchedule.Booking.of(lesson(null, NINE, 60, jean, scott)));
+        lessonSchedule.put(12L, LessonSchedule.Booking.of(lesson(null, NINE.plusDays(1), 60, scott)));
+
+        List<IntervalTree.Interval<LocalDateTime, Long>> busy = lessonSchedule.findBusy(
+                Collections.singletonList(1L), Arrays.asList(2L, 3L), Collections.<Long>emptyList(), NINE, NINE.plusHours(8));
+
+        assertThat(busy).extracting(IntervalTree.Interval::getValue).containsExactly(11L, 10L);
+    }
+
+    /**
+     * Tests that two overlapping lessons cannot share a facility, while lessons in different facilities can.
+     */
+    @Test
+    public void testBookChecksFacilities() {
+        lessonSchedule.book(10L, inFacility(lesson(null, NINE, 60), 5L));
+        lessonSchedule.book(11L, inFacility(lesson(null, NINE, 60), 6L));
+
+        assertThatThrownBy(() -> lessonSchedule.book(12L, inFacility(lesson(null, NINE.plusMinutes(59), 60), 5L)))
+                .isInstanceOf(LessonConflictException.class)
+                .hasMessage("Lesson overlaps lesson 10 for facility 5");
+        assertThat(lessonSchedule.findBusy(Collections.<Long>emptyList(), Collections.<Long>emptyList(),
+                Collections.singletonList(6L), NINE, NINE.plusHours(1)))
+                .extracting(IntervalTree.Interval::getValue).containsExactly(11L);
+    }
+
+    /**
+     * Tests that the first facility with no other lesson in the window is chosen, ignoring the lesson's own booking.
+     */
+    @Test
+    public void testFindFreeFacility() {
+        lessonSchedule.put(10L, LessonSchedule.Booking.of(inFacility(lesson(null, NINE, 60), 5L)));
+        lessonSchedule.put(11L, LessonSchedule.Booking.of(inFacility(lesson(null, NINE.plusHours(1), 60), 6L)));
+        List<Long> candidates = Arrays.asList(5L, 6L, 7L);
+
+        assertThat(lessonSchedule.findFreeFacility(candidates, null, NINE, NINE.plusHours(1))).isEqualTo(6L);
+        assertThat(lessonSchedule.findFreeFacility(candidates, null, NINE.plusMinutes(30), NINE.plusHours(1))).isEqualTo(6L);
+        assertThat(lessonSchedule.findFreeFacility(candidates, null, NINE.plusMinutes(30), NINE.plusMinutes(90))).isEqualTo(7L);
+        assertThat(lessonSchedule.findFreeFacility(candidates, 10L, NINE, NINE.plusHours(1))).isEqualTo(5L);
+        assertThat(lessonSchedule.findFreeFacility(Arrays.asList(5L, 6L), null, NINE.plusMinutes(30), NINE.plusMinutes(90))).isNull();
+
+        lessonSchedule.remove(10L);
+        assertThat(lessonSchedule.findFreeFacility(candidates, null, NINE, NINE.plusHours(1))).isEqualTo(5L);
+    }
+
+    /**
+     * Tests that lessons without a time slot are never booked or reported.
+     */
+    @Test
+    public void testIgnoresUnschedulableLessons() {
+        Lesson undated = lesson(teacher, NINE, 60);
+        undated.setEndTime(null);
+
+        lessonSchedule.book(10L, undated);
+        lessonSchedule.book(11L, lesson(teacher, NINE, 0));
+
+        assertThat(lessonSchedule.size()).isZero();
+        assertThat(lessonSchedule.findConflicts(null, lesson(teacher, NINE, 60))).isEmpty();
+    }
+
+    private static Lesson inFacility(Lesson lesson, Long facilityId) {
+        Facility facility = new Facility();
+        facility.setId(facilityId);
+        lesson.setFacility(facility);
+        return lesson;
+    }
+
+    private static Lesson lesson(Teacher teacher, LocalDateTime startTime, int minutes, Student... students) {
+        Lesson lesson = new Lesson();
+        lesson.setTeacher(teacher);
+        lesson.setStartTime(startTime);
+        lesson.setEndTime(startTime.plusMinutes(minutes));
+        lesson.setStudents(new ArrayList<>(Arrays.asList(students)));
+        return lesson;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the {@link MutantSuggester} class.
+ */
+public class MutantSuggesterTest {
+
+    private final MutantSuggester suggester = new MutantSuggester();
+
+    @BeforeEach
+    public void setUp() {
+        suggester.put(new MutantSuggestion(1L, SearchDocument.Type.STUDENT, "Bobby", "Drake", "Iceman"));
+        suggester.put(new MutantSuggestion(2L, SearchDocument.Type.STUDENT, "Kitty", "Pryde", "Shadowcat"));
+        suggester.put(new MutantSuggestion(3L, SearchDocument.Type.TEACHER, "Charles", "Xavier", "Professor X"));
+        suggester.put(new MutantSuggestion(4L, SearchDocument.Type.STUDENT, "Jean-Paul", "Beaubier", "Northstar"));
+    }
+
+    /**
+     * Tests that aliases, first names and last names are matched by their prefixes, in the order of the matching name.
+     */
+    @Test
+    public void testSuggest() {
+        assertThat(suggester.suggest("ice", 10)).extracting(MutantSuggestion::getId).containsExactly(1L);
+        assertThat(suggester.suggest("Pry", 10)).extracting(MutantSuggestion::getAlias).containsExactly("Shadowcat");
+        assertThat(suggester.suggest("x", 10)).extracting(MutantSuggestion::getId).containsExactly(3L);
+        assertThat(suggester.suggest("paul", 10)).extracting(MutantSuggestion::getId).containsExactly(4L);
+        assertThat(suggester.suggest("b", 10)).extracting(MutantSuggestion::getId).containsExactly(4L, 1L);
+        assertThat(suggester.suggest("b", 1)).extracting(MutantSuggestion::getId).containsExactly(4L);
+        assertThat(suggester.suggest("", 10)).isEmpty();
+    }
+
+    /**
+     * Tests that a prefix of several words only suggests mutants with a name starting with each of them.
+     */
+    @Test
+    public void testSuggestSeveralWords() {
+        assertThat(suggester.suggest("professor x", 10)).extracting(MutantSuggestion::getId).containsExactly(3L);
+        assertThat(suggester.suggest("b d", 10)).extracting(MutantSuggestion::getId).containsExactly(1L);
+        assertThat(suggester.suggest("bobby pryde", 10)).isEmpty();
+    }
+
+    /**
+     * Tests that a changed suggestion replaces the old one and that removed mutants are no longer suggested.
+     */
+    @Test
+    public void testPutReplacesAndRemove() {
+        suggester.put(new MutantSuggestion(1L, SearchDocument.Type.STUDENT, "Bobby", "Drake", "Frosty"));
+
+        assertThat(suggester.suggest("ice", 10)).isEmpty();
+        assertThat(suggester.suggest("fro", 10)).extracting(MutantSuggestion::getId).containsExactly(1L);
+
+        assertThat(suggester.remove(2L)).isNotNull();
+        assertThat(suggester.suggest("kit", 10)).isEmpty();
+        assertThat(suggester.size()).isEqualTo(3);
+        suggester.clear();
+        assertThat(suggester.suggest("bobby", 10)).isEmpty();
+    }
+
+    /**
+     * Tests that a rebuild replaces every suggestion and keeps the suggestions written while it reads them,
+     * whether or not they were read.
+     */
+    @Test
+    public void testRebuild_WritesDuringRead() {
+        suggester.rebuild(() -> {
+            assertThat(suggester.suggest("ice", 10)).extracting(MutantSuggestion::getId).containsExactly(1L);
+            suggester.put(new MutantSuggestion(1L, SearchDocument.Type.STUDENT, "Bobby", "Drake", "Frosty"));
+            suggester.remove(2L);
+            suggester.put(new MutantSuggestion(5L, SearchDocument.Type.STUDENT, "Jubilation", "Lee", "Jubilee"));
+            return Arrays.asList(
+                    new MutantSuggestion(1L, SearchDocument.Type.STUDENT, "Bobby", "Drake", "Iceman"),
+                    new MutantSuggestion(2L, SearchDocument.Type.STUDENT, "Kitty", "Pryde", "Shadowcat"),
+                    new MutantSuggestion(6L, SearchDocument.Type.STUDENT, "Piotr", "Rasputin", "Colossus"));
+        });
+
+        assertThat(suggester.suggest("ice", 10)).isEmpty();
+        assertThat(suggester.suggest("fro", 10)).extracting(MutantSuggestion::getId).containsExactly(1L);
+        assertThat(suggester.suggest("kit", 10)).isEmpty();
+        assertThat(suggester.suggest("jub", 10)).extracting(MutantSuggestion::getId).containsExactly(5L);
+        assertThat(suggester.suggest("col", 10)).extracting(MutantSuggestion::getId).containsExactly(6L);
+        assertThat(suggester.suggest("x", 10)).isEmpty();
+        assertThat(suggester.size()).isEqualTo(3);
+    }
+
+    /**
+     * Tests that requested limits are kept between one and the maximum.
+     */
+    @Test
+    public void testResolveLimit() {
+        assertThat(MutantSuggester.resolveLimit(null)).isEqualTo(MutantSuggester.DEFAULT_LIMIT);
+        assertThat(MutantSuggester.resolveLimit(0)).isEqualTo(1);
+        assertThat(MutantSuggester.resolveLimit(1_000)).isEqualTo(MutantSuggester.MAX_LIMIT);
+    }
+}
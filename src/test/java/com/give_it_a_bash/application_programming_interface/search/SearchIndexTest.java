@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.search;
+
+import com.give_it_a_bash.application_programming_interface.entities.Achievement;
+import com.give_it_a_bash.application_programming_interface.entities.Power;
+import com.give_it_a_bash.application_programming_interface.entities.Student;
+import com.give_it_a_bash.application_programming_interface.entities.Subject;
+import com.give_it_a_bash.application_programming_interface.testData.TestDataHelper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the {@link SearchIndex} class.
+ */
+public class SearchIndexTest {
+
+    private final SearchIndex index = new SearchIndex();
+
+    private Student student;
+
+    private Subject subject;
+
+    private Achievement achievement;
+
+    @BeforeEach
+    public void setUp() {
+        TestDataHelper.reset();
+        student = TestDataHelper.getSTUDENT();
+        student.setId(1L);
+        student.setFirstName("Bobby");
+        student.setLastName("Drake");
+        student.setAlias("Iceman");
+        student.setPower(Power.builder().name("Cryokinesis").description("Freezes the moisture in the air").build());
+        subject = TestDataHelper.getSUBJECT();
+        subject.setId(2L);
+        subject.setName("Ice Sculpture");
+        achievement = TestDataHelper.getACHIEVEMENT();
+        achievement.setId(3L);
+        achievement.setTitle("Science Fair Winner");
+        achievement.setDescription("Built a machine that makes ice in the desert");
+        index.put(SearchDocument.of(student));
+        index.put(SearchDocument.of(subject));
+        index.put(SearchDocument.of(achievement));
+    }
+
+    /**
+     * Tests that every field is searched and that matches in names rank above matches in descriptions.
+     */
+    @Test
+    public void testSearchRanksNamesFirst() {
+        assertThat(index.search("ice", 10)).extracting(SearchHit::getType).containsExactly(
+                SearchDocument.Type.SUBJECT, SearchDocument.Type.STUDENT, SearchDocument.Type.ACHIEVEMENT);
+        assertThat(index.search("cryokinesis", 10)).extracting(SearchHit::getTitle).containsExactly("Bobby Drake (Iceman)");
+        assertThat(index.search("desert", 10)).extracting(SearchHit::getId).containsExactly(3L);
+        assertThat(index.search("ice", 2)).hasSize(2);
+    }
+
+    /**
+     * Tests that a query term matches the terms it is a prefix of, and that every query term must match.
+     */
+    @Test
+    public void testSearchMatchesPrefixesOfEveryTerm() {
+        assertThat(index.search("ICEM", 10)).extracting(SearchHit::getId).containsExactly(1L);
+        assertThat(index.search("bob dra", 10)).extracting(SearchHit::getId).containsExactly(1L);
+        assertThat(index.search("bobby desert", 10)).isEmpty();
+        assertThat(index.search("", 10)).isEmpty();
+        assertThat(index.search("ice", 10).get(0).getScore())
+                .isGreaterThan(index.search("ic", 10).get(0).getScore());
+    }
+
+    /**
+     * Tests that a changed document replaces the old one and that removed documents are no longer found.
+     */
+    @Test
+    public void testPutReplacesAndRemove() {
+        student.setAlias("Frosty");
+        index.put(SearchDocument.of(student));
+
+        assertThat(index.search("iceman", 10)).isEmpty();
+        assertThat(index.search("frosty", 10)).extracting(SearchHit::getId).containsExactly(1L);
+
+        assertThat(index.remove(SearchDocument.keyOf(subject))).isNotNull();
+        assertThat(index.search("sculpture", 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+        index.clear();
+        assertThat(index.search("frosty", 10)).isEmpty();
+    }
+
+    /**
+     * Tests that a rebuild replaces every document, keeps serving the old documents while it reads the new ones,
+     * and keeps the documents written while it reads them.
+     */
+    @Test
+    public void testRebuild() {
+        index.rebuild(() -> {
+            assertThat(index.search("iceman", 10)).extracting(SearchHit::getId).containsExactly(1L);
+            SearchDocument staleSubject = SearchDocument.of(subject);
+            subject.setName("Ice Carving");
+            index.put(SearchDocument.of(subject));
+            index.remove(SearchDocument.keyOf(achievement));
+            return Arrays.asList(SearchDocument.of(student), staleSubject, SearchDocument.of(achievement));
+        });
+
+        assertThat(index.search("carving", 10)).extracting(SearchHit::getId).containsExactly(2L);
+        assertThat(index.search("sculpture", 10)).isEmpty();
+        assertThat(index.search("desert", 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+
+        index.rebuild(() -> Arrays.asList(SearchDocument.of(achievement)));
+        assertThat(index.search("iceman", 10)).isEmpty();
+        assertThat(index.search("desert", 10)).extracting(SearchHit::getId).containsExactly(3L);
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the {@link Tokenizer} class.
+ */
+public class TokenizerTest {
+
+    /**
+     * Tests that text is split on punctuation and whitespace, lower-cased and stripped of accents.
+     */
+    @Test
+    public void testTokenize() {
+        assertThat(Tokenizer.tokenize("Jean-Paul Beaubier, a.k.a. NORTHSTAR!")).containsExactly(
+                "jean", "paul", "beaubier", "a", "k", "a", "northstar");
+        assertThat(Tokenizer.tokenize("R\u00e9my LeBeau's 2nd card")).containsExactly("remy", "lebeau", "s", "2nd", "card");
+        assertThat(Tokenizer.tokenize("  ...  ")).isEmpty();
+        assertThat(Tokenizer.tokenize(null)).isEmpty();
+    }
+}
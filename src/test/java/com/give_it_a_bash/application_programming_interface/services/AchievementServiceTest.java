@@ -10,8 +10,11 @@
 
 package com.give_it_a_bash.application_programming_interface.services;
 
+import com.give_it_a_bash.application_programming_interface.bulk.BulkItemResult;
+import com.give_it_a_bash.application_programming_interface.bulk.BulkPersistence;
 import com.give_it_a_bash.application_programming_interface.entities.Achievement;
 import com.give_it_a_bash.application_programming_interface.entities.SubjectCategory;
+import com.give_it_a_bash.application_programming_interface.pagination.CursorPage;
 import com.give_it_a_bash.application_programming_interface.repositories.AchievementRepository;
 import com.give_it_a_bash.application_programming_interface.testData.TestDataHelper;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,8 +22,10 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -42,6 +47,9 @@ class AchievementServiceTest {
     @Mock
     private AchievementRepository achievementRepository;
 
+    @Mock
+    private BulkPersistence bulkPersistence;
+
     @InjectMocks
     private AchievementService achievementService;
 
@@ -67,6 +75,23 @@ class AchievementServiceTest {
         verify(achievementRepository, times(1)).save(achievement);
     }
 
+
+    /**
+     * Tests the creation of many {@link Achievement} entries at once.
+     * Verifies that the Achievements are handed to {@link BulkPersistence} together with the repository.
+     */
+    @Test
+    void testCreateAchievements() {
+        List<Achievement> achievements = Collections.singletonList(achievement);
+        List<BulkItemResult> results = Collections.singletonList(BulkItemResult.created(0, 1L));
+        when(bulkPersistence.createAll(eq(achievements), eq(achievementRepository), any(), any())).thenReturn(results);
+
+        List<BulkItemResult> createdResults = achievementService.createAchievements(achievements);
+
+        assertThat(createdResults).isEqualTo(results);
+        verify(bulkPersistence, times(1)).createAll(eq(achievements), eq(achievementRepository), any(), any());
+    }
+
     /**
      * Tests retrieval of all {@link Achievement} entries.
      * Verifies that the service retrieves the expected list of achievements from the repository.
@@ -82,6 +107,38 @@ class AchievementServiceTest {
         verify(achievementRepository, times(1)).findAll();
     }
 
+    /**
+     * Tests retrieval of a page of {@link Achievement} entries.
+     * Verifies that one extra row is fetched to detect the next page and that it is not returned.
+     */
+    @Test
+    void testGetAchievementPage() {
+        Achievement next = new Achievement();
+        when(achievementRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(2)))
+                .thenReturn(Arrays.asList(achievement, next));
+
+        CursorPage<Achievement> result = achievementService.getAchievementPage(null, 1);
+
+        assertThat(result.getItems()).containsExactly(achievement);
+        assertThat(result.getNextCursor()).isNotNull();
+        verify(achievementRepository, times(1)).findByIdGreaterThanOrderByIdAsc(0L, Limit.of(2));
+    }
+
+    /**
+     * Tests retrieval of the last page of {@link Achievement} entries.
+     * Verifies that no next cursor is returned when there are no further rows.
+     */
+    @Test
+    void testGetAchievementPage_LastPage() {
+        when(achievementRepository.findByIdGreaterThanOrderByIdAsc(5L, Limit.of(11)))
+                .thenReturn(Collections.singletonList(achievement));
+
+        CursorPage<Achievement> result = achievementService.getAchievementPage(5L, 10);
+
+        assertThat(result.getItems()).containsExactly(achievement);
+        assertThat(result.getNextCursor()).isNull();
+    }
+
     /**
      * Tests retrieval of an {@link Achievement} by its ID.
      * Verifies that the correct achievement is returned when found.
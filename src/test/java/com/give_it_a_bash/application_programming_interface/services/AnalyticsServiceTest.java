@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.services;
+
+import com.give_it_a_bash.application_programming_interface.analytics.AchievementCount;
+import com.give_it_a_bash.application_programming_interface.analytics.AchievementRollup;
+import com.give_it_a_bash.application_programming_interface.entities.SubjectCategory;
+import com.give_it_a_bash.application_programming_interface.projections.AchievementAward;
+import com.give_it_a_bash.application_programming_interface.projections.StudentFacets;
+import com.give_it_a_bash.application_programming_interface.repositories.AchievementRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.StudentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link AnalyticsService} class.
+ */
+class AnalyticsServiceTest {
+
+    @Spy
+    private AchievementRollup achievementRollup = new AchievementRollup();
+
+    @Mock
+    private StudentRepository studentRepository;
+
+    @Mock
+    private AchievementRepository achievementRepository;
+
+    @InjectMocks
+    private AnalyticsService analyticsService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    /**
+     * Tests rebuilding the rollups.
+     * Verifies that stale counts are dropped and every Achievement is counted under the school of its Student.
+     */
+    @Test
+    void testRebuildRollups() {
+        StudentFacets student = mock(StudentFacets.class);
+        when(student.getId()).thenReturn(1L);
+        when(student.getSchoolId()).thenReturn(10L);
+        AchievementAward award = mock(AchievementAward.class);
+        when(award.getId()).thenReturn(5L);
+        when(award.getStudentId()).thenReturn(1L);
+        when(award.getCategory()).thenReturn(SubjectCategory.ACADEMIC);
+        when(award.getDateAwarded()).thenReturn(LocalDate.of(2024, 3, 14));
+        when(studentRepository.findAllFacets()).thenReturn(Collections.singletonList(student));
+        when(achievementRepository.findAllAwards()).thenReturn(Collections.singletonList(award));
+        achievementRollup.putAchievement(6L, 1L, SubjectCategory.ART, LocalDate.of(2024, 3, 1));
+
+        analyticsService.rebuildRollups();
+
+        List<AchievementCount> counts = analyticsService.getAchievementCounts(LocalDate.of(2024, 1, 1),
+                LocalDate.of(2024, 12, 31), null, null);
+        assertThat(counts).hasSize(1);
+        assertThat(counts.get(0).getMonth()).isEqualTo(YearMonth.of(2024, 3));
+        assertThat(counts.get(0).getSchoolId()).isEqualTo(10L);
+        assertThat(counts.get(0).getCategory()).isEqualTo(SubjectCategory.ACADEMIC);
+        assertThat(counts.get(0).getCount()).isEqualTo(1);
+    }
+
+    /**
+     * Tests retrieving counts for a range that ends before it starts.
+     * Verifies that an {@link IllegalArgumentException} is thrown without querying the rollups.
+     */
+    @Test
+    void testGetAchievementCounts_InvalidRange() {
+        assertThatThrownBy(() -> analyticsService.getAchievementCounts(LocalDate.of(2024, 2, 1),
+                LocalDate.of(2024, 1, 1), null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(achievementRollup, never()).count(any(), any(), any(), any());
+        verifyNoInteractions(achievementRepository);
+    }
+
+    /**
+     * Tests retrieving achievement counts over a range that is too long.
+     * Verifies that a range of MAX_MONTHS months is counted and a longer one is rejected before the rollups are
+     * read.
+     */
+    @Test
+    void testGetAchievementCounts_RangeTooLong() {
+        LocalDate from = LocalDate.of(2024, 1, 31);
+
+        analyticsService.getAchievementCounts(from, from.plusMonths(AchievementRollup.MAX_MONTHS - 1), null, null);
+        assertThatThrownBy(() -> analyticsService.getAchievementCounts(from,
+                from.plusMonths(AchievementRollup.MAX_MONTHS), null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(achievementRollup, times(1)).count(any(), any(), any(), any());
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.services;
+
+import com.give_it_a_bash.application_programming_interface.collections.IntervalTree;
+import com.give_it_a_bash.application_programming_interface.scheduling.LessonSchedule;
+import com.give_it_a_bash.application_programming_interface.scheduling.TimeSlot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link AvailabilityService} class.
+ */
+class AvailabilityServiceTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2030, 9, 2, 8, 0);
+
+    private static final LocalDateTime TO = LocalDateTime.of(2030, 9, 2, 18, 0);
+
+    @Mock
+    private LessonSchedule lessonSchedule;
+
+    @InjectMocks
+    private AvailabilityService availabilityService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    /**
+     * Tests finding free slots.
+     * Verifies that the busy intervals of the requested teachers, students and facilities are read from the schedule
+     * and the gaps between them returned.
+     */
+    @Test
+    void testFindFreeSlots() {
+        List<Long> teacherIds = Collections.singletonList(1L);
+        List<Long> studentIds = Collections.singletonList(2L);
+        List<Long> facilityIds = Collections.singletonList(3L);
+        when(lessonSchedule.findBusy(teacherIds, studentIds, facilityIds, FROM, TO)).thenReturn(Collections.singletonList(
+                new IntervalTree.Interval<>(FROM.plusHours(1), FROM.plusHours(2), 10L)));
+
+        List<TimeSlot> slots = availabilityService.findFreeSlots(teacherIds, studentIds, facilityIds, FROM, TO, Duration.ofHours(1));
+
+        assertThat(slots).containsExactly(new TimeSlot(FROM, FROM.plusHours(1)), new TimeSlot(FROM.plusHours(2), TO));
+        verify(lessonSchedule, times(1)).findBusy(teacherIds, studentIds, facilityIds, FROM, TO);
+    }
+
+    /**
+     * Tests finding free slots with an invalid window or duration.
+     * Verifies that an {@link IllegalArgumentException} is thrown without querying the schedule.
+     */
+    @Test
+    void testFindFreeSlots_InvalidArguments() {
+        List<Long> none = Collections.emptyList();
+
+        assertThatThrownBy(() -> availabilityService.findFreeSlots(none, none, none, TO, FROM, Duration.ofHours(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> availabilityService.findFreeSlots(none, none, none, FROM, FROM.plusYears(2), Duration.ofHours(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> availabilityService.findFreeSlots(none, none, none, FROM, TO, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> availabilityService.findFreeSlots(none, none, none, FROM, TO, Duration.ofMinutes(1441)))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(lessonSchedule);
+    }
+}
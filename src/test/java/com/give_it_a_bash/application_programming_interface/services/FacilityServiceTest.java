@@ -12,6 +12,7 @@ package com.give_it_a_bash.application_programming_interface.services;
 
 import com.give_it_a_bash.application_programming_interface.entities.Facility;
 import com.give_it_a_bash.application_programming_interface.entities.FacilityType;
+import com.give_it_a_bash.application_programming_interface.pagination.CursorPage;
 import com.give_it_a_bash.application_programming_interface.repositories.FacilityRepository;
 import com.give_it_a_bash.application_programming_interface.testData.TestDataHelper;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,7 +20,9 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -82,6 +85,38 @@ class FacilityServiceTest {
         verify(facilityRepository, times(1)).findAll();
     }
 
+    /**
+     * Tests retrieval of a page of {@link Facility} entries.
+     * Verifies that one extra row is fetched to detect the next page and that it is not returned.
+     */
+    @Test
+    void testGetFacilityPage() {
+        Facility next = new Facility();
+        when(facilityRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(2)))
+                .thenReturn(Arrays.asList(facility, next));
+
+        CursorPage<Facility> result = facilityService.getFacilityPage(null, 1);
+
+        assertThat(result.getItems()).containsExactly(facility);
+        assertThat(result.getNextCursor()).isNotNull();
+        verify(facilityRepository, times(1)).findByIdGreaterThanOrderByIdAsc(0L, Limit.of(2));
+    }
+
+    /**
+     * Tests retrieval of the last page of {@link Facility} entries.
+     * Verifies that no next cursor is returned when there are no further rows.
+     */
+    @Test
+    void testGetFacilityPage_LastPage() {
+        when(facilityRepository.findByIdGreaterThanOrderByIdAsc(5L, Limit.of(11)))
+                .thenReturn(Collections.singletonList(facility));
+
+        CursorPage<Facility> result = facilityService.getFacilityPage(5L, 10);
+
+        assertThat(result.getItems()).containsExactly(facility);
+        assertThat(result.getNextCursor()).isNull();
+    }
+
     /**
      * Tests retrieval of a {@link Facility} by its ID.
      * Verifies that the correct facility is returned when found.
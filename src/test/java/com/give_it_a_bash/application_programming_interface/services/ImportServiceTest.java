@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.services;
+
+import com.give_it_a_bash.application_programming_interface.bulk.BulkImporter;
+import com.give_it_a_bash.application_programming_interface.bulk.ImportFormat;
+import com.give_it_a_bash.application_programming_interface.bulk.ImportReport;
+import com.give_it_a_bash.application_programming_interface.entities.Lesson;
+import com.give_it_a_bash.application_programming_interface.entities.Student;
+import com.give_it_a_bash.application_programming_interface.entities.Teacher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link ImportService} class.
+ */
+class ImportServiceTest {
+
+    @Mock
+    private BulkImporter bulkImporter;
+
+    @Mock
+    private StudentService studentService;
+
+    @Mock
+    private TeacherService teacherService;
+
+    @Mock
+    private LessonService lessonService;
+
+    @InjectMocks
+    private ImportService importService;
+
+    private final InputStream body = new ByteArrayInputStream(new byte[0]);
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    /**
+     * Tests importing each supported entity.
+     * Verifies that the body is imported as the entity's type.
+     *
+     * @throws IOException if the body could not be read
+     */
+    @Test
+    void testImportEntities() throws IOException {
+        ImportReport report = new ImportReport();
+        when(bulkImporter.importAll(eq(body), eq(ImportFormat.CSV), any(), any())).thenReturn(report);
+
+        assertThat(importService.importEntities("students", ImportFormat.CSV, body)).isSameAs(report);
+        assertThat(importService.importEntities("teachers", ImportFormat.CSV, body)).isSameAs(report);
+        assertThat(importService.importEntities("lessons", ImportFormat.CSV, body)).isSameAs(report);
+
+        verify(bulkImporter, times(1)).importAll(eq(body), eq(ImportFormat.CSV), eq(Student.class), any());
+        verify(bulkImporter, times(1)).importAll(eq(body), eq(ImportFormat.CSV), eq(Teacher.class), any());
+        verify(bulkImporter, times(1)).importAll(eq(body), eq(ImportFormat.CSV), eq(Lesson.class), any());
+    }
+
+    /**
+     * Tests importing an entity that cannot be imported.
+     * Verifies that a RuntimeException is thrown without reading the body.
+     */
+    @Test
+    void testImportEntities_NotFound() {
+        assertThatThrownBy(() -> importService.importEntities("facilities", ImportFormat.NDJSON, body))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Importable entity not found with name facilities");
+        verifyNoInteractions(bulkImporter);
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.services;
+
+import com.give_it_a_bash.application_programming_interface.entities.Power;
+import com.give_it_a_bash.application_programming_interface.entities.Student;
+import com.give_it_a_bash.application_programming_interface.entities.Teacher;
+import com.give_it_a_bash.application_programming_interface.leaderboard.LeaderboardEntry;
+import com.give_it_a_bash.application_programming_interface.leaderboard.PowerLeaderboard;
+import com.give_it_a_bash.application_programming_interface.leaderboard.Standing;
+import com.give_it_a_bash.application_programming_interface.repositories.StudentRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.TeacherRepository;
+import com.give_it_a_bash.application_programming_interface.testData.TestDataHelper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link LeaderboardService} class.
+ */
+class LeaderboardServiceTest {
+
+    @Spy
+    private PowerLeaderboard powerLeaderboard = new PowerLeaderboard();
+
+    @Mock
+    private StudentRepository studentRepository;
+
+    @Mock
+    private TeacherRepository teacherRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @InjectMocks
+    private LeaderboardService leaderboardService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        TestDataHelper.reset();
+    }
+
+    /**
+     * Tests rebuilding the leaderboard.
+     * Verifies that every Student and Teacher with a power is ranked and detached once read.
+     */
+    @Test
+    void testLoadLeaderboard() {
+        Student student = TestDataHelper.getSTUDENT();
+        student.setId(20L);
+        Teacher teacher = TestDataHelper.getTEACHER();
+        teacher.setId(10L);
+        student.setPower(Power.builder().powerLevel(5).controlLevel(5).build());
+        teacher.setPower(Power.builder().powerLevel(9).controlLevel(5).build());
+        powerLeaderboard.put(99L, new Standing(99L, Standing.MutantType.STUDENT, null, "Kurt", "Wagner", "Nightcrawler", 1, 1));
+        when(studentRepository.streamAllByOrderByIdAsc()).thenReturn(Stream.of(student));
+        when(teacherRepository.streamAllByOrderByIdAsc()).thenReturn(Stream.of(teacher));
+
+        leaderboardService.loadLeaderboard();
+
+        assertThat(leaderboardService.getTopMutants(null, 10)).extracting(entry -> entry.getStanding().getMutantId())
+                .containsExactly(10L, 20L);
+        verify(entityManager, times(1)).detach(student);
+        verify(entityManager, times(1)).detach(teacher);
+    }
+
+    /**
+     * Tests retrieving the rank of a mutant.
+     * Verifies that the entry is returned, and that an unranked mutant raises an exception.
+     */
+    @Test
+    void testGetRank() {
+        powerLeaderboard.put(1L, new Standing(1L, Standing.MutantType.TEACHER, 100L, "Charles", "Xavier", "Professor X", 10, 10));
+
+        LeaderboardEntry entry = leaderboardService.getRank(1L, 100L);
+
+        assertThat(entry.getRank()).isEqualTo(1);
+        assertThatThrownBy(() -> leaderboardService.getRank(2L, null))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Ranked mutant not found with id 2");
+    }
+
+    /**
+     * Tests retrieving the most powerful mutants of a school without any ranked mutant.
+     * Verifies that an empty list is returned.
+     */
+    @Test
+    void testGetTopMutants_EmptySchool() {
+        List<LeaderboardEntry> entries = leaderboardService.getTopMutants(100L, 10);
+
+        assertThat(entries).isEqualTo(Collections.emptyList());
+    }
+}
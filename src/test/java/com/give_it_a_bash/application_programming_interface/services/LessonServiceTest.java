@@ -10,19 +10,38 @@
 
 package com.give_it_a_bash.application_programming_interface.services;
 
+import com.give_it_a_bash.application_programming_interface.bulk.BulkItemResult;
+import com.give_it_a_bash.application_programming_interface.bulk.BulkPersistence;
+import com.give_it_a_bash.application_programming_interface.entities.Facility;
+import com.give_it_a_bash.application_programming_interface.entities.FacilityType;
 import com.give_it_a_bash.application_programming_interface.entities.Lesson;
+import com.give_it_a_bash.application_programming_interface.entities.Teacher;
+import com.give_it_a_bash.application_programming_interface.pagination.CursorPage;
+import com.give_it_a_bash.application_programming_interface.projections.LessonSummary;
+import com.give_it_a_bash.application_programming_interface.repositories.FacilityRepository;
 import com.give_it_a_bash.application_programming_interface.repositories.LessonRepository;
+import com.give_it_a_bash.application_programming_interface.scheduling.LessonConflict;
+import com.give_it_a_bash.application_programming_interface.scheduling.LessonConflictException;
+import com.give_it_a_bash.application_programming_interface.scheduling.LessonSchedule;
+import com.give_it_a_bash.application_programming_interface.scheduling.NoFreeFacilityException;
 import com.give_it_a_bash.application_programming_interface.testData.TestDataHelper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -41,6 +60,15 @@ class LessonServiceTest {
     @Mock
     private LessonRepository lessonRepository;
 
+    @Mock
+    private FacilityRepository facilityRepository;
+
+    @Mock
+    private BulkPersistence bulkPersistence;
+
+    @Spy
+    private LessonSchedule lessonSchedule = new LessonSchedule();
+
     @InjectMocks
     private LessonService lessonService;
 
@@ -49,7 +77,11 @@ class LessonServiceTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        TestDataHelper.reset();
         lesson = TestDataHelper.getLESSON();
+        lesson.setId(1L);
+        lesson.getTeacher().setId(10L);
+        lesson.getStudents().get(0).setId(20L);
     }
 
     /**
@@ -66,6 +98,187 @@ class LessonServiceTest {
         verify(lessonRepository, times(1)).save(lesson);
     }
 
+    /**
+     * Tests the creation of a {@link Lesson} that overlaps a booked lesson of the same teacher.
+     * Verifies that a {@link LessonConflictException} is thrown and the lesson is not booked.
+     */
+    @Test
+    void testCreateLesson_Conflict() {
+        Lesson booked = TestDataHelper.createLesson(lesson.getStartTime().minusMinutes(30), lesson.getStartTime().plusMinutes(30));
+        booked.setStudents(new ArrayList<>());
+        lessonSchedule.book(2L, booked);
+        when(lessonRepository.save(any(Lesson.class))).thenReturn(lesson);
+
+        assertThatThrownBy(() -> lessonService.createLesson(lesson))
+                .isInstanceOf(LessonConflictException.class)
+                .hasMessage("Lesson overlaps lesson 2 for teacher 10");
+        assertThat(lessonSchedule.getBooking(1L)).isNull();
+    }
+
+
+    /**
+     * Tests the creation of a {@link Lesson} with a requested {@link FacilityType}.
+     * Verifies that the smallest fitting Facility that is free for the Lesson is reserved.
+     */
+    @Test
+    void testCreateLesson_ReservesBestFitFacility() {
+        Lesson booked = TestDataHelper.createLesson(lesson.getStartTime(), lesson.getEndTime());
+        Teacher otherTeacher = Teacher.builder().build();
+        otherTeacher.setId(11L);
+        booked.setTeacher(otherTeacher);
+        booked.setStudents(new ArrayList<>());
+        booked.setFacility(TestDataHelper.getFACILITY());
+        booked.getFacility().setId(5L);
+        lessonSchedule.book(2L, booked);
+        Facility free = TestDataHelper.createFacility("Danger Room", FacilityType.CLASSROOM,
+                "A room equipped for combat training.", true, "Sub-basement", 40, true);
+        free.setId(6L);
+        when(facilityRepository.findBestFitIds(FacilityType.CLASSROOM, 1)).thenReturn(Arrays.asList(5L, 6L));
+        when(facilityRepository.getReferenceById(6L)).thenReturn(free);
+        when(lessonRepository.save(any(Lesson.class))).thenReturn(lesson);
+
+        Lesson createdLesson = lessonService.createLesson(lesson, FacilityType.CLASSROOM);
+
+        assertThat(createdLesson.getFacility()).isEqualTo(free);
+        assertThat(lessonSchedule.getBooking(1L).getFacilityId()).isEqualTo(6L);
+    }
+
+    /**
+     * Tests the creation of a {@link Lesson} with a requested {@link FacilityType} when every fitting Facility is taken.
+     * Verifies that a {@link NoFreeFacilityException} is thrown and the lesson is not saved.
+     */
+    @Test
+    void testCreateLesson_NoFreeFacility() {
+        when(facilityRepository.findBestFitIds(FacilityType.LABORATORY, 1)).thenReturn(Collections.emptyList());
+
+        assertThatThrownBy(() -> lessonService.createLesson(lesson, FacilityType.LABORATORY))
+                .isInstanceOf(NoFreeFacilityException.class)
+                .hasMessage("No LABORATORY facility with room for 1 students is free at that time");
+        verify(lessonRepository, never()).save(any(Lesson.class));
+    }
+
+    /**
+     * Tests the creation of a {@link Lesson} in a Facility that is too small for its Students.
+     * Verifies that an {@link IllegalArgumentException} is thrown and the lesson is not saved.
+     */
+    @Test
+    void testCreateLesson_FacilityTooSmall() {
+        Facility facility = TestDataHelper.getFACILITY();
+        facility.setId(5L);
+        facility.setCapacity(0);
+        lesson.setFacility(facility);
+        when(facilityRepository.findById(5L)).thenReturn(Optional.of(facility));
+
+        assertThatThrownBy(() -> lessonService.createLesson(lesson))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Facility 5 holds 0 students but the lesson has 1");
+        verify(lessonRepository, never()).save(any(Lesson.class));
+    }
+
+
+    /**
+     * Tests the creation of many {@link Lesson} entries in one transaction.
+     * Verifies that the Lessons are saved together and each is booked.
+     */
+    @Test
+    void testCreateLessonsAtomically() {
+        Lesson later = TestDataHelper.createLesson(lesson.getEndTime(), lesson.getEndTime().plusHours(1));
+        later.setId(2L);
+        List<Lesson> lessons = Arrays.asList(lesson, later);
+        when(lessonRepository.saveAll(lessons)).thenReturn(lessons);
+
+        List<Lesson> createdLessons = lessonService.createLessonsAtomically(lessons);
+
+        assertThat(createdLessons).isEqualTo(lessons);
+        assertThat(lessonSchedule.size()).isEqualTo(2);
+        verify(lessonRepository, times(1)).saveAll(lessons);
+    }
+
+    /**
+     * Tests the creation of many {@link Lesson} entries in one transaction when two of them overlap.
+     * Verifies that a {@link LessonConflictException} is thrown.
+     */
+    @Test
+    void testCreateLessonsAtomically_Conflict() {
+        Lesson overlapping = TestDataHelper.createLesson(lesson.getStartTime(), lesson.getEndTime());
+        overlapping.setId(2L);
+        List<Lesson> lessons = Arrays.asList(lesson, overlapping);
+        when(lessonRepository.saveAll(lessons)).thenReturn(lessons);
+
+        assertThatThrownBy(() -> lessonService.createLessonsAtomically(lessons))
+                .isInstanceOf(LessonConflictException.class);
+    }
+
+    /**
+     * Tests the creation of many {@link Lesson} entries at once.
+     * Verifies that the Lessons are handed to {@link BulkPersistence} together with the repository.
+     */
+    @Test
+    void testCreateLessons() {
+        List<Lesson> lessons = Collections.singletonList(lesson);
+        List<BulkItemResult> results = Collections.singletonList(BulkItemResult.created(0, 1L));
+        when(bulkPersistence.createAll(eq(lessons), eq(lessonRepository), any(), any(), any(), any())).thenReturn(results);
+
+        List<BulkItemResult> createdResults = lessonService.createLessons(lessons);
+
+        assertThat(createdResults).isEqualTo(results);
+        verify(bulkPersistence, times(1)).createAll(eq(lessons), eq(lessonRepository), any(), any(), any(), any());
+    }
+
+    /**
+     * Tests the conflict check applied to many {@link Lesson} entries created at once.
+     * Verifies that Lessons overlapping a booked Lesson, or an earlier Lesson of the same request, are rejected.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void testCreateLessons_RejectsOverlaps() {
+        Lesson booked = TestDataHelper.createLesson(lesson.getStartTime(), lesson.getEndTime());
+        booked.setStudents(new ArrayList<>());
+        lessonSchedule.book(2L, booked);
+        Lesson later = TestDataHelper.createLesson(lesson.getEndTime(), lesson.getEndTime().plusHours(1));
+        Lesson overlappingLater = TestDataHelper.createLesson(later.getStartTime().plusMinutes(30), later.getEndTime().plusMinutes(30));
+        List<Lesson> lessons = Arrays.asList(lesson, later, overlappingLater);
+        ArgumentCaptor<Function<Lesson, List<String>>> check = ArgumentCaptor.forClass(Function.class);
+
+        lessonService.createLessons(lessons);
+
+        verify(bulkPersistence).createAll(eq(lessons), eq(lessonRepository), any(), any(), check.capture(), any());
+        assertThat(check.getValue().apply(lesson)).containsExactly("Lesson overlaps lesson 2 for teacher 10");
+        assertThat(check.getValue().apply(later)).isEmpty();
+        assertThat(check.getValue().apply(overlappingLater)).containsExactly(
+                "Lesson overlaps an earlier lesson of this request for teacher 10",
+                "Lesson overlaps an earlier lesson of this request for student 20");
+        assertThat(lessonSchedule.size()).isEqualTo(1);
+    }
+
+    /**
+     * Tests the booking of many {@link Lesson} entries created at once.
+     * Verifies that each saved Lesson is booked into the schedule, and that a Lesson whose slot was claimed
+     * after it passed the check is rejected.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void testCreateLessons_BooksSavedLessons() {
+        Lesson later = TestDataHelper.createLesson(lesson.getEndTime(), lesson.getEndTime().plusHours(1));
+        List<Lesson> lessons = Arrays.asList(lesson, later);
+        ArgumentCaptor<Consumer<Lesson>> onSaved = ArgumentCaptor.forClass(Consumer.class);
+        lessonService.createLessons(lessons);
+        verify(bulkPersistence).createAll(eq(lessons), eq(lessonRepository), any(), any(), any(), onSaved.capture());
+        Lesson claimed = TestDataHelper.createLesson(later.getStartTime(), later.getEndTime());
+        claimed.setStudents(new ArrayList<>());
+        lessonSchedule.book(3L, claimed);
+        lesson.setId(1L);
+        later.setId(2L);
+
+        onSaved.getValue().accept(lesson);
+
+        assertThat(lessonSchedule.getBooking(1L)).isNotNull();
+        assertThatThrownBy(() -> onSaved.getValue().accept(later))
+                .isInstanceOf(LessonConflictException.class)
+                .hasMessage("Lesson overlaps lesson 3 for teacher 10");
+        assertThat(lessonSchedule.getBooking(2L)).isNull();
+    }
+
     /**
      * Tests retrieval of all {@link Lesson} entries.
      * Verifies that the service retrieves the expected list of lessons from the repository.
@@ -81,6 +294,58 @@ class LessonServiceTest {
         verify(lessonRepository, times(1)).findAll();
     }
 
+    /**
+     * Tests retrieval of a page of {@link Lesson} entries.
+     * Verifies that one extra row is fetched to detect the next page and that it is not returned.
+     */
+    @Test
+    void testGetLessonPage() {
+        Lesson next = new Lesson();
+        when(lessonRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(2)))
+                .thenReturn(Arrays.asList(lesson, next));
+
+        CursorPage<Lesson> result = lessonService.getLessonPage(null, 1);
+
+        assertThat(result.getItems()).containsExactly(lesson);
+        assertThat(result.getNextCursor()).isNotNull();
+        verify(lessonRepository, times(1)).findByIdGreaterThanOrderByIdAsc(0L, Limit.of(2));
+    }
+
+    /**
+     * Tests retrieval of the last page of {@link Lesson} entries.
+     * Verifies that no next cursor is returned when there are no further rows.
+     */
+    @Test
+    void testGetLessonPage_LastPage() {
+        when(lessonRepository.findByIdGreaterThanOrderByIdAsc(5L, Limit.of(11)))
+                .thenReturn(Collections.singletonList(lesson));
+
+        CursorPage<Lesson> result = lessonService.getLessonPage(5L, 10);
+
+        assertThat(result.getItems()).containsExactly(lesson);
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    /**
+     * Tests retrieval of a page of {@link LessonSummary} entries.
+     * Verifies that summaries are read with the projection query and paged like entities.
+     */
+    @Test
+    void testGetLessonSummaryPage() {
+        LessonSummary summary = mock(LessonSummary.class);
+        LessonSummary next = mock(LessonSummary.class);
+        when(summary.getId()).thenReturn(1L);
+        when(lessonRepository.findSummariesByIdGreaterThan(0L, Limit.of(2)))
+                .thenReturn(Arrays.asList(summary, next));
+
+        CursorPage<LessonSummary> result = lessonService.getLessonSummaryPage(null, 1);
+
+        assertThat(result.getItems()).containsExactly(summary);
+        assertThat(result.getNextCursor()).isEqualTo(CursorPage.encodeCursor(1L));
+        verify(lessonRepository, times(1)).findSummariesByIdGreaterThan(0L, Limit.of(2));
+        verify(lessonRepository, never()).findByIdGreaterThanOrderByIdAsc(anyLong(), any(Limit.class));
+    }
+
     /**
      * Tests retrieval of a {@link Lesson} by its ID.
      * Verifies that the correct lesson is returned when found.
@@ -146,6 +411,44 @@ class LessonServiceTest {
         verify(lessonRepository, never()).save(any(Lesson.class));
     }
 
+    /**
+     * Tests moving a {@link Lesson} onto a slot already taken by one of its students.
+     * Verifies that a {@link LessonConflictException} is thrown and the lesson keeps its booking.
+     */
+    @Test
+    void testUpdateLesson_Conflict() {
+        lessonSchedule.book(1L, lesson);
+        Lesson other = TestDataHelper.createLesson(lesson.getEndTime(), lesson.getEndTime().plusHours(1));
+        other.setTeacher(new Teacher());
+        lessonSchedule.book(2L, other);
+        Lesson movedDetails = TestDataHelper.createLesson(other.getStartTime(), other.getEndTime());
+        movedDetails.setTeacher(new Teacher());
+        when(lessonRepository.findById(1L)).thenReturn(Optional.of(lesson));
+
+        assertThatThrownBy(() -> lessonService.updateLesson(1L, movedDetails))
+                .isInstanceOf(LessonConflictException.class)
+                .hasMessage("Lesson overlaps lesson 2 for student 20");
+        assertThat(lessonSchedule.getBooking(1L).getTeacherId()).isEqualTo(10L);
+        verify(lessonRepository, never()).save(any(Lesson.class));
+    }
+
+    /**
+     * Tests listing the overlapping {@link Lesson} entries.
+     * Verifies that the schedule is rebuilt from the repository and its conflicts are returned.
+     */
+    @Test
+    void testGetLessonConflicts() {
+        Lesson overlapping = TestDataHelper.createLesson(lesson.getStartTime().plusMinutes(15), lesson.getEndTime());
+        overlapping.setId(2L);
+        overlapping.setStudents(new ArrayList<>());
+        when(lessonRepository.findAll()).thenReturn(Arrays.asList(lesson, overlapping));
+
+        lessonService.loadLessonSchedule();
+        List<LessonConflict> conflicts = lessonService.getLessonConflicts();
+
+        assertThat(conflicts).containsExactly(new LessonConflict(LessonConflict.Type.TEACHER, 10L, 1L, 2L));
+    }
+
     /**
      * Tests the deletion of a {@link Lesson} entry by its ID.
      * Verifies that the lesson is deleted from the repository.
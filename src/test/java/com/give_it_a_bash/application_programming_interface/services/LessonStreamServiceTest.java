@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.services;
+
+import com.give_it_a_bash.application_programming_interface.entities.DomainEventType;
+import com.give_it_a_bash.application_programming_interface.entities.OutboxEvent;
+import com.give_it_a_bash.application_programming_interface.projections.LessonEnrolment;
+import com.give_it_a_bash.application_programming_interface.projections.LessonStreamRow;
+import com.give_it_a_bash.application_programming_interface.repositories.LessonRepository;
+import com.give_it_a_bash.application_programming_interface.streaming.LessonSnapshot;
+import com.give_it_a_bash.application_programming_interface.streaming.LessonStream;
+import com.give_it_a_bash.application_programming_interface.streaming.LessonStreamFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link LessonStreamService} class.
+ */
+class LessonStreamServiceTest {
+
+    @Mock
+    private LessonStream lessonStream;
+
+    @Mock
+    private LessonRepository lessonRepository;
+
+    @InjectMocks
+    private LessonStreamService lessonStreamService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    /**
+     * Tests subscribing to the lesson stream.
+     * Verifies that the criteria are passed on as a filter.
+     */
+    @Test
+    void testSubscribe() {
+        lessonStreamService.subscribe(1L, 2L, 3L);
+
+        ArgumentCaptor<LessonStreamFilter> filter = ArgumentCaptor.forClass(LessonStreamFilter.class);
+        verify(lessonStream, times(1)).subscribe(filter.capture());
+        assertThat(filter.getValue().getTeacherId()).isEqualTo(1L);
+        assertThat(filter.getValue().getStudentId()).isEqualTo(2L);
+        assertThat(filter.getValue().getSchoolId()).isEqualTo(3L);
+    }
+
+    /**
+     * Tests handling a batch of outbox events.
+     * Verifies that the Lessons named by the events are read once each, that Lessons which no longer exist are
+     * applied as removed, and that events about other entities are ignored.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void testOnEvents() {
+        LessonStreamRow row = row(1L);
+        LessonEnrolment enrolment = mock(LessonEnrolment.class);
+        when(enrolment.getLessonId()).thenReturn(1L);
+        when(enrolment.getStudentId()).thenReturn(7L);
+        when(lessonRepository.findStreamRowsByIdIn(any())).thenReturn(Collections.singletonList(row));
+        when(lessonRepository.findEnrolmentsByLessonIdIn(any())).thenReturn(Collections.singletonList(enrolment));
+
+        lessonStreamService.onEvents(Arrays.asList(
+                event("Lesson", 1L, DomainEventType.CREATED),
+                event("Student", 7L, DomainEventType.UPDATED),
+                event("Lesson", 1L, DomainEventType.UPDATED),
+                event("Lesson", 2L, DomainEventType.DELETED)));
+
+        ArgumentCaptor<Collection<Long>> ids = ArgumentCaptor.forClass(Collection.class);
+        verify(lessonRepository, times(1)).findStreamRowsByIdIn(ids.capture());
+        assertThat(ids.getValue()).containsExactly(1L, 2L);
+        ArgumentCaptor<Map<Long, LessonSnapshot>> states = ArgumentCaptor.forClass(Map.class);
+        verify(lessonStream, times(1)).apply(states.capture());
+        assertThat(states.getValue()).containsOnlyKeys(1L, 2L);
+        assertThat(states.getValue().get(1L).getStudentIds()).containsExactly(7L);
+        assertThat(states.getValue().get(2L)).isNull();
+    }
+
+    /**
+     * Tests handling a batch of outbox events without Lesson events.
+     * Verifies that nothing is read or applied.
+     */
+    @Test
+    void testOnEvents_NoLessons() {
+        lessonStreamService.onEvents(Collections.singletonList(event("Teacher", 1L, DomainEventType.CREATED)));
+
+        verifyNoInteractions(lessonRepository, lessonStream);
+    }
+
+    /**
+     * Tests loading the lesson stream.
+     * Verifies that every Lesson is loaded with its Students.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void testLoadLessonStream() {
+        LessonStreamRow first = row(1L);
+        LessonStreamRow second = row(2L);
+        LessonEnrolment enrolment = mock(LessonEnrolment.class);
+        when(enrolment.getLessonId()).thenReturn(2L);
+        when(enrolment.getStudentId()).thenReturn(9L);
+        when(lessonRepository.findAllStreamRows()).thenReturn(Arrays.asList(first, second));
+        when(lessonRepository.findAllEnrolments()).thenReturn(Collections.singletonList(enrolment));
+
+        lessonStreamService.loadLessonStream();
+
+        ArgumentCaptor<Collection<LessonSnapshot>> snapshots = ArgumentCaptor.forClass(Collection.class);
+        verify(lessonStream, times(1)).load(snapshots.capture());
+        assertThat(snapshots.getValue()).extracting(LessonSnapshot::getStudentIds)
+                .containsExactly(Collections.<Long>emptyList(), Collections.singletonList(9L));
+    }
+
+    private static LessonStreamRow row(Long id) {
+        LessonStreamRow row = mock(LessonStreamRow.class);
+        when(row.getId()).thenReturn(id);
+        when(row.getTeacherId()).thenReturn(10L);
+        when(row.getSchoolId()).thenReturn(100L);
+        when(row.getStartTime()).thenReturn(LocalDateTime.of(2030, 9, 2, 9, 0));
+        when(row.getEndTime()).thenReturn(LocalDateTime.of(2030, 9, 2, 10, 0));
+        return row;
+    }
+
+    private static OutboxEvent event(String aggregateType, Long aggregateId, DomainEventType type) {
+        return OutboxEvent.builder()
+                .aggregateType(aggregateType)
+                .aggregateId(aggregateId)
+                .eventType(type)
+                .occurredAt(LocalDateTime.of(2030, 9, 1, 12, 0))
+                .build();
+    }
+}
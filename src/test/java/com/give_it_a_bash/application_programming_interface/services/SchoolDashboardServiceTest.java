@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.services;
+
+import com.give_it_a_bash.application_programming_interface.dashboard.SchoolDashboard;
+import com.give_it_a_bash.application_programming_interface.entities.SchoolData;
+import com.give_it_a_bash.application_programming_interface.projections.DashboardAchievement;
+import com.give_it_a_bash.application_programming_interface.projections.DashboardLesson;
+import com.give_it_a_bash.application_programming_interface.projections.FacilityStatus;
+import com.give_it_a_bash.application_programming_interface.repositories.AchievementRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.FacilityRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.LessonRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.SchoolDataRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.StudentRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.SubjectRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.TeacherRepository;
+import com.give_it_a_bash.application_programming_interface.testData.TestDataHelper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link SchoolDashboardService} class.
+ */
+class SchoolDashboardServiceTest {
+
+    private static final int QUERIES = 7;
+
+    private final SchoolDataRepository schoolDataRepository = mock(SchoolDataRepository.class);
+
+    private final StudentRepository studentRepository = mock(StudentRepository.class);
+
+    private final TeacherRepository teacherRepository = mock(TeacherRepository.class);
+
+    private final SubjectRepository subjectRepository = mock(SubjectRepository.class);
+
+    private final FacilityRepository facilityRepository = mock(FacilityRepository.class);
+
+    private final LessonRepository lessonRepository = mock(LessonRepository.class);
+
+    private final AchievementRepository achievementRepository = mock(AchievementRepository.class);
+
+    private final SchoolDashboardService schoolDashboardService = new SchoolDashboardService(QUERIES);
+
+    private SchoolData schoolData;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(schoolDashboardService, "schoolDataRepository", schoolDataRepository);
+        ReflectionTestUtils.setField(schoolDashboardService, "studentRepository", studentRepository);
+        ReflectionTestUtils.setField(schoolDashboardService, "teacherRepository", teacherRepository);
+        ReflectionTestUtils.setField(schoolDashboardService, "subjectRepository", subjectRepository);
+        ReflectionTestUtils.setField(schoolDashboardService, "facilityRepository", facilityRepository);
+        ReflectionTestUtils.setField(schoolDashboardService, "lessonRepository", lessonRepository);
+        ReflectionTestUtils.setField(schoolDashboardService, "achievementRepository", achievementRepository);
+        ReflectionTestUtils.setField(schoolDashboardService, "transactionManager", mock(PlatformTransactionManager.class));
+        schoolData = TestDataHelper.getSCHOOL_DATA();
+        schoolData.setId(1L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        schoolDashboardService.shutdown();
+    }
+
+    /**
+     * Tests reading the dashboard of a school.
+     * Verifies that every part is read for the school, with today's Lessons bounded by the current day.
+     */
+    @Test
+    void testGetDashboard() {
+        DashboardLesson lesson = mock(DashboardLesson.class);
+        DashboardAchievement achievement = mock(DashboardAchievement.class);
+        FacilityStatus danger = mock(FacilityStatus.class);
+        FacilityStatus cerebro = mock(FacilityStatus.class);
+        when(schoolDataRepository.findById(1L)).thenReturn(Optional.of(schoolData));
+        when(studentRepository.countBySchoolDataId(1L)).thenReturn(40L);
+        when(teacherRepository.countBySchoolDataId(1L)).thenReturn(6L);
+        when(subjectRepository.countBySchoolDataId(1L)).thenReturn(12L);
+        when(lessonRepository.findDashboardLessons(eq(1L), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(Collections.singletonList(lesson));
+        when(achievementRepository.findRecentDashboardAchievements(1L,
+                Limit.of(SchoolDashboardService.RECENT_ACHIEVEMENTS))).thenReturn(Collections.singletonList(achievement));
+        when(facilityRepository.findStatusesBySchoolDataId(eq(1L), any(LocalDateTime.class)))
+                .thenReturn(Arrays.asList(danger, cerebro));
+
+        SchoolDashboard dashboard = schoolDashboardService.getDashboard(1L);
+
+        LocalDate today = dashboard.getDate();
+        assertThat(dashboard.getSchoolId()).isEqualTo(1L);
+        assertThat(dashboard.getSchoolName()).isEqualTo(schoolData.getSchoolName());
+        assertThat(dashboard.getStudentCount()).isEqualTo(40L);
+        assertThat(dashboard.getTeacherCount()).isEqualTo(6L);
+        assertThat(dashboard.getSubjectCount()).isEqualTo(12L);
+        assertThat(dashboard.getFacilityCount()).isEqualTo(2L);
+        assertThat(dashboard.getTodaysLessons()).containsExactly(lesson);
+        assertThat(dashboard.getRecentAchievements()).containsExactly(achievement);
+        assertThat(dashboard.getFacilities()).containsExactly(danger, cerebro);
+        verify(lessonRepository, times(1)).findDashboardLessons(1L, today.atStartOfDay(),
+                today.plusDays(1).atStartOfDay());
+    }
+
+    /**
+     * Tests that the parts of the dashboard are read at the same time.
+     * Every query waits for all the others to start, which only happens if none waits for another to finish.
+     */
+    @Test
+    void testGetDashboard_QueriesRunConcurrently() {
+        CyclicBarrier allStarted = new CyclicBarrier(QUERIES);
+        when(schoolDataRepository.findById(1L)).thenAnswer(afterAllStarted(allStarted, Optional.of(schoolData)));
+        when(studentRepository.countBySchoolDataId(1L)).thenAnswer(afterAllStarted(allStarted, 1L));
+        when(teacherRepository.countBySchoolDataId(1L)).thenAnswer(afterAllStarted(allStarted, 1L));
+        when(subjectRepository.countBySchoolDataId(1L)).thenAnswer(afterAllStarted(allStarted, 1L));
+        when(lessonRepository.findDashboardLessons(eq(1L), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenAnswer(afterAllStarted(allStarted, Collections.emptyList()));
+        when(achievementRepository.findRecentDashboardAchievements(eq(1L), any(Limit.class)))
+                .thenAnswer(afterAllStarted(allStarted, Collections.emptyList()));
+        when(facilityRepository.findStatusesBySchoolDataId(eq(1L), any(LocalDateTime.class)))
+                .thenAnswer(afterAllStarted(allStarted, Collections.emptyList()));
+
+        SchoolDashboard dashboard = schoolDashboardService.getDashboard(1L);
+
+        assertThat(dashboard.getSchoolId()).isEqualTo(1L);
+    }
+
+    /**
+     * Tests reading the dashboard of a school that does not exist.
+     * Verifies that a RuntimeException is thrown.
+     */
+    @Test
+    void testGetDashboard_NotFound() {
+        when(schoolDataRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> schoolDashboardService.getDashboard(1L))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("School data not found with id 1");
+    }
+
+    private static <T> Answer<T> afterAllStarted(CyclicBarrier allStarted, T result) {
+        return invocation -> {
+            allStarted.await(5, TimeUnit.SECONDS);
+            return result;
+        };
+    }
+}
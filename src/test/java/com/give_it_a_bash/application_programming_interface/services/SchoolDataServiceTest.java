@@ -11,6 +11,7 @@
 package com.give_it_a_bash.application_programming_interface.services;
 
 import com.give_it_a_bash.application_programming_interface.entities.SchoolData;
+import com.give_it_a_bash.application_programming_interface.pagination.CursorPage;
 import com.give_it_a_bash.application_programming_interface.repositories.SchoolDataRepository;
 import com.give_it_a_bash.application_programming_interface.testData.TestDataHelper;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,7 +19,9 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -80,6 +83,38 @@ class SchoolDataServiceTest {
         verify(schoolDataRepository, times(1)).findAll();
     }
 
+    /**
+     * Tests retrieval of a page of {@link SchoolData} entries.
+     * Verifies that one extra row is fetched to detect the next page and that it is not returned.
+     */
+    @Test
+    void testGetSchoolDataPage() {
+        SchoolData next = new SchoolData();
+        when(schoolDataRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(2)))
+                .thenReturn(Arrays.asList(schoolData, next));
+
+        CursorPage<SchoolData> result = schoolDataService.getSchoolDataPage(null, 1);
+
+        assertThat(result.getItems()).containsExactly(schoolData);
+        assertThat(result.getNextCursor()).isNotNull();
+        verify(schoolDataRepository, times(1)).findByIdGreaterThanOrderByIdAsc(0L, Limit.of(2));
+    }
+
+    /**
+     * Tests retrieval of the last page of {@link SchoolData} entries.
+     * Verifies that no next cursor is returned when there are no further rows.
+     */
+    @Test
+    void testGetSchoolDataPage_LastPage() {
+        when(schoolDataRepository.findByIdGreaterThanOrderByIdAsc(5L, Limit.of(11)))
+                .thenReturn(Collections.singletonList(schoolData));
+
+        CursorPage<SchoolData> result = schoolDataService.getSchoolDataPage(5L, 10);
+
+        assertThat(result.getItems()).containsExactly(schoolData);
+        assertThat(result.getNextCursor()).isNull();
+    }
+
     /**
      * Tests retrieval of {@link SchoolData} by its ID.
      * Verifies that the correct school data is returned when found.
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.services;
+
+import com.give_it_a_bash.application_programming_interface.entities.Achievement;
+import com.give_it_a_bash.application_programming_interface.entities.Student;
+import com.give_it_a_bash.application_programming_interface.entities.Subject;
+import com.give_it_a_bash.application_programming_interface.entities.Teacher;
+import com.give_it_a_bash.application_programming_interface.repositories.AchievementRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.StudentRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.SubjectRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.TeacherRepository;
+import com.give_it_a_bash.application_programming_interface.search.MutantSuggester;
+import com.give_it_a_bash.application_programming_interface.search.MutantSuggestion;
+import com.give_it_a_bash.application_programming_interface.search.SearchDocument;
+import com.give_it_a_bash.application_programming_interface.search.SearchHit;
+import com.give_it_a_bash.application_programming_interface.search.SearchIndex;
+import com.give_it_a_bash.application_programming_interface.testData.TestDataHelper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link SearchService} class.
+ */
+class SearchServiceTest {
+
+    @Spy
+    private SearchIndex searchIndex = new SearchIndex();
+
+    @Spy
+    private MutantSuggester mutantSuggester = new MutantSuggester();
+
+    @Mock
+    private StudentRepository studentRepository;
+
+    @Mock
+    private TeacherRepository teacherRepository;
+
+    @Mock
+    private SubjectRepository subjectRepository;
+
+    @Mock
+    private AchievementRepository achievementRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @InjectMocks
+    private SearchService searchService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        TestDataHelper.reset();
+    }
+
+    /**
+     * Tests rebuilding the search index.
+     * Verifies that every Student, Teacher, Subject and Achievement is indexed, replacing stale documents,
+     * that every Student and Teacher can be suggested, and that each entity is detached once read.
+     */
+    @Test
+    void testRebuildIndex() {
+        Student student = TestDataHelper.getSTUDENT();
+        student.setId(1L);
+        Teacher teacher = TestDataHelper.getTEACHER();
+        teacher.setId(2L);
+        Subject subject = TestDataHelper.getSUBJECT();
+        subject.setId(3L);
+        Achievement achievement = TestDataHelper.getACHIEVEMENT();
+        achievement.setId(4L);
+        Subject stale = TestDataHelper.createSubject("Danger Room Tactics");
+        stale.setId(99L);
+        searchIndex.put(SearchDocument.of(stale));
+        when(studentRepository.streamAllByOrderByIdAsc()).thenReturn(Stream.of(student));
+        when(teacherRepository.streamAllByOrderByIdAsc()).thenReturn(Stream.of(teacher));
+        when(subjectRepository.streamAllByOrderByIdAsc()).thenReturn(Stream.of(subject));
+        when(achievementRepository.streamAllByOrderByIdAsc()).thenReturn(Stream.of(achievement));
+
+        searchService.rebuildIndex();
+
+        assertThat(searchIndex.size()).isEqualTo(4);
+        assertThat(searchService.search("tactics", 10)).isEmpty();
+        assertThat(searchService.search(student.getAlias(), 10)).extracting(SearchHit::getId).contains(1L);
+        assertThat(searchService.search(teacher.getLastName(), 10)).extracting(SearchHit::getType)
+                .contains(SearchDocument.Type.TEACHER);
+        assertThat(searchService.search(achievement.getTitle(), 10)).extracting(SearchHit::getId).contains(4L);
+        assertThat(mutantSuggester.size()).isEqualTo(2);
+        assertThat(searchService.suggestMutants(teacher.getFirstName(), 10)).extracting(MutantSuggestion::getId)
+                .containsExactly(2L);
+        verify(entityManager, times(1)).detach(student);
+        verify(entityManager, times(1)).detach(achievement);
+    }
+
+    /**
+     * Tests searching with a query that contains no words.
+     * Verifies that an {@link IllegalArgumentException} is thrown without querying the index.
+     */
+    @Test
+    void testSearch_NoWords() {
+        assertThatThrownBy(() -> searchService.search(" ?! ", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> searchService.search(null, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(searchIndex, never()).search(anyString(), anyInt());
+    }
+
+    /**
+     * Tests suggesting mutants with a prefix that contains no words.
+     * Verifies that an {@link IllegalArgumentException} is thrown without querying the suggester.
+     */
+    @Test
+    void testSuggestMutants_NoWords() {
+        assertThatThrownBy(() -> searchService.suggestMutants("", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(mutantSuggester, never()).suggest(anyString(), anyInt());
+    }
+}
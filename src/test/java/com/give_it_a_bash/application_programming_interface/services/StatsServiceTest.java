@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.services;
+
+import com.give_it_a_bash.application_programming_interface.entities.FacilityType;
+import com.give_it_a_bash.application_programming_interface.entities.PowerSource;
+import com.give_it_a_bash.application_programming_interface.entities.Status;
+import com.give_it_a_bash.application_programming_interface.projections.FacilityFacets;
+import com.give_it_a_bash.application_programming_interface.projections.MutantFacets;
+import com.give_it_a_bash.application_programming_interface.projections.StudentFacets;
+import com.give_it_a_bash.application_programming_interface.repositories.FacilityRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.StudentRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.TeacherRepository;
+import com.give_it_a_bash.application_programming_interface.stats.Facet;
+import com.give_it_a_bash.application_programming_interface.stats.FacetCounters;
+import com.give_it_a_bash.application_programming_interface.stats.FacetCounts;
+import com.give_it_a_bash.application_programming_interface.stats.FacetMembership;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link StatsService} class.
+ */
+class StatsServiceTest {
+
+    @Spy
+    private FacetCounters facetCounters = new FacetCounters();
+
+    @Mock
+    private StudentRepository studentRepository;
+
+    @Mock
+    private TeacherRepository teacherRepository;
+
+    @Mock
+    private FacilityRepository facilityRepository;
+
+    @InjectMocks
+    private StatsService statsService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    /**
+     * Tests reconciling the facet counters.
+     * Verifies that every Student, Teacher and Facility is counted from its facet columns, that counts which
+     * drifted from the database are corrected, and that the number of corrected counters is returned.
+     */
+    @Test
+    void testReconcileFacets() {
+        StudentFacets student = mock(StudentFacets.class);
+        when(student.getId()).thenReturn(1L);
+        when(student.getSchoolId()).thenReturn(10L);
+        when(student.getStatus()).thenReturn(Status.ACTIVE);
+        when(student.getPowerSource()).thenReturn(PowerSource.GENETIC_MUTATION);
+        MutantFacets teacher = mock(MutantFacets.class);
+        when(teacher.getId()).thenReturn(2L);
+        when(teacher.getSchoolId()).thenReturn(10L);
+        when(teacher.getPowerSource()).thenReturn(PowerSource.GENETIC_MUTATION);
+        FacilityFacets facility = mock(FacilityFacets.class);
+        when(facility.getId()).thenReturn(1L);
+        when(facility.getSchoolId()).thenReturn(10L);
+        when(facility.getType()).thenReturn(FacilityType.LIBRARY);
+        when(studentRepository.findAllFacets()).thenReturn(Collections.singletonList(student));
+        when(teacherRepository.findAllFacets()).thenReturn(Collections.singletonList(teacher));
+        when(facilityRepository.findAllFacets()).thenReturn(Collections.singletonList(facility));
+        facetCounters.put(FacetMembership.student(1L, 10L, Status.SUSPENDED, PowerSource.GENETIC_MUTATION));
+
+        int changed = statsService.reconcileFacets();
+
+        assertThat(changed).isEqualTo(8);
+        FacetCounts counts = statsService.getFacets(10L);
+        assertThat(counts.getStudentsByStatus()).containsEntry(Status.ACTIVE, 1L).containsEntry(Status.SUSPENDED, 0L);
+        assertThat(counts.getMutantsByPowerSource()).containsEntry(PowerSource.GENETIC_MUTATION, 2L);
+        assertThat(counts.getFacilitiesByType()).containsEntry(FacilityType.LIBRARY, 1L);
+        assertThat(facetCounters.count(Facet.POWER_SOURCE, null, PowerSource.GENETIC_MUTATION)).isEqualTo(2);
+        assertThat(statsService.reconcileFacets()).isZero();
+    }
+
+    /**
+     * Tests retrieving the facet counts.
+     * Verifies that the counts are read from the counters without querying the database.
+     */
+    @Test
+    void testGetFacets() {
+        facetCounters.put(FacetMembership.facility(1L, 10L, FacilityType.GYM));
+
+        FacetCounts counts = statsService.getFacets(null);
+
+        assertThat(counts.getSchoolId()).isNull();
+        assertThat(counts.getFacilitiesByType()).containsEntry(FacilityType.GYM, 1L);
+        verifyNoInteractions(studentRepository, teacherRepository, facilityRepository);
+    }
+}
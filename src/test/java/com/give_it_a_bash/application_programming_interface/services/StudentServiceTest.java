@@ -10,19 +10,31 @@
 
 package com.give_it_a_bash.application_programming_interface.services;
 
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.give_it_a_bash.application_programming_interface.bulk.BulkItemResult;
+import com.give_it_a_bash.application_programming_interface.bulk.BulkPersistence;
 import com.give_it_a_bash.application_programming_interface.entities.Status;
 import com.give_it_a_bash.application_programming_interface.entities.Student;
+import com.give_it_a_bash.application_programming_interface.pagination.CursorPage;
+import com.give_it_a_bash.application_programming_interface.patch.JsonMergePatcher;
+import com.give_it_a_bash.application_programming_interface.projections.StudentSummary;
 import com.give_it_a_bash.application_programming_interface.repositories.StudentRepository;
 import com.give_it_a_bash.application_programming_interface.testData.TestDataHelper;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -41,6 +53,15 @@ class StudentServiceTest {
     @Mock
     private StudentRepository studentRepository;
 
+    @Mock
+    private BulkPersistence bulkPersistence;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private JsonMergePatcher jsonMergePatcher;
+
     @InjectMocks
     private StudentService studentService;
 
@@ -66,6 +87,23 @@ class StudentServiceTest {
         verify(studentRepository, times(1)).save(student);
     }
 
+
+    /**
+     * Tests the creation of many {@link Student} entries at once.
+     * Verifies that the Students are handed to {@link BulkPersistence} together with the repository.
+     */
+    @Test
+    void testCreateStudents() {
+        List<Student> students = Collections.singletonList(student);
+        List<BulkItemResult> results = Collections.singletonList(BulkItemResult.created(0, 1L));
+        when(bulkPersistence.createAll(eq(students), eq(studentRepository), any(), any())).thenReturn(results);
+
+        List<BulkItemResult> createdResults = studentService.createStudents(students);
+
+        assertThat(createdResults).isEqualTo(results);
+        verify(bulkPersistence, times(1)).createAll(eq(students), eq(studentRepository), any(), any());
+    }
+
     /**
      * Tests retrieval of all {@link Student} entries.
      * Verifies that the service retrieves the expected list of students.
@@ -81,6 +119,73 @@ class StudentServiceTest {
         verify(studentRepository, times(1)).findAll();
     }
 
+    /**
+     * Tests retrieval of a page of {@link Student} entries.
+     * Verifies that one extra row is fetched to detect the next page and that it is not returned.
+     */
+    @Test
+    void testGetStudentPage() {
+        Student next = new Student();
+        when(studentRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(2)))
+                .thenReturn(Arrays.asList(student, next));
+
+        CursorPage<Student> result = studentService.getStudentPage(null, 1);
+
+        assertThat(result.getItems()).containsExactly(student);
+        assertThat(result.getNextCursor()).isNotNull();
+        verify(studentRepository, times(1)).findByIdGreaterThanOrderByIdAsc(0L, Limit.of(2));
+    }
+
+    /**
+     * Tests retrieval of the last page of {@link Student} entries.
+     * Verifies that no next cursor is returned when there are no further rows.
+     */
+    @Test
+    void testGetStudentPage_LastPage() {
+        when(studentRepository.findByIdGreaterThanOrderByIdAsc(5L, Limit.of(11)))
+                .thenReturn(Collections.singletonList(student));
+
+        CursorPage<Student> result = studentService.getStudentPage(5L, 10);
+
+        assertThat(result.getItems()).containsExactly(student);
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    /**
+     * Tests retrieval of a page of {@link StudentSummary} entries.
+     * Verifies that summaries are read with the projection query and paged like entities.
+     */
+    @Test
+    void testGetStudentSummaryPage() {
+        StudentSummary summary = mock(StudentSummary.class);
+        StudentSummary next = mock(StudentSummary.class);
+        when(summary.getId()).thenReturn(1L);
+        when(studentRepository.findSummariesByIdGreaterThan(0L, Limit.of(2)))
+                .thenReturn(Arrays.asList(summary, next));
+
+        CursorPage<StudentSummary> result = studentService.getStudentSummaryPage(null, 1);
+
+        assertThat(result.getItems()).containsExactly(summary);
+        assertThat(result.getNextCursor()).isEqualTo(CursorPage.encodeCursor(1L));
+        verify(studentRepository, times(1)).findSummariesByIdGreaterThan(0L, Limit.of(2));
+        verify(studentRepository, never()).findByIdGreaterThanOrderByIdAsc(anyLong(), any(Limit.class));
+    }
+
+    /**
+     * Tests exporting all {@link Student} entries.
+     * Verifies that each student is passed to the consumer and then detached from the persistence context.
+     */
+    @Test
+    void testExportStudents() {
+        when(studentRepository.streamAllWithMissionHistoryByOrderByIdAsc()).thenReturn(Stream.of(student));
+        List<Student> exported = new ArrayList<>();
+
+        studentService.exportStudents(exported::add);
+
+        assertThat(exported).containsExactly(student);
+        verify(entityManager, times(1)).detach(student);
+    }
+
     /**
      * Tests retrieval of {@link Student} by its ID.
      * Verifies that the correct student is returned when found.
@@ -159,6 +264,38 @@ class StudentServiceTest {
         verify(studentRepository, never()).save(any(Student.class));
     }
 
+    /**
+     * Tests patching an existing {@link Student} entry.
+     * Verifies that the patch is applied to the stored student and that the student is saved.
+     */
+    @Test
+    void testPatchStudent() {
+        ObjectNode patch = JsonNodeFactory.instance.objectNode().put("email", "patched@example.com");
+        when(studentRepository.findById(1L)).thenReturn(Optional.of(student));
+        when(studentRepository.save(student)).thenReturn(student);
+
+        Student patchedStudent = studentService.patchStudent(1L, patch);
+
+        assertThat(patchedStudent).isEqualTo(student);
+        verify(jsonMergePatcher, times(1)).apply(student, patch);
+        verify(studentRepository, times(1)).save(student);
+    }
+
+    /**
+     * Tests patching a non-existent {@link Student} entry.
+     * Verifies that a RuntimeException is thrown and that nothing is patched or saved.
+     */
+    @Test
+    void testPatchStudent_NotFound() {
+        when(studentRepository.findById(anyLong())).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> studentService.patchStudent(1L, JsonNodeFactory.instance.objectNode()))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Student not found with id 1");
+        verifyNoInteractions(jsonMergePatcher);
+        verify(studentRepository, never()).save(any(Student.class));
+    }
+
     /**
      * Tests the deletion of a {@link Student} entry by its ID.
      * Verifies that the student is deleted from the repository.
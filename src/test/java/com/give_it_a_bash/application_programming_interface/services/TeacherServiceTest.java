@@ -10,15 +10,26 @@
 
 package com.give_it_a_bash.application_programming_interface.services;
 
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.give_it_a_bash.application_programming_interface.bulk.BulkItemResult;
+import com.give_it_a_bash.application_programming_interface.bulk.BulkPersistence;
 import com.give_it_a_bash.application_programming_interface.entities.Teacher;
+import com.give_it_a_bash.application_programming_interface.pagination.CursorPage;
+import com.give_it_a_bash.application_programming_interface.patch.JsonMergePatcher;
+import com.give_it_a_bash.application_programming_interface.projections.TeacherSummary;
 import com.give_it_a_bash.application_programming_interface.repositories.TeacherRepository;
 import com.give_it_a_bash.application_programming_interface.testData.TestDataHelper;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -27,6 +38,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -40,6 +52,15 @@ class TeacherServiceTest {
     @Mock
     private TeacherRepository teacherRepository;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private JsonMergePatcher jsonMergePatcher;
+
+    @Mock
+    private BulkPersistence bulkPersistence;
+
     @InjectMocks
     private TeacherService teacherService;
 
@@ -65,6 +86,22 @@ class TeacherServiceTest {
         verify(teacherRepository, times(1)).save(teacher);
     }
 
+    /**
+     * Tests the creation of many {@link Teacher} entries at once.
+     * Verifies that the Teachers are handed to {@link BulkPersistence} together with the repository.
+     */
+    @Test
+    void testCreateTeachers() {
+        List<Teacher> teachers = Collections.singletonList(teacher);
+        List<BulkItemResult> results = Collections.singletonList(BulkItemResult.created(0, 1L));
+        when(bulkPersistence.createAll(eq(teachers), eq(teacherRepository), any(), any())).thenReturn(results);
+
+        List<BulkItemResult> createdResults = teacherService.createTeachers(teachers);
+
+        assertThat(createdResults).isEqualTo(results);
+        verify(bulkPersistence, times(1)).createAll(eq(teachers), eq(teacherRepository), any(), any());
+    }
+
     /**
      * Tests retrieval of all {@link Teacher} entries.
      * Verifies that the service retrieves the expected list of teachers.
@@ -80,6 +117,103 @@ class TeacherServiceTest {
         verify(teacherRepository, times(1)).findAll();
     }
 
+    /**
+     * Tests retrieval of a page of {@link Teacher} entries.
+     * Verifies that one extra row is fetched to detect the next page and that it is not returned.
+     */
+    @Test
+    void testGetTeacherPage() {
+        Teacher next = new Teacher();
+        when(teacherRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(2)))
+                .thenReturn(Arrays.asList(teacher, next));
+
+        CursorPage<Teacher> result = teacherService.getTeacherPage(null, 1);
+
+        assertThat(result.getItems()).containsExactly(teacher);
+        assertThat(result.getNextCursor()).isNotNull();
+        verify(teacherRepository, times(1)).findByIdGreaterThanOrderByIdAsc(0L, Limit.of(2));
+    }
+
+    /**
+     * Tests retrieval of the last page of {@link Teacher} entries.
+     * Verifies that no next cursor is returned when there are no further rows.
+     */
+    @Test
+    void testGetTeacherPage_LastPage() {
+        when(teacherRepository.findByIdGreaterThanOrderByIdAsc(5L, Limit.of(11)))
+                .thenReturn(Collections.singletonList(teacher));
+
+        CursorPage<Teacher> result = teacherService.getTeacherPage(5L, 10);
+
+        assertThat(result.getItems()).containsExactly(teacher);
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    /**
+     * Tests retrieval of a page of {@link TeacherSummary} entries.
+     * Verifies that summaries are read with the projection query and paged like entities.
+     */
+    @Test
+    void testGetTeacherSummaryPage() {
+        TeacherSummary summary = mock(TeacherSummary.class);
+        TeacherSummary next = mock(TeacherSummary.class);
+        when(summary.getId()).thenReturn(1L);
+        when(teacherRepository.findSummariesByIdGreaterThan(0L, Limit.of(2)))
+                .thenReturn(Arrays.asList(summary, next));
+
+        CursorPage<TeacherSummary> result = teacherService.getTeacherSummaryPage(null, 1);
+
+        assertThat(result.getItems()).containsExactly(summary);
+        assertThat(result.getNextCursor()).isEqualTo(CursorPage.encodeCursor(1L));
+        verify(teacherRepository, times(1)).findSummariesByIdGreaterThan(0L, Limit.of(2));
+        verify(teacherRepository, never()).findByIdGreaterThanOrderByIdAsc(anyLong(), any(Limit.class));
+    }
+
+    /**
+     * Tests exporting all {@link Teacher} entries.
+     * Verifies that each batch of teachers is loaded with its collections, passed to the consumer and then
+     * cleared from the persistence context, and that a short batch ends the export.
+     */
+    @Test
+    void testExportTeachers() {
+        List<Long> ids = Collections.singletonList(1L);
+        when(teacherRepository.findIdsByIdGreaterThan(0L, Limit.of(500))).thenReturn(ids);
+        when(teacherRepository.findWithMissionHistoryByIdInOrderByIdAsc(ids))
+                .thenReturn(Collections.singletonList(teacher));
+        List<Teacher> exported = new ArrayList<>();
+
+        teacherService.exportTeachers(exported::add);
+
+        assertThat(exported).containsExactly(teacher);
+        verify(teacherRepository, times(1)).findWithSubjectsByIdIn(ids);
+        verify(teacherRepository, times(1)).findIdsByIdGreaterThan(anyLong(), any(Limit.class));
+        verify(entityManager, times(1)).clear();
+    }
+
+    /**
+     * Tests exporting {@link Teacher} entries that span more than one batch.
+     * Verifies that the next batch is read after the last ID of a full batch.
+     */
+    @Test
+    void testExportTeachers_MultipleBatches() {
+        List<Long> firstBatch = new ArrayList<>();
+        for (long id = 1; id <= 500; id++) {
+            firstBatch.add(id);
+        }
+        List<Long> secondBatch = Collections.singletonList(501L);
+        when(teacherRepository.findIdsByIdGreaterThan(0L, Limit.of(500))).thenReturn(firstBatch);
+        when(teacherRepository.findIdsByIdGreaterThan(500L, Limit.of(500))).thenReturn(secondBatch);
+        when(teacherRepository.findWithMissionHistoryByIdInOrderByIdAsc(secondBatch))
+                .thenReturn(Collections.singletonList(teacher));
+        List<Teacher> exported = new ArrayList<>();
+
+        teacherService.exportTeachers(exported::add);
+
+        assertThat(exported).containsExactly(teacher);
+        verify(teacherRepository, times(1)).findWithMissionHistoryByIdInOrderByIdAsc(firstBatch);
+        verify(entityManager, times(2)).clear();
+    }
+
     /**
      * Tests retrieval of {@link Teacher} by its ID.
      * Verifies that the correct teacher is returned when found.
@@ -152,6 +286,38 @@ class TeacherServiceTest {
         verify(teacherRepository, never()).save(any(Teacher.class));
     }
 
+    /**
+     * Tests patching an existing {@link Teacher} entry.
+     * Verifies that the patch is applied to the stored teacher and that the teacher is saved.
+     */
+    @Test
+    void testPatchTeacher() {
+        ObjectNode patch = JsonNodeFactory.instance.objectNode().put("email", "patched@example.com");
+        when(teacherRepository.findById(1L)).thenReturn(Optional.of(teacher));
+        when(teacherRepository.save(teacher)).thenReturn(teacher);
+
+        Teacher patchedTeacher = teacherService.patchTeacher(1L, patch);
+
+        assertThat(patchedTeacher).isEqualTo(teacher);
+        verify(jsonMergePatcher, times(1)).apply(teacher, patch);
+        verify(teacherRepository, times(1)).save(teacher);
+    }
+
+    /**
+     * Tests patching a non-existent {@link Teacher} entry.
+     * Verifies that a RuntimeException is thrown and that nothing is patched or saved.
+     */
+    @Test
+    void testPatchTeacher_NotFound() {
+        when(teacherRepository.findById(anyLong())).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> teacherService.patchTeacher(1L, JsonNodeFactory.instance.objectNode()))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Teacher not found with id 1");
+        verifyNoInteractions(jsonMergePatcher);
+        verify(teacherRepository, never()).save(any(Teacher.class));
+    }
+
     /**
      * Tests the deletion of a {@link Teacher} entry by its ID.
      * Verifies that the teacher is deleted from the repository.
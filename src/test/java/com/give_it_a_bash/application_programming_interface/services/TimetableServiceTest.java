@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.services;
+
+import com.give_it_a_bash.application_programming_interface.entities.Facility;
+import com.give_it_a_bash.application_programming_interface.entities.Lesson;
+import com.give_it_a_bash.application_programming_interface.entities.Subject;
+import com.give_it_a_bash.application_programming_interface.entities.Teacher;
+import com.give_it_a_bash.application_programming_interface.repositories.FacilityRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.SubjectRepository;
+import com.give_it_a_bash.application_programming_interface.repositories.TeacherRepository;
+import com.give_it_a_bash.application_programming_interface.scheduling.LessonConflict;
+import com.give_it_a_bash.application_programming_interface.scheduling.LessonConflictException;
+import com.give_it_a_bash.application_programming_interface.scheduling.LessonSchedule;
+import com.give_it_a_bash.application_programming_interface.testData.TestDataHelper;
+import com.give_it_a_bash.application_programming_interface.timetabling.TimetableJob;
+import com.give_it_a_bash.application_programming_interface.timetabling.TimetableJobStatus;
+import com.give_it_a_bash.application_programming_interface.timetabling.TimetableRequest;
+import com.give_it_a_bash.application_programming_interface.timetabling.TimetableSolver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.support.ExecutorServiceAdapter;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link TimetableService} class.
+ * Jobs are run on the calling thread so that their outcome can be checked as soon as they are started.
+ */
+class TimetableServiceTest {
+
+    @Mock
+    private SubjectRepository subjectRepository;
+
+    @Mock
+    private TeacherRepository teacherRepository;
+
+    @Mock
+    private FacilityRepository facilityRepository;
+
+    @Mock
+    private LessonSchedule lessonSchedule;
+
+    @Mock
+    private LessonService lessonService;
+
+    @Spy
+    private TimetableSolver timetableSolver = new TimetableSolver(1);
+
+    @InjectMocks
+    private TimetableService timetableService;
+
+    private TimetableRequest request;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(timetableService, "jobExecutor", new ExecutorServiceAdapter(new SyncTaskExecutor()));
+        TestDataHelper.reset();
+
+        Subject subject = TestDataHelper.getSUBJECT();
+        subject.setId(1L);
+        Teacher teacher = TestDataHelper.getTEACHER();
+        teacher.setId(10L);
+        teacher.setSubjects(Collections.singletonList(subject));
+        Facility facility = TestDataHelper.getFACILITY();
+        facility.setId(100L);
+
+        when(subjectRepository.findById(1L)).thenReturn(Optional.of(subject));
+        when(teacherRepository.findAll()).thenReturn(Collections.singletonList(teacher));
+        when(facilityRepository.findAll()).thenReturn(Collections.singletonList(facility));
+
+        request = new TimetableRequest();
+        request.setFirstDay(LocalDate.now().plusWeeks(1));
+        request.setDays(1);
+        request.setRequirements(Collections.singletonList(new TimetableRequest.SubjectRequirement(1L, 3)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        timetableSolver.shutdown();
+    }
+
+    /**
+     * Tests generating a timetable.
+     * Verifies that the placed lessons are created together and their IDs reported by the job.
+     */
+    @Test
+    void testStartJob() {
+        when(lessonService.createLessonsAtomically(anyList())).thenAnswer(invocation -> {
+            List<Lesson> lessons = new ArrayList<>(invocation.getArgument(0));
+            for (int i = 0; i < lessons.size(); i++) {
+                lessons.get(i).setId(50L + i);
+            }
+            return lessons;
+        });
+
+        TimetableJob job = timetableService.startJob(request);
+
+        assertThat(job.getStatus()).isEqualTo(TimetableJobStatus.SUCCEEDED);
+        assertThat(job.getProgress().getPlacedLessons()).isEqualTo(3);
+        assertThat(job.getAssignments()).extracting("lessonId").containsExactly(50L, 51L, 52L);
+        assertThat(job.getAssignments()).extracting("teacherId").containsOnly(10L);
+        assertThat(job.getAssignments()).extracting("facilityId").containsOnly(100L);
+        assertThat(timetableService.getJob(job.getId())).contains(job);
+        verify(lessonService, times(1)).createLessonsAtomically(anyList());
+    }
+
+    /**
+     * Tests generating a timetable that needs more lessons than the day has slots.
+     * Verifies that the job fails without creating any lesson.
+     */
+    @Test
+    void testStartJob_Infeasible() {
+        request.setRequirements(Collections.singletonList(new TimetableRequest.SubjectRequirement(1L, 9)));
+
+        TimetableJob job = timetableService.startJob(request);
+
+        assertThat(job.getStatus()).isEqualTo(TimetableJobStatus.FAILED);
+        assertThat(job.getError()).contains("cannot all be placed");
+        verifyNoInteractions(lessonService);
+    }
+
+    /**
+     * Tests generating a timetable whose lessons conflict with lessons booked while it was generated.
+     * Verifies that the job fails.
+     */
+    @Test
+    void testStartJob_Conflict() {
+        when(lessonService.createLessonsAtomically(anyList())).thenThrow(new LessonConflictException(
+                Collections.singletonList(new LessonConflict(LessonConflict.Type.TEACHER, 10L, null, 7L))));
+
+        TimetableJob job = timetableService.startJob(request);
+
+        assertThat(job.getStatus()).isEqualTo(TimetableJobStatus.FAILED);
+        assertThat(job.getError()).contains("lesson 7 for teacher 10");
+    }
+
+    /**
+     * Tests generating a timetable from invalid requests.
+     * Verifies that an {@link IllegalArgumentException} is thrown, or a {@link RuntimeException} for an unknown Subject.
+     */
+    @Test
+    void testStartJob_InvalidRequest() {
+        request.setFirstDay(LocalDate.now().minusDays(1));
+        assertThatThrownBy(() -> timetableService.startJob(request)).isInstanceOf(IllegalArgumentException.class);
+
+        request.setFirstDay(LocalDate.now().plusWeeks(1));
+        request.setTimeBudgetSeconds(0);
+        assertThatThrownBy(() -> timetableService.startJob(request)).isInstanceOf(IllegalArgumentException.class);
+
+        request.setTimeBudgetSeconds(10);
+        request.setRequirements(Collections.singletonList(new TimetableRequest.SubjectRequirement(2L, 1)));
+        assertThatThrownBy(() -> timetableService.startJob(request))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Subject not found with id 2");
+
+        request.setRequirements(Collections.<TimetableRequest.SubjectRequirement>emptyList());
+        assertThatThrownBy(() -> timetableService.startJob(request)).isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(lessonService);
+    }
+
+    /**
+     * Tests retrieving a job which does not exist.
+     * Verifies that an empty Optional is returned.
+     */
+    @Test
+    void testGetJob_NotFound() {
+        assertThat(timetableService.getJob("missing")).isEmpty();
+    }
+}
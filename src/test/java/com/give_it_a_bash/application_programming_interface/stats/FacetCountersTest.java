@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.stats;
+
+import com.give_it_a_bash.application_programming_interface.entities.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the {@link FacetCounters} class.
+ */
+public class FacetCountersTest {
+
+    private final FacetCounters counters = new FacetCounters();
+
+    /**
+     * Tests that entities are counted per school and across all schools, and that updates move them between values.
+     */
+    @Test
+    public void testPutAndRemove() {
+        counters.put(FacetMembership.student(1L, 10L, Status.ACTIVE, PowerSource.GENETIC_MUTATION));
+        counters.put(FacetMembership.student(2L, 20L, Status.ACTIVE, PowerSource.TECHNOLOGY));
+        counters.put(FacetMembership.teacher(3L, 10L, PowerSource.GENETIC_MUTATION));
+        counters.put(FacetMembership.facility(3L, 10L, FacilityType.GYM));
+
+        assertThat(counters.count(Facet.STUDENT_STATUS, null, Status.ACTIVE)).isEqualTo(2);
+        assertThat(counters.count(Facet.STUDENT_STATUS, 10L, Status.ACTIVE)).isEqualTo(1);
+        assertThat(counters.count(Facet.POWER_SOURCE, 10L, PowerSource.GENETIC_MUTATION)).isEqualTo(2);
+        assertThat(counters.count(Facet.FACILITY_TYPE, 10L, FacilityType.GYM)).isEqualTo(1);
+        assertThat(counters.size()).isEqualTo(4);
+
+        counters.put(FacetMembership.student(1L, 20L, Status.GRADUATED, PowerSource.GENETIC_MUTATION));
+
+        assertThat(counters.count(Facet.STUDENT_STATUS, 10L, Status.ACTIVE)).isZero();
+        assertThat(counters.count(Facet.STUDENT_STATUS, 20L, Status.GRADUATED)).isEqualTo(1);
+        assertThat(counters.count(Facet.STUDENT_STATUS, null, Status.ACTIVE)).isEqualTo(1);
+        assertThat(counters.count(Facet.POWER_SOURCE, null, PowerSource.GENETIC_MUTATION)).isEqualTo(2);
+
+        assertThat(counters.remove(new FacetMembership.Key(FacetMembership.Kind.FACILITY, 3L))).isNotNull();
+        assertThat(counters.remove(new FacetMembership.Key(FacetMembership.Kind.FACILITY, 3L))).isNull();
+        assertThat(counters.count(Facet.FACILITY_TYPE, null, FacilityType.GYM)).isZero();
+        assertThat(counters.count(Facet.POWER_SOURCE, 10L, PowerSource.GENETIC_MUTATION)).isEqualTo(1);
+    }
+
+    /**
+     * Tests that the counts list every value of every facet, including those never counted.
+     */
+    @Test
+    public void testCounts() {
+        counters.put(FacetMembership.student(1L, 10L, Status.SUSPENDED, null));
+
+        FacetCounts counts = counters.counts(10L);
+
+        assertThat(counts.getSchoolId()).isEqualTo(10L);
+        assertThat(counts.getStudentsByStatus()).hasSize(Status.values().length)
+                .containsEntry(Status.SUSPENDED, 1L)
+                .containsEntry(Status.ACTIVE, 0L);
+        assertThat(counts.getMutantsByPowerSource()).containsEntry(PowerSource.GENETIC_MUTATION, 0L);
+        assertThat(counts.getFacilitiesByType()).hasSize(FacilityType.values().length);
+        assertThat(counters.counts(99L).getStudentsByStatus()).containsEntry(Status.SUSPENDED, 0L);
+    }
+
+    /**
+     * Tests that a reset replaces every counter and reports the counters that had drifted.
+     */
+    @Test
+    public void testReset() {
+        counters.put(FacetMembership.student(1L, 10L, Status.ACTIVE, null));
+        counters.put(FacetMembership.facility(1L, 10L, FacilityType.LIBRARY));
+
+        int changed = counters.reset(() -> Arrays.asList(
+                FacetMembership.student(1L, 10L, Status.ACTIVE, null),
+                FacetMembership.student(2L, 10L, Status.WITHDRAWN, null)));
+
+        assertThat(changed).isEqualTo(4);
+        assertThat(counters.count(Facet.FACILITY_TYPE, 10L, FacilityType.LIBRARY)).isZero();
+        assertThat(counters.count(Facet.STUDENT_STATUS, null, Status.WITHDRAWN)).isEqualTo(1);
+        assertThat(counters.size()).isEqualTo(2);
+        assertThat(counters.reset(() -> Arrays.asList(
+                FacetMembership.student(1L, 10L, Status.ACTIVE, null),
+                FacetMembership.student(2L, 10L, Status.WITHDRAWN, null)))).isZero();
+    }
+
+    /**
+     * Tests that a reset keeps the writes applied while its memberships were being read, whether or not they were
+     * read.
+     */
+    @Test
+    public void testReset_WritesDuringRead() {
+        counters.put(FacetMembership.student(1L, 10L, Status.ACTIVE, null));
+        counters.put(FacetMembership.student(2L, 10L, Status.ACTIVE, null));
+
+        counters.reset(() -> {
+            List<FacetMembership> read = Arrays.asList(
+                    FacetMembership.student(1L, 10L, Status.ACTIVE, null),
+                    FacetMembership.student(2L, 10L, Status.ACTIVE, null));
+            counters.put(FacetMembership.student(1L, 10L, Status.SUSPENDED, null));
+            counters.remove(FacetMembership.student(2L, 10L, Status.ACTIVE, null).getKey());
+            counters.put(FacetMembership.student(3L, 10L, Status.WITHDRAWN, null));
+            return read;
+        });
+
+        assertThat(counters.count(Facet.STUDENT_STATUS, 10L, Status.ACTIVE)).isZero();
+        assertThat(counters.count(Facet.STUDENT_STATUS, 10L, Status.SUSPENDED)).isEqualTo(1);
+        assertThat(counters.count(Facet.STUDENT_STATUS, null, Status.WITHDRAWN)).isEqualTo(1);
+        assertThat(counters.size()).isEqualTo(2);
+
+        counters.put(FacetMembership.student(1L, 10L, Status.ACTIVE, null));
+        assertThat(counters.reset(() -> Arrays.asList(
+                FacetMembership.student(1L, 10L, Status.SUSPENDED, null),
+                FacetMembership.student(3L, 10L, Status.WITHDRAWN, null)))).isEqualTo(4);
+    }
+
+    /**
+     * Tests that concurrent writes from several threads leave every counter exact.
+     *
+     * @throws Exception if a writer fails
+     */
+    @Test
+    public void testConcurrentWrites() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                long first = thread * 1_000L;
+                writers.add(executor.submit(() -> {
+                    for (long id = first; id < first + 1_000; id++) {
+                        counters.put(FacetMembership.student(id, id % 2, Status.ACTIVE, PowerSource.TECHNOLOGY));
+                        counters.put(FacetMembership.student(id, id % 2, Status.GRADUATED, PowerSource.TECHNOLOGY));
+                        if (id % 4 == 0) {
+                            counters.remove(new FacetMembership.Key(FacetMembership.Kind.MUTANT, id));
+                        }
+                    }
+                }));
+            }
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(counters.count(Facet.STUDENT_STATUS, null, Status.ACTIVE)).isZero();
+        assertThat(counters.count(Facet.STUDENT_STATUS, null, Status.GRADUATED)).isEqualTo(3_000);
+        assertThat(counters.count(Facet.POWER_SOURCE, 1L, PowerSource.TECHNOLOGY)).isEqualTo(2_000);
+        assertThat(counters.count(Facet.POWER_SOURCE, 0L, PowerSource.TECHNOLOGY)).isEqualTo(1_000);
+    }
+
+    /**
+     * Tests the memberships captured from Students, Teachers and Facilities.
+     */
+    @Test
+    public void testMembershipOf() {
+        SchoolData school = SchoolData.builder().schoolName("Xavier Institute").build();
+        school.setId(10L);
+        Student student = Student.builder().schoolData(school).status(Status.ACTIVE)
+                .power(Power.builder().originSource(PowerSource.TECHNOLOGY).build()).build();
+        student.setId(1L);
+        Teacher teacher = Teacher.builder().build();
+        teacher.setId(2L);
+        Facility facility = Facility.builder().schoolData(school).type(FacilityType.GYM).build();
+        facility.setId(1L);
+
+        FacetMembership studentMembership = FacetMembership.of(student);
+        assertThat(studentMembership.getSchoolId()).isEqualTo(10L);
+        assertThat(studentMembership.getValues()).containsEntry(Facet.STUDENT_STATUS, Status.ACTIVE)
+                .containsEntry(Facet.POWER_SOURCE, PowerSource.TECHNOLOGY);
+        assertThat(FacetMembership.of(teacher).getValues()).isEmpty();
+        assertThat(FacetMembership.of(facility).getValues()).containsOnlyKeys(Facet.FACILITY_TYPE);
+        assertThat(FacetMembership.keyOf(facility)).isNotEqualTo(FacetMembership.keyOf(student))
+                .isEqualTo(new FacetMembership.Key(FacetMembership.Kind.FACILITY, 1L));
+        assertThat(FacetMembership.of(new Subject())).isNull();
+        assertThat(FacetMembership.keyOf(new Subject())).isNull();
+    }
+}
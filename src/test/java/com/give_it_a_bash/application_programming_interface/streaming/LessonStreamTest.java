@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.streaming;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the {@link LessonStream} class, the {@link LessonChange}s it produces and the
+ * {@link LessonSubscription}s it sends them through.
+ */
+public class LessonStreamTest {
+
+    private static final LocalDateTime NINE = LocalDateTime.of(2030, 9, 2, 9, 0);
+
+    private final LessonStream lessonStream = new LessonStream(4, 2, 60_000L, 1);
+
+    private final Queue<Runnable> sends = new ArrayDeque<>();
+
+    private final RecordingEmitter emitter = new RecordingEmitter();
+
+    @AfterEach
+    public void tearDown() {
+        lessonStream.shutdown();
+    }
+
+    /**
+     * Tests that the kind of change is derived from the states before and after it, with the enrolment delta.
+     */
+    @Test
+    public void testChangeOf() {
+        LessonSnapshot lesson = lesson(1L, 10L, 100L, NINE, 5L, 6L);
+        LessonSnapshot enrolled = lesson(1L, 10L, 100L, NINE, 6L, 7L);
+        LessonSnapshot moved = lesson(1L, 10L, 100L, NINE.plusHours(1), 6L, 7L);
+
+        assertThat(LessonChange.of(null, lesson).getType()).isEqualTo(LessonChangeType.CREATED);
+        assertThat(LessonChange.of(null, lesson).getEnrolledStudentIds()).containsExactly(5L, 6L);
+        assertThat(LessonChange.of(lesson, enrolled).getType()).isEqualTo(LessonChangeType.ENROLMENT_CHANGED);
+        assertThat(LessonChange.of(lesson, enrolled).getEnrolledStudentIds()).containsExactly(7L);
+        assertThat(LessonChange.of(lesson, enrolled).getUnenrolledStudentIds()).containsExactly(5L);
+        assertThat(LessonChange.of(enrolled, moved).getType()).isEqualTo(LessonChangeType.UPDATED);
+        assertThat(LessonChange.of(enrolled, moved).getEnrolledStudentIds()).isEmpty();
+        assertThat(LessonChange.of(moved, null).getType()).isEqualTo(LessonChangeType.DELETED);
+        assertThat(LessonChange.of(moved, null).getLesson()).isNull();
+        assertThat(LessonChange.of(moved, null).getLessonId()).isEqualTo(1L);
+        assertThat(LessonChange.of(lesson, lesson(1L, 10L, 100L, NINE, 6L, 5L))).isNull();
+        assertThat(LessonChange.of(null, null)).isNull();
+    }
+
+    /**
+     * Tests that changes match a filter if the lesson matched it before or after the change.
+     */
+    @Test
+    public void testChangeMatches() {
+        LessonChange reassigned = LessonChange.of(lesson(1L, 10L, 100L, NINE, 5L), lesson(1L, 11L, 100L, NINE, 5L));
+
+        assertThat(reassigned.matches(new LessonStreamFilter(10L, null, null))).isTrue();
+        assertThat(reassigned.matches(new LessonStreamFilter(11L, 5L, 100L))).isTrue();
+        assertThat(reassigned.matches(new LessonStreamFilter(12L, null, null))).isFalse();
+        assertThat(reassigned.matches(new LessonStreamFilter(null, 6L, null))).isFalse();
+        assertThat(reassigned.matches(new LessonStreamFilter(null, null, 101L))).isFalse();
+    }
+
+    /**
+     * Tests that a subscription sends the changes that concern it, in order, on the sending threads.
+     */
+    @Test
+    public void testSubscriptionSendsMatchingChanges() {
+        LessonSubscription subscription = subscription(new LessonStreamFilter(10L, null, null), 4);
+
+        subscription.offer(LessonChange.of(null, lesson(1L, 10L, 100L, NINE)));
+        subscription.offer(LessonChange.of(null, lesson(2L, 11L, 100L, NINE)));
+        subscription.offer(LessonChange.of(null, lesson(3L, 10L, 100L, NINE)));
+
+        assertThat(emitter.events).isEmpty();
+        runSends();
+        assertThat(emitter.names()).containsExactly("CREATED", "CREATED");
+        assertThat(emitter.changes()).extracting(LessonChange::getLessonId).containsExactly(1L, 3L);
+    }
+
+    /**
+     * Tests that changes to a lesson that is still waiting are coalesced into one, and dropped if they cancel out.
+     */
+    @Test
+    public void testSubscriptionCoalescesChanges() {
+        LessonSubscription subscription = subscription(new LessonStreamFilter(null, null, null), 4);
+        LessonSnapshot created = lesson(1L, 10L, 100L, NINE, 5L);
+        LessonSnapshot enrolled = lesson(1L, 10L, 100L, NINE, 5L, 6L);
+        LessonSnapshot other = lesson(2L, 10L, 100L, NINE);
+
+        subscription.offer(LessonChange.of(null, created));
+        subscription.offer(LessonChange.of(null, other));
+        subscription.offer(LessonChange.of(created, enrolled));
+        subscription.offer(LessonChange.of(other, null));
+        runSends();
+
+        assertThat(emitter.names()).containsExactly("CREATED");
+        assertThat(emitter.changes().get(0).getLesson()).isEqualTo(enrolled);
+        assertThat(emitter.changes().get(0).getEnrolledStudentIds()).containsExactly(5L, 6L);
+    }
+
+    /**
+     * Tests that a subscriber falling further behind than its buffer allows is told to reload instead.
+     */
+    @Test
+    public void testSubscriptionOverflow() {
+        LessonSubscription subscription = subscription(new LessonStreamFilter(null, null, null), 2);
+
+        for (long id = 1; id <= 3; id++) {
+            subscription.offer(LessonChange.of(null, lesson(id, 10L, 100L, NINE)));
+        }
+        subscription.offer(LessonChange.of(null, lesson(4L, 10L, 100L, NINE)));
+        runSends();
+
+        assertThat(emitter.names()).containsExactly(LessonSubscription.RESYNC, "CREATED", "CREATED");
+        assertThat(emitter.changes()).extracting(LessonChange::getLessonId).containsExactly(3L, 4L);
+    }
+
+    /**
+     * Tests that a subscription stops sending once a send fails.
+     */
+    @Test
+    public void testSubscriptionClosedOnFailure() {
+        LessonSubscription subscription = subscription(new LessonStreamFilter(null, null, null), 4);
+        emitter.failing = true;
+
+        subscription.offer(LessonChange.of(null, lesson(1L, 10L, 100L, NINE)));
+        runSends();
+        subscription.offer(LessonChange.of(null, lesson(2L, 10L, 100L, NINE)));
+
+        assertThat(sends).isEmpty();
+        assertThat(emitter.events).isEmpty();
+    }
+
+    /**
+     * Tests that the stream turns new states into changes against the states it knows, and caps its subscribers.
+     */
+    @Test
+    public void testApplyAndSubscribe() {
+        lessonStream.load(Collections.singletonList(lesson(1L, 10L, 100L, NINE)));
+        lessonStream.subscribe(new LessonStreamFilter(null, null, null));
+        lessonStream.subscribe(new LessonStreamFilter(10L, null, null));
+
+        Map<Long, LessonSnapshot> states = new LinkedHashMap<>();
+        states.put(1L, null);
+        states.put(2L, lesson(2L, 10L, 100L, NINE));
+        lessonStream.apply(states);
+
+        assertThat(lessonStream.getSubscriberCount()).isEqualTo(2);
+        assertThatThrownBy(() -> lessonStream.subscribe(new LessonStreamFilter(null, null, null)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private LessonSubscription subscription(LessonStreamFilter filter, int capacity) {
+        return new LessonSubscription(emitter, filter, capacity, sends::add);
+    }
+
+    private void runSends() {
+        while (!sends.isEmpty()) {
+            sends.poll().run();
+        }
+    }
+
+    private static LessonSnapshot lesson(Long id, Long teacherId, Long schoolId, LocalDateTime start,
+                                         Long... studentIds) {
+        return new LessonSnapshot(id, 1L, teacherId, null, schoolId, start, start.plusHours(1),
+                new ArrayList<>(new TreeSet<>(Arrays.asList(studentIds))));
+    }
+
+    /**
+     * An emitter keeping the events sent through it rather than writing them to a response.
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<SseEventBuilder> events = new ArrayList<>();
+
+        private boolean failing;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            events.add(builder);
+        }
+
+        private List<String> names() {
+            List<String> names = new ArrayList<>();
+            for (SseEventBuilder event : events) {
+                for (ResponseBodyEmitter.DataWithMediaType data : event.build()) {
+                    if (data.getData() instanceof String && ((String) data.getData()).startsWith("event:")) {
+                        names.add(((String) data.getData()).split("\n")[0].substring("event:".length()));
+                    }
+                }
+            }
+            return names;
+        }
+
+        private List<LessonChange> changes() {
+            List<LessonChange> changes = new ArrayList<>();
+            for (SseEventBuilder event : events) {
+                for (ResponseBodyEmitter.DataWithMediaType data : event.build()) {
+                    if (data.getData() instanceof LessonChange) {
+                        changes.add((LessonChange) data.getData());
+                    }
+                }
+            }
+            return changes;
+        }
+    }
+}
@@ -391,4 +391,154 @@ public final class TestDataHelper {
                 .missionHistory(missionHistory)
                 .build();
     }
+
+    /**
+     * Creates a new SchoolData instance with the given name and the Xavier Institute's details,
+     * without any students, teachers, facilities or subjects, ready to be saved by an integration test.
+     *
+     * @param schoolName the name of the school
+     * @return a fully constructed SchoolData instance
+     */
+    public static SchoolData createSchoolData(String schoolName) {
+        return SchoolData.builder()
+                .schoolName(schoolName)
+                .location("1407 Graymalkin Lane, Salem Center, NY")
+                .motto("Mutatis Mutandis")
+                .yearEstablished(1963)
+                .affiliation("Mutant Education and Research")
+                .contactInfo("+1-555-XAVIER")
+                .isActive(true)
+                .build();
+    }
+
+    /**
+     * Creates a new active psychic Power instance with the specified levels and origin.
+     *
+     * @param name         the name of the power
+     * @param powerLevel   the power level of the power
+     * @param controlLevel the control level of the power
+     * @param originSource the origin source of the power
+     * @return a fully constructed Power instance
+     */
+    public static Power createPower(String name, int powerLevel, int controlLevel, PowerSource originSource) {
+        return Power.builder()
+                .name(name)
+                .powerLevel(powerLevel)
+                .description("A mutant power")
+                .category("Psychic")
+                .isActive(true)
+                .controlLevel(controlLevel)
+                .originSource(originSource)
+                .build();
+    }
+
+    /**
+     * Creates a new Facility instance in the given school, a training center in the basement.
+     *
+     * @param schoolData    the school the facility belongs to
+     * @param name          the name of the facility
+     * @param isOperational indicates if the facility is operational
+     * @return a fully constructed Facility instance
+     */
+    public static Facility createFacility(SchoolData schoolData, String name, boolean isOperational) {
+        return Facility.builder()
+                .name(name)
+                .type(FacilityType.TRAINING_CENTER)
+                .description("A training facility")
+                .isAccessible(true)
+                .locationWithinCampus("Basement Level")
+                .capacity(20)
+                .isOperational(isOperational)
+                .schoolData(schoolData)
+                .build();
+    }
+
+    /**
+     * Creates a new Achievement instance awarded to the given student by Professor X.
+     *
+     * @param student     the student the achievement is awarded to
+     * @param title       the title of the achievement
+     * @param category    the category of the achievement
+     * @param dateAwarded the date when the achievement was awarded
+     * @return a fully constructed Achievement instance
+     */
+    public static Achievement createAchievement(Student student, String title, SubjectCategory category,
+                                                LocalDate dateAwarded) {
+        return Achievement.builder()
+                .title(title)
+                .description("Awarded for outstanding contributions to the school")
+                .dateAwarded(dateAwarded)
+                .awardedBy("Professor X")
+                .category(category)
+                .student(student)
+                .build();
+    }
+
+    /**
+     * Creates a new active Teacher instance in the given school.
+     *
+     * @param schoolData the school the teacher works at
+     * @param firstName  the first name of the teacher
+     * @param lastName   the last name of the teacher
+     * @param email      the email address of the teacher
+     * @param power      the power of the teacher
+     * @return a fully constructed Teacher instance
+     */
+    public static Teacher createTeacher(SchoolData schoolData, String firstName, String lastName, String email,
+                                        Power power) {
+        return Teacher.builder()
+                .firstName(firstName)
+                .lastName(lastName)
+                .email(email)
+                .phoneNumber("+1-555-0100")
+                .power(power)
+                .isActive(true)
+                .schoolData(schoolData)
+                .build();
+    }
+
+    /**
+     * Creates a new active Student instance in the given school, without an alias.
+     *
+     * @param schoolData the school the student attends
+     * @param firstName  the first name of the student
+     * @param lastName   the last name of the student
+     * @param power      the power of the student
+     * @return a fully constructed Student instance
+     */
+    public static Student createStudent(SchoolData schoolData, String firstName, String lastName, Power power) {
+        return createStudent(schoolData, firstName, lastName, null, power, Status.ACTIVE);
+    }
+
+    /**
+     * Creates a new Student instance in the given school, with a guardian, an email derived from the
+     * first name and a single mission in their history.
+     *
+     * @param schoolData the school the student attends
+     * @param firstName  the first name of the student
+     * @param lastName   the last name of the student
+     * @param alias      the alias or codename of the student, may be null
+     * @param power      the power of the student
+     * @param status     the current enrollment status of the student
+     * @return a fully constructed Student instance
+     */
+    public static Student createStudent(SchoolData schoolData, String firstName, String lastName, String alias,
+                                        Power power, Status status) {
+        return Student.builder()
+                .firstName(firstName)
+                .lastName(lastName)
+                .alias(alias)
+                .guardianFirstName("William")
+                .guardianLastName(lastName)
+                .guardianContactNumber("+1-555-0101")
+                .guardianEmail("guardian@example.com")
+                .contactNumber("+1-555-0102")
+                .email(firstName.toLowerCase() + "@example.com")
+                .power(power)
+                .isActive(true)
+                .schoolData(schoolData)
+                .status(status)
+                .missionHistory(Collections.singletonList("The Battle of the Triskelion"))
+                .build();
+    }
 }
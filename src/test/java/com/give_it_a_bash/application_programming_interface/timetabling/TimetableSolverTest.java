@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.timetabling;
+
+import com.give_it_a_bash.application_programming_interface.scheduling.TimeSlot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the {@link TimetableSolver} class.
+ */
+public class TimetableSolverTest {
+
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2030, 9, 2, 9, 0);
+
+    private static final Duration BUDGET = Duration.ofSeconds(10);
+
+    private final TimetableSolver solver = new TimetableSolver(2);
+
+    @AfterEach
+    public void shutdown() {
+        solver.shutdown();
+    }
+
+    /**
+     * Tests that every lesson is placed with a qualified teacher, and that no teacher or facility is used twice in a slot.
+     */
+    @Test
+    public void testSolve() {
+        Map<Long, Set<Long>> teachers = new LinkedHashMap<>();
+        teachers.put(10L, set(1L));
+        teachers.put(11L, set(1L, 2L));
+        teachers.put(12L, set(3L));
+        List<Long> lessons = new ArrayList<>();
+        lessons.addAll(Collections.nCopies(4, 1L));
+        lessons.addAll(Collections.nCopies(3, 2L));
+        lessons.addAll(Collections.nCopies(2, 3L));
+        TimetableProblem problem = new TimetableProblem(slots(5), lessons, teachers,
+                Collections.<Long, BitSet>emptyMap(), Arrays.asList(100L, 101L), Collections.<Long, BitSet>emptyMap());
+        TimetableProgress progress = new TimetableProgress(lessons.size());
+
+        TimetableSolution solution = solver.solve(problem, BUDGET, progress);
+
+        assertThat(solution.getOutcome()).isEqualTo(TimetableSolution.Outcome.SOLVED);
+        assertThat(solution.getAssignments()).hasSize(9);
+        Set<String> teacherSlots = new HashSet<>();
+        Set<String> facilitySlots = new HashSet<>();
+        for (TimetableAssignment assignment : solution.getAssignments()) {
+            assertThat(teachers.get(assignment.getTeacherId())).contains(assignment.getSubjectId());
+            assertThat(teacherSlots.add(assignment.getTeacherId() + "@" + assignment.getStartTime())).isTrue();
+            assertThat(facilitySlots.add(assignment.getFacilityId() + "@" + assignment.getStartTime())).isTrue();
+        }
+        assertThat(solution.getAssignments()).extracting(TimetableAssignment::getSubjectId)
+                .containsExactlyInAnyOrderElementsOf(lessons);
+        assertThat(progress.getPlacedLessons()).isEqualTo(9);
+        assertThat(progress.getExploredNodes()).isPositive();
+    }
+
+    /**
+     * Tests that no lesson is placed in a slot its teacher is already booked for.
+     */
+    @Test
+    public void testSolveAroundBusySlots() {
+        Map<Long, Set<Long>> teachers = new LinkedHashMap<>();
+        teachers.put(10L, set(1L));
+        BitSet busy = new BitSet();
+        busy.set(0);
+        busy.set(2);
+        Map<Long, BitSet> busySlots = new HashMap<>();
+        busySlots.put(10L, busy);
+        TimetableProblem problem = new TimetableProblem(slots(4), Arrays.asList(1L, 1L), teachers, busySlots,
+                Collections.singletonList(100L), Collections.<Long, BitSet>emptyMap());
+
+        TimetableSolution solution = solver.solve(problem, BUDGET, new TimetableProgress(2));
+
+        assertThat(solution.getOutcome()).isEqualTo(TimetableSolution.Outcome.SOLVED);
+        assertThat(solution.getAssignments()).extracting(TimetableAssignment::getStartTime)
+                .containsExactly(MONDAY.plusHours(1), MONDAY.plusHours(3));
+    }
+
+    /**
+     * Tests that no lesson is placed in a facility that is already booked for its slot.
+     */
+    @Test
+    public void testSolveAroundBusyFacilities() {
+        Map<Long, Set<Long>> teachers = new LinkedHashMap<>();
+        teachers.put(10L, set(1L));
+        teachers.put(11L, set(1L));
+        BitSet firstBusy = new BitSet();
+        firstBusy.set(0);
+        BitSet secondBusy = new BitSet();
+        secondBusy.set(1);
+        Map<Long, BitSet> facilityBusySlots = new HashMap<>();
+        facilityBusySlots.put(100L, firstBusy);
+        facilityBusySlots.put(101L, secondBusy);
+        TimetableProblem problem = new TimetableProblem(slots(2), Arrays.asList(1L, 1L), teachers,
+                Collections.<Long, BitSet>emptyMap(), Arrays.asList(100L, 101L), facilityBusySlots);
+
+        TimetableSolution solution = solver.solve(problem, BUDGET, new TimetableProgress(2));
+
+        assertThat(solution.getOutcome()).isEqualTo(TimetableSolution.Outcome.SOLVED);
+        assertThat(solution.getAssignments()).extracting(assignment -> assignment.getFacilityId() + "@" + assignment.getStartTime())
+                .containsExactlyInAnyOrder("101@" + MONDAY, "100@" + MONDAY.plusHours(1));
+    }
+
+    /**
+     * Tests that the search reports a problem with more lessons than facility slots as infeasible.
+     */
+    @Test
+    public void testSolveInfeasible() {
+        Map<Long, Set<Long>> teachers = new LinkedHashMap<>();
+        teachers.put(10L, set(1L));
+        teachers.put(11L, set(1L));
+        TimetableProblem problem = new TimetableProblem(slots(2), Collections.nCopies(3, 1L), teachers,
+                Collections.<Long, BitSet>emptyMap(), Collections.singletonList(100L), Collections.<Long, BitSet>emptyMap());
+
+        TimetableSolution solution = solver.solve(problem, BUDGET, new TimetableProgress(3));
+
+        assertThat(solution.getOutcome()).isEqualTo(TimetableSolution.Outcome.INFEASIBLE);
+        assertThat(solution.getAssignments()).isEmpty();
+    }
+
+    /**
+     * Tests that a subject nobody teaches makes the problem infeasible without searching.
+     */
+    @Test
+    public void testSolveWithoutQualifiedTeacher() {
+        Map<Long, Set<Long>> teachers = new LinkedHashMap<>();
+        teachers.put(10L, set(1L));
+        TimetableProblem problem = new TimetableProblem(slots(2), Arrays.asList(1L, 2L), teachers,
+                Collections.<Long, BitSet>emptyMap(), Collections.singletonList(100L), Collections.<Long, BitSet>emptyMap());
+        TimetableProgress progress = new TimetableProgress(2);
+
+        assertThat(solver.solve(problem, BUDGET, progress).getOutcome()).isEqualTo(TimetableSolution.Outcome.INFEASIBLE);
+        assertThat(progress.getExploredNodes()).isZero();
+    }
+
+    /**
+     * Tests that the search stops once the time budget has run out.
+     */
+    @Test
+    public void testSolveTimedOut() {
+        Map<Long, Set<Long>> teachers = new LinkedHashMap<>();
+        teachers.put(10L, set(1L));
+        TimetableProblem problem = new TimetableProblem(slots(2), Collections.singletonList(1L), teachers,
+                Collections.<Long, BitSet>emptyMap(), Collections.singletonList(100L), Collections.<Long, BitSet>emptyMap());
+
+        assertThat(solver.solve(problem, Duration.ZERO, new TimetableProgress(1)).getOutcome())
+                .isEqualTo(TimetableSolution.Outcome.TIMED_OUT);
+    }
+
+    private static List<TimeSlot> slots(int count) {
+        List<TimeSlot> slots = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            slots.add(new TimeSlot(MONDAY.plusHours(i), MONDAY.plusHours(i + 1)));
+        }
+        return slots;
+    }
+
+    private static Set<Long> set(Long... ids) {
+        return new HashSet<>(Arrays.asList(ids));
+    }
+}
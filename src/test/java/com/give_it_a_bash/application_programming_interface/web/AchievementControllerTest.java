@@ -10,8 +10,10 @@
 
 package com.give_it_a_bash.application_programming_interface.web;
 
+import com.give_it_a_bash.application_programming_interface.bulk.BulkItemResult;
 import com.give_it_a_bash.application_programming_interface.entities.Achievement;
 import com.give_it_a_bash.application_programming_interface.entities.SubjectCategory;
+import com.give_it_a_bash.application_programming_interface.pagination.CursorPage;
 import com.give_it_a_bash.application_programming_interface.services.AchievementService;
 import com.give_it_a_bash.application_programming_interface.testData.TestDataHelper;
 import org.junit.jupiter.api.BeforeEach;
@@ -23,6 +25,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -68,20 +71,96 @@ class AchievementControllerTest {
         verify(achievementService, times(1)).createAchievement(achievement);
     }
 
+
     /**
-     * Tests the getAllAchievements() method.
-     * Verifies that all Achievements are retrieved successfully and returns the correct HTTP status.
+     * Tests the createAchievements() method when every Achievement is created.
+     * Verifies that the per-item results are returned with a CREATED status.
+     */
+    @Test
+    void createAchievements_AllCreated_ReturnsCreated() {
+        List<Achievement> achievements = Arrays.asList(achievement, achievement);
+        List<BulkItemResult> results = Arrays.asList(BulkItemResult.created(0, 1L), BulkItemResult.created(1, 2L));
+        when(achievementService.createAchievements(achievements)).thenReturn(results);
+
+        ResponseEntity<List<BulkItemResult>> response = achievementController.createAchievements(achievements);
+
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        assertEquals(results, response.getBody());
+        verify(achievementService, times(1)).createAchievements(achievements);
+    }
+
+    /**
+     * Tests the createAchievements() method when some Achievements are rejected.
+     * Verifies that the per-item results are returned with a MULTI_STATUS status.
      */
     @Test
-    void getAllAchievements_ReturnsListOfAchievements() {
+    void createAchievements_SomeRejected_ReturnsMultiStatus() {
+        List<Achievement> achievements = Arrays.asList(achievement, new Achievement());
+        List<BulkItemResult> results = Arrays.asList(BulkItemResult.created(0, 1L),
+                BulkItemResult.invalid(1, Collections.singletonList("field: must not be null")));
+        when(achievementService.createAchievements(achievements)).thenReturn(results);
+
+        ResponseEntity<List<BulkItemResult>> response = achievementController.createAchievements(achievements);
+
+        assertEquals(HttpStatus.MULTI_STATUS, response.getStatusCode());
+        assertEquals(results, response.getBody());
+    }
+
+    /**
+     * Tests the createAchievements() method with more Achievements than a single request may contain.
+     * Verifies that a PAYLOAD_TOO_LARGE status is returned.
+     */
+    @Test
+    void createAchievements_TooMany_ReturnsPayloadTooLarge() {
         List<Achievement> achievements = Collections.singletonList(achievement);
-        when(achievementService.getAllAchievements()).thenReturn(achievements);
+        when(achievementService.createAchievements(achievements)).thenThrow(new IllegalArgumentException("Too many items"));
 
-        ResponseEntity<List<Achievement>> response = achievementController.getAllAchievements();
+        ResponseEntity<List<BulkItemResult>> response = achievementController.createAchievements(achievements);
+
+        assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, response.getStatusCode());
+    }
+
+    /**
+     * Tests the getAllAchievements() method.
+     * Verifies that the first page of Achievement entries is retrieved with the default page size and returns the correct HTTP status.
+     */
+    @Test
+    void getAllAchievements_ReturnsPageOfAchievements() {
+        CursorPage<Achievement> page = new CursorPage<>(Collections.singletonList(achievement), null);
+        when(achievementService.getAchievementPage(null, CursorPage.DEFAULT_LIMIT)).thenReturn(page);
+
+        ResponseEntity<CursorPage<Achievement>> response = achievementController.getAllAchievements(null, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(achievements, response.getBody());
-        verify(achievementService, times(1)).getAllAchievements();
+        assertEquals(page, response.getBody());
+        verify(achievementService, times(1)).getAchievementPage(null, CursorPage.DEFAULT_LIMIT);
+    }
+
+    /**
+     * Tests the getAllAchievements() method with a cursor and an oversized limit.
+     * Verifies that the cursor is decoded and the page size is capped at the maximum.
+     */
+    @Test
+    void getAllAchievements_WithCursor_CapsPageSize() {
+        CursorPage<Achievement> page = new CursorPage<>(Collections.singletonList(achievement), null);
+        when(achievementService.getAchievementPage(7L, CursorPage.MAX_LIMIT)).thenReturn(page);
+
+        ResponseEntity<CursorPage<Achievement>> response = achievementController.getAllAchievements(CursorPage.encodeCursor(7L), 10_000);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(achievementService, times(1)).getAchievementPage(7L, CursorPage.MAX_LIMIT);
+    }
+
+    /**
+     * Tests the getAllAchievements() method with a malformed cursor.
+     * Verifies that a BAD_REQUEST response is returned.
+     */
+    @Test
+    void getAllAchievements_MalformedCursor_ReturnsBadRequest() {
+        ResponseEntity<CursorPage<Achievement>> response = achievementController.getAllAchievements("not-a-cursor", null);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verifyNoInteractions(achievementService);
     }
 
     /**
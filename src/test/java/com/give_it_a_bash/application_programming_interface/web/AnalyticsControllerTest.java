@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.web;
+
+import com.give_it_a_bash.application_programming_interface.analytics.AchievementCount;
+import com.give_it_a_bash.application_programming_interface.entities.SubjectCategory;
+import com.give_it_a_bash.application_programming_interface.services.AnalyticsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link AnalyticsController} class.
+ */
+class AnalyticsControllerTest {
+
+    @Mock
+    private AnalyticsService analyticsService;
+
+    @InjectMocks
+    private AnalyticsController analyticsController;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    /**
+     * Tests the getAchievementCounts() method.
+     * Verifies that the counts are returned with an OK status.
+     */
+    @Test
+    void getAchievementCounts_ReturnsCounts() {
+        LocalDate from = LocalDate.of(2024, 1, 1);
+        LocalDate to = LocalDate.of(2024, 12, 31);
+        List<AchievementCount> counts = Collections.singletonList(
+                new AchievementCount(YearMonth.of(2024, 3), 10L, SubjectCategory.ACADEMIC, 2));
+        when(analyticsService.getAchievementCounts(from, to, 10L, null)).thenReturn(counts);
+
+        ResponseEntity<List<AchievementCount>> response = analyticsController.getAchievementCounts(from, to, 10L, null);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(counts, response.getBody());
+    }
+
+    /**
+     * Tests the getAchievementCounts() method with a range that ends before it starts.
+     * Verifies that a BAD_REQUEST response is returned.
+     */
+    @Test
+    void getAchievementCounts_InvalidRange_ReturnsBadRequest() {
+        LocalDate from = LocalDate.of(2024, 2, 1);
+        LocalDate to = LocalDate.of(2024, 1, 1);
+        when(analyticsService.getAchievementCounts(from, to, null, null))
+                .thenThrow(new IllegalArgumentException("The range must not end before it starts"));
+
+        ResponseEntity<List<AchievementCount>> response = analyticsController.getAchievementCounts(from, to, null, null);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.web;
+
+import com.give_it_a_bash.application_programming_interface.scheduling.TimeSlot;
+import com.give_it_a_bash.application_programming_interface.services.AvailabilityService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link AvailabilityController} class.
+ */
+class AvailabilityControllerTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2030, 9, 2, 8, 0);
+
+    private static final LocalDateTime TO = LocalDateTime.of(2030, 9, 2, 18, 0);
+
+    @Mock
+    private AvailabilityService availabilityService;
+
+    @InjectMocks
+    private AvailabilityController availabilityController;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    /**
+     * Tests the getAvailability() method.
+     * Verifies that the free slots are returned with an OK status and that missing ID lists are treated as empty.
+     */
+    @Test
+    void getAvailability_ReturnsFreeSlots() {
+        List<TimeSlot> slots = Collections.singletonList(new TimeSlot(FROM, TO));
+        List<Long> studentIds = Arrays.asList(2L, 3L);
+        when(availabilityService.findFreeSlots(Collections.<Long>emptyList(), studentIds, Collections.<Long>emptyList(), FROM, TO, Duration.ofMinutes(45)))
+                .thenReturn(slots);
+
+        ResponseEntity<List<TimeSlot>> response = availabilityController.getAvailability(null, studentIds, null, FROM, TO, 45);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(slots, response.getBody());
+    }
+
+    /**
+     * Tests the getAvailability() method with an invalid window.
+     * Verifies that a BAD_REQUEST response is returned.
+     */
+    @Test
+    void getAvailability_InvalidWindow_ReturnsBadRequest() {
+        when(availabilityService.findFreeSlots(any(), any(), any(), any(), any(), any()))
+                .thenThrow(new IllegalArgumentException("The search window must end after it starts"));
+
+        ResponseEntity<List<TimeSlot>> response = availabilityController.getAvailability(null, null, null, TO, FROM, 60);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+    /**
+     * Tests the getAvailability() method with durations outside 1 to 1440 minutes.
+     * Verifies that a BAD_REQUEST response is returned without searching, including for durations too long to be
+     * represented as a {@link Duration}.
+     */
+    @Test
+    void getAvailability_InvalidDuration_ReturnsBadRequest() {
+        for (long duration : new long[] {0, -1, 1441, Long.MAX_VALUE}) {
+            ResponseEntity<List<TimeSlot>> response = availabilityController.getAvailability(null, null, null, FROM, TO, duration);
+
+            assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        }
+        verifyNoInteractions(availabilityService);
+    }
+}
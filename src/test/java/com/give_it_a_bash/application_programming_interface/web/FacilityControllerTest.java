@@ -12,6 +12,7 @@ package com.give_it_a_bash.application_programming_interface.web;
 
 import com.give_it_a_bash.application_programming_interface.entities.Facility;
 import com.give_it_a_bash.application_programming_interface.entities.FacilityType;
+import com.give_it_a_bash.application_programming_interface.pagination.CursorPage;
 import com.give_it_a_bash.application_programming_interface.services.FacilityService;
 import com.give_it_a_bash.application_programming_interface.testData.TestDataHelper;
 import org.junit.jupiter.api.BeforeEach;
@@ -23,7 +24,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import java.util.Collections;
-import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -69,18 +69,45 @@ class FacilityControllerTest {
 
     /**
      * Tests the getAllFacilities() method.
-     * Verifies that all Facilities are retrieved successfully and returns the correct HTTP status.
+     * Verifies that the first page of Facility entries is retrieved with the default page size and returns the correct HTTP status.
      */
     @Test
-    void getAllFacilities_ReturnsListOfFacilities() {
-        List<Facility> facilities = Collections.singletonList(facility);
-        when(facilityService.getAllFacilities()).thenReturn(facilities);
+    void getAllFacilities_ReturnsPageOfFacilities() {
+        CursorPage<Facility> page = new CursorPage<>(Collections.singletonList(facility), null);
+        when(facilityService.getFacilityPage(null, CursorPage.DEFAULT_LIMIT)).thenReturn(page);
 
-        ResponseEntity<List<Facility>> response = facilityController.getAllFacilities();
+        ResponseEntity<CursorPage<Facility>> response = facilityController.getAllFacilities(null, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(facilities, response.getBody());
-        verify(facilityService, times(1)).getAllFacilities();
+        assertEquals(page, response.getBody());
+        verify(facilityService, times(1)).getFacilityPage(null, CursorPage.DEFAULT_LIMIT);
+    }
+
+    /**
+     * Tests the getAllFacilities() method with a cursor and an oversized limit.
+     * Verifies that the cursor is decoded and the page size is capped at the maximum.
+     */
+    @Test
+    void getAllFacilities_WithCursor_CapsPageSize() {
+        CursorPage<Facility> page = new CursorPage<>(Collections.singletonList(facility), null);
+        when(facilityService.getFacilityPage(7L, CursorPage.MAX_LIMIT)).thenReturn(page);
+
+        ResponseEntity<CursorPage<Facility>> response = facilityController.getAllFacilities(CursorPage.encodeCursor(7L), 10_000);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(facilityService, times(1)).getFacilityPage(7L, CursorPage.MAX_LIMIT);
+    }
+
+    /**
+     * Tests the getAllFacilities() method with a malformed cursor.
+     * Verifies that a BAD_REQUEST response is returned.
+     */
+    @Test
+    void getAllFacilities_MalformedCursor_ReturnsBadRequest() {
+        ResponseEntity<CursorPage<Facility>> response = facilityController.getAllFacilities("not-a-cursor", null);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verifyNoInteractions(facilityService);
     }
 
     /**
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.web;
+
+import com.give_it_a_bash.application_programming_interface.bulk.ImportFormat;
+import com.give_it_a_bash.application_programming_interface.bulk.ImportReport;
+import com.give_it_a_bash.application_programming_interface.services.ImportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link ImportController} class.
+ */
+class ImportControllerTest {
+
+    @Mock
+    private ImportService importService;
+
+    @InjectMocks
+    private ImportController importController;
+
+    private final InputStream body = new ByteArrayInputStream(new byte[0]);
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    /**
+     * Tests the importEntities() method when every row is created.
+     * Verifies that the report is returned with a CREATED status.
+     *
+     * @throws IOException if the body could not be read
+     */
+    @Test
+    void importEntities_AllCreated_ReturnsCreated() throws IOException {
+        ImportReport report = new ImportReport();
+        when(importService.importEntities("students", ImportFormat.CSV, body)).thenReturn(report);
+
+        ResponseEntity<ImportReport> response = importController.importEntities("students", "text/csv", body);
+
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        assertEquals(report, response.getBody());
+    }
+
+    /**
+     * Tests the importEntities() method with a content type that is not supported.
+     * Verifies that an UNSUPPORTED_MEDIA_TYPE response is returned without importing.
+     *
+     * @throws IOException if the body could not be read
+     */
+    @Test
+    void importEntities_UnsupportedFormat_ReturnsUnsupportedMediaType() throws IOException {
+        ResponseEntity<ImportReport> response = importController.importEntities("students", "application/json", body);
+
+        assertEquals(HttpStatus.UNSUPPORTED_MEDIA_TYPE, response.getStatusCode());
+        verifyNoInteractions(importService);
+    }
+
+    /**
+     * Tests the importEntities() method with an invalid CSV header.
+     * Verifies that a BAD_REQUEST response is returned.
+     *
+     * @throws IOException if the body could not be read
+     */
+    @Test
+    void importEntities_InvalidHeader_ReturnsBadRequest() throws IOException {
+        when(importService.importEntities("students", ImportFormat.CSV, body))
+                .thenThrow(new IllegalArgumentException("The CSV header must name every column"));
+
+        ResponseEntity<ImportReport> response = importController.importEntities("students", "text/csv", body);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+    /**
+     * Tests the importEntities() method with an entity that cannot be imported.
+     * Verifies that a NOT_FOUND response is returned.
+     *
+     * @throws IOException if the body could not be read
+     */
+    @Test
+    void importEntities_UnknownEntity_ReturnsNotFound() throws IOException {
+        when(importService.importEntities("facilities", ImportFormat.NDJSON, body))
+                .thenThrow(new RuntimeException("Importable entity not found with name facilities"));
+
+        ResponseEntity<ImportReport> response = importController.importEntities("facilities", "application/x-ndjson", body);
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.web;
+
+import com.give_it_a_bash.application_programming_interface.leaderboard.LeaderboardEntry;
+import com.give_it_a_bash.application_programming_interface.leaderboard.Standing;
+import com.give_it_a_bash.application_programming_interface.pagination.CursorPage;
+import com.give_it_a_bash.application_programming_interface.services.LeaderboardService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link LeaderboardController} class.
+ */
+class LeaderboardControllerTest {
+
+    @Mock
+    private LeaderboardService leaderboardService;
+
+    @InjectMocks
+    private LeaderboardController leaderboardController;
+
+    private LeaderboardEntry entry;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        entry = new LeaderboardEntry(1, new Standing(1L, Standing.MutantType.TEACHER, 100L,
+                "Charles", "Xavier", "Professor X", 10, 10));
+    }
+
+    /**
+     * Tests the getTopMutants() method.
+     * Verifies that the entries are returned with an OK status and that a missing limit falls back to the default.
+     */
+    @Test
+    void getTopMutants_ReturnsEntries() {
+        List<LeaderboardEntry> entries = Collections.singletonList(entry);
+        when(leaderboardService.getTopMutants(100L, CursorPage.DEFAULT_LIMIT)).thenReturn(entries);
+
+        ResponseEntity<List<LeaderboardEntry>> response = leaderboardController.getTopMutants(100L, null);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(entries, response.getBody());
+    }
+
+    /**
+     * Tests the getTopMutants() method with a limit above the maximum.
+     * Verifies that the limit is capped.
+     */
+    @Test
+    void getTopMutants_CapsLimit() {
+        leaderboardController.getTopMutants(null, 10_000);
+
+        verify(leaderboardService, times(1)).getTopMutants(null, CursorPage.MAX_LIMIT);
+    }
+
+    /**
+     * Tests the getRank() method.
+     * Verifies that the entry is returned with an OK status.
+     */
+    @Test
+    void getRank_ReturnsEntry() {
+        when(leaderboardService.getRank(1L, null)).thenReturn(entry);
+
+        ResponseEntity<LeaderboardEntry> response = leaderboardController.getRank(1L, null);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(entry, response.getBody());
+    }
+
+    /**
+     * Tests the getRank() method for a mutant that is not ranked.
+     * Verifies that a NOT_FOUND response is returned.
+     */
+    @Test
+    void getRank_NotRanked_ReturnsNotFound() {
+        when(leaderboardService.getRank(2L, null)).thenThrow(new RuntimeException("Ranked mutant not found with id 2"));
+
+        ResponseEntity<LeaderboardEntry> response = leaderboardController.getRank(2L, null);
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+}
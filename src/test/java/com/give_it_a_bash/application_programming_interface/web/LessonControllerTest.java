@@ -10,8 +10,16 @@
 
 package com.give_it_a_bash.application_programming_interface.web;
 
+import com.give_it_a_bash.application_programming_interface.bulk.BulkItemResult;
+import com.give_it_a_bash.application_programming_interface.entities.FacilityType;
 import com.give_it_a_bash.application_programming_interface.entities.Lesson;
+import com.give_it_a_bash.application_programming_interface.pagination.CursorPage;
+import com.give_it_a_bash.application_programming_interface.projections.LessonSummary;
+import com.give_it_a_bash.application_programming_interface.scheduling.LessonConflict;
+import com.give_it_a_bash.application_programming_interface.scheduling.LessonConflictException;
+import com.give_it_a_bash.application_programming_interface.scheduling.NoFreeFacilityException;
 import com.give_it_a_bash.application_programming_interface.services.LessonService;
+import com.give_it_a_bash.application_programming_interface.services.LessonStreamService;
 import com.give_it_a_bash.application_programming_interface.testData.TestDataHelper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,8 +28,10 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -38,6 +48,9 @@ class LessonControllerTest {
     @Mock
     private LessonService lessonService;
 
+    @Mock
+    private LessonStreamService lessonStreamService;
+
     @InjectMocks
     private LessonController lessonController;
 
@@ -58,29 +71,176 @@ class LessonControllerTest {
      */
     @Test
     void createLesson_ReturnsCreatedLesson() {
-        when(lessonService.createLesson(any(Lesson.class))).thenReturn(lesson);
+        when(lessonService.createLesson(any(Lesson.class), isNull())).thenReturn(lesson);
 
-        ResponseEntity<Lesson> response = lessonController.createLesson(lesson);
+        ResponseEntity<Lesson> response = lessonController.createLesson(lesson, null);
 
         assertEquals(HttpStatus.CREATED, response.getStatusCode());
         assertEquals(lesson, response.getBody());
-        verify(lessonService, times(1)).createLesson(lesson);
+        verify(lessonService, times(1)).createLesson(lesson, null);
     }
 
     /**
-     * Tests the getAllLessons() method.
-     * Verifies that all Lessons are retrieved successfully and returns the correct HTTP status.
+     * Tests the createLesson() method for a Lesson that double-books its Teacher.
+     * Verifies that a CONFLICT response is returned.
+     */
+    @Test
+    void createLesson_Conflict_ReturnsConflict() {
+        when(lessonService.createLesson(any(Lesson.class), isNull())).thenThrow(new LessonConflictException(Collections.singletonList(
+                new LessonConflict(LessonConflict.Type.TEACHER, 10L, null, 2L))));
+
+        ResponseEntity<Lesson> response = lessonController.createLesson(lesson, null);
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+    }
+
+
+    /**
+     * Tests the createLesson() method when no Facility of the requested type is free.
+     * Verifies that a CONFLICT response is returned.
+     */
+    @Test
+    void createLesson_NoFreeFacility_ReturnsConflict() {
+        when(lessonService.createLesson(any(Lesson.class), eq(FacilityType.LABORATORY)))
+                .thenThrow(new NoFreeFacilityException("No LABORATORY facility is free"));
+
+        ResponseEntity<Lesson> response = lessonController.createLesson(lesson, FacilityType.LABORATORY);
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+    }
+
+    /**
+     * Tests the createLesson() method for a Lesson whose Facility is too small.
+     * Verifies that a BAD_REQUEST response is returned.
+     */
+    @Test
+    void createLesson_FacilityTooSmall_ReturnsBadRequest() {
+        when(lessonService.createLesson(any(Lesson.class), isNull()))
+                .thenThrow(new IllegalArgumentException("Facility 5 holds 0 students but the lesson has 1"));
+
+        ResponseEntity<Lesson> response = lessonController.createLesson(lesson, null);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+
+    /**
+     * Tests the createLessons() method when every Lesson is created.
+     * Verifies that the per-item results are returned with a CREATED status.
+     */
+    @Test
+    void createLessons_AllCreated_ReturnsCreated() {
+        List<Lesson> lessons = Arrays.asList(lesson, lesson);
+        List<BulkItemResult> results = Arrays.asList(BulkItemResult.created(0, 1L), BulkItemResult.created(1, 2L));
+        when(lessonService.createLessons(lessons)).thenReturn(results);
+
+        ResponseEntity<List<BulkItemResult>> response = lessonController.createLessons(lessons);
+
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        assertEquals(results, response.getBody());
+        verify(lessonService, times(1)).createLessons(lessons);
+    }
+
+    /**
+     * Tests the createLessons() method when some Lessons are rejected.
+     * Verifies that the per-item results are returned with a MULTI_STATUS status.
+     */
+    @Test
+    void createLessons_SomeRejected_ReturnsMultiStatus() {
+        List<Lesson> lessons = Arrays.asList(lesson, new Lesson());
+        List<BulkItemResult> results = Arrays.asList(BulkItemResult.created(0, 1L),
+                BulkItemResult.invalid(1, Collections.singletonList("field: must not be null")));
+        when(lessonService.createLessons(lessons)).thenReturn(results);
+
+        ResponseEntity<List<BulkItemResult>> response = lessonController.createLessons(lessons);
+
+        assertEquals(HttpStatus.MULTI_STATUS, response.getStatusCode());
+        assertEquals(results, response.getBody());
+    }
+
+    /**
+     * Tests the createLessons() method with more Lessons than a single request may contain.
+     * Verifies that a PAYLOAD_TOO_LARGE status is returned.
      */
     @Test
-    void getAllLessons_ReturnsListOfLessons() {
+    void createLessons_TooMany_ReturnsPayloadTooLarge() {
         List<Lesson> lessons = Collections.singletonList(lesson);
-        when(lessonService.getAllLessons()).thenReturn(lessons);
+        when(lessonService.createLessons(lessons)).thenThrow(new IllegalArgumentException("Too many items"));
 
-        ResponseEntity<List<Lesson>> response = lessonController.getAllLessons();
+        ResponseEntity<List<BulkItemResult>> response = lessonController.createLessons(lessons);
+
+        assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, response.getStatusCode());
+    }
+
+    /**
+     * Tests the getAllLessons() method.
+     * Verifies that the first page of Lesson entries is retrieved with the default page size and returns the correct HTTP status.
+     */
+    @Test
+    void getAllLessons_ReturnsPageOfLessons() {
+        CursorPage<Lesson> page = new CursorPage<>(Collections.singletonList(lesson), null);
+        when(lessonService.getLessonPage(null, CursorPage.DEFAULT_LIMIT)).thenReturn(page);
+
+        ResponseEntity<CursorPage<Lesson>> response = lessonController.getAllLessons(null, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(lessons, response.getBody());
-        verify(lessonService, times(1)).getAllLessons();
+        assertEquals(page, response.getBody());
+        verify(lessonService, times(1)).getLessonPage(null, CursorPage.DEFAULT_LIMIT);
+    }
+
+    /**
+     * Tests the getAllLessons() method with a cursor and an oversized limit.
+     * Verifies that the cursor is decoded and the page size is capped at the maximum.
+     */
+    @Test
+    void getAllLessons_WithCursor_CapsPageSize() {
+        CursorPage<Lesson> page = new CursorPage<>(Collections.singletonList(lesson), null);
+        when(lessonService.getLessonPage(7L, CursorPage.MAX_LIMIT)).thenReturn(page);
+
+        ResponseEntity<CursorPage<Lesson>> response = lessonController.getAllLessons(CursorPage.encodeCursor(7L), 10_000);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(lessonService, times(1)).getLessonPage(7L, CursorPage.MAX_LIMIT);
+    }
+
+    /**
+     * Tests the getAllLessons() method with a malformed cursor.
+     * Verifies that a BAD_REQUEST response is returned.
+     */
+    @Test
+    void getAllLessons_MalformedCursor_ReturnsBadRequest() {
+        ResponseEntity<CursorPage<Lesson>> response = lessonController.getAllLessons("not-a-cursor", null);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verifyNoInteractions(lessonService);
+    }
+
+    /**
+     * Tests the getLessonSummaries() method.
+     * Verifies that a page of Lesson summaries is returned with an OK status.
+     */
+    @Test
+    void getLessonSummaries_ReturnsPageOfSummaries() {
+        CursorPage<LessonSummary> page = new CursorPage<>(Collections.singletonList(mock(LessonSummary.class)), null);
+        when(lessonService.getLessonSummaryPage(3L, 20)).thenReturn(page);
+
+        ResponseEntity<CursorPage<LessonSummary>> response = lessonController.getLessonSummaries(CursorPage.encodeCursor(3L), 20);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(page, response.getBody());
+        verify(lessonService, times(1)).getLessonSummaryPage(3L, 20);
+    }
+
+    /**
+     * Tests the getLessonSummaries() method with a malformed cursor.
+     * Verifies that a BAD_REQUEST response is returned.
+     */
+    @Test
+    void getLessonSummaries_MalformedCursor_ReturnsBadRequest() {
+        ResponseEntity<CursorPage<LessonSummary>> response = lessonController.getLessonSummaries("not-a-cursor", null);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verifyNoInteractions(lessonService);
     }
 
     /**
@@ -120,13 +280,13 @@ class LessonControllerTest {
     void updateLesson_ExistingId_ReturnsUpdatedLesson() {
         Lesson updatedLesson = TestDataHelper.createLesson(LocalDateTime.of(2024, 12, 15, 14, 0),
                 LocalDateTime.of(2024, 12, 15, 15, 30));
-        when(lessonService.updateLesson(eq(1L), any(Lesson.class))).thenReturn(updatedLesson);
+        when(lessonService.updateLesson(eq(1L), any(Lesson.class), isNull())).thenReturn(updatedLesson);
 
-        ResponseEntity<Lesson> response = lessonController.updateLesson(1L, lesson);
+        ResponseEntity<Lesson> response = lessonController.updateLesson(1L, lesson, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(updatedLesson, response.getBody());
-        verify(lessonService, times(1)).updateLesson(1L, lesson);
+        verify(lessonService, times(1)).updateLesson(1L, lesson, null);
     }
 
     /**
@@ -135,13 +295,43 @@ class LessonControllerTest {
      */
     @Test
     void updateLesson_NonExistingId_ReturnsNotFound() {
-        when(lessonService.updateLesson(eq(1L), any(Lesson.class)))
+        when(lessonService.updateLesson(eq(1L), any(Lesson.class), isNull()))
                 .thenThrow(new RuntimeException("Lesson not found with id 1")); // Consider a specific exception type
 
-        ResponseEntity<Lesson> response = lessonController.updateLesson(1L, lesson);
+        ResponseEntity<Lesson> response = lessonController.updateLesson(1L, lesson, null);
 
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
-        verify(lessonService, times(1)).updateLesson(eq(1L), any(Lesson.class));
+        verify(lessonService, times(1)).updateLesson(eq(1L), any(Lesson.class), isNull());
+    }
+
+    /**
+     * Tests the updateLesson() method for a change that double-books the Lesson's Teacher.
+     * Verifies that a CONFLICT response is returned.
+     */
+    @Test
+    void updateLesson_Conflict_ReturnsConflict() {
+        when(lessonService.updateLesson(eq(1L), any(Lesson.class), isNull())).thenThrow(new LessonConflictException(Collections.singletonList(
+                new LessonConflict(LessonConflict.Type.TEACHER, 10L, null, 2L))));
+
+        ResponseEntity<Lesson> response = lessonController.updateLesson(1L, lesson, null);
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+    }
+
+    /**
+     * Tests the getLessonConflicts() method.
+     * Verifies that the overlapping Lessons are returned with an OK status.
+     */
+    @Test
+    void getLessonConflicts_ReturnsConflicts() {
+        List<LessonConflict> conflicts = Collections.singletonList(
+                new LessonConflict(LessonConflict.Type.STUDENT, 20L, 1L, 2L));
+        when(lessonService.getLessonConflicts()).thenReturn(conflicts);
+
+        ResponseEntity<List<LessonConflict>> response = lessonController.getLessonConflicts();
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(conflicts, response.getBody());
     }
 
     /**
@@ -171,4 +361,33 @@ class LessonControllerTest {
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
         verify(lessonService, times(1)).deleteLesson(1L);
     }
+
+    /**
+     * Tests the streamLessons() method.
+     * Verifies that the emitter of a new subscription with the given criteria is returned.
+     */
+    @Test
+    void streamLessons_ReturnsEmitter() {
+        SseEmitter emitter = new SseEmitter();
+        when(lessonStreamService.subscribe(1L, null, 3L)).thenReturn(emitter);
+
+        ResponseEntity<SseEmitter> response = lessonController.streamLessons(1L, null, 3L);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(emitter, response.getBody());
+    }
+
+    /**
+     * Tests the streamLessons() method when the stream has reached its limit of subscribers.
+     * Verifies that a SERVICE_UNAVAILABLE response is returned.
+     */
+    @Test
+    void streamLessons_TooManySubscribers_ReturnsServiceUnavailable() {
+        when(lessonStreamService.subscribe(null, null, null))
+                .thenThrow(new IllegalStateException("The lesson stream has reached its limit of 1 subscribers"));
+
+        ResponseEntity<SseEmitter> response = lessonController.streamLessons(null, null, null);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+    }
 }
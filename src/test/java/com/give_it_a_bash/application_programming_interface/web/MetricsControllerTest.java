@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.web;
+
+import com.give_it_a_bash.application_programming_interface.instrumentation.LatencyRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the MetricsController class.
+ * This class tests the RESTful endpoint exposing the latency metrics.
+ */
+class MetricsControllerTest {
+
+    @Mock
+    private LatencyRegistry latencyRegistry;
+
+    @InjectMocks
+    private MetricsController metricsController;
+
+    /**
+     * Initializes mocks before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    /**
+     * Tests the getMetrics() method.
+     * Verifies that the metrics text of the registry is returned with the correct HTTP status.
+     */
+    @Test
+    void getMetrics_ReturnsMetricsText() {
+        when(latencyRegistry.scrape()).thenReturn("service_method_errors_total{class=\"StudentService\"} 0\n");
+
+        ResponseEntity<String> response = metricsController.getMetrics();
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("service_method_errors_total{class=\"StudentService\"} 0\n", response.getBody());
+        verify(latencyRegistry, times(1)).scrape();
+    }
+}
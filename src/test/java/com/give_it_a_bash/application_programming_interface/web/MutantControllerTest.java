@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.web;
+
+import com.give_it_a_bash.application_programming_interface.search.MutantSuggester;
+import com.give_it_a_bash.application_programming_interface.search.MutantSuggestion;
+import com.give_it_a_bash.application_programming_interface.search.SearchDocument;
+import com.give_it_a_bash.application_programming_interface.services.SearchService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link MutantController} class.
+ */
+class MutantControllerTest {
+
+    @Mock
+    private SearchService searchService;
+
+    @InjectMocks
+    private MutantController mutantController;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    /**
+     * Tests the suggestMutants() method.
+     * Verifies that the suggestions are returned with an OK status and that a missing limit falls back to the default.
+     */
+    @Test
+    void suggestMutants_ReturnsSuggestions() {
+        List<MutantSuggestion> suggestions = Collections.singletonList(
+                new MutantSuggestion(1L, SearchDocument.Type.STUDENT, "Bobby", "Drake", "Iceman"));
+        when(searchService.suggestMutants("ice", MutantSuggester.DEFAULT_LIMIT)).thenReturn(suggestions);
+
+        ResponseEntity<List<MutantSuggestion>> response = mutantController.suggestMutants("ice", null);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(suggestions, response.getBody());
+    }
+
+    /**
+     * Tests the suggestMutants() method with a prefix that contains no words.
+     * Verifies that a BAD_REQUEST response is returned.
+     */
+    @Test
+    void suggestMutants_NoWords_ReturnsBadRequest() {
+        when(searchService.suggestMutants("-", MutantSuggester.DEFAULT_LIMIT))
+                .thenThrow(new IllegalArgumentException("A prefix must contain at least one word"));
+
+        ResponseEntity<List<MutantSuggestion>> response = mutantController.suggestMutants("-", null);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+}
@@ -10,7 +10,10 @@
 
 package com.give_it_a_bash.application_programming_interface.web;
 
+import com.give_it_a_bash.application_programming_interface.dashboard.SchoolDashboard;
 import com.give_it_a_bash.application_programming_interface.entities.SchoolData;
+import com.give_it_a_bash.application_programming_interface.pagination.CursorPage;
+import com.give_it_a_bash.application_programming_interface.services.SchoolDashboardService;
 import com.give_it_a_bash.application_programming_interface.services.SchoolDataService;
 import com.give_it_a_bash.application_programming_interface.testData.TestDataHelper;
 import org.junit.jupiter.api.BeforeEach;
@@ -21,8 +24,8 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.time.LocalDate;
 import java.util.Collections;
-import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -37,6 +40,9 @@ class SchoolDataControllerTest {
     @Mock
     private SchoolDataService schoolDataService;
 
+    @Mock
+    private SchoolDashboardService schoolDashboardService;
+
     @InjectMocks
     private SchoolDataController schoolDataController;
 
@@ -68,18 +74,45 @@ class SchoolDataControllerTest {
 
     /**
      * Tests the getAllSchoolData() method.
-     * Verifies that all SchoolData entries are retrieved successfully and returns the correct HTTP status.
+     * Verifies that the first page of SchoolData entries is retrieved with the default page size and returns the correct HTTP status.
+     */
+    @Test
+    void getAllSchoolData_ReturnsPageOfSchoolData() {
+        CursorPage<SchoolData> page = new CursorPage<>(Collections.singletonList(schoolData), null);
+        when(schoolDataService.getSchoolDataPage(null, CursorPage.DEFAULT_LIMIT)).thenReturn(page);
+
+        ResponseEntity<CursorPage<SchoolData>> response = schoolDataController.getAllSchoolData(null, null);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(page, response.getBody());
+        verify(schoolDataService, times(1)).getSchoolDataPage(null, CursorPage.DEFAULT_LIMIT);
+    }
+
+    /**
+     * Tests the getAllSchoolData() method with a cursor and an oversized limit.
+     * Verifies that the cursor is decoded and the page size is capped at the maximum.
      */
     @Test
-    void getAllSchoolData_ReturnsListOfSchoolData() {
-        List<SchoolData> schoolDataList = Collections.singletonList(schoolData);
-        when(schoolDataService.getAllSchoolData()).thenReturn(schoolDataList);
+    void getAllSchoolData_WithCursor_CapsPageSize() {
+        CursorPage<SchoolData> page = new CursorPage<>(Collections.singletonList(schoolData), null);
+        when(schoolDataService.getSchoolDataPage(7L, CursorPage.MAX_LIMIT)).thenReturn(page);
 
-        ResponseEntity<List<SchoolData>> response = schoolDataController.getAllSchoolData();
+        ResponseEntity<CursorPage<SchoolData>> response = schoolDataController.getAllSchoolData(CursorPage.encodeCursor(7L), 10_000);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(schoolDataList, response.getBody());
-        verify(schoolDataService, times(1)).getAllSchoolData();
+        verify(schoolDataService, times(1)).getSchoolDataPage(7L, CursorPage.MAX_LIMIT);
+    }
+
+    /**
+     * Tests the getAllSchoolData() method with a malformed cursor.
+     * Verifies that a BAD_REQUEST response is returned.
+     */
+    @Test
+    void getAllSchoolData_MalformedCursor_ReturnsBadRequest() {
+        ResponseEntity<CursorPage<SchoolData>> response = schoolDataController.getAllSchoolData("not-a-cursor", null);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verifyNoInteractions(schoolDataService);
     }
 
     /**
@@ -111,6 +144,36 @@ class SchoolDataControllerTest {
         verify(schoolDataService, times(1)).getSchoolDataById(1L);
     }
 
+    /**
+     * Tests the getSchoolDashboard() method for an existing ID.
+     * Verifies that the dashboard of the school is returned with the correct HTTP status.
+     */
+    @Test
+    void getSchoolDashboard_ExistingId_ReturnsDashboard() {
+        SchoolDashboard dashboard = new SchoolDashboard(1L, schoolData.getSchoolName(), LocalDate.of(2030, 9, 2),
+                40L, 6L, 12L, 0L, Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        when(schoolDashboardService.getDashboard(1L)).thenReturn(dashboard);
+
+        ResponseEntity<SchoolDashboard> response = schoolDataController.getSchoolDashboard(1L);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(dashboard, response.getBody());
+        verify(schoolDashboardService, times(1)).getDashboard(1L);
+    }
+
+    /**
+     * Tests the getSchoolDashboard() method for a non-existing ID.
+     * Verifies that a NOT_FOUND response is returned when the school is not found.
+     */
+    @Test
+    void getSchoolDashboard_NonExistingId_ReturnsNotFound() {
+        when(schoolDashboardService.getDashboard(1L)).thenThrow(new RuntimeException("School data not found with id 1"));
+
+        ResponseEntity<SchoolDashboard> response = schoolDataController.getSchoolDashboard(1L);
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+
     /**
      * Tests the updateSchoolData() method for an existing ID.
      * Verifies that an existing SchoolData is updated successfully and returns the correct HTTP status.
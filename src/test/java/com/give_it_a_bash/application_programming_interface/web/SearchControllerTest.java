@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.web;
+
+import com.give_it_a_bash.application_programming_interface.pagination.CursorPage;
+import com.give_it_a_bash.application_programming_interface.search.SearchDocument;
+import com.give_it_a_bash.application_programming_interface.search.SearchHit;
+import com.give_it_a_bash.application_programming_interface.services.SearchService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link SearchController} class.
+ */
+class SearchControllerTest {
+
+    @Mock
+    private SearchService searchService;
+
+    @InjectMocks
+    private SearchController searchController;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    /**
+     * Tests the search() method.
+     * Verifies that the hits are returned with an OK status and that a missing limit falls back to the default.
+     */
+    @Test
+    void search_ReturnsHits() {
+        List<SearchHit> hits = Collections.singletonList(
+                new SearchHit(SearchDocument.Type.STUDENT, 1L, "Bobby Drake (Iceman)", 2.5));
+        when(searchService.search("ice", CursorPage.DEFAULT_LIMIT)).thenReturn(hits);
+
+        ResponseEntity<List<SearchHit>> response = searchController.search("ice", null);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(hits, response.getBody());
+    }
+
+    /**
+     * Tests the search() method with a query that contains no words.
+     * Verifies that a BAD_REQUEST response is returned.
+     */
+    @Test
+    void search_NoWords_ReturnsBadRequest() {
+        when(searchService.search(null, CursorPage.DEFAULT_LIMIT))
+                .thenThrow(new IllegalArgumentException("A search query must contain at least one word"));
+
+        ResponseEntity<List<SearchHit>> response = searchController.search(null, null);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.web;
+
+import com.give_it_a_bash.application_programming_interface.services.StatsService;
+import com.give_it_a_bash.application_programming_interface.stats.FacetCounts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link StatsController} class.
+ */
+class StatsControllerTest {
+
+    @Mock
+    private StatsService statsService;
+
+    @InjectMocks
+    private StatsController statsController;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    /**
+     * Tests the getFacets() method.
+     * Verifies that the facet counts of the requested school are returned with an OK status.
+     */
+    @Test
+    void getFacets_ReturnsCounts() {
+        FacetCounts counts = new FacetCounts(100L, Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap());
+        when(statsService.getFacets(100L)).thenReturn(counts);
+
+        ResponseEntity<FacetCounts> response = statsController.getFacets(100L);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(counts, response.getBody());
+        verify(statsService, times(1)).getFacets(100L);
+    }
+}
@@ -10,8 +10,14 @@
 
 package com.give_it_a_bash.application_programming_interface.web;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.give_it_a_bash.application_programming_interface.bulk.BulkItemResult;
 import com.give_it_a_bash.application_programming_interface.entities.Status;
 import com.give_it_a_bash.application_programming_interface.entities.Student;
+import com.give_it_a_bash.application_programming_interface.pagination.CursorPage;
+import com.give_it_a_bash.application_programming_interface.projections.StudentSummary;
 import com.give_it_a_bash.application_programming_interface.services.StudentService;
 import com.give_it_a_bash.application_programming_interface.testData.TestDataHelper;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,14 +25,20 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletResponse;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 /**
@@ -38,6 +50,9 @@ class StudentControllerTest {
     @Mock
     private StudentService studentService;
 
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
     @InjectMocks
     private StudentController studentController;
 
@@ -67,20 +82,147 @@ class StudentControllerTest {
         verify(studentService, times(1)).createStudent(student);
     }
 
+
+    /**
+     * Tests the createStudents() method when every Student is created.
+     * Verifies that the per-item results are returned with a CREATED status.
+     */
+    @Test
+    void createStudents_AllCreated_ReturnsCreated() {
+        List<Student> students = Arrays.asList(student, student);
+        List<BulkItemResult> results = Arrays.asList(BulkItemResult.created(0, 1L), BulkItemResult.created(1, 2L));
+        when(studentService.createStudents(students)).thenReturn(results);
+
+        ResponseEntity<List<BulkItemResult>> response = studentController.createStudents(students);
+
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        assertEquals(results, response.getBody());
+        verify(studentService, times(1)).createStudents(students);
+    }
+
+    /**
+     * Tests the createStudents() method when some Students are rejected.
+     * Verifies that the per-item results are returned with a MULTI_STATUS status.
+     */
+    @Test
+    void createStudents_SomeRejected_ReturnsMultiStatus() {
+        List<Student> students = Arrays.asList(student, new Student());
+        List<BulkItemResult> results = Arrays.asList(BulkItemResult.created(0, 1L),
+                BulkItemResult.invalid(1, Collections.singletonList("field: must not be null")));
+        when(studentService.createStudents(students)).thenReturn(results);
+
+        ResponseEntity<List<BulkItemResult>> response = studentController.createStudents(students);
+
+        assertEquals(HttpStatus.MULTI_STATUS, response.getStatusCode());
+        assertEquals(results, response.getBody());
+    }
+
+    /**
+     * Tests the createStudents() method with more Students than a single request may contain.
+     * Verifies that a PAYLOAD_TOO_LARGE status is returned.
+     */
+    @Test
+    void createStudents_TooMany_ReturnsPayloadTooLarge() {
+        List<Student> students = Collections.singletonList(student);
+        when(studentService.createStudents(students)).thenThrow(new IllegalArgumentException("Too many items"));
+
+        ResponseEntity<List<BulkItemResult>> response = studentController.createStudents(students);
+
+        assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, response.getStatusCode());
+    }
+
     /**
      * Tests the getAllStudents() method.
-     * Verifies that all Student entries are retrieved successfully and returns the correct HTTP status.
+     * Verifies that the first page of Student entries is retrieved with the default page size and returns the correct HTTP status.
+     */
+    @Test
+    void getAllStudents_ReturnsPageOfStudents() {
+        CursorPage<Student> page = new CursorPage<>(Collections.singletonList(student), null);
+        when(studentService.getStudentPage(null, CursorPage.DEFAULT_LIMIT)).thenReturn(page);
+
+        ResponseEntity<CursorPage<Student>> response = studentController.getAllStudents(null, null);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(page, response.getBody());
+        verify(studentService, times(1)).getStudentPage(null, CursorPage.DEFAULT_LIMIT);
+    }
+
+    /**
+     * Tests the getAllStudents() method with a cursor and an oversized limit.
+     * Verifies that the cursor is decoded and the page size is capped at the maximum.
      */
     @Test
-    void getAllStudents_ReturnsListOfStudents() {
-        List<Student> studentList = Collections.singletonList(student);
-        when(studentService.getAllStudents()).thenReturn(studentList);
+    void getAllStudents_WithCursor_CapsPageSize() {
+        CursorPage<Student> page = new CursorPage<>(Collections.singletonList(student), null);
+        when(studentService.getStudentPage(7L, CursorPage.MAX_LIMIT)).thenReturn(page);
 
-        ResponseEntity<List<Student>> response = studentController.getAllStudents();
+        ResponseEntity<CursorPage<Student>> response = studentController.getAllStudents(CursorPage.encodeCursor(7L), 10_000);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(studentList, response.getBody());
-        verify(studentService, times(1)).getAllStudents();
+        verify(studentService, times(1)).getStudentPage(7L, CursorPage.MAX_LIMIT);
+    }
+
+    /**
+     * Tests the getAllStudents() method with a malformed cursor.
+     * Verifies that a BAD_REQUEST response is returned.
+     */
+    @Test
+    void getAllStudents_MalformedCursor_ReturnsBadRequest() {
+        ResponseEntity<CursorPage<Student>> response = studentController.getAllStudents("not-a-cursor", null);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verifyNoInteractions(studentService);
+    }
+
+    /**
+     * Tests the getStudentSummaries() method.
+     * Verifies that a page of Student summaries is returned with an OK status.
+     */
+    @Test
+    void getStudentSummaries_ReturnsPageOfSummaries() {
+        CursorPage<StudentSummary> page = new CursorPage<>(Collections.singletonList(mock(StudentSummary.class)), null);
+        when(studentService.getStudentSummaryPage(3L, 20)).thenReturn(page);
+
+        ResponseEntity<CursorPage<StudentSummary>> response = studentController.getStudentSummaries(CursorPage.encodeCursor(3L), 20);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(page, response.getBody());
+        verify(studentService, times(1)).getStudentSummaryPage(3L, 20);
+    }
+
+    /**
+     * Tests the getStudentSummaries() method with a malformed cursor.
+     * Verifies that a BAD_REQUEST response is returned.
+     */
+    @Test
+    void getStudentSummaries_MalformedCursor_ReturnsBadRequest() {
+        ResponseEntity<CursorPage<StudentSummary>> response = studentController.getStudentSummaries("not-a-cursor", null);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verifyNoInteractions(studentService);
+    }
+
+    /**
+     * Tests the exportStudents() method.
+     * Verifies that each Student is written to the response as one line of JSON, ending with a newline.
+     */
+    @Test
+    void exportStudents_WritesNdjson() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<Student> consumer = invocation.getArgument(0);
+            consumer.accept(student);
+            consumer.accept(student);
+            return null;
+        }).when(studentService).exportStudents(any());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        studentController.exportStudents(response);
+
+        String[] lines = response.getContentAsString().split("\n");
+        assertEquals(MediaType.APPLICATION_NDJSON_VALUE, response.getContentType());
+        assertEquals(2, lines.length);
+        assertTrue(response.getContentAsString().endsWith("}\n"));
+        assertEquals(student.getAlias(), objectMapper.readTree(lines[0]).get("alias").asText());
     }
 
     /**
@@ -154,6 +296,50 @@ class StudentControllerTest {
         verify(studentService, times(1)).updateStudent(eq(1L), any(Student.class));
     }
 
+    /**
+     * Tests the patchStudent() method for an existing ID.
+     * Verifies that the patched Student is returned with an OK status.
+     */
+    @Test
+    void patchStudent_ExistingId_ReturnsPatchedStudent() {
+        ObjectNode patch = JsonNodeFactory.instance.objectNode().put("email", "patched@example.com");
+        when(studentService.patchStudent(1L, patch)).thenReturn(student);
+
+        ResponseEntity<Student> response = studentController.patchStudent(1L, patch);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(student, response.getBody());
+        verify(studentService, times(1)).patchStudent(1L, patch);
+    }
+
+    /**
+     * Tests the patchStudent() method with an invalid patch.
+     * Verifies that a BAD_REQUEST response is returned.
+     */
+    @Test
+    void patchStudent_InvalidPatch_ReturnsBadRequest() {
+        ObjectNode patch = JsonNodeFactory.instance.objectNode().put("id", 2);
+        when(studentService.patchStudent(1L, patch)).thenThrow(new IllegalArgumentException("A merge patch must not change the ID"));
+
+        ResponseEntity<Student> response = studentController.patchStudent(1L, patch);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+    /**
+     * Tests the patchStudent() method for a non-existing ID.
+     * Verifies that a NOT_FOUND response is returned.
+     */
+    @Test
+    void patchStudent_NonExistingId_ReturnsNotFound() {
+        ObjectNode patch = JsonNodeFactory.instance.objectNode();
+        when(studentService.patchStudent(1L, patch)).thenThrow(new RuntimeException("Student not found with id 1"));
+
+        ResponseEntity<Student> response = studentController.patchStudent(1L, patch);
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+
     /**
      * Tests the deleteStudent() method for an existing ID.
      * Verifies that an existing Student is deleted successfully and returns the correct HTTP status.
@@ -11,6 +11,7 @@
 package com.give_it_a_bash.application_programming_interface.web;
 
 import com.give_it_a_bash.application_programming_interface.entities.Subject;
+import com.give_it_a_bash.application_programming_interface.pagination.CursorPage;
 import com.give_it_a_bash.application_programming_interface.services.SubjectService;
 import com.give_it_a_bash.application_programming_interface.testData.TestDataHelper;
 import org.junit.jupiter.api.BeforeEach;
@@ -22,7 +23,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import java.util.Collections;
-import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -68,18 +68,45 @@ class SubjectControllerTest {
 
     /**
      * Tests the getAllSubjects() method.
-     * Verifies that all Subject entries are retrieved successfully and returns the correct HTTP status.
+     * Verifies that the first page of Subject entries is retrieved with the default page size and returns the correct HTTP status.
      */
     @Test
-    void getAllSubjects_ReturnsListOfSubjects() {
-        List<Subject> subjectList = Collections.singletonList(subject);
-        when(subjectService.getAllSubjects()).thenReturn(subjectList);
+    void getAllSubjects_ReturnsPageOfSubjects() {
+        CursorPage<Subject> page = new CursorPage<>(Collections.singletonList(subject), null);
+        when(subjectService.getSubjectPage(null, CursorPage.DEFAULT_LIMIT)).thenReturn(page);
 
-        ResponseEntity<List<Subject>> response = subjectController.getAllSubjects();
+        ResponseEntity<CursorPage<Subject>> response = subjectController.getAllSubjects(null, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(subjectList, response.getBody());
-        verify(subjectService, times(1)).getAllSubjects();
+        assertEquals(page, response.getBody());
+        verify(subjectService, times(1)).getSubjectPage(null, CursorPage.DEFAULT_LIMIT);
+    }
+
+    /**
+     * Tests the getAllSubjects() method with a cursor and an oversized limit.
+     * Verifies that the cursor is decoded and the page size is capped at the maximum.
+     */
+    @Test
+    void getAllSubjects_WithCursor_CapsPageSize() {
+        CursorPage<Subject> page = new CursorPage<>(Collections.singletonList(subject), null);
+        when(subjectService.getSubjectPage(7L, CursorPage.MAX_LIMIT)).thenReturn(page);
+
+        ResponseEntity<CursorPage<Subject>> response = subjectController.getAllSubjects(CursorPage.encodeCursor(7L), 10_000);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(subjectService, times(1)).getSubjectPage(7L, CursorPage.MAX_LIMIT);
+    }
+
+    /**
+     * Tests the getAllSubjects() method with a malformed cursor.
+     * Verifies that a BAD_REQUEST response is returned.
+     */
+    @Test
+    void getAllSubjects_MalformedCursor_ReturnsBadRequest() {
+        ResponseEntity<CursorPage<Subject>> response = subjectController.getAllSubjects("not-a-cursor", null);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verifyNoInteractions(subjectService);
     }
 
     /**
@@ -10,7 +10,12 @@
 
 package com.give_it_a_bash.application_programming_interface.web;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.give_it_a_bash.application_programming_interface.entities.Teacher;
+import com.give_it_a_bash.application_programming_interface.pagination.CursorPage;
+import com.give_it_a_bash.application_programming_interface.projections.TeacherSummary;
 import com.give_it_a_bash.application_programming_interface.services.TeacherService;
 import com.give_it_a_bash.application_programming_interface.testData.TestDataHelper;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,14 +23,18 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletResponse;
 
 import java.util.Collections;
-import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 /**
@@ -37,6 +46,9 @@ class TeacherControllerTest {
     @Mock
     private TeacherService teacherService;
 
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
     @InjectMocks
     private TeacherController teacherController;
 
@@ -68,18 +80,96 @@ class TeacherControllerTest {
 
     /**
      * Tests the getAllTeachers() method.
-     * Verifies that all Teacher entries are retrieved successfully and returns the correct HTTP status.
+     * Verifies that the first page of Teacher entries is retrieved with the default page size and returns the correct HTTP status.
      */
     @Test
-    void getAllTeachers_ReturnsListOfTeachers() {
-        List<Teacher> teacherList = Collections.singletonList(teacher);
-        when(teacherService.getAllTeachers()).thenReturn(teacherList);
+    void getAllTeachers_ReturnsPageOfTeachers() {
+        CursorPage<Teacher> page = new CursorPage<>(Collections.singletonList(teacher), null);
+        when(teacherService.getTeacherPage(null, CursorPage.DEFAULT_LIMIT)).thenReturn(page);
 
-        ResponseEntity<List<Teacher>> response = teacherController.getAllTeachers();
+        ResponseEntity<CursorPage<Teacher>> response = teacherController.getAllTeachers(null, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(teacherList, response.getBody());
-        verify(teacherService, times(1)).getAllTeachers();
+        assertEquals(page, response.getBody());
+        verify(teacherService, times(1)).getTeacherPage(null, CursorPage.DEFAULT_LIMIT);
+    }
+
+    /**
+     * Tests the getAllTeachers() method with a cursor and an oversized limit.
+     * Verifies that the cursor is decoded and the page size is capped at the maximum.
+     */
+    @Test
+    void getAllTeachers_WithCursor_CapsPageSize() {
+        CursorPage<Teacher> page = new CursorPage<>(Collections.singletonList(teacher), null);
+        when(teacherService.getTeacherPage(7L, CursorPage.MAX_LIMIT)).thenReturn(page);
+
+        ResponseEntity<CursorPage<Teacher>> response = teacherController.getAllTeachers(CursorPage.encodeCursor(7L), 10_000);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(teacherService, times(1)).getTeacherPage(7L, CursorPage.MAX_LIMIT);
+    }
+
+    /**
+     * Tests the getAllTeachers() method with a malformed cursor.
+     * Verifies that a BAD_REQUEST response is returned.
+     */
+    @Test
+    void getAllTeachers_MalformedCursor_ReturnsBadRequest() {
+        ResponseEntity<CursorPage<Teacher>> response = teacherController.getAllTeachers("not-a-cursor", null);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verifyNoInteractions(teacherService);
+    }
+
+    /**
+     * Tests the getTeacherSummaries() method.
+     * Verifies that a page of Teacher summaries is returned with an OK status.
+     */
+    @Test
+    void getTeacherSummaries_ReturnsPageOfSummaries() {
+        CursorPage<TeacherSummary> page = new CursorPage<>(Collections.singletonList(mock(TeacherSummary.class)), null);
+        when(teacherService.getTeacherSummaryPage(3L, 20)).thenReturn(page);
+
+        ResponseEntity<CursorPage<TeacherSummary>> response = teacherController.getTeacherSummaries(CursorPage.encodeCursor(3L), 20);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(page, response.getBody());
+        verify(teacherService, times(1)).getTeacherSummaryPage(3L, 20);
+    }
+
+    /**
+     * Tests the getTeacherSummaries() method with a malformed cursor.
+     * Verifies that a BAD_REQUEST response is returned.
+     */
+    @Test
+    void getTeacherSummaries_MalformedCursor_ReturnsBadRequest() {
+        ResponseEntity<CursorPage<TeacherSummary>> response = teacherController.getTeacherSummaries("not-a-cursor", null);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verifyNoInteractions(teacherService);
+    }
+
+    /**
+     * Tests the exportTeachers() method.
+     * Verifies that each Teacher is written to the response as one line of JSON, ending with a newline.
+     */
+    @Test
+    void exportTeachers_WritesNdjson() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<Teacher> consumer = invocation.getArgument(0);
+            consumer.accept(teacher);
+            consumer.accept(teacher);
+            return null;
+        }).when(teacherService).exportTeachers(any());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        teacherController.exportTeachers(response);
+
+        String[] lines = response.getContentAsString().split("\n");
+        assertEquals(MediaType.APPLICATION_NDJSON_VALUE, response.getContentType());
+        assertEquals(2, lines.length);
+        assertTrue(response.getContentAsString().endsWith("}\n"));
+        assertEquals(teacher.getAlias(), objectMapper.readTree(lines[0]).get("alias").asText());
     }
 
     /**
@@ -152,6 +242,50 @@ class TeacherControllerTest {
         verify(teacherService, times(1)).updateTeacher(eq(1L), any(Teacher.class));
     }
 
+    /**
+     * Tests the patchTeacher() method for an existing ID.
+     * Verifies that the patched Teacher is returned with an OK status.
+     */
+    @Test
+    void patchTeacher_ExistingId_ReturnsPatchedTeacher() {
+        ObjectNode patch = JsonNodeFactory.instance.objectNode().put("email", "patched@example.com");
+        when(teacherService.patchTeacher(1L, patch)).thenReturn(teacher);
+
+        ResponseEntity<Teacher> response = teacherController.patchTeacher(1L, patch);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(teacher, response.getBody());
+        verify(teacherService, times(1)).patchTeacher(1L, patch);
+    }
+
+    /**
+     * Tests the patchTeacher() method with an invalid patch.
+     * Verifies that a BAD_REQUEST response is returned.
+     */
+    @Test
+    void patchTeacher_InvalidPatch_ReturnsBadRequest() {
+        ObjectNode patch = JsonNodeFactory.instance.objectNode().put("id", 2);
+        when(teacherService.patchTeacher(1L, patch)).thenThrow(new IllegalArgumentException("A merge patch must not change the ID"));
+
+        ResponseEntity<Teacher> response = teacherController.patchTeacher(1L, patch);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+    /**
+     * Tests the patchTeacher() method for a non-existing ID.
+     * Verifies that a NOT_FOUND response is returned.
+     */
+    @Test
+    void patchTeacher_NonExistingId_ReturnsNotFound() {
+        ObjectNode patch = JsonNodeFactory.instance.objectNode();
+        when(teacherService.patchTeacher(1L, patch)).thenThrow(new RuntimeException("Teacher not found with id 1"));
+
+        ResponseEntity<Teacher> response = teacherController.patchTeacher(1L, patch);
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+
     /**
      * Tests the deleteTeacher() method for an existing ID.
      * Verifies that an existing Teacher is deleted successfully and returns the correct HTTP status.
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2024 Give It A Bash
+ *
+ * This file is part of Give It A Bash proprietary software.
+ * Unauthorized copying of this file, via any medium, is strictly prohibited.
+ * Proprietary and confidential.
+ *
+ * Created and maintained by Give It A Bash.
+ */
+
+package com.give_it_a_bash.application_programming_interface.web;
+
+import com.give_it_a_bash.application_programming_interface.services.TimetableService;
+import com.give_it_a_bash.application_programming_interface.timetabling.TimetableJob;
+import com.give_it_a_bash.application_programming_interface.timetabling.TimetableProgress;
+import com.give_it_a_bash.application_programming_interface.timetabling.TimetableRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link TimetableController} class.
+ */
+class TimetableControllerTest {
+
+    @Mock
+    private TimetableService timetableService;
+
+    @InjectMocks
+    private TimetableController timetableController;
+
+    private TimetableRequest request;
+
+    private TimetableJob job;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        request = new TimetableRequest();
+        job = new TimetableJob("job-1", LocalDateTime.now(), new TimetableProgress(3));
+    }
+
+    /**
+     * Tests the startJob() method.
+     * Verifies that the queued job is returned with an ACCEPTED status.
+     */
+    @Test
+    void startJob_ReturnsAcceptedJob() {
+        when(timetableService.startJob(request)).thenReturn(job);
+
+        ResponseEntity<TimetableJob> response = timetableController.startJob(request);
+
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+        assertEquals(job, response.getBody());
+    }
+
+    /**
+     * Tests the startJob() method with an invalid request.
+     * Verifies that a BAD_REQUEST response is returned.
+     */
+    @Test
+    void startJob_InvalidRequest_ReturnsBadRequest() {
+        when(timetableService.startJob(request)).thenThrow(new IllegalArgumentException("At least one lesson must be requested"));
+
+        ResponseEntity<TimetableJob> response = timetableController.startJob(request);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+    /**
+     * Tests the startJob() method with an unknown Subject.
+     * Verifies that a NOT_FOUND response is returned.
+     */
+    @Test
+    void startJob_UnknownSubject_ReturnsNotFound() {
+        when(timetableService.startJob(request)).thenThrow(new RuntimeException("Subject not found with id 1"));
+
+        ResponseEntity<TimetableJob> response = timetableController.startJob(request);
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+
+    /**
+     * Tests the getJob() method.
+     * Verifies that the job is returned with an OK status, or NOT_FOUND if it is not retained.
+     */
+    @Test
+    void getJob_ReturnsJobOrNotFound() {
+        when(timetableService.getJob("job-1")).thenReturn(Optional.of(job));
+        when(timetableService.getJob("missing")).thenReturn(Optional.empty());
+
+        assertEquals(HttpStatus.OK, timetableController.getJob("job-1").getStatusCode());
+        assertEquals(job, timetableController.getJob("job-1").getBody());
+        assertEquals(HttpStatus.NOT_FOUND, timetableController.getJob("missing").getStatusCode());
+    }
+}